@@ -0,0 +1,41 @@
+package gov.usgs.jem.binarymodelingdata;
+
+/**
+ * Functions that reduce many concentration values to one. Values that are
+ * not a number are excluded, so the minimum, maximum, and mean of no values
+ * are not a number, and the sum of no values is zero. See {@link Aggregates}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public enum AggregateFunction
+{
+	/**
+	 * The smallest value
+	 *
+	 * @since Oct 18, 2026
+	 */
+	MIN,
+
+	/**
+	 * The largest value
+	 *
+	 * @since Oct 18, 2026
+	 */
+	MAX,
+
+	/**
+	 * The arithmetic mean of the values
+	 *
+	 * @since Oct 18, 2026
+	 */
+	MEAN,
+
+	/**
+	 * The sum of the values
+	 *
+	 * @since Oct 18, 2026
+	 */
+	SUM;
+}
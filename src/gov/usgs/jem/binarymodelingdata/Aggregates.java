@@ -0,0 +1,93 @@
+package gov.usgs.jem.binarymodelingdata;
+
+import java.util.List;
+
+/**
+ * Container for concentration values reduced by one or more
+ * {@link AggregateFunction}, for each variable and key. The keys are the
+ * segments when values are reduced over time steps, and the time steps when
+ * values are reduced over segments.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ * @param <K>
+ *            the type of key, {@link BMDSegment} or {@link BMDTimeStep}
+ */
+public interface Aggregates<K>
+{
+	/**
+	 * Get the number of values, excluding values that are not a number, that
+	 * were reduced for a variable and key
+	 *
+	 * @param p_VariableIndex
+	 *            the variable index, see {@link BMDVariable#getIndex()}
+	 * @param p_KeyIndex
+	 *            the key index, see {@link BMDSegment#getIndex()} or
+	 *            {@link BMDTimeStep#getIndex()}
+	 * @return the number of values
+	 * @throws IllegalArgumentException
+	 *             if there is not an entry for the given variable or key
+	 * @since Oct 18, 2026
+	 */
+	int getCount(int p_VariableIndex, int p_KeyIndex);
+
+	/**
+	 * Get the functions in this container
+	 *
+	 * @return the functions that values were reduced by
+	 * @since Oct 18, 2026
+	 */
+	List<AggregateFunction> getFunctions();
+
+	/**
+	 * Get the keys in this container
+	 *
+	 * @return the segments or time steps that values were reduced for
+	 * @since Oct 18, 2026
+	 */
+	List<K> getKeys();
+
+	/**
+	 * Retrieve a particular reduced value.
+	 *
+	 * @param p_Function
+	 *            the function, one of {@link #getFunctions()}
+	 * @param p_VariableIndex
+	 *            the variable index, see {@link BMDVariable#getIndex()}
+	 * @param p_KeyIndex
+	 *            the key index, see {@link BMDSegment#getIndex()} or
+	 *            {@link BMDTimeStep#getIndex()}
+	 * @return the reduced value
+	 * @throws IllegalArgumentException
+	 *             if there is not an entry for the given function, variable,
+	 *             or key
+	 * @since Oct 18, 2026
+	 */
+	float getValue(AggregateFunction p_Function, int p_VariableIndex,
+			int p_KeyIndex);
+
+	/**
+	 * Get the reduced values of every key in this container for a single
+	 * function and variable, such as the spatial mean of a variable over
+	 * time.
+	 *
+	 * @param p_Function
+	 *            the function, one of {@link #getFunctions()}
+	 * @param p_VariableIndex
+	 *            the variable index, see {@link BMDVariable#getIndex()}
+	 * @return a new array of values, in the order of {@link #getKeys()}
+	 * @throws IllegalArgumentException
+	 *             if there is not an entry for the given function or variable
+	 * @since Oct 18, 2026
+	 */
+	float[] getValues(AggregateFunction p_Function, int p_VariableIndex);
+
+	/**
+	 * Get the variables in this container
+	 *
+	 * @return the variables in this container
+	 * @since Oct 18, 2026
+	 */
+	List<BMDVariable> getVariables();
+}
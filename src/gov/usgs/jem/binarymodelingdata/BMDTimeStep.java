@@ -1,5 +1,7 @@
 package gov.usgs.jem.binarymodelingdata;
 
+import java.time.Instant;
+
 /**
  * Represents a time step from a BMD file. Comparison is based on time index in
  * the file.
@@ -18,6 +20,19 @@ public interface BMDTimeStep extends Comparable<BMDTimeStep>
 	 */
 	int getIndex();
 
+	/**
+	 * Get the instant of this time step, without the allocation and time zone
+	 * handling of a {@link java.util.Calendar}.
+	 *
+	 * @return the instant of this time step
+	 * @see #getTime()
+	 * @since Oct 18, 2026
+	 */
+	default Instant getInstant()
+	{
+		return Instant.ofEpochMilli(getTime());
+	}
+
 	/**
 	 * Get the number of milliseconds since January 1, 1970, 00:00:00 GMT, which
 	 * can be used to create a Date instance.
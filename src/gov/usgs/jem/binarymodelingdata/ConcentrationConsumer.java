@@ -0,0 +1,30 @@
+package gov.usgs.jem.binarymodelingdata;
+
+/**
+ * Receives concentration values as primitives, without allocating a
+ * {@link Concentration} per value. See
+ * {@link Concentrations#forEachValue(ConcentrationConsumer)}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@FunctionalInterface
+public interface ConcentrationConsumer
+{
+	/**
+	 * Accept a single concentration value
+	 *
+	 * @param p_VariableIndex
+	 *            the variable index, see {@link BMDVariable#getIndex()}
+	 * @param p_SegmentIndex
+	 *            the segment index, see {@link BMDSegment#getIndex()}
+	 * @param p_TimeStepIndex
+	 *            the time step index, see {@link BMDTimeStep#getIndex()}
+	 * @param p_Value
+	 *            the concentration value
+	 * @since Oct 18, 2026
+	 */
+	void accept(int p_VariableIndex, int p_SegmentIndex, int p_TimeStepIndex,
+			float p_Value);
+}
@@ -1,5 +1,6 @@
 package gov.usgs.jem.binarymodelingdata;
 
+import java.nio.FloatBuffer;
 import java.util.List;
 
 /**
@@ -11,6 +12,25 @@ import java.util.List;
  */
 public interface Concentrations extends Iterable<Concentration>
 {
+	/**
+	 * Visit every entry, in the same order as {@link #iterator()}, as
+	 * primitive values.
+	 *
+	 * @param p_Consumer
+	 *            receives the indices and value of each entry
+	 * @since Oct 18, 2026
+	 */
+	default void forEachValue(final ConcentrationConsumer p_Consumer)
+	{
+		for (final Concentration concentration : this)
+		{
+			p_Consumer.accept(concentration.getVariable().getIndex(),
+					concentration.getSegment().getIndex(),
+					concentration.getTimeStep().getIndex(),
+					concentration.getValue());
+		}
+	}
+
 	/**
 	 * Retrieve a particular entry.
 	 *
@@ -37,6 +57,33 @@ public interface Concentrations extends Iterable<Concentration>
 	 */
 	List<BMDSegment> getSegments();
 
+	/**
+	 * Get the values of every segment in this container for a single variable
+	 * and time step, such as for rendering a map.
+	 *
+	 * @param p_Variable
+	 *            the variable
+	 * @param p_TimeStep
+	 *            the time step
+	 * @return a new array of values, in the order of {@link #getSegments()}
+	 * @throws IllegalArgumentException
+	 *             if there is not an entry for the given variable or time
+	 *             step.
+	 * @since Oct 18, 2026
+	 */
+	default float[] getSnapshot(final BMDVariable p_Variable,
+			final BMDTimeStep p_TimeStep)
+	{
+		final List<BMDSegment> segments = getSegments();
+		final float[] snapshot = new float[segments.size()];
+		for (int i = 0; i < snapshot.length; i++)
+		{
+			snapshot[i] = get(p_Variable, segments.get(i), p_TimeStep)
+					.getValue();
+		}
+		return snapshot;
+	}
+
 	/**
 	 * Get the time steps in this container
 	 *
@@ -45,6 +92,67 @@ public interface Concentrations extends Iterable<Concentration>
 	 */
 	List<BMDTimeStep> getTimeSteps();
 
+	/**
+	 * Get the values of every time step in this container for a single
+	 * variable and segment, such as for plotting a time series.
+	 *
+	 * @param p_Variable
+	 *            the variable
+	 * @param p_Segment
+	 *            the segment
+	 * @return a read-only buffer of values, in the order of
+	 *         {@link #getTimeSteps()}, positioned at zero; implementations may
+	 *         return a view of their storage without copying
+	 * @throws IllegalArgumentException
+	 *             if there is not an entry for the given variable or segment.
+	 * @since Oct 18, 2026
+	 */
+	default FloatBuffer getTimeSeries(final BMDVariable p_Variable,
+			final BMDSegment p_Segment)
+	{
+		final List<BMDTimeStep> timeSteps = getTimeSteps();
+		final float[] timeSeries = new float[timeSteps.size()];
+		for (int i = 0; i < timeSeries.length; i++)
+		{
+			timeSeries[i] = get(p_Variable, p_Segment, timeSteps.get(i))
+					.getValue();
+		}
+		return FloatBuffer.wrap(timeSeries).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Retrieve a particular value without allocating a {@link Concentration}.
+	 *
+	 * @param p_VariableIndex
+	 *            the variable index, see {@link BMDVariable#getIndex()}
+	 * @param p_SegmentIndex
+	 *            the segment index, see {@link BMDSegment#getIndex()}
+	 * @param p_TimeStepIndex
+	 *            the time step index, see {@link BMDTimeStep#getIndex()}
+	 * @return the concentration value
+	 * @throws IllegalArgumentException
+	 *             if there is not an entry for the given variable, segment, or
+	 *             time step.
+	 * @since Oct 18, 2026
+	 */
+	default float getValue(final int p_VariableIndex, final int p_SegmentIndex,
+			final int p_TimeStepIndex)
+	{
+		for (final Concentration concentration : this)
+		{
+			if (concentration.getVariable().getIndex() == p_VariableIndex
+					&& concentration.getSegment().getIndex() == p_SegmentIndex
+					&& concentration.getTimeStep()
+							.getIndex() == p_TimeStepIndex)
+			{
+				return concentration.getValue();
+			}
+		}
+		throw new IllegalArgumentException(String.format(
+				"Invalid variable (%s), segment (%s), or time step (%s) index.",
+				p_VariableIndex, p_SegmentIndex, p_TimeStepIndex));
+	}
+
 	/**
 	 * Get the variables in this container
 	 *
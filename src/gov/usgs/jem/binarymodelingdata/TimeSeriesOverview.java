@@ -0,0 +1,65 @@
+package gov.usgs.jem.binarymodelingdata;
+
+import java.util.List;
+
+/**
+ * The values of a single variable and segment over a range of time steps,
+ * reduced into bins of consecutive time steps for display at a limited
+ * resolution, such as one bin per pixel of a chart. Each bin holds the
+ * {@link AggregateFunction#MIN}, {@link AggregateFunction#MAX}, and
+ * {@link AggregateFunction#MEAN} of its values.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public interface TimeSeriesOverview
+{
+	/**
+	 * Get the number of time steps reduced into each bin
+	 *
+	 * @return the number of time steps in each bin, a power of two; one if
+	 *         the values were not reduced. The last bin of the file may have
+	 *         fewer.
+	 * @since Oct 18, 2026
+	 */
+	int getBinTimeSteps();
+
+	/**
+	 * Get the segment of this overview
+	 *
+	 * @return the segment
+	 * @since Oct 18, 2026
+	 */
+	BMDSegment getSegment();
+
+	/**
+	 * Get the first time step of each bin
+	 *
+	 * @return the first time step of each bin, in order
+	 * @since Oct 18, 2026
+	 */
+	List<BMDTimeStep> getTimeSteps();
+
+	/**
+	 * Get the reduced value of every bin for a single function
+	 *
+	 * @param p_Function
+	 *            the function, one of {@link AggregateFunction#MIN},
+	 *            {@link AggregateFunction#MAX}, or
+	 *            {@link AggregateFunction#MEAN}
+	 * @return a new array of values, in the order of {@link #getTimeSteps()}
+	 * @throws IllegalArgumentException
+	 *             if there are no values for the given function
+	 * @since Oct 18, 2026
+	 */
+	float[] getValues(AggregateFunction p_Function);
+
+	/**
+	 * Get the variable of this overview
+	 *
+	 * @return the variable
+	 * @since Oct 18, 2026
+	 */
+	BMDVariable getVariable();
+}
@@ -0,0 +1,628 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Package-private base for {@link SeekableDataFileInputStream}
+ * implementations that read a {@link FileChannel} through a window of bytes
+ * positioned anywhere in the file. The current position is a plain field, so
+ * {@link #seek(long)} is a constant time operation and the file is opened only
+ * once. Subclasses decide how a window is filled; see {@link #fill(long, int)}
+ *
+ * Duplicates share the channel of their source, since positional channel
+ * reads may be issued concurrently, but have their own position and window.
+ * The channel is closed only when the input that opened it is closed. A
+ * subclass may instead have the channel opened on first use (see
+ * {@link #getChannel()}), in which case a duplicate made before then opens
+ * its own.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+abstract class AbstractChannelSeekableDataFileInputStream
+		implements SeekableDataFileInputStream
+{
+	/**
+	 * Endianness used to decode values from {@link #m_Window}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final ByteOrder		m_ByteOrder;
+
+	/**
+	 * The channel that windows are filled from, or null until it is first
+	 * needed
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private FileChannel			m_Channel;
+
+	/**
+	 * File to read from
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final String		m_FilePath;
+
+	/**
+	 * True if this input opened, and must close, {@link #m_Channel}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final boolean		m_OwnsChannel;
+
+	/**
+	 * The absolute position, in bytes from the beginning of the file, of the
+	 * next read
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private long				m_Position;
+
+	/**
+	 * The size of the file, in bytes
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final long			m_Size;
+
+	/**
+	 * The current window, or null if nothing has been read yet
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private ByteBuffer			m_Window;
+
+	/**
+	 * The maximum number of bytes in each window
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int			m_WindowSize;
+
+	/**
+	 * The absolute position, in bytes from the beginning of the file, of the
+	 * first byte of {@link #m_Window}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private long				m_WindowStart;
+
+	/**
+	 * Open the channel for the provided file path.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @param p_WindowSize
+	 *            the maximum number of bytes in a window; must be at least
+	 *            {@link Long#BYTES}
+	 * @throws IOException
+	 *             if the file could not be opened
+	 * @since Oct 18, 2026
+	 */
+	AbstractChannelSeekableDataFileInputStream(final String p_FilePath,
+			final ByteOrder p_ByteOrder, final int p_WindowSize)
+			throws IOException
+	{
+		checkNotNull(p_FilePath, "File path required.");
+		checkNotNull(p_ByteOrder, "Byte order required.");
+		checkArgument(p_WindowSize >= Long.BYTES, "Invalid window size: %s",
+				p_WindowSize);
+		m_FilePath = p_FilePath;
+		m_ByteOrder = p_ByteOrder;
+		m_WindowSize = p_WindowSize;
+		m_Channel = FileChannel.open(Paths.get(p_FilePath),
+				StandardOpenOption.READ);
+		m_OwnsChannel = true;
+		m_Size = m_Channel.size();
+		m_Position = 0L;
+		m_Window = null;
+		m_WindowStart = 0L;
+	}
+
+	/**
+	 * Take ownership of a channel that was already opened for the provided
+	 * file path, for subclasses that present contents of a different size
+	 * than the file itself.
+	 *
+	 * @param p_FilePath
+	 *            the file path the channel reads from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @param p_WindowSize
+	 *            the maximum number of bytes in a window; must be at least
+	 *            {@link Long#BYTES}
+	 * @param p_Channel
+	 *            the open channel, closed when this input is closed
+	 * @param p_Size
+	 *            the number of bytes that may be read, which windows are
+	 *            filled from (see {@link #fill(long, int)})
+	 * @since Oct 18, 2026
+	 */
+	AbstractChannelSeekableDataFileInputStream(final String p_FilePath,
+			final ByteOrder p_ByteOrder, final int p_WindowSize,
+			final FileChannel p_Channel, final long p_Size)
+	{
+		checkNotNull(p_FilePath, "File path required.");
+		checkNotNull(p_ByteOrder, "Byte order required.");
+		checkArgument(p_WindowSize >= Long.BYTES, "Invalid window size: %s",
+				p_WindowSize);
+		checkArgument(p_Size >= 0, "Invalid size: %s", p_Size);
+		m_FilePath = p_FilePath;
+		m_ByteOrder = p_ByteOrder;
+		m_WindowSize = p_WindowSize;
+		m_Channel = checkNotNull(p_Channel, "Channel required.");
+		m_OwnsChannel = true;
+		m_Size = p_Size;
+		m_Position = 0L;
+		m_Window = null;
+		m_WindowStart = 0L;
+	}
+
+	/**
+	 * Defer opening the channel for the provided file path until it is first
+	 * needed (see {@link #getChannel()}), for subclasses that may never read
+	 * the file itself.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @param p_WindowSize
+	 *            the maximum number of bytes in a window; must be at least
+	 *            {@link Long#BYTES}
+	 * @param p_Size
+	 *            the size of the file, in bytes
+	 * @since Oct 18, 2026
+	 */
+	AbstractChannelSeekableDataFileInputStream(final String p_FilePath,
+			final ByteOrder p_ByteOrder, final int p_WindowSize,
+			final long p_Size)
+	{
+		checkNotNull(p_FilePath, "File path required.");
+		checkNotNull(p_ByteOrder, "Byte order required.");
+		checkArgument(p_WindowSize >= Long.BYTES, "Invalid window size: %s",
+				p_WindowSize);
+		checkArgument(p_Size >= 0, "Invalid size: %s", p_Size);
+		m_FilePath = p_FilePath;
+		m_ByteOrder = p_ByteOrder;
+		m_WindowSize = p_WindowSize;
+		m_Channel = null;
+		m_OwnsChannel = true;
+		m_Size = p_Size;
+		m_Position = 0L;
+		m_Window = null;
+		m_WindowStart = 0L;
+	}
+
+	/**
+	 * Create a duplicate of the provided input that shares its channel, or
+	 * that opens its own when first needed if the provided input has not
+	 * opened one yet.
+	 *
+	 * @param p_Source
+	 *            the input to duplicate
+	 * @since Oct 18, 2026
+	 */
+	AbstractChannelSeekableDataFileInputStream(
+			final AbstractChannelSeekableDataFileInputStream p_Source)
+	{
+		checkNotNull(p_Source, "Source required.");
+		m_FilePath = p_Source.m_FilePath;
+		m_ByteOrder = p_Source.m_ByteOrder;
+		m_WindowSize = p_Source.m_WindowSize;
+		m_Channel = p_Source.m_Channel;
+		m_OwnsChannel = m_Channel == null;
+		m_Size = p_Source.m_Size;
+		m_Position = 0L;
+		m_Window = null;
+		m_WindowStart = 0L;
+	}
+
+	/**
+	 * Close the input, and the channel if this input opened it
+	 *
+	 * @throws IOException
+	 *             an error occurred while attempting to close the channel
+	 *
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		m_Window = null;
+		if (m_OwnsChannel && m_Channel != null)
+		{
+			m_Channel.close();
+		}
+	}
+
+	@SuppressWarnings("resource")
+	@Override
+	public boolean equals(final Object p_Obj)
+	{
+		if (this == p_Obj)
+		{
+			return true;
+		}
+		if (p_Obj == null || !getClass().equals(p_Obj.getClass()))
+		{
+			return false;
+		}
+		final AbstractChannelSeekableDataFileInputStream other = AbstractChannelSeekableDataFileInputStream.class
+				.cast(p_Obj);
+		return Objects.equal(m_ByteOrder, other.m_ByteOrder)
+				&& Objects.equal(m_FilePath, other.m_FilePath);
+	}
+
+	/**
+	 * Fill a window with bytes from the channel, starting at the provided
+	 * position. Index 0 of the returned buffer must correspond to
+	 * <code>p_Position</code>, its byte order must be {@link #getByteOrder()},
+	 * and it must hold at least <code>p_Count</code> bytes.
+	 *
+	 * @param p_Position
+	 *            the absolute position of the first byte of the window
+	 * @param p_Count
+	 *            the minimum number of bytes the window must hold, which is
+	 *            no more than the window size and available in the file
+	 * @return the filled window
+	 * @throws IOException
+	 *             if the window could not be filled
+	 * @since Oct 18, 2026
+	 */
+	abstract ByteBuffer fill(long p_Position, int p_Count) throws IOException;
+
+	@Override
+	public ByteOrder getByteOrder()
+	{
+		return m_ByteOrder;
+	}
+
+	/**
+	 * Get the channel being read from, opening it first if it was deferred
+	 *
+	 * @return the channel being read from
+	 * @throws IOException
+	 *             if the file could not be opened
+	 * @since Oct 18, 2026
+	 */
+	final FileChannel getChannel() throws IOException
+	{
+		if (m_Channel == null)
+		{
+			m_Channel = FileChannel.open(Paths.get(m_FilePath),
+					StandardOpenOption.READ);
+		}
+		return m_Channel;
+	}
+
+	@Override
+	public String getFilePath()
+	{
+		return m_FilePath;
+	}
+
+	/**
+	 * Get the size of the file
+	 *
+	 * @return the size of the file, in bytes
+	 * @since Oct 18, 2026
+	 */
+	final long getSize()
+	{
+		return m_Size;
+	}
+
+	/**
+	 * Get the maximum number of bytes in each window
+	 *
+	 * @return the maximum number of bytes in each window
+	 * @since Oct 18, 2026
+	 */
+	final int getWindowSize()
+	{
+		return m_WindowSize;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Objects.hashCode(m_ByteOrder, m_FilePath);
+	}
+
+	@Override
+	public boolean readBoolean() throws IOException
+	{
+		return readByte() != 0;
+	}
+
+	@Override
+	public byte readByte() throws IOException
+	{
+		final int index = require(Byte.BYTES);
+		return m_Window.get(index);
+	}
+
+	@Override
+	public char readChar() throws IOException
+	{
+		final int index = require(Character.BYTES);
+		return m_Window.getChar(index);
+	}
+
+	@Override
+	public char[] readCharsAsAscii(final int p_Count) throws IOException
+	{
+		checkArgument(p_Count >= 0, "Invalid count: %s", p_Count);
+
+		final byte[] bytes = new byte[p_Count];
+		readFully(bytes);
+		final char[] chars = new char[p_Count];
+		for (int charNum = 0; charNum < chars.length; charNum++)
+		{
+			chars[charNum] = (char) bytes[charNum];
+		}
+		return chars;
+	}
+
+	@Override
+	public double readDouble() throws IOException
+	{
+		final int index = require(Double.BYTES);
+		return m_Window.getDouble(index);
+	}
+
+	@Override
+	public float readFloat() throws IOException
+	{
+		final int index = require(Float.BYTES);
+		return m_Window.getFloat(index);
+	}
+
+	@Override
+	public void readFloats(final float[] p_Floats, final int p_Offset,
+			final int p_Length) throws IOException
+	{
+		readFloats(FloatBuffer.wrap(p_Floats, p_Offset, p_Length));
+	}
+
+	@Override
+	public void readFloats(final FloatBuffer p_Floats) throws IOException
+	{
+		checkNotNull(p_Floats, "Buffer required.");
+		if (m_Position + (long) p_Floats.remaining() * Float.BYTES > m_Size)
+		{
+			throw new EOFException();
+		}
+
+		final int windowFloats = m_WindowSize / Float.BYTES;
+		while (p_Floats.hasRemaining())
+		{
+			final int count = Math.min(p_Floats.remaining(), windowFloats);
+			final int index = require(count * Float.BYTES);
+			final ByteBuffer window = m_Window.duplicate().order(m_ByteOrder);
+			window.position(index);
+			final FloatBuffer floats = window.asFloatBuffer();
+			floats.limit(count);
+			p_Floats.put(floats);
+		}
+	}
+
+	@Override
+	public void readFully(final byte[] p_ByteBuffer) throws IOException
+	{
+		readFully(p_ByteBuffer, 0, p_ByteBuffer.length);
+	}
+
+	@Override
+	public void readFully(final byte[] p_ByteBuffer, final int p_Offset,
+			final int p_Length) throws IOException
+	{
+		checkNotNull(p_ByteBuffer, "Buffer required.");
+		if (p_Offset < 0 || p_Length < 0
+				|| p_Offset + p_Length > p_ByteBuffer.length)
+		{
+			throw new IndexOutOfBoundsException();
+		}
+		if (m_Position + p_Length > m_Size)
+		{
+			throw new EOFException();
+		}
+
+		int offset = p_Offset;
+		int remaining = p_Length;
+		while (remaining > 0)
+		{
+			final int count = Math.min(remaining, m_WindowSize);
+			final int index = require(count);
+			final ByteBuffer window = m_Window.duplicate();
+			window.position(index);
+			window.get(p_ByteBuffer, offset, count);
+			offset += count;
+			remaining -= count;
+		}
+	}
+
+	@Override
+	public int readInt() throws IOException
+	{
+		final int index = require(Integer.BYTES);
+		return m_Window.getInt(index);
+	}
+
+	/**
+	 * Reads the next line of bytes, as
+	 * {@link java.io.DataInputStream#readLine()}
+	 * does: each byte is converted to a character, and the line ends at
+	 * {@code \n}, {@code \r} or {@code \r\n}, none of which are returned.
+	 *
+	 * @return the next line, or null if the end of the file was reached
+	 *         before any byte was read
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	@Override
+	public String readLine() throws IOException
+	{
+		if (m_Position >= m_Size)
+		{
+			return null;
+		}
+		final StringBuilder line = new StringBuilder();
+		while (m_Position < m_Size)
+		{
+			final int c = readUnsignedByte();
+			if (c == '\n')
+			{
+				break;
+			}
+			if (c == '\r')
+			{
+				if (m_Position < m_Size && readUnsignedByte() != '\n')
+				{
+					m_Position--;
+				}
+				break;
+			}
+			line.append((char) c);
+		}
+		return line.toString();
+	}
+
+	@Override
+	public long readLong() throws IOException
+	{
+		final int index = require(Long.BYTES);
+		return m_Window.getLong(index);
+	}
+
+	@Override
+	public short readShort() throws IOException
+	{
+		final int index = require(Short.BYTES);
+		return m_Window.getShort(index);
+	}
+
+	@Override
+	public int readUInt32() throws IOException
+	{
+		return readInt();
+	}
+
+	@Override
+	public int readUnsignedByte() throws IOException
+	{
+		return Byte.toUnsignedInt(readByte());
+	}
+
+	@Override
+	public int readUnsignedShort() throws IOException
+	{
+		return Short.toUnsignedInt(readShort());
+	}
+
+	@Override
+	public String readUTF() throws IOException
+	{
+		return DataInputStream.readUTF(this);
+	}
+
+	/**
+	 * Ensure that the provided number of bytes, starting at the current
+	 * position, are available in {@link #m_Window}, filling a new window if
+	 * necessary, and advance the current position past them.
+	 *
+	 * @param p_Count
+	 *            the number of bytes required, no more than
+	 *            {@link #m_WindowSize}
+	 * @return the index into {@link #m_Window} of the first required byte
+	 * @throws IOException
+	 *             if the end of the file would be reached or the window could
+	 *             not be filled
+	 * @since Oct 18, 2026
+	 */
+	private int require(final int p_Count) throws IOException
+	{
+		if (m_Position + p_Count > m_Size)
+		{
+			throw new EOFException();
+		}
+		if (m_Window == null || m_Position < m_WindowStart
+				|| m_Position + p_Count > m_WindowStart + m_Window.limit())
+		{
+			m_Window = fill(m_Position, p_Count);
+			m_WindowStart = m_Position;
+		}
+		final int index = (int) (m_Position - m_WindowStart);
+		m_Position += p_Count;
+		return index;
+	}
+
+	/**
+	 * Sets the file-pointer offset, measured from the beginning of this file,
+	 * at which the next read occurs. The file is not reopened; this is a
+	 * constant time operation.
+	 *
+	 * @param p_Position
+	 *            the offset position, measured in bytes from the beginning of
+	 *            the file, at which to set the file pointer.
+	 * @return the new offset position, which is limited to the size of the
+	 *         file.
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public long seek(final long p_Position)
+	{
+		checkArgument(p_Position >= 0, "Invalid position: %s", p_Position);
+		m_Position = Math.min(p_Position, m_Size);
+		return m_Position;
+	}
+
+	@Override
+	public int skipBytes(final int p_NumBytes)
+	{
+		if (p_NumBytes <= 0)
+		{
+			return 0;
+		}
+		final int skipped = (int) Math.min(p_NumBytes, m_Size - m_Position);
+		m_Position += skipped;
+		return skipped;
+	}
+
+	@Override
+	public long skipBytesAggressive(final long p_Count)
+	{
+		if (p_Count <= 0)
+		{
+			return 0;
+		}
+		final long skipped = Math.min(p_Count, m_Size - m_Position);
+		m_Position += skipped;
+		return skipped;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("file", m_FilePath)
+				.add("endianness", m_ByteOrder).toString();
+	}
+}
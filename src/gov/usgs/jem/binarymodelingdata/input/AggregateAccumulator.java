@@ -0,0 +1,171 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Package-private running state of one or more {@link AggregateFunction} over
+ * a fixed number of cells. State is kept in dense primitive arrays, and only
+ * for the requested functions, so values are reduced as they are read
+ * without being held in memory. Values that are not a number are ignored.
+ * Not safe for concurrent accumulation.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class AggregateAccumulator
+{
+	/**
+	 * Number of values reduced for each cell
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]		m_Counts;
+
+	/**
+	 * Maximum of each cell, or null if not requested
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float[]	m_Maxima;
+
+	/**
+	 * Minimum of each cell, or null if not requested
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float[]	m_Minima;
+
+	/**
+	 * Sum of each cell, or null if not requested
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final double[]	m_Sums;
+
+	/**
+	 * Create a new instance with no values reduced
+	 *
+	 * @param p_Functions
+	 *            the functions to keep state for
+	 * @param p_NumCells
+	 *            the number of cells
+	 * @since Oct 18, 2026
+	 */
+	AggregateAccumulator(final Collection<AggregateFunction> p_Functions,
+			final int p_NumCells)
+	{
+		checkNotNull(p_Functions, "Functions required.");
+		checkArgument(p_NumCells >= 0, "Invalid number of cells: %s",
+				p_NumCells);
+		m_Counts = new int[p_NumCells];
+		m_Sums = p_Functions.contains(AggregateFunction.SUM)
+				|| p_Functions.contains(AggregateFunction.MEAN)
+						? new double[p_NumCells]
+						: null;
+		m_Minima = p_Functions.contains(AggregateFunction.MIN)
+				? new float[p_NumCells]
+				: null;
+		m_Maxima = p_Functions.contains(AggregateFunction.MAX)
+				? new float[p_NumCells]
+				: null;
+		if (m_Minima != null)
+		{
+			Arrays.fill(m_Minima, Float.POSITIVE_INFINITY);
+		}
+		if (m_Maxima != null)
+		{
+			Arrays.fill(m_Maxima, Float.NEGATIVE_INFINITY);
+		}
+	}
+
+	/**
+	 * Reduce a value into the running state of a cell
+	 *
+	 * @param p_Cell
+	 *            the cell
+	 * @param p_Value
+	 *            the value; values that are not a number are ignored
+	 * @since Oct 18, 2026
+	 */
+	void accept(final int p_Cell, final float p_Value)
+	{
+		if (Float.isNaN(p_Value))
+		{
+			return;
+		}
+		m_Counts[p_Cell]++;
+		if (m_Sums != null)
+		{
+			m_Sums[p_Cell] += p_Value;
+		}
+		if (m_Minima != null && p_Value < m_Minima[p_Cell])
+		{
+			m_Minima[p_Cell] = p_Value;
+		}
+		if (m_Maxima != null && p_Value > m_Maxima[p_Cell])
+		{
+			m_Maxima[p_Cell] = p_Value;
+		}
+	}
+
+	/**
+	 * Get the number of values reduced for a cell
+	 *
+	 * @param p_Cell
+	 *            the cell
+	 * @return the number of values, excluding values that are not a number
+	 * @since Oct 18, 2026
+	 */
+	int getCount(final int p_Cell)
+	{
+		return m_Counts[p_Cell];
+	}
+
+	/**
+	 * Get the reduced value of a cell. The minimum, maximum, and mean of no
+	 * values are not a number, and the sum of no values is zero.
+	 *
+	 * @param p_Function
+	 *            the function, which must have been requested
+	 * @param p_Cell
+	 *            the cell
+	 * @return the reduced value
+	 * @throws IllegalArgumentException
+	 *             if state was not kept for the function
+	 * @since Oct 18, 2026
+	 */
+	float getValue(final AggregateFunction p_Function, final int p_Cell)
+	{
+		checkNotNull(p_Function, "Function required.");
+		final int count = m_Counts[p_Cell];
+		switch (p_Function)
+		{
+			case MIN:
+				checkArgument(m_Minima != null, "Invalid function: %s",
+						p_Function);
+				return count == 0 ? Float.NaN : m_Minima[p_Cell];
+			case MAX:
+				checkArgument(m_Maxima != null, "Invalid function: %s",
+						p_Function);
+				return count == 0 ? Float.NaN : m_Maxima[p_Cell];
+			case MEAN:
+				checkArgument(m_Sums != null, "Invalid function: %s",
+						p_Function);
+				return count == 0 ? Float.NaN
+						: (float) (m_Sums[p_Cell] / count);
+			case SUM:
+				checkArgument(m_Sums != null, "Invalid function: %s",
+						p_Function);
+				return (float) m_Sums[p_Cell];
+			default:
+				throw new IllegalArgumentException(
+						"Invalid function: " + p_Function);
+		}
+	}
+}
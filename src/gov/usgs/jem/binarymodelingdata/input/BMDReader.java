@@ -3,49 +3,58 @@ package gov.usgs.jem.binarymodelingdata.input;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
-import com.google.common.base.Predicate;
 import com.google.common.base.Splitter;
-import com.google.common.collect.ContiguousSet;
-import com.google.common.collect.DiscreteDomain;
-import com.google.common.collect.HashBasedTable;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Range;
-import com.google.common.collect.Sets;
-import com.google.common.collect.Table;
-import com.google.common.collect.Table.Cell;
-import com.google.common.collect.TreeBasedTable;
-import com.google.common.collect.UnmodifiableIterator;
 import com.google.common.io.Files;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Ints;
 import com.google.common.primitives.UnsignedInteger;
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import gov.usgs.jem.binarymodelingdata.Aggregates;
 import gov.usgs.jem.binarymodelingdata.BMDHeader;
 import gov.usgs.jem.binarymodelingdata.BMDSegment;
 import gov.usgs.jem.binarymodelingdata.BMDTimeStep;
 import gov.usgs.jem.binarymodelingdata.BMDVariable;
-import gov.usgs.jem.binarymodelingdata.Concentration;
+import gov.usgs.jem.binarymodelingdata.ConcentrationConsumer;
 import gov.usgs.jem.binarymodelingdata.Concentrations;
 import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
+import gov.usgs.jem.binarymodelingdata.TimeSeriesOverview;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.text.SimpleDateFormat;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneOffset;
 import java.util.Arrays;
-import java.util.Calendar;
+import java.util.BitSet;
 import java.util.Date;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.NoSuchElementException;
-import java.util.SortedMap;
-import java.util.SortedSet;
-import java.util.TimeZone;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 import org.apache.log4j.Level;
 
 /**
@@ -72,6 +81,28 @@ import org.apache.log4j.Level;
  * <li>SEGNAMES (15 single-octet char names for each segment)</li>
  * </ul>
  *
+ * Chunked, compressed copies of BMD files written by {@link ChunkedBMDWriter}
+ * are read the same way, with {@link ReadMode#CHUNKED}.
+ *
+ * Queries that select more time steps than variable and segment pairs, such
+ * as time series, are read from a {@link TransposedSidecar} instead of the
+ * file when one has been written and is fresh. Likewise, queries with a
+ * predicate on values (see
+ * {@link ConcentrationsQuery#whereValueAbove(BMDVariable, float)}) skip the
+ * blocks of time steps that a fresh {@link ZoneMapSidecar} shows cannot
+ * match, and overviews of long time series (see
+ * {@link #readOverview(BMDVariable, BMDSegment, int, int, int)}) are read
+ * from a fresh {@link PyramidSidecar}.
+ *
+ * Only the header and the variables are read when the file is opened, so
+ * that opening a file to inspect its header is cheap. The times, the min/max
+ * tables, and the segment names are each read on first access, from their
+ * own duplicate of the input. Metadata is not modified once read, so a
+ * reader may be shared by multiple threads. Each query execution reads
+ * from its own duplicate of the input (see
+ * {@link SeekableDataFileInputStream#duplicate()}), so concurrent queries do
+ * not interfere with each other and require no external locking.
+ *
  * @author mckelvym
  * @since Apr 17, 2014
  *
@@ -87,32 +118,98 @@ public final class BMDReader implements Closeable
 	 */
 	private final class ConcentrationsQueryImpl implements ConcentrationsQuery
 	{
+		/**
+		 * Cache to read blocks through, or null to read from the file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private BlockCache						m_BlockCache;
+
+		/**
+		 * Executor to read partitions on, or null to read serially
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private Executor						m_Executor;
+
 		/**
 		 * Progress reporting monitor
 		 *
 		 * @since Feb 9, 2015
 		 */
 		private final List<IProgressMonitor>	m_Monitor;
+
+		/**
+		 * The maximum number of partitions to read in parallel
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private int								m_Partitions;
+
+		/**
+		 * Cache of complete results, or null to always read the file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private ConcentrationsCache				m_ResultCache;
+
+		/**
+		 * The threshold that the value of each variable index must be above,
+		 * in at least one selected segment, for a time step to be retained
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final Map<Integer, Float>		m_Thresholds;
+
+		/**
+		 * Function to reduce the values in each time bin by, or null for no
+		 * time bins
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private AggregateFunction				m_TimeBinFunction;
+
+		/**
+		 * The start of a time bin, which every other bin is aligned to
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private Instant							m_TimeBinOrigin;
+
+		/**
+		 * Width of each time bin, or null for no time bins
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private Duration						m_TimeBinWidth;
+
+		/**
+		 * Number of selected time steps from each kept time step to the next
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private int								m_TimeStride;
+
 		/**
 		 * The indices into {@link BMDReader#m_Segments} to query
 		 *
 		 * @since Apr 22, 2014
 		 */
-		private final SortedSet<Integer>		m_qSegments;
+		private final BitSet					m_qSegments;
 
 		/**
 		 * The indices into {@link BMDReader#m_TimeSteps} to query
 		 *
 		 * @since Apr 22, 2014
 		 */
-		private final SortedSet<Integer>		m_qTimeSteps;
+		private final BitSet					m_qTimeSteps;
 
 		/**
 		 * The indices into {@link BMDReader#m_Variables} to query
 		 *
 		 * @since Apr 22, 2014
 		 */
-		private final SortedSet<Integer>		m_qVariables;
+		private final BitSet					m_qVariables;
 
 		/**
 		 * Create a new, empty query
@@ -121,10 +218,35 @@ public final class BMDReader implements Closeable
 		 */
 		private ConcentrationsQueryImpl()
 		{
-			m_qVariables = Sets.newTreeSet();
-			m_qSegments = Sets.newTreeSet();
-			m_qTimeSteps = Sets.newTreeSet();
+			m_qVariables = new BitSet();
+			m_qSegments = new BitSet();
+			m_qTimeSteps = new BitSet();
 			m_Monitor = Lists.newArrayList();
+			m_BlockCache = null;
+			m_Executor = null;
+			m_Partitions = 1;
+			m_ResultCache = null;
+			m_Thresholds = Maps.newTreeMap();
+			m_TimeBinFunction = null;
+			m_TimeBinOrigin = Instant.EPOCH;
+			m_TimeBinWidth = null;
+			m_TimeStride = 1;
+		}
+
+		@Override
+		public Aggregates<BMDTimeStep> aggregateOverSegments(
+				final AggregateFunction... p_Functions) throws IOException
+		{
+			return aggregateConcentrations(this, p_Functions, false,
+					m_TimeSteps.get()::get);
+		}
+
+		@Override
+		public Aggregates<BMDSegment> aggregateOverTime(
+				final AggregateFunction... p_Functions) throws IOException
+		{
+			return aggregateConcentrations(this, p_Functions, true,
+					m_Segments.get()::get);
 		}
 
 		/**
@@ -143,34 +265,21 @@ public final class BMDReader implements Closeable
 			return readConcentrations(this);
 		}
 
-		/**
-		 * Determines if the given variable index, segment index, and time index
-		 * are part of the query.
-		 *
-		 * @param p_VariableIndex
-		 *            the variable index (see {@link BMDReader#m_Variables})
-		 * @param p_SegmentIndex
-		 *            the segment index (see {@link BMDReader#m_Segments})
-		 * @param p_TimeIndex
-		 *            the time index (see {@link BMDReader#m_TimeSteps})
-		 * @return true if this given indices are part of the query
-		 * @since Apr 23, 2014
-		 */
-		private boolean isInQuery(final int p_VariableIndex,
-				final int p_SegmentIndex, final int p_TimeIndex)
+		@Override
+		public void executeStreaming(final ConcentrationConsumer p_Consumer)
+				throws IOException
 		{
-			return m_qVariables.contains(p_VariableIndex)
-					&& m_qSegments.contains(p_SegmentIndex)
-					&& m_qTimeSteps.contains(p_TimeIndex);
+			streamConcentrations(this, p_Consumer);
 		}
 
 		@Override
 		public String toString()
 		{
 			return MoreObjects.toStringHelper(ConcentrationsQuery.class)
-					.add("numVars", m_qVariables.size())
-					.add("numSegs", m_qSegments.size())
-					.add("numTSteps", m_qTimeSteps.size()).toString();
+					.add("numVars", m_qVariables.cardinality())
+					.add("numSegs", m_qSegments.cardinality())
+					.add("numTSteps", m_qTimeSteps.cardinality())
+					.add("thresholds", m_Thresholds).toString();
 		}
 
 		/**
@@ -184,24 +293,41 @@ public final class BMDReader implements Closeable
 		public void validate() throws IllegalStateException
 		{
 			checkState(!m_qVariables.isEmpty(), "No variables specified.");
-			checkElementIndex(m_qVariables.first(), m_Variables.size(),
+			checkElementIndex(m_qVariables.nextSetBit(0), m_Variables.size(),
 					"Invalid start variable index detected.");
-			checkElementIndex(m_qVariables.last(), m_Variables.size(),
+			checkElementIndex(m_qVariables.length() - 1, m_Variables.size(),
 					"Invalid end variable index detected.");
 
 			checkState(!m_qSegments.isEmpty(), "No segments specified.");
-			checkElementIndex(m_qSegments.first(), m_Segments.size(),
+			checkElementIndex(m_qSegments.nextSetBit(0),
+					m_Header.getSegmentsSize(),
 					"Invalid start segment index detected.");
-			checkElementIndex(m_qSegments.last(), m_Segments.size(),
+			checkElementIndex(m_qSegments.length() - 1,
+					m_Header.getSegmentsSize(),
 					"Invalid end segment index detected.");
 
 			checkState(!m_qTimeSteps.isEmpty(), "No timesteps specified.");
-			checkElementIndex(m_qTimeSteps.first(), m_TimeSteps.size(),
+			checkElementIndex(m_qTimeSteps.nextSetBit(0),
+					m_Header.getTimesSize(),
 					"Invalid start time index detected.");
-			checkElementIndex(m_qTimeSteps.last(), m_TimeSteps.size(),
+			checkElementIndex(m_qTimeSteps.length() - 1,
+					m_Header.getTimesSize(),
 					"Invalid end time index detected.");
 		}
 
+		@Override
+		public ConcentrationsQuery whereValueAbove(
+				final BMDVariable p_Variable, final float p_Threshold)
+		{
+			checkNotNull(p_Variable, "Invalid argument.");
+			checkElementIndex(p_Variable.getIndex(), m_Variables.size(),
+					"Invalid variable index.");
+			checkArgument(!Float.isNaN(p_Threshold), "Invalid threshold: %s",
+					p_Threshold);
+			m_Thresholds.merge(p_Variable.getIndex(), p_Threshold, Math::max);
+			return this;
+		}
+
 		/**
 		 * Use all segments in the query.
 		 *
@@ -212,9 +338,7 @@ public final class BMDReader implements Closeable
 		public ConcentrationsQuery withAllSegments()
 		{
 			m_qSegments.clear();
-			m_qSegments.addAll(
-					ContiguousSet.create(Range.closedOpen(0, m_Segments.size()),
-							DiscreteDomain.integers()).asList());
+			m_qSegments.set(0, m_Header.getSegmentsSize());
 			return this;
 		}
 
@@ -228,7 +352,7 @@ public final class BMDReader implements Closeable
 		public ConcentrationsQuery withAllTimeSteps()
 		{
 			m_qTimeSteps.clear();
-			m_qTimeSteps.addAll(getTimeStepIndices());
+			m_qTimeSteps.set(0, m_Header.getTimesSize());
 			return this;
 		}
 
@@ -242,10 +366,26 @@ public final class BMDReader implements Closeable
 		public ConcentrationsQuery withAllVariables()
 		{
 			m_qVariables.clear();
-			m_qVariables.addAll(ContiguousSet
-					.create(Range.closedOpen(0, m_Variables.size()),
-							DiscreteDomain.integers())
-					.asList());
+			m_qVariables.set(0, m_Variables.size());
+			return this;
+		}
+
+		@Override
+		public ConcentrationsQuery withBlockCache(final BlockCache p_Cache)
+		{
+			m_BlockCache = checkNotNull(p_Cache, "Invalid argument.");
+			return this;
+		}
+
+		@Override
+		public ConcentrationsQuery withExecutor(final Executor p_Executor,
+				final int p_Partitions)
+		{
+			checkNotNull(p_Executor, "Invalid argument.");
+			checkArgument(p_Partitions > 0, "Invalid number of partitions: %s",
+					p_Partitions);
+			m_Executor = p_Executor;
+			m_Partitions = p_Partitions;
 			return this;
 		}
 
@@ -258,6 +398,23 @@ public final class BMDReader implements Closeable
 			return this;
 		}
 
+		@Override
+		public ConcentrationsQuery withResultCache(
+				final ConcentrationsCache p_Cache)
+		{
+			m_ResultCache = checkNotNull(p_Cache, "Invalid argument.");
+			return this;
+		}
+
+		@Override
+		public ConcentrationsQuery withSegmentRange(final int p_From,
+				final int p_To)
+		{
+			checkPositionIndexes(p_From, p_To, m_Header.getSegmentsSize());
+			m_qSegments.set(p_From, p_To);
+			return this;
+		}
+
 		@Override
 		public ConcentrationsQuery withSegments(
 				final List<BMDSegment> p_Segments)
@@ -265,11 +422,42 @@ public final class BMDReader implements Closeable
 			checkNotNull(p_Segments, "Invalid argument.");
 			for (final BMDSegment segment : p_Segments)
 			{
-				m_qSegments.add(segment.getIndex());
+				m_qSegments.set(segment.getIndex());
 			}
 			return this;
 		}
 
+		@Override
+		public ConcentrationsQuery withTimeBins(final Duration p_Width,
+				final AggregateFunction p_Function)
+		{
+			return withTimeBins(p_Width, p_Function, Instant.EPOCH);
+		}
+
+		@Override
+		public ConcentrationsQuery withTimeBins(final Duration p_Width,
+				final AggregateFunction p_Function, final Instant p_Origin)
+		{
+			checkNotNull(p_Width, "Invalid argument.");
+			checkNotNull(p_Function, "Invalid argument.");
+			checkNotNull(p_Origin, "Invalid argument.");
+			checkArgument(p_Width.toMillis() > 0, "Invalid bin width: %s",
+					p_Width);
+			m_TimeBinWidth = p_Width;
+			m_TimeBinFunction = p_Function;
+			m_TimeBinOrigin = p_Origin;
+			return this;
+		}
+
+		@Override
+		public ConcentrationsQuery withTimeStepRange(final int p_From,
+				final int p_To)
+		{
+			checkPositionIndexes(p_From, p_To, m_Header.getTimesSize());
+			m_qTimeSteps.set(p_From, p_To);
+			return this;
+		}
+
 		@Override
 		public ConcentrationsQuery withTimeSteps(
 				final List<BMDTimeStep> p_TimeSteps)
@@ -277,11 +465,28 @@ public final class BMDReader implements Closeable
 			checkNotNull(p_TimeSteps, "Invalid argument.");
 			for (final BMDTimeStep timeStep : p_TimeSteps)
 			{
-				m_qTimeSteps.add(timeStep.getIndex());
+				m_qTimeSteps.set(timeStep.getIndex());
 			}
 			return this;
 		}
 
+		@Override
+		public ConcentrationsQuery withTimeStride(final int p_Stride)
+		{
+			checkArgument(p_Stride > 0, "Invalid stride: %s", p_Stride);
+			m_TimeStride = p_Stride;
+			return this;
+		}
+
+		@Override
+		public ConcentrationsQuery withVariableRange(final int p_From,
+				final int p_To)
+		{
+			checkPositionIndexes(p_From, p_To, m_Variables.size());
+			m_qVariables.set(p_From, p_To);
+			return this;
+		}
+
 		@Override
 		public ConcentrationsQuery withVariables(
 				final List<BMDVariable> p_Variables)
@@ -289,12 +494,37 @@ public final class BMDReader implements Closeable
 			checkNotNull(p_Variables, "Invalid argument.");
 			for (final BMDVariable variable : p_Variables)
 			{
-				m_qVariables.add(variable.getIndex());
+				m_qVariables.set(variable.getIndex());
 			}
 			return this;
 		}
 	}
 
+	/**
+	 * Reads a section of the file
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 * @param <T>
+	 *            the type of section
+	 */
+	@FunctionalInterface
+	private interface SectionReader<T>
+	{
+		/**
+		 * Read a section of the file
+		 *
+		 * @param p_Input
+		 *            the input, positioned at the section
+		 * @return the section
+		 * @throws IOException
+		 *             if the section could not be read
+		 * @since Oct 18, 2026
+		 */
+		T read(SeekableDataFileInputStream p_Input) throws IOException;
+	}
+
 	/**
 	 * Number of bytes representing concentrations values (float)
 	 *
@@ -302,12 +532,33 @@ public final class BMDReader implements Closeable
 	 */
 	private static final int				CONCENTRATIONS_SIZE	= 4;
 
+	/**
+	 * Milliseconds since the epoch of January 1 of year 1 UTC, in the Julian
+	 * calendar that {@link java.util.GregorianCalendar} uses before the
+	 * Gregorian cutover, which is December 30 of year 0 in the proleptic
+	 * Gregorian calendar of {@link java.time}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final long				JULIAN_YEAR_ONE_MS	= LocalDate
+			.of(0, Month.DECEMBER, 30).atStartOfDay(ZoneOffset.UTC).toInstant()
+			.toEpochMilli();
+
 	/**
 	 * Class logger
 	 */
 	private static org.apache.log4j.Logger	log					= org.apache.log4j.Logger
 			.getLogger(BMDReader.class);
 
+	/**
+	 * Milliseconds since the epoch of January 1, 1901 UTC, from which old seed
+	 * times are counted in seconds
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final long				OLD_SEED_MS			= Instant
+			.parse("1901-01-01T00:00:00Z").toEpochMilli();
+
 	/**
 	 * Number of bytes representing segment names (15 single-octet chars)
 	 *
@@ -373,7 +624,41 @@ public final class BMDReader implements Closeable
 	}
 
 	/**
-	 * Open the BMD file at the provided path and read its header
+	 * Get the {@link ReadMode} used to read the file at the provided path
+	 * when none is specified
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @return {@link ReadMode#CHUNKED} for chunked files (see
+	 *         {@link ChunkedBMDWriter}), otherwise {@link ReadMode#POSITIONAL}
+	 * @since Oct 18, 2026
+	 */
+	private static ReadMode getDefaultReadMode(final String p_FilePath)
+	{
+		checkNotNull(p_FilePath, "File path required.");
+		return isChunked(p_FilePath) ? ReadMode.CHUNKED : ReadMode.POSITIONAL;
+	}
+
+	/**
+	 * Check whether the file at the provided path is a chunked file
+	 *
+	 * @param p_FilePath
+	 *            the path to the file
+	 * @return true if the file has the {@link ChunkedBMDWriter#EXTENSION}
+	 *         extension
+	 * @since Oct 18, 2026
+	 */
+	private static boolean isChunked(final String p_FilePath)
+	{
+		return Objects.equal(ChunkedBMDWriter.EXTENSION,
+				Files.getFileExtension(p_FilePath).toLowerCase());
+	}
+
+	/**
+	 * Open the BMD file at the provided path and read its header, using
+	 * {@link ReadMode#POSITIONAL} to read from the file, or
+	 * {@link ReadMode#CHUNKED} if it is a chunked file written by
+	 * {@link ChunkedBMDWriter}.
 	 *
 	 * @param p_FilePath
 	 *            the path to the BMD file
@@ -383,9 +668,28 @@ public final class BMDReader implements Closeable
 	 * @since Apr 21, 2014
 	 */
 	public static BMDReader open(final String p_FilePath) throws IOException
+	{
+		return open(p_FilePath, getDefaultReadMode(p_FilePath));
+	}
+
+	/**
+	 * Open the BMD file at the provided path and read its header, using the
+	 * provided {@link ReadMode} to read from the file.
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_ReadMode
+	 *            the {@link ReadMode} used to read from the file
+	 * @return the {@link BMDReader}
+	 * @throws IOException
+	 *             if the file could not be opened for any reason
+	 * @since Oct 18, 2026
+	 */
+	public static BMDReader open(final String p_FilePath,
+			final ReadMode p_ReadMode) throws IOException
 	{
 		log.setLevel(Level.INFO);
-		return openInternal(p_FilePath);
+		return openInternal(p_FilePath, p_ReadMode);
 	}
 
 	/**
@@ -402,7 +706,7 @@ public final class BMDReader implements Closeable
 	public static BMDReader openDebug(final String p_FilePath)
 			throws IOException
 	{
-		return openInternal(p_FilePath);
+		return openInternal(p_FilePath, getDefaultReadMode(p_FilePath));
 	}
 
 	/**
@@ -411,30 +715,101 @@ public final class BMDReader implements Closeable
 	 *
 	 * @param p_FilePath
 	 *            the path to the BMD file
+	 * @param p_ReadMode
+	 *            the {@link ReadMode} used to read from the file
 	 * @return the {@link BMDReader}
 	 * @throws IOException
 	 *             if the file could not be opened for any reason
 	 * @since Apr 21, 2014
 	 */
-	private static BMDReader openInternal(final String p_FilePath)
-			throws IOException
+	private static BMDReader openInternal(final String p_FilePath,
+			final ReadMode p_ReadMode) throws IOException
 	{
 		checkNotNull(p_FilePath, "File path required.");
-		checkArgument(
-				Objects.equal("bmd",
-						Files.getFileExtension(p_FilePath).toLowerCase()),
-				"BMD file required, but got %s instead", p_FilePath);
-		final BMDReader bmdReader = new BMDReader(p_FilePath);
+		checkNotNull(p_ReadMode, "Read mode required.");
+		if (p_ReadMode == ReadMode.CHUNKED)
+		{
+			checkArgument(isChunked(p_FilePath),
+					"Chunked BMD file required, but got %s instead",
+					p_FilePath);
+		}
+		else
+		{
+			checkArgument(
+					Objects.equal("bmd",
+							Files.getFileExtension(p_FilePath).toLowerCase()),
+					"BMD file required, but got %s instead", p_FilePath);
+		}
+		final BMDReader bmdReader = new BMDReader(p_FilePath, p_ReadMode);
 		bmdReader.readHeader();
 		return bmdReader;
 	}
 
+	/**
+	 * Reads a table of the given size with a single bulk read, rather than
+	 * one read per field, so that opening a file is dominated by I/O
+	 *
+	 * @param p_Input
+	 *            the input, positioned at the table
+	 * @param p_Size
+	 *            the size of the table, in bytes
+	 * @return the table, in the byte order of the input
+	 * @throws IOException
+	 *             if the table could not be read, including reaching the end
+	 *             of the file first
+	 * @since Oct 18, 2026
+	 */
+	private static ByteBuffer readTable(
+			final SeekableDataFileInputStream p_Input, final long p_Size)
+			throws IOException
+	{
+		checkArgument(p_Size <= Integer.MAX_VALUE,
+				"Table is too large: %s bytes", p_Size);
+		final byte[] table = new byte[(int) p_Size];
+		p_Input.readFully(table);
+		return ByteBuffer.wrap(table).order(p_Input.getByteOrder());
+	}
+
+	/**
+	 * Wrap a progress monitor so that it may be shared by the partitions of a
+	 * parallel query.
+	 *
+	 * @param p_Monitor
+	 *            the monitor to wrap
+	 * @return a monitor that synchronizes on the provided monitor
+	 * @since Oct 18, 2026
+	 */
+	private static IProgressMonitor synchronizedMonitor(
+			final IProgressMonitor p_Monitor)
+	{
+		return new IProgressMonitor()
+		{
+			@Override
+			public boolean isCanceled()
+			{
+				synchronized (p_Monitor)
+				{
+					return p_Monitor.isCanceled();
+				}
+			}
+
+			@Override
+			public void worked(final int p_Work)
+			{
+				synchronized (p_Monitor)
+				{
+					p_Monitor.worked(p_Work);
+				}
+			}
+		};
+	}
+
 	/**
 	 * The {@link ByteOrder} to read from the file.
 	 *
 	 * @since Apr 22, 2014
 	 */
-	private final ByteOrder						m_ByteOrder;
+	private final ByteOrder								m_ByteOrder;
 
 	/**
 	 * Computed after the size of the dimensions are known. This is the number
@@ -442,14 +817,23 @@ public final class BMDReader implements Closeable
 	 *
 	 * @since Apr 18, 2014
 	 */
-	private long								m_ConcentrationsLocation;
+	private long										m_ConcentrationsLocation;
 
 	/**
-	 * The data input stream used to read from the file.
+	 * The data input stream used to read the header from the file. Queries
+	 * read from duplicates of this input.
 	 *
 	 * @since Apr 22, 2014
 	 */
-	private SeekableDataFileInputStream			m_DIS;
+	private volatile SeekableDataFileInputStream		m_DIS;
+
+	/**
+	 * The attributes of the BMD file, read when it was opened, which identify
+	 * the version of the file that {@link #m_DIS} reads from
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private BasicFileAttributes							m_FileAttributes;
 
 	/**
 	 * The path to the BMD file
@@ -457,7 +841,7 @@ public final class BMDReader implements Closeable
 	 * @see #getFilePath()
 	 * @since Apr 22, 2014
 	 */
-	private final String						m_FilePath;
+	private final String								m_FilePath;
 
 	/**
 	 * The header for the BMD file
@@ -465,23 +849,26 @@ public final class BMDReader implements Closeable
 	 * @see #getHeader()
 	 * @since Apr 18, 2014
 	 */
-	private BMDHeader							m_Header;
+	private BMDHeader									m_Header;
 
 	/**
-	 * Mapping of variable name to maximum value.
+	 * Minimum and maximum pairs for each variable, read on first access
 	 *
 	 * @see #getVariableMax(String)
-	 * @since Apr 18, 2014
+	 * @see #getVariableMin(String)
+	 * @since Oct 18, 2026
 	 */
-	private final Map<String, Float>			m_MaxOverVars;
+	private Supplier<float[]>							m_MinMaxOverVars;
 
 	/**
-	 * Variable name, segment name mapped to maximum value
+	 * Minimum and maximum pairs for each variable, then segment, read on
+	 * first access
 	 *
 	 * @see #getVariableSegmentMax(String, String)
-	 * @since Apr 18, 2014
+	 * @see #getVariableSegmentMin(String, String)
+	 * @since Oct 18, 2026
 	 */
-	private final Table<String, String, Float>	m_MaxOverVarSegs;
+	private Supplier<float[]>							m_MinMaxOverVarSegs;
 
 	/**
 	 * Computed after the size of the dimensions are known. This is the number
@@ -490,7 +877,7 @@ public final class BMDReader implements Closeable
 	 *
 	 * @since Apr 18, 2014
 	 */
-	private long								m_MinMaxOverVarSegsLocation;
+	private long										m_MinMaxOverVarSegsLocation;
 
 	/**
 	 * Computed after the size of the dimensions are known. This is the number
@@ -499,29 +886,35 @@ public final class BMDReader implements Closeable
 	 *
 	 * @since Apr 18, 2014
 	 */
-	private long								m_MinMaxOverVarsLocation;
+	private long										m_MinMaxOverVarsLocation;
 
 	/**
-	 * Mapping of variable name to minimum value.
+	 * Resolves the {@link PyramidSidecar} of the file once, and again only
+	 * when the file or the sidecar changes
 	 *
-	 * @see #getVariableMin(String)
-	 * @since Apr 18, 2014
+	 * @since Oct 18, 2026
 	 */
-	private final Map<String, Float>			m_MinOverVars;
+	private final SidecarResolver<PyramidSidecar>		m_PyramidSidecar;
 
 	/**
-	 * Variable name, segment name mapped to minimum value
+	 * The {@link ReadMode} used to open {@link #m_DIS}
 	 *
-	 * @see #getVariableSegmentMin(String, String)
-	 * @since Apr 18, 2014
+	 * @since Oct 18, 2026
 	 */
-	private final Table<String, String, Float>	m_MinOverVarSegs;
+	private final ReadMode								m_ReadMode;
 
 	/**
 	 * @see #getSeedDate()
 	 * @since Apr 18, 2014
 	 */
-	private Date								m_SeedDate;
+	private Date										m_SeedDate;
+
+	/**
+	 * Mapping of segment name to index, built on first access
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private Supplier<Map<String, Integer>>				m_SegmentIndices;
 
 	/**
 	 * Computed after the size of the dimensions are known. This is the number
@@ -529,13 +922,15 @@ public final class BMDReader implements Closeable
 	 *
 	 * @since Apr 18, 2014
 	 */
-	private long								m_SegmentNamesLocation;
+	private long										m_SegmentNamesLocation;
 
 	/**
+	 * Segments, read on first access
+	 *
 	 * @see #getSegments()
 	 * @since Apr 18, 2014
 	 */
-	private final List<BMDSegment>				m_Segments;
+	private Supplier<List<BMDSegment>>					m_Segments;
 
 	/**
 	 * Computed after the size of the dimensions are known. This is the number
@@ -543,134 +938,491 @@ public final class BMDReader implements Closeable
 	 *
 	 * @since Apr 18, 2014
 	 */
-	private long								m_TimesLocation;
+	private long										m_TimesLocation;
 
 	/**
+	 * Time steps, read on first access
+	 *
 	 * @see #getTimeSteps()
 	 * @since Apr 18, 2014
 	 */
-	private final List<BMDTimeStep>				m_TimeSteps;
+	private Supplier<List<BMDTimeStep>>					m_TimeSteps;
+
+	/**
+	 * Resolves the {@link TransposedSidecar} of the file once, and again only
+	 * when the file or the sidecar changes
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final SidecarResolver<TransposedSidecar>	m_TransposedSidecar;
+
+	/**
+	 * Mapping of variable name to index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Map<String, Integer>					m_VariableIndices;
+
+	/**
+	 * Mapping of variable PCode to index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Map<String, Integer>					m_VariablePCodeIndices;
 
 	/**
+	 * Variables, read when the file is opened
+	 *
 	 * @see #getVariables()
 	 * @since Apr 18, 2014
 	 */
-	private final List<BMDVariable>				m_Variables;
+	private List<BMDVariable>							m_Variables;
+
+	/**
+	 * Resolves the {@link ZoneMapSidecar} of the file once, and again only
+	 * when the file or the sidecar changes
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final SidecarResolver<ZoneMapSidecar>		m_ZoneMapSidecar;
 
 	/**
 	 * Create a new reader for the BMD file at the provided path
 	 *
 	 * @param p_FilePath
 	 *            path to the BMD file
+	 * @param p_ReadMode
+	 *            the {@link ReadMode} used to read from the file
 	 * @since Apr 23, 2014
 	 */
-	private BMDReader(final String p_FilePath)
+	private BMDReader(final String p_FilePath, final ReadMode p_ReadMode)
 	{
 		m_FilePath = checkNotNull(p_FilePath);
-		m_Variables = Lists.newArrayList();
-		m_Segments = Lists.newArrayList();
-		m_TimeSteps = Lists.newArrayList();
-		m_MinOverVars = Maps.newHashMap();
-		m_MaxOverVars = Maps.newHashMap();
-		m_MinOverVarSegs = HashBasedTable.create();
-		m_MaxOverVarSegs = HashBasedTable.create();
+		m_ReadMode = checkNotNull(p_ReadMode);
+		m_Variables = ImmutableList.of();
+		m_VariableIndices = Maps.newHashMap();
+		m_VariablePCodeIndices = Maps.newHashMap();
 		m_ByteOrder = ByteOrder.LITTLE_ENDIAN;
+		m_TransposedSidecar = new SidecarResolver<>(m_FilePath,
+				TransposedSidecar.getPath(m_FilePath),
+				() -> TransposedSidecar.open(m_FilePath, m_Header, m_ReadMode),
+				TransposedSidecar::duplicate);
+		m_ZoneMapSidecar = new SidecarResolver<>(m_FilePath,
+				ZoneMapSidecar.getPath(m_FilePath),
+				() -> ZoneMapSidecar.open(m_FilePath, m_Header, m_ReadMode),
+				ZoneMapSidecar::duplicate);
+		m_PyramidSidecar = new SidecarResolver<>(m_FilePath,
+				PyramidSidecar.getPath(m_FilePath),
+				() -> PyramidSidecar.open(m_FilePath, m_Header, m_ReadMode),
+				PyramidSidecar::duplicate);
 	}
 
 	/**
-	 * Close the reader.
+	 * Reduces the concentrations corresponding to the
+	 * {@link ConcentrationsQueryImpl} as they are read, in file order or from
+	 * the {@link TransposedSidecar} for time series shaped queries, so that
+	 * only the running state of each variable and key is held in memory.
 	 *
+	 * @param <K>
+	 *            the type of key
+	 * @param p_Query
+	 *            the {@link ConcentrationsQueryImpl} to use in retrieving
+	 *            concentrations
+	 * @param p_Functions
+	 *            the functions to reduce values by
+	 * @param p_OverTime
+	 *            true to reduce over time steps, keyed by segment, or false
+	 *            to reduce over segments, keyed by time step
+	 * @param p_Keys
+	 *            gets a key by its file index
+	 * @return the reduced values
 	 * @throws IOException
-	 *             if closing the internal {@link SeekableDataFileInputStream}
-	 *             failed
-	 * @since Apr 25, 2014
+	 *             if concentations could not be read from the file
+	 * @since Oct 18, 2026
 	 */
-	@Override
-	public void close() throws IOException
+	private <K> Aggregates<K> aggregateConcentrations(
+			final ConcentrationsQueryImpl p_Query,
+			final AggregateFunction[] p_Functions, final boolean p_OverTime,
+			final IntFunction<K> p_Keys) throws IOException
 	{
-		if (m_DIS != null)
+		checkNotNull(p_Query, "Query cannot be null.");
+		checkNotNull(p_Functions, "Functions cannot be null.");
+		p_Query.validate();
+		validate();
+		checkState(p_Query.m_TimeBinWidth == null,
+				"Time bins are not supported by aggregation.");
+
+		final BitSet timeSteps = selectTimeSteps(p_Query);
+		final IProgressMonitor monitor = beginTask(p_Query, timeSteps);
+
+		final int[] variableNums = p_Query.m_qVariables.stream().toArray();
+		final int[] segmentNums = p_Query.m_qSegments.stream().toArray();
+		final int[] timeNums = timeSteps.stream().toArray();
+		final int[] keyNums = p_OverTime ? segmentNums : timeNums;
+		final DenseAggregates<K> aggregates = new DenseAggregates<>(
+				Arrays.asList(p_Functions),
+				Lists.transform(Ints.asList(variableNums), m_Variables::get),
+				Lists.transform(Ints.asList(keyNums), p_Keys::apply),
+				keyNums);
+		final ConcentrationsReadPlan.Visitor visitor = p_OverTime
+				? (variableOrd, segmentOrd, timeOrd, value) -> aggregates
+						.accept(variableOrd, segmentOrd, value)
+				: (variableOrd, segmentOrd, timeOrd, value) -> aggregates
+						.accept(variableOrd, timeOrd, value);
+		if (!readTransposed(variableNums, segmentNums, timeNums, visitor,
+				monitor))
 		{
-			try
-			{
-				m_DIS.close();
-			}
-			catch (final IOException e)
-			{
-				throw e;
-			}
-			finally
+			try (SeekableDataFileInputStream input = duplicateInput(
+					p_Query.m_BlockCache);)
 			{
-				m_DIS = null;
+				new ConcentrationsReadPlan(m_ConcentrationsLocation,
+						m_Header.getSegmentsSize(),
+						m_Header.getVariablesSize(), variableNums,
+						segmentNums, timeNums).execute(input, visitor,
+								monitor);
 			}
 		}
+		return aggregates;
 	}
 
 	/**
-	 * Get the opened file path
+	 * Begin reporting progress for a query, if it has a monitor
 	 *
-	 * @return the opened file path
-	 * @since Apr 23, 2014
+	 * @param p_Query
+	 *            the query being executed
+	 * @param p_TimeSteps
+	 *            the time step indices that will be read
+	 * @return the query progress monitor, or null if there is none
+	 * @since Oct 18, 2026
 	 */
-	public String getFilePath()
+	private IProgressMonitor beginTask(final ConcentrationsQueryImpl p_Query,
+			final BitSet p_TimeSteps)
 	{
-		validate();
-		return m_FilePath;
+		IProgressMonitor monitor = null;
+		if (!p_Query.m_Monitor.isEmpty())
+		{
+			monitor = p_Query.m_Monitor.get(0);
+		}
+
+		if (monitor != null)
+		{
+			monitor.beginTask("Querying...", p_TimeSteps.cardinality());
+		}
+		return monitor;
 	}
 
 	/**
-	 * Get the file header
+	 * Reads the concentrations corresponding to the
+	 * {@link ConcentrationsQueryImpl} and reduces them into time bins as they
+	 * are read, so that only the running state of each variable, segment, and
+	 * bin is held in memory.
 	 *
-	 * @return the file header
-	 * @since Apr 23, 2014
+	 * @param p_Query
+	 *            the validated {@link ConcentrationsQueryImpl} with time bins
+	 * @param p_TimeSteps
+	 *            the time step indices to read, which satisfy the predicates
+	 *            of the query
+	 * @return the {@link Concentrations} with the first time step of each bin
+	 * @throws IOException
+	 *             if concentations could not be read from the file
+	 * @since Oct 18, 2026
 	 */
-	public BMDHeader getHeader()
+	private Concentrations binConcentrations(
+			final ConcentrationsQueryImpl p_Query, final BitSet p_TimeSteps)
+			throws IOException
+	{
+		final IProgressMonitor monitor = beginTask(p_Query, p_TimeSteps);
+
+		final int[] variableNums = p_Query.m_qVariables.stream().toArray();
+		final int[] segmentNums = p_Query.m_qSegments.stream().toArray();
+		final int[] timeNums = p_TimeSteps.stream().toArray();
+		final int numSegments = segmentNums.length;
+
+		/**
+		 * Assign each time step to a bin aligned to the origin, and start the
+		 * next bin at the first time step at or beyond its end
+		 */
+		final long width = p_Query.m_TimeBinWidth.toMillis();
+		final long origin = p_Query.m_TimeBinOrigin.toEpochMilli();
+		final int[] bins = new int[timeNums.length];
+		final List<BMDTimeStep> binTimeSteps = Lists.newArrayList();
+		long binEnd = 0;
+		for (int ordinal = 0; ordinal < timeNums.length; ordinal++)
+		{
+			final BMDTimeStep timeStep = m_TimeSteps.get()
+					.get(timeNums[ordinal]);
+			final long time = timeStep.getTime();
+			if (binTimeSteps.isEmpty() || time >= binEnd)
+			{
+				binEnd = origin
+						+ (Math.floorDiv(time - origin, width) + 1) * width;
+				binTimeSteps.add(timeStep);
+			}
+			bins[ordinal] = binTimeSteps.size() - 1;
+		}
+		final int numBins = binTimeSteps.size();
+		final long size = (long) variableNums.length * numSegments * numBins;
+		checkState(size <= Integer.MAX_VALUE,
+				"Too many values selected (%s), limit the query.", size);
+
+		/**
+		 * Cells are arranged by variable, segment, then bin, as the values of
+		 * the result. Count the values visited for each time step so that bins
+		 * not read completely when the query is canceled can be dropped.
+		 */
+		final AggregateAccumulator accumulator = new AggregateAccumulator(
+				Arrays.asList(p_Query.m_TimeBinFunction), (int) size);
+		final int[] timeCounts = new int[timeNums.length];
+		final ConcentrationsReadPlan.Visitor visitor = (variableOrd,
+				segmentOrd, timeOrd, value) ->
+		{
+			accumulator.accept((variableOrd * numSegments + segmentOrd)
+					* numBins + bins[timeOrd], value);
+			timeCounts[timeOrd]++;
+		};
+		if (!readTransposed(variableNums, segmentNums, timeNums, visitor,
+				monitor))
+		{
+			try (SeekableDataFileInputStream input = duplicateInput(
+					p_Query.m_BlockCache);)
+			{
+				new ConcentrationsReadPlan(m_ConcentrationsLocation,
+						m_Header.getSegmentsSize(),
+						m_Header.getVariablesSize(), variableNums,
+						segmentNums, timeNums).execute(input, visitor,
+								monitor);
+			}
+		}
+
+		final float[] values = new float[(int) size];
+		for (int cell = 0; cell < values.length; cell++)
+		{
+			values[cell] = accumulator.getValue(p_Query.m_TimeBinFunction,
+					cell);
+		}
+		final DenseConcentrations concentrations = new DenseConcentrations(
+				Lists.transform(Ints.asList(variableNums), m_Variables::get),
+				Lists.transform(Ints.asList(segmentNums),
+						m_Segments.get()::get),
+				binTimeSteps, values);
+		final int cellsPerTime = variableNums.length * numSegments;
+		final boolean[] incomplete = new boolean[numBins];
+		for (int ordinal = 0; ordinal < timeNums.length; ordinal++)
+		{
+			incomplete[bins[ordinal]] |= timeCounts[ordinal] != cellsPerTime;
+		}
+		final int[] completed = IntStream.range(0, numBins)
+				.filter(bin -> !incomplete[bin]).toArray();
+		if (completed.length < numBins)
+		{
+			return concentrations.retainTimeSteps(completed);
+		}
+		return concentrations;
+	}
+
+	/**
+	 * Close the reader.
+	 *
+	 * @throws IOException
+	 *             if closing the internal {@link SeekableDataFileInputStream}
+	 *             or a sidecar failed
+	 * @since Apr 25, 2014
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		final SeekableDataFileInputStream input = m_DIS;
+		m_DIS = null;
+		try
+		{
+			m_TransposedSidecar.close();
+		}
+		finally
+		{
+			try
+			{
+				m_ZoneMapSidecar.close();
+			}
+			finally
+			{
+				try
+				{
+					m_PyramidSidecar.close();
+				}
+				finally
+				{
+					if (input != null)
+					{
+						input.close();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create a new input for a single query execution
+	 *
+	 * @param p_BlockCache
+	 *            the cache to read blocks through, or null to read from the
+	 *            file. Chunked files keep their own decompressed chunks and
+	 *            are never read through the cache.
+	 * @return a duplicate of {@link #m_DIS}, or a new input that reads
+	 *         through the cache if the file at the path is still the one
+	 *         that was opened
+	 * @throws IOException
+	 *             if the input could not be duplicated
+	 * @throws IllegalStateException
+	 *             if the reader is closed
+	 * @since Oct 18, 2026
+	 */
+	private SeekableDataFileInputStream duplicateInput(
+			final BlockCache p_BlockCache) throws IOException
+	{
+		final SeekableDataFileInputStream input = m_DIS;
+		checkState(input != null, "File is not open.");
+		if (p_BlockCache != null && m_ReadMode != ReadMode.CHUNKED)
+		{
+			/**
+			 * The cached input reads the file now at the path, so a file
+			 * that was replaced is read from the input that was opened
+			 */
+			final BasicFileAttributes attributes = readFileAttributes();
+			if (attributes.size() == m_FileAttributes.size()
+					&& attributes.lastModifiedTime()
+							.equals(m_FileAttributes.lastModifiedTime())
+					&& Objects.equal(attributes.fileKey(),
+							m_FileAttributes.fileKey()))
+			{
+				return new CachedSeekableDataFileInputStreamImpl(m_FilePath,
+						m_ByteOrder, p_BlockCache, attributes);
+			}
+		}
+		return input.duplicate();
+	}
+
+	/**
+	 * Find a segment by name, with a lookup built once per file rather than a
+	 * scan of {@link #getSegments()}
+	 *
+	 * @param p_SegmentName
+	 *            the segment name
+	 * @return the last segment with the name, consistent with
+	 *         {@link #getVariableSegmentMin(String, String)}, or empty if no
+	 *         segment has the name
+	 * @since Oct 18, 2026
+	 */
+	public Optional<BMDSegment> findSegment(final String p_SegmentName)
 	{
 		validate();
-		return m_Header;
+		checkNotNull(p_SegmentName, "Segment name required.");
+		return Optional.ofNullable(m_SegmentIndices.get().get(p_SegmentName))
+				.map(m_Segments.get()::get);
 	}
 
 	/**
-	 * Get the seed date
+	 * Find a variable by name, with a lookup built when the file is opened
+	 * rather than a scan of {@link #getVariables()}
 	 *
-	 * @return the seed date
+	 * @param p_VariableName
+	 *            the variable name
+	 * @return the last variable with the name, consistent with
+	 *         {@link #getVariableMin(String)}, or empty if no variable has the
+	 *         name
+	 * @since Oct 18, 2026
+	 */
+	public Optional<BMDVariable> findVariable(final String p_VariableName)
+	{
+		validate();
+		checkNotNull(p_VariableName, "Variable name required.");
+		return Optional.ofNullable(m_VariableIndices.get(p_VariableName))
+				.map(m_Variables::get);
+	}
+
+	/**
+	 * Find a variable by {@link BMDVariable#getPCode() PCode}, with a lookup
+	 * built when the file is opened rather than a scan of
+	 * {@link #getVariables()}
+	 *
+	 * @param p_PCode
+	 *            the PCode, which is upper case
+	 * @return the last variable with the PCode, or empty if no variable has
+	 *         the PCode
+	 * @since Oct 18, 2026
+	 */
+	public Optional<BMDVariable> findVariableByPCode(final String p_PCode)
+	{
+		validate();
+		checkNotNull(p_PCode, "PCode required.");
+		return Optional.ofNullable(m_VariablePCodeIndices.get(p_PCode))
+				.map(m_Variables::get);
+	}
+
+	/**
+	 * Get the location of the concentrations in the file
+	 *
+	 * @return the location of the first concentration, in bytes from the
+	 *         beginning of the file
+	 * @since Oct 18, 2026
+	 */
+	long getConcentrationsLocation()
+	{
+		validate();
+		return m_ConcentrationsLocation;
+	}
+
+	/**
+	 * Get the opened file path
+	 *
+	 * @return the opened file path
 	 * @since Apr 23, 2014
 	 */
-	public Date getSeedDate()
+	public String getFilePath()
 	{
 		validate();
-		return new Date(m_SeedDate.getTime());
+		return m_FilePath;
 	}
 
 	/**
-	 * Get the list of segments. <i>Note: Constructs a new list of new objects
-	 * for each call.</i>
+	 * Get the file header
 	 *
-	 * @return the list of segments
+	 * @return the file header
 	 * @since Apr 23, 2014
 	 */
-	public List<BMDSegment> getSegments()
+	public BMDHeader getHeader()
 	{
 		validate();
-		return ImmutableList.copyOf(m_Segments);
+		return m_Header;
 	}
 
 	/**
-	 * Creates a new contiguous set of integers starting at 0 and proceeding to
-	 * 1 - the size of the times list.
+	 * Get the seed date
 	 *
-	 * @return the 0-based timestep indices
-	 * @since Apr 22, 2014
+	 * @return the seed date
+	 * @since Apr 23, 2014
 	 */
-	private List<Integer> getTimeStepIndices()
+	public Date getSeedDate()
 	{
 		validate();
-		return ContiguousSet.create(Range.closedOpen(0, m_TimeSteps.size()),
-				DiscreteDomain.integers()).asList();
+		return new Date(m_SeedDate.getTime());
 	}
 
 	/**
-	 * Get the list of time steps. <i>Note: Constructs a new list of new objects
-	 * for each call.</i>
+	 * Get the list of segments. <i>Note: Returns the same immutable list for
+	 * each call.</i>
+	 *
+	 * @return the list of segments
+	 * @since Apr 23, 2014
+	 */
+	public List<BMDSegment> getSegments()
+	{
+		validate();
+		return m_Segments.get();
+	}
+
+	/**
+	 * Get the list of time steps. <i>Note: Returns the same immutable list for
+	 * each call.</i>
 	 *
 	 * @return the list of time steps
 	 * @since Apr 23, 2014
@@ -678,7 +1430,7 @@ public final class BMDReader implements Closeable
 	public List<BMDTimeStep> getTimeSteps()
 	{
 		validate();
-		return ImmutableList.copyOf(m_TimeSteps);
+		return m_TimeSteps.get();
 	}
 
 	/**
@@ -695,17 +1447,8 @@ public final class BMDReader implements Closeable
 	public Float getVariableMax(final String p_VariableName)
 	{
 		validate();
-		try
-		{
-			return checkNotNull(
-					m_MaxOverVars.get(checkNotNull(p_VariableName,
-							"Variable name required.")),
-					"No value exists for '%s'", p_VariableName);
-		}
-		catch (final NullPointerException e)
-		{
-			throw new IllegalArgumentException(e.getMessage(), e);
-		}
+		final int variableNum = indexOfVariable(p_VariableName);
+		return m_MinMaxOverVars.get()[variableNum * 2 + 1];
 	}
 
 	/**
@@ -722,22 +1465,13 @@ public final class BMDReader implements Closeable
 	public Float getVariableMin(final String p_VariableName)
 	{
 		validate();
-		try
-		{
-			return checkNotNull(
-					m_MinOverVars.get(checkNotNull(p_VariableName,
-							"Variable name required.")),
-					"No value exists for '%s'", p_VariableName);
-		}
-		catch (final NullPointerException e)
-		{
-			throw new IllegalArgumentException(e.getMessage(), e);
-		}
+		final int variableNum = indexOfVariable(p_VariableName);
+		return m_MinMaxOverVars.get()[variableNum * 2];
 	}
 
 	/**
-	 * Get the list of variables. <i>Note: Constructs a new list of new objects
-	 * for each call.</i>
+	 * Get the list of variables. <i>Note: Returns the same immutable list for
+	 * each call.</i>
 	 *
 	 * @return the list of variables
 	 * @since Apr 23, 2014
@@ -745,7 +1479,7 @@ public final class BMDReader implements Closeable
 	public List<BMDVariable> getVariables()
 	{
 		validate();
-		return ImmutableList.copyOf(m_Variables);
+		return m_Variables;
 	}
 
 	/**
@@ -765,13 +1499,95 @@ public final class BMDReader implements Closeable
 			final String p_SegmentName)
 	{
 		validate();
+		final int pairNum = indexOfVariableSegment(p_VariableName,
+				p_SegmentName);
+		return m_MinMaxOverVarSegs.get()[pairNum * 2 + 1];
+	}
+
+	/**
+	 * Get the maximum value, retrieved from the header, for the specified
+	 * variable segment, by index
+	 *
+	 * @param p_VariableIndex
+	 *            the variable index, see {@link BMDVariable#getIndex()}
+	 * @param p_SegmentIndex
+	 *            the segment index, see {@link BMDSegment#getIndex()}
+	 * @return the maximum value
+	 * @throws IndexOutOfBoundsException
+	 *             if the variable or segment index is not within the file
+	 * @since Oct 18, 2026
+	 */
+	public float getVariableSegmentMax(final int p_VariableIndex,
+			final int p_SegmentIndex)
+	{
+		validate();
+		final int pairNum = indexOfVariableSegment(p_VariableIndex,
+				p_SegmentIndex);
+		return m_MinMaxOverVarSegs.get()[pairNum * 2 + 1];
+	}
+
+	/**
+	 * Get the minimum value, retrieved from the header, for the specified
+	 * variable segment
+	 *
+	 * @param p_VariableName
+	 *            the variable name
+	 * @param p_SegmentName
+	 *            the segment name
+	 * @return the minimum value
+	 * @throws IllegalArgumentException
+	 *             if the variable name or segment name does not exist
+	 * @since Apr 23, 2014
+	 */
+	public Float getVariableSegmentMin(final String p_VariableName,
+			final String p_SegmentName)
+	{
+		validate();
+		final int pairNum = indexOfVariableSegment(p_VariableName,
+				p_SegmentName);
+		return m_MinMaxOverVarSegs.get()[pairNum * 2];
+	}
+
+	/**
+	 * Get the minimum value, retrieved from the header, for the specified
+	 * variable segment, by index
+	 *
+	 * @param p_VariableIndex
+	 *            the variable index, see {@link BMDVariable#getIndex()}
+	 * @param p_SegmentIndex
+	 *            the segment index, see {@link BMDSegment#getIndex()}
+	 * @return the minimum value
+	 * @throws IndexOutOfBoundsException
+	 *             if the variable or segment index is not within the file
+	 * @since Oct 18, 2026
+	 */
+	public float getVariableSegmentMin(final int p_VariableIndex,
+			final int p_SegmentIndex)
+	{
+		validate();
+		final int pairNum = indexOfVariableSegment(p_VariableIndex,
+				p_SegmentIndex);
+		return m_MinMaxOverVarSegs.get()[pairNum * 2];
+	}
+
+	/**
+	 * Get the index of a variable by name
+	 *
+	 * @param p_VariableName
+	 *            the variable name
+	 * @return the index of the last variable with the name
+	 * @throws IllegalArgumentException
+	 *             if the variable name does not exist
+	 * @since Oct 18, 2026
+	 */
+	private int indexOfVariable(final String p_VariableName)
+	{
 		try
 		{
-			return checkNotNull(m_MaxOverVarSegs.get(
-					checkNotNull(p_VariableName, "Variable name required."),
-					checkNotNull(p_SegmentName, "Segment name required.")),
-					"No value exists for '%s', '%s'", p_VariableName,
-					p_SegmentName);
+			return checkNotNull(
+					m_VariableIndices.get(checkNotNull(p_VariableName,
+							"Variable name required.")),
+					"No value exists for '%s'", p_VariableName);
 		}
 		catch (final NullPointerException e)
 		{
@@ -780,29 +1596,32 @@ public final class BMDReader implements Closeable
 	}
 
 	/**
-	 * Get the minimum value, retrieved from the header, for the specified
-	 * variable segment
+	 * Get the index of a variable and segment pair by name, in the min/max
+	 * over variable segments section
 	 *
 	 * @param p_VariableName
 	 *            the variable name
 	 * @param p_SegmentName
 	 *            the segment name
-	 * @return the minimum value
+	 * @return the index of the pair of the last variable and last segment
+	 *         with the names, arranged by variable, then segment
 	 * @throws IllegalArgumentException
 	 *             if the variable name or segment name does not exist
-	 * @since Apr 23, 2014
+	 * @since Oct 18, 2026
 	 */
-	public Float getVariableSegmentMin(final String p_VariableName,
+	private int indexOfVariableSegment(final String p_VariableName,
 			final String p_SegmentName)
 	{
-		validate();
 		try
 		{
-			return checkNotNull(m_MinOverVarSegs.get(
-					checkNotNull(p_VariableName, "Variable name required."),
-					checkNotNull(p_SegmentName, "Segment name required.")),
+			final Integer variableNum = m_VariableIndices.get(
+					checkNotNull(p_VariableName, "Variable name required."));
+			final Integer segmentNum = m_SegmentIndices.get().get(
+					checkNotNull(p_SegmentName, "Segment name required."));
+			checkNotNull(variableNum == null ? null : segmentNum,
 					"No value exists for '%s', '%s'", p_VariableName,
 					p_SegmentName);
+			return indexOfVariableSegment(variableNum, segmentNum);
 		}
 		catch (final NullPointerException e)
 		{
@@ -811,261 +1630,236 @@ public final class BMDReader implements Closeable
 	}
 
 	/**
-	 * Construct a new query for concentrations.
+	 * Get the index of a variable and segment pair by index, in the min/max
+	 * over variable segments section
 	 *
-	 * @return a new {@link ConcentrationsQuery} instance
-	 * @since Apr 22, 2014
+	 * @param p_VariableIndex
+	 *            the variable index
+	 * @param p_SegmentIndex
+	 *            the segment index
+	 * @return the index of the pair, arranged by variable, then segment
+	 * @throws IndexOutOfBoundsException
+	 *             if the variable or segment index is not within the file
+	 * @since Oct 18, 2026
 	 */
-	public ConcentrationsQuery newConcentrationsQuery()
+	private int indexOfVariableSegment(final int p_VariableIndex,
+			final int p_SegmentIndex)
 	{
-		validate();
-		return new ConcentrationsQueryImpl();
+		checkElementIndex(p_VariableIndex, m_Header.getVariablesSize(),
+				"Variable");
+		checkElementIndex(p_SegmentIndex, m_Header.getSegmentsSize(),
+				"Segment");
+		return p_VariableIndex * m_Header.getSegmentsSize() + p_SegmentIndex;
+	}
+
+	/**
+	 * Create a supplier that reads a section of the file on first access,
+	 * from its own duplicate of the input so that sections may be read
+	 * concurrently with each other and with queries. A section that could
+	 * not be read is read again on the next access.
+	 *
+	 * @param <T>
+	 *            the type of section
+	 * @param p_Name
+	 *            the name of the section, for messages
+	 * @param p_Location
+	 *            the location of the section, in bytes from the beginning of
+	 *            the file
+	 * @param p_Reader
+	 *            reads the section
+	 * @return the memoizing supplier of the section
+	 * @since Oct 18, 2026
+	 */
+	private <T> Supplier<T> lazySection(final String p_Name,
+			final long p_Location, final SectionReader<T> p_Reader)
+	{
+		return Suppliers.memoize(() ->
+		{
+			final SeekableDataFileInputStream input = m_DIS;
+			checkState(input != null, "File is not open.");
+			log.debug(String.format("Read %s from %s", p_Name, m_FilePath));
+			try (SeekableDataFileInputStream section = input.duplicate();)
+			{
+				section.seek(p_Location);
+				return p_Reader.read(section);
+			}
+			catch (final IOException e)
+			{
+				throw new UncheckedIOException(String.format(
+						"Unable to read %s from file: %s", p_Name, m_FilePath),
+						e);
+			}
+		});
 	}
 
 	/**
 	 * Reads the concentrations corresponding to the
-	 * {@link ConcentrationsQueryImpl} into a table.
+	 * {@link ConcentrationsQueryImpl} from the file into a dense array. Time
+	 * series shaped queries are read from the {@link TransposedSidecar} when
+	 * it is present and fresh.
 	 *
 	 * @param p_Query
-	 *            the valid {@link ConcentrationsQueryImpl}
+	 *            the validated {@link ConcentrationsQueryImpl} to use in
+	 *            retrieving concentrations
+	 * @param p_TimeSteps
+	 *            the time step indices to read, which satisfy the predicates
+	 *            of the query
 	 * @return the {@link Concentrations} for the provided
 	 *         {@link ConcentrationsQueryImpl}
 	 * @throws IOException
 	 *             if concentations could not be read from the file
-	 * @since Apr 22, 2014
+	 * @since Oct 18, 2026
 	 */
-	private Concentrations readConcentrations(
-			final ConcentrationsQueryImpl p_Query) throws IOException
+	private Concentrations loadConcentrations(
+			final ConcentrationsQueryImpl p_Query, final BitSet p_TimeSteps)
+			throws IOException
 	{
-		checkNotNull(p_Query, "Query cannot be null.");
-		p_Query.validate();
-		validate();
-		m_DIS.seek((int) m_ConcentrationsLocation);
-
-		/**
-		 * Number of bytes in a float (4)
-		 */
-		final int FBYTES = Float.SIZE / 8;
-		/**
-		 * Table mapping (variable name, segment name) -> sorted map of (time
-		 * step -> value)
-		 */
-		final Table<BMDVariable, BMDSegment, SortedMap<BMDTimeStep, Float>> results = TreeBasedTable
-				.create();
-
-		IProgressMonitor monitor = null;
-		if (!p_Query.m_Monitor.isEmpty())
-		{
-			monitor = p_Query.m_Monitor.get(0);
-		}
+		final IProgressMonitor monitor = beginTask(p_Query, p_TimeSteps);
 
-		if (monitor != null)
-		{
-			monitor.beginTask("Querying...", m_Header.getTimesSize());
-		}
+		final int[] variableNums = p_Query.m_qVariables.stream().toArray();
+		final int[] segmentNums = p_Query.m_qSegments.stream().toArray();
+		final int[] timeNums = p_TimeSteps.stream().toArray();
+		final int numSegments = segmentNums.length;
+		final int numTimes = timeNums.length;
+		final long size = (long) variableNums.length * numSegments * numTimes;
+		checkState(size <= Integer.MAX_VALUE,
+				"Too many values selected (%s), limit the query.", size);
 
 		/**
-		 * We can either calculate the skip from the current seek, or just keep
-		 * a tally of bytes to skip.
-		 *
-		 * If calculating skip, use: skip = t * m_SegmentNames.size() *
-		 * m_VariableNames.size() FBYTES + s * m_VariableNames.size() * FBYTES +
-		 * v * FBYTES
+		 * Values are stored by variable, segment, then time step, while the
+		 * file is arranged by time step, segment, then variable. Count the
+		 * values visited for each time step so that time steps not read when
+		 * the query is canceled can be dropped.
 		 */
-		int skipBytes = 0;
-		for (int timeNum = 0; timeNum < m_Header.getTimesSize(); timeNum++)
+		final float[] values = new float[(int) size];
+		final int[] timeCounts = new int[numTimes];
+		final ConcentrationsReadPlan.Visitor visitor = new ConcentrationsReadPlan.Visitor()
 		{
-			for (int segmentNum = 0; segmentNum < m_Header
-					.getSegmentsSize(); segmentNum++)
-			{
-				for (int variableNum = 0; variableNum < m_Header
-						.getVariablesSize(); variableNum++)
-				{
-
-					if (p_Query.isInQuery(variableNum, segmentNum, timeNum))
-					{
-						final int skippedBytes = m_DIS
-								.skipBytesAggressive(skipBytes);
-						checkState(skippedBytes == skipBytes,
-								"Unable to continue reading from the file (tried to skip %s bytes, but could only skip %s)",
-								skipBytes, skippedBytes);
-
-						/**
-						 * Reset skip count.
-						 */
-						skipBytes = 0;
-
-						final BMDVariable variable = m_Variables
-								.get(variableNum);
-						final BMDSegment segment = m_Segments.get(segmentNum);
-						final BMDTimeStep timeStep = m_TimeSteps.get(timeNum);
-						final float value = m_DIS.readFloat();
-						if (!results.contains(variable, segment))
-						{
-							final SortedMap<BMDTimeStep, Float> timeValues = Maps
-									.newTreeMap();
-							results.put(variable, segment, timeValues);
-						}
-
-						results.get(variable, segment).put(timeStep, value);
-					}
-					else
-					{
-						/**
-						 * Equivalent of reading one float.
-						 */
-						skipBytes += FBYTES;
-					}
-				}
-			}
-
-			if (monitor != null)
-			{
-				if (monitor.isCanceled())
-				{
-					break;
-				}
-				monitor.worked(1);
-			}
-		}
-
-		final List<BMDVariable> variables = ImmutableList.copyOf(
-				Iterables.filter(m_Variables, new Predicate<BMDVariable>()
-				{
-
-					@Override
-					public boolean apply(final BMDVariable p_Input)
-					{
-						return results.containsRow(p_Input);
-					}
-				}));
-		final List<BMDSegment> segments = ImmutableList
-				.copyOf(Iterables.filter(m_Segments, new Predicate<BMDSegment>()
-				{
-
-					@Override
-					public boolean apply(final BMDSegment p_Input)
-					{
-						return results.containsColumn(p_Input);
-					}
-				}));
-		final List<BMDTimeStep> timeSteps = ImmutableList.copyOf(
-				Iterables.filter(m_TimeSteps, new Predicate<BMDTimeStep>()
-				{
-
-					@Override
-					public boolean apply(final BMDTimeStep p_Input)
-					{
-						return p_Query.m_qTimeSteps
-								.contains(p_Input.getIndex());
-					}
-				}));
-
-		return new Concentrations()
-		{
-			@Override
-			public Concentration get(final BMDVariable p_Variable,
-					final BMDSegment p_Segment, final BMDTimeStep p_TimeStep)
-			{
-				checkArgument(results.contains(p_Variable, p_Segment),
-						"Invalid variable (%s) or segment (%s) name.",
-						p_Variable, p_Segment);
-				final SortedMap<BMDTimeStep, Float> timeMap = results
-						.get(p_Variable, p_Segment);
-				checkArgument(timeMap.containsKey(p_TimeStep),
-						"Invalid time step: %s", p_TimeStep);
-				final Float value = timeMap.get(p_TimeStep);
-				return new ConcentrationImpl(p_Variable, p_Segment, p_TimeStep,
-						value);
-			}
-
 			@Override
-			public List<BMDSegment> getSegments()
+			public void visit(final int p_VariableOrdinal,
+					final int p_SegmentOrdinal, final int p_TimeOrdinal,
+					final float p_Value)
 			{
-				return segments;
+				values[(p_VariableOrdinal * numSegments + p_SegmentOrdinal)
+						* numTimes + p_TimeOrdinal] = p_Value;
+				timeCounts[p_TimeOrdinal]++;
 			}
-
-			@Override
-			public List<BMDTimeStep> getTimeSteps()
+		};
+		if (!readTransposed(variableNums, segmentNums, timeNums, visitor,
+				monitor))
+		{
+			if (p_Query.m_Executor == null)
 			{
-				return timeSteps;
+				try (SeekableDataFileInputStream input = duplicateInput(
+						p_Query.m_BlockCache);)
+				{
+					new ConcentrationsReadPlan(m_ConcentrationsLocation,
+							m_Header.getSegmentsSize(),
+							m_Header.getVariablesSize(), variableNums,
+							segmentNums, timeNums).execute(input, visitor,
+									monitor);
+				}
 			}
-
-			@Override
-			public List<BMDVariable> getVariables()
+			else
 			{
-				return variables;
+				readPartitions(variableNums, segmentNums, timeNums,
+						p_Query.m_Executor, p_Query.m_Partitions,
+						p_Query.m_BlockCache, visitor, monitor);
 			}
+		}
 
-			@Override
-			public Iterator<Concentration> iterator()
-			{
-				return new UnmodifiableIterator<Concentration>()
-				{
-					/**
-					 * The time steps and values for a particular variable and
-					 * segment
-					 *
-					 * @since Apr 23, 2014
-					 */
-					Cell<BMDVariable, BMDSegment, SortedMap<BMDTimeStep, Float>>					m_Cell			= null;
+		final DenseConcentrations concentrations = new DenseConcentrations(
+				Lists.transform(Ints.asList(variableNums), m_Variables::get),
+				Lists.transform(Ints.asList(segmentNums),
+						m_Segments.get()::get),
+				Lists.transform(Ints.asList(timeNums), m_TimeSteps.get()::get),
+				values);
+		final int cellsPerTime = variableNums.length * numSegments;
+		final int[] completed = IntStream.range(0, numTimes)
+				.filter(timeOrdinal -> timeCounts[timeOrdinal] == cellsPerTime)
+				.toArray();
+		if (completed.length < numTimes)
+		{
+			return concentrations.retainTimeSteps(completed);
+		}
+		return concentrations;
+	}
 
-					/**
-					 * Iterates the variables and segments
-					 *
-					 * @since Apr 23, 2014
-					 */
-					final Iterator<Cell<BMDVariable, BMDSegment, SortedMap<BMDTimeStep, Float>>>	m_CellIterator	= results
-							.cellSet().iterator();
+	/**
+	 * Construct a new query for concentrations.
+	 *
+	 * @return a new {@link ConcentrationsQuery} instance
+	 * @since Apr 22, 2014
+	 */
+	public ConcentrationsQuery newConcentrationsQuery()
+	{
+		validate();
+		return new ConcentrationsQueryImpl();
+	}
 
-					/**
-					 * Time steps and values iterator
-					 *
-					 * @since Apr 23, 2014
-					 */
-					Iterator<Entry<BMDTimeStep, Float>>												m_TimeIterator	= null;
+	/**
+	 * Reads the concentrations corresponding to the
+	 * {@link ConcentrationsQueryImpl}, from the query result cache if it has
+	 * one. The result cache is keyed by the selections, stride, and
+	 * thresholds of the query, so the predicates are evaluated only when the
+	 * result is not cached. The result cache does not apply to time bins.
+	 *
+	 * @param p_Query
+	 *            the {@link ConcentrationsQueryImpl} to use in retrieving
+	 *            concentrations
+	 * @return the {@link Concentrations} for the provided
+	 *         {@link ConcentrationsQueryImpl}
+	 * @throws IOException
+	 *             if concentations could not be read from the file
+	 * @since Apr 22, 2014
+	 */
+	private Concentrations readConcentrations(
+			final ConcentrationsQueryImpl p_Query) throws IOException
+	{
+		checkNotNull(p_Query, "Query cannot be null.");
+		p_Query.validate();
+		validate();
 
-					@Override
-					public boolean hasNext()
-					{
-						return m_TimeIterator != null
-								&& m_TimeIterator.hasNext()
-								|| m_CellIterator.hasNext();
-					}
+		if (p_Query.m_TimeBinWidth != null)
+		{
+			return binConcentrations(p_Query, selectTimeSteps(p_Query));
+		}
+		if (p_Query.m_ResultCache != null)
+		{
+			return p_Query.m_ResultCache.get(m_FilePath, m_FileAttributes,
+					p_Query.m_qVariables, p_Query.m_qSegments,
+					p_Query.m_qTimeSteps, p_Query.m_TimeStride,
+					p_Query.m_Thresholds,
+					p_Query.m_Monitor.isEmpty() ? null
+							: p_Query.m_Monitor.get(0),
+					() -> loadConcentrations(p_Query,
+							selectTimeSteps(p_Query)));
+		}
+		return loadConcentrations(p_Query, selectTimeSteps(p_Query));
+	}
 
-					@Override
-					public Concentration next()
-					{
-						if (!hasNext())
-						{
-							throw new NoSuchElementException();
-						}
-						if (m_TimeIterator == null || !m_TimeIterator.hasNext())
-						{
-							m_Cell = m_CellIterator.next();
-							m_TimeIterator = m_Cell.getValue().entrySet()
-									.iterator();
-						}
-
-						final Entry<BMDTimeStep, Float> nextEntry = m_TimeIterator
-								.next();
-						final BMDTimeStep p_TimeStep = nextEntry.getKey();
-						final Float value = nextEntry.getValue();
-						return new ConcentrationImpl(m_Cell.getRowKey(),
-								m_Cell.getColumnKey(), p_TimeStep, value);
-					}
-				};
-			}
-		};
+	/**
+	 * Read the attributes of the file now at the path of the BMD file
+	 *
+	 * @return the attributes of the file
+	 * @throws IOException
+	 *             if the attributes could not be read
+	 * @since Oct 18, 2026
+	 */
+	private BasicFileAttributes readFileAttributes() throws IOException
+	{
+		return java.nio.file.Files.readAttributes(Paths.get(m_FilePath),
+				BasicFileAttributes.class);
 	}
 
 	/**
 	 * Reads the header from the file, initializing the {@link #m_DIS},
-	 * {@link #m_Header} fields and retrieving the variable names, variable
-	 * units, segment names, min/max over variables, and min/max over variable
-	 * segments.
+	 * {@link #m_Header} fields and retrieving the variable names and variable
+	 * units.
 	 *
-	 * Times are not retrieved (aside from header information).
+	 * The times, segment names, min/max over variables, and min/max over
+	 * variable segments are read on first access (see
+	 * {@link #lazySection(String, long, SectionReader)}).
 	 *
 	 * @throws IOException
 	 *             if the header does not match expectations
@@ -1075,7 +1869,8 @@ public final class BMDReader implements Closeable
 	{
 		final BMDHeader.Builder headerBuilder = BMDHeader.builder();
 		log.debug(String.format("Open %s", m_FilePath));
-		m_DIS = new SeekableDataFileInputStreamImpl(m_FilePath, m_ByteOrder);
+		m_FileAttributes = readFileAttributes();
+		m_DIS = m_ReadMode.open(m_FilePath, m_ByteOrder);
 
 		try
 		{
@@ -1117,12 +1912,9 @@ public final class BMDReader implements Closeable
 			}
 
 			/**
-			 * Initialize the seed date.
+			 * Initialize the seed date, in milliseconds since the epoch.
 			 */
-			final TimeZone timeZone = TimeZone.getTimeZone("UTC");
-			final Calendar cal = Calendar.getInstance();
-			cal.setTimeZone(timeZone);
-
+			final long seedTime;
 			if (seedJDay != 0 && oldSeedTime == 0)
 			{
 				/**
@@ -1143,68 +1935,53 @@ public final class BMDReader implements Closeable
 				final int julian = seedJDay;
 				final int totalDays = julian - (DATESHIFT + DATESHIFT2);
 
-				cal.set(Calendar.YEAR, 1);
-				cal.set(Calendar.MONTH, Calendar.JANUARY);
-				cal.set(Calendar.DAY_OF_MONTH, 1);
-				cal.set(Calendar.HOUR_OF_DAY, 0);
-				cal.set(Calendar.MINUTE, 0);
-				cal.set(Calendar.SECOND, 0);
-				cal.set(Calendar.MILLISECOND, 0);
-
-				cal.add(Calendar.DATE, totalDays);
-				cal.add(Calendar.SECOND, seedSecond);
+				seedTime = JULIAN_YEAR_ONE_MS
+						+ TimeUnit.DAYS.toMillis(totalDays)
+						+ TimeUnit.SECONDS.toMillis(seedSecond);
 			}
 			else if (oldSeedTime != 0)
 			{
-				cal.set(Calendar.YEAR, 1901);
-				cal.set(Calendar.MONTH, Calendar.JANUARY);
-				cal.set(Calendar.DAY_OF_MONTH, 1);
-				cal.set(Calendar.HOUR_OF_DAY, 0);
-				cal.set(Calendar.MINUTE, 0);
-				cal.set(Calendar.SECOND, 0);
-				cal.set(Calendar.MILLISECOND, 0);
-
-				cal.setTimeInMillis(
-						cal.getTimeInMillis() + oldSeedTime * 1000L);
+				seedTime = OLD_SEED_MS + oldSeedTime * 1000L;
 			}
 			else
 			{
-				cal.set(Calendar.YEAR, 1970);
-				cal.set(Calendar.MONTH, Calendar.JANUARY);
-				cal.set(Calendar.DAY_OF_MONTH, 1);
-				cal.set(Calendar.HOUR_OF_DAY, 0);
-				cal.set(Calendar.MINUTE, 0);
-				cal.set(Calendar.SECOND, 0);
-				cal.set(Calendar.MILLISECOND, 0);
+				seedTime = 0L;
 			}
-			m_SeedDate = cal.getTime();
-			final SimpleDateFormat dateFormatUTC = new SimpleDateFormat(
-					"yyyy-MM-dd HH:mm:ss");
-			dateFormatUTC.setTimeZone(timeZone);
+			m_SeedDate = new Date(seedTime);
 			log.debug(String.format("Seed Date: %s",
-					dateFormatUTC.format(m_SeedDate)));
+					Instant.ofEpochMilli(seedTime)));
 
 			/**
-			 * Read variable names and units
+			 * Read variable names and units, with one read for the table
 			 */
+			final int variableSize = VARIABLE_NAME_SIZE + VARIABLE_UNIT_SIZE;
+			final byte[] variableTable = readTable(m_DIS,
+					(long) m_Header.getVariablesSize() * variableSize).array();
+			final ImmutableList.Builder<BMDVariable> variables = ImmutableList
+					.builder();
 			for (int variableNum = 0; variableNum < m_Header
 					.getVariablesSize(); variableNum++)
 			{
-				final String variableName = new String(
-						m_DIS.readCharsAsAscii(VARIABLE_NAME_SIZE)).trim();
-				final String variableUnits = new String(
-						m_DIS.readCharsAsAscii(VARIABLE_UNIT_SIZE)).trim();
+				final int offset = variableNum * variableSize;
+				final String variableName = new String(variableTable, offset,
+						VARIABLE_NAME_SIZE, StandardCharsets.ISO_8859_1).trim();
+				final String variableUnits = new String(variableTable,
+						offset + VARIABLE_NAME_SIZE, VARIABLE_UNIT_SIZE,
+						StandardCharsets.ISO_8859_1).trim();
 				String pCode = variableName.replaceFirst("\\(.*", "").trim()
 						.toUpperCase();
 				pCode = pCode.substring(0, Math.min(10, pCode.length())).trim();
 
 				final BMDVariableImpl variable = new BMDVariableImpl(
 						variableNum, variableName, variableUnits, pCode);
-				m_Variables.add(variable);
+				variables.add(variable);
+				m_VariableIndices.put(variableName, variableNum);
+				m_VariablePCodeIndices.put(pCode, variableNum);
 				log.debug(String.format(
 						"Variable #%s: '%s';\tPCode: '%s'\tUnits: '%s'",
 						variableNum + 1, variableName, pCode, variableUnits));
 			}
+			m_Variables = variables.build();
 
 			/**
 			 * Once all the dimensions are known, compute the location of
@@ -1234,225 +2011,600 @@ public final class BMDReader implements Closeable
 					.add("segNames", m_SegmentNamesLocation).toString());
 
 			/**
-			 * skip past times and concs and read stuff at bottom
+			 * Every other section is read on first access, so that opening a
+			 * file only reads the header and the variables
 			 */
-			m_DIS.seek((int) m_MinMaxOverVarsLocation);
-
-			/**
-			 * Read min/max
-			 */
-			for (int variableNum = 0; variableNum < m_Header
-					.getVariablesSize(); variableNum++)
+			m_MinMaxOverVars = lazySection("min/max over variables",
+					m_MinMaxOverVarsLocation, input ->
+					{
+						final float[] pairs = new float[m_Header
+								.getVariablesSize() * 2];
+						input.readFloats(pairs, 0, pairs.length);
+						return pairs;
+					});
+			m_MinMaxOverVarSegs = lazySection("min/max over variable segments",
+					m_MinMaxOverVarSegsLocation, input ->
+					{
+						final float[] pairs = new float[m_Header
+								.getVariablesSize() * m_Header.getSegmentsSize()
+								* 2];
+						input.readFloats(pairs, 0, pairs.length);
+						return pairs;
+					});
+			m_Segments = lazySection("segment names", m_SegmentNamesLocation,
+					this::readSegments);
+			m_SegmentIndices = Suppliers.memoize(() ->
 			{
-				final String variableName = m_Variables.get(variableNum)
-						.getName();
-				final float min = m_DIS.readFloat();
-				final float max = m_DIS.readFloat();
-				m_MinOverVars.put(variableName, min);
-				m_MaxOverVars.put(variableName, max);
-			}
+				final Map<String, Integer> indices = Maps.newHashMap();
+				for (final BMDSegment segment : m_Segments.get())
+				{
+					indices.put(segment.getName(), segment.getIndex());
+				}
+				return indices;
+			});
+			m_TimeSteps = lazySection("times", m_TimesLocation,
+					this::readTimeSteps);
+		}
+		catch (final Throwable t)
+		{
+			log.error("Error reading file.", t);
+			close();
+		}
+	}
 
-			/**
-			 * Read min/max per segment, but segment names have not been
-			 * determined yet.
-			 */
-			final Map<String, List<Float>> minOverVarSegs = Maps.newHashMap();
-			final Map<String, List<Float>> maxOverVarSegs = Maps.newHashMap();
-			for (int variableNum = 0; variableNum < m_Header
-					.getVariablesSize(); variableNum++)
+	/**
+	 * Read an overview of a variable and segment over a range of time steps,
+	 * with at most the given number of bins, such as one bin per pixel of a
+	 * chart. Bins are 2<sup>n</sup> consecutive time steps aligned to the
+	 * first time step of the file, using the smallest n for which the range
+	 * fits in the width. Bins are read from the {@link PyramidSidecar} of the
+	 * file when it is present and fresh, so the values read are proportional
+	 * to the width rather than the length of the range. Otherwise, the values
+	 * of the time steps in the bins are read and reduced to the same result.
+	 *
+	 * @param p_Variable
+	 *            the variable
+	 * @param p_Segment
+	 *            the segment
+	 * @param p_From
+	 *            the first time step index (inclusive), see
+	 *            {@link BMDTimeStep#getIndex()}
+	 * @param p_To
+	 *            the end time step index (exclusive)
+	 * @param p_Width
+	 *            the maximum number of bins
+	 * @return the overview, whose bins cover every time step in the range and
+	 *         may extend beyond it to the nearest bin boundaries
+	 * @throws IllegalArgumentException
+	 *             if the range is empty or the width is not positive
+	 * @throws IndexOutOfBoundsException
+	 *             if the variable, segment, or range is not within the file
+	 * @throws IOException
+	 *             if concentations could not be read from the file
+	 * @since Oct 18, 2026
+	 */
+	public TimeSeriesOverview readOverview(final BMDVariable p_Variable,
+			final BMDSegment p_Segment, final int p_From, final int p_To,
+			final int p_Width) throws IOException
+	{
+		validate();
+		checkNotNull(p_Variable, "Variable required.");
+		checkNotNull(p_Segment, "Segment required.");
+		final int variableNum = checkElementIndex(p_Variable.getIndex(),
+				m_Variables.size(), "Variable");
+		final int segmentNum = checkElementIndex(p_Segment.getIndex(),
+				m_Header.getSegmentsSize(), "Segment");
+		final int numTimes = m_Header.getTimesSize();
+		checkPositionIndexes(p_From, p_To, numTimes);
+		checkArgument(p_From < p_To, "Empty time step range.");
+		checkArgument(p_Width > 0, "Invalid width: %s", p_Width);
+
+		int level = 0;
+		while (level < PyramidSidecar.getNumLevels(numTimes)
+				&& ((p_To - 1) >> level) - (p_From >> level) + 1 > p_Width)
+		{
+			level++;
+		}
+		final int firstBin = p_From >> level;
+		final int numBins = ((p_To - 1) >> level) - firstBin + 1;
+		final float[] minima = new float[numBins];
+		final float[] maxima = new float[numBins];
+		final float[] means = new float[numBins];
+		final List<BMDTimeStep> timeSteps = Lists.newArrayList();
+		for (int bin = firstBin; bin < firstBin + numBins; bin++)
+		{
+			timeSteps.add(m_TimeSteps.get().get(bin << level));
+		}
+
+		if (level > 0)
+		{
+			try (PyramidSidecar pyramid = m_PyramidSidecar.get();)
 			{
-				final String variableName = m_Variables.get(variableNum)
-						.getName();
-				final List<Float> minOverSegs = Lists.newArrayList();
-				final List<Float> maxOverSegs = Lists.newArrayList();
-				for (int segmentNum = 0; segmentNum < m_Header
-						.getSegmentsSize(); segmentNum++)
+				if (pyramid != null)
 				{
-					final float min = m_DIS.readFloat();
-					final float max = m_DIS.readFloat();
-					minOverSegs.add(min);
-					maxOverSegs.add(max);
+					pyramid.read(variableNum, segmentNum, level, firstBin,
+							minima, maxima, means);
+					return new DenseTimeSeriesOverview(p_Variable, p_Segment,
+							1 << level, timeSteps, minima, maxima, means);
 				}
+			}
+		}
 
-				minOverVarSegs.put(variableName, minOverSegs);
-				maxOverVarSegs.put(variableName, maxOverSegs);
+		/**
+		 * Read every time step in the bins and reduce each into its bin
+		 */
+		final int binLevel = level;
+		final int[] variableNums = new int[] { variableNum };
+		final int[] segmentNums = new int[] { segmentNum };
+		final int[] timeNums = IntStream
+				.range(firstBin << level,
+						Math.min(numTimes, (firstBin + numBins) << level))
+				.toArray();
+		final AggregateAccumulator accumulator = new AggregateAccumulator(
+				Arrays.asList(AggregateFunction.MIN, AggregateFunction.MAX,
+						AggregateFunction.MEAN),
+				numBins);
+		final ConcentrationsReadPlan.Visitor visitor = (variableOrd,
+				segmentOrd, timeOrd, value) -> accumulator.accept(
+						(timeNums[timeOrd] >> binLevel) - firstBin, value);
+		if (!readTransposed(variableNums, segmentNums, timeNums, visitor,
+				null))
+		{
+			try (SeekableDataFileInputStream input = duplicateInput(null);)
+			{
+				new ConcentrationsReadPlan(m_ConcentrationsLocation,
+						m_Header.getSegmentsSize(),
+						m_Header.getVariablesSize(), variableNums,
+						segmentNums, timeNums).execute(input, visitor, null);
 			}
+		}
+		for (int bin = 0; bin < numBins; bin++)
+		{
+			minima[bin] = accumulator.getValue(AggregateFunction.MIN, bin);
+			maxima[bin] = accumulator.getValue(AggregateFunction.MAX, bin);
+			means[bin] = accumulator.getValue(AggregateFunction.MEAN, bin);
+		}
+		return new DenseTimeSeriesOverview(p_Variable, p_Segment, 1 << level,
+				timeSteps, minima, maxima, means);
+	}
 
-			/**
-			 * Read segment names, BUT they might not be present.
-			 */
-			try
+	/**
+	 * Read the selected concentrations in parallel. The selected time steps
+	 * are split into contiguous partitions, each read on the executor by its
+	 * own plan and input. The visitor is called concurrently by the
+	 * partitions, but never for the same time step from more than one
+	 * partition.
+	 *
+	 * @param p_VariableNums
+	 *            the sorted variable indices to read
+	 * @param p_SegmentNums
+	 *            the sorted segment indices to read
+	 * @param p_TimeNums
+	 *            the sorted time step indices to read
+	 * @param p_Executor
+	 *            the executor to read partitions on
+	 * @param p_Partitions
+	 *            the maximum number of partitions
+	 * @param p_BlockCache
+	 *            the cache to read blocks through, or null to read from the
+	 *            file
+	 * @param p_Visitor
+	 *            receives every value that was read, with time ordinals
+	 *            relative to <code>p_TimeNums</code>
+	 * @param p_Monitor
+	 *            optional progress monitor
+	 * @throws IOException
+	 *             if any partition could not be read
+	 * @since Oct 18, 2026
+	 */
+	private void readPartitions(final int[] p_VariableNums,
+			final int[] p_SegmentNums, final int[] p_TimeNums,
+			final Executor p_Executor, final int p_Partitions,
+			final BlockCache p_BlockCache,
+			final ConcentrationsReadPlan.Visitor p_Visitor,
+			final IProgressMonitor p_Monitor) throws IOException
+	{
+		final int numPartitions = Math.min(p_Partitions, p_TimeNums.length);
+		final IProgressMonitor monitor = p_Monitor == null ? null
+				: synchronizedMonitor(p_Monitor);
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[numPartitions];
+		for (int partition = 0; partition < numPartitions; partition++)
+		{
+			final int firstTime = (int) ((long) partition * p_TimeNums.length
+					/ numPartitions);
+			final int[] timeNums = Arrays.copyOfRange(p_TimeNums, firstTime,
+					(int) ((long) (partition + 1) * p_TimeNums.length
+							/ numPartitions));
+			futures[partition] = CompletableFuture.runAsync(() ->
 			{
-				for (int segmentNum = 0; segmentNum < m_Header
-						.getSegmentsSize(); segmentNum++)
+				try (SeekableDataFileInputStream input = duplicateInput(
+						p_BlockCache);)
 				{
-					final String segmentName = new String(
-							m_DIS.readCharsAsAscii(SEGMENT_NAME_SIZE)).trim();
-
-					final BMDSegmentImpl segment = new BMDSegmentImpl(
-							segmentNum, segmentName);
-					m_Segments.add(segment);
-					log.debug(String.format("Segment #%s: '%s'", segmentNum + 1,
-							segmentName));
+					new ConcentrationsReadPlan(m_ConcentrationsLocation,
+							m_Header.getSegmentsSize(),
+							m_Header.getVariablesSize(), p_VariableNums,
+							p_SegmentNums, timeNums).execute(input,
+									(variableOrd, segmentOrd, timeOrd,
+											value) -> p_Visitor.visit(
+													variableOrd, segmentOrd,
+													firstTime + timeOrd,
+													value),
+									monitor);
 				}
-			}
-			catch (final Exception e)
-			{
-				log.warn("Unable to read segment names, but that might be ok.",
-						e);
-				for (int segmentNum = 0; segmentNum < m_Header
-						.getSegmentsSize(); segmentNum++)
+				catch (final IOException e)
 				{
-					final String segmentName = String.format("Segment %s",
-							segmentNum);
-
-					final BMDSegmentImpl segment = new BMDSegmentImpl(
-							segmentNum, segmentName);
-					m_Segments.add(segment);
-					log.debug(String.format("Segment #%s: '%s'", segmentNum + 1,
-							segmentName));
+					throw new UncheckedIOException(e);
 				}
+			}, p_Executor);
+		}
+
+		try
+		{
+			CompletableFuture.allOf(futures).join();
+		}
+		catch (final CompletionException e)
+		{
+			final Throwable cause = e.getCause() instanceof UncheckedIOException
+					? e.getCause().getCause()
+					: e.getCause();
+			Throwables.throwIfInstanceOf(cause, IOException.class);
+			Throwables.throwIfUnchecked(cause);
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Reads the segment names, naming segments by their index if the names
+	 * are not present, and reformats WASP 7 segment names.
+	 *
+	 * @param p_Input
+	 *            the input, positioned at the segment names
+	 * @return the segments
+	 * @since Oct 18, 2026
+	 */
+	private List<BMDSegment> readSegments(
+			final SeekableDataFileInputStream p_Input)
+	{
+		final List<BMDSegment> segments = Lists
+				.newArrayListWithCapacity(m_Header.getSegmentsSize());
+
+		/**
+		 * Read segment names, BUT they might not be present. The table is
+		 * read at once, and each name is decoded on first access.
+		 */
+		try
+		{
+			final byte[] names = readTable(p_Input,
+					(long) m_Header.getSegmentsSize() * SEGMENT_NAME_SIZE)
+							.array();
+			for (int segmentNum = 0; segmentNum < m_Header
+					.getSegmentsSize(); segmentNum++)
+			{
+				segments.add(new BMDSegmentImpl(segmentNum, names,
+						segmentNum * SEGMENT_NAME_SIZE, SEGMENT_NAME_SIZE));
+			}
+			log.debug(String.format("Read %s segment names.",
+					segments.size()));
+		}
+		catch (final Exception e)
+		{
+			log.warn("Unable to read segment names, but that might be ok.",
+					e);
+			segments.clear();
+			for (int segmentNum = 0; segmentNum < m_Header
+					.getSegmentsSize(); segmentNum++)
+			{
+				final String segmentName = String.format("Segment %s",
+						segmentNum);
+
+				final BMDSegmentImpl segment = new BMDSegmentImpl(
+						segmentNum, segmentName);
+				segments.add(segment);
+				log.debug(String.format("Segment #%s: '%s'", segmentNum + 1,
+						segmentName));
 			}
+		}
 
-			/**
-			 * From original source: WASP 7.x BMD files omit the last two
-			 * characters so you can get duplicate segment names and don't know
-			 * the K values. WASP always writes out the top layers first
-			 * (highest K values) then works down to the bottom (K=1) Look for
-			 * segment names formatted like "I=iii J=jjj K" and add the correct
-			 * K value automatically. Then, reformat it so it looks like the
-			 * WASP 8 format (I=xxxJ=xxxK=xxx)
-			 */
-			int kMax = 0;
-			int lastJ = Integer.MAX_VALUE;
-			if (!m_Segments.isEmpty())
+		/**
+		 * From original source: WASP 7.x BMD files omit the last two
+		 * characters so you can get duplicate segment names and don't know
+		 * the K values. WASP always writes out the top layers first
+		 * (highest K values) then works down to the bottom (K=1) Look for
+		 * segment names formatted like "I=iii J=jjj K" and add the correct
+		 * K value automatically. Then, reformat it so it looks like the
+		 * WASP 8 format (I=xxxJ=xxxK=xxx)
+		 */
+		int kMax = 0;
+		int lastJ = Integer.MAX_VALUE;
+		if (!segments.isEmpty())
+		{
+			final Splitter splitter = Splitter.on("=");
+			List<String> splitToList = splitter
+					.splitToList(segments.get(0).getName());
+			boolean doFormat = splitToList.size() >= 2
+					&& splitToList.size() <= 3;
+			if (doFormat)
 			{
-				final Splitter splitter = Splitter.on("=");
-				List<String> splitToList = splitter
-						.splitToList(m_Segments.get(0).getName());
-				boolean doFormat = splitToList.size() >= 2
-						&& splitToList.size() <= 3;
-				if (doFormat)
+				for (final BMDSegment segment : segments)
 				{
-					for (final BMDSegment segment : m_Segments)
+					/**
+					 * This is carried over from original source.
+					 */
+					splitToList = splitter.splitToList(segment.getName());
+					doFormat = splitToList.size() >= 2
+							&& splitToList.size() <= 3;
+					if (!doFormat)
 					{
-						/**
-						 * This is carried over from original source.
-						 */
-						splitToList = splitter.splitToList(segment.getName());
-						doFormat = splitToList.size() >= 2
-								&& splitToList.size() <= 3;
-						if (!doFormat)
-						{
-							continue;
-						}
-						// int i = Integer.valueOf(segmentName.substring(2,
-						// 2+3));
-						final Integer j = Integer
-								.valueOf(segment.getName().substring(8, 8 + 3));
-						if (j < lastJ)
-						{
-							kMax++;
-							lastJ = j;
-						}
+						continue;
 					}
-
-					lastJ = Integer.MAX_VALUE;
-					int k = kMax + 1;
-					for (int segmentNum = 0; segmentNum < m_Header
-							.getSegmentsSize(); segmentNum++)
+					// int i = Integer.valueOf(segmentName.substring(2,
+					// 2+3));
+					final Integer j = Integer
+							.valueOf(segment.getName().substring(8, 8 + 3));
+					if (j < lastJ)
 					{
-						final String segmentName = m_Segments.get(segmentNum)
-								.getName();
-						/**
-						 * This is carried over from original source.
-						 */
-						splitToList = splitter.splitToList(segmentName);
-						doFormat = splitToList.size() >= 2
-								&& splitToList.size() <= 3;
-						if (!doFormat)
-						{
-							continue;
-						}
-						final Integer i = Integer
-								.valueOf(segmentName.substring(2, 2 + 3));
-						final Integer j = Integer
-								.valueOf(segmentName.substring(8, 8 + 3));
-						if (j < lastJ)
-						{
-							k--;
-							lastJ = j;
-							m_Segments.set(segmentNum, new BMDSegmentImpl(
-									segmentNum,
-									String.format("I=%03dJ=%03dK=%03d", i, j, k)
-											.trim()));
-						}
+						kMax++;
+						lastJ = j;
 					}
 				}
-			}
 
-			/**
-			 * Update the min/max per segment now that we have segment names.
-			 */
-			for (int variableNum = 0; variableNum < m_Header
-					.getVariablesSize(); variableNum++)
-			{
-				final String variableName = m_Variables.get(variableNum)
-						.getName();
+				lastJ = Integer.MAX_VALUE;
+				int k = kMax + 1;
 				for (int segmentNum = 0; segmentNum < m_Header
 						.getSegmentsSize(); segmentNum++)
 				{
-					final String segmentName = m_Segments.get(segmentNum)
+					final String segmentName = segments.get(segmentNum)
 							.getName();
-					final Float minVarSeg = minOverVarSegs.get(variableName)
-							.get(segmentNum);
-					final Float maxVarSeg = maxOverVarSegs.get(variableName)
-							.get(segmentNum);
-					m_MinOverVarSegs.put(variableName, segmentName, minVarSeg);
-					m_MaxOverVarSegs.put(variableName, segmentName, maxVarSeg);
+					/**
+					 * This is carried over from original source.
+					 */
+					splitToList = splitter.splitToList(segmentName);
+					doFormat = splitToList.size() >= 2
+							&& splitToList.size() <= 3;
+					if (!doFormat)
+					{
+						continue;
+					}
+					final Integer i = Integer
+							.valueOf(segmentName.substring(2, 2 + 3));
+					final Integer j = Integer
+							.valueOf(segmentName.substring(8, 8 + 3));
+					if (j < lastJ)
+					{
+						k--;
+						lastJ = j;
+						segments.set(segmentNum, new BMDSegmentImpl(
+								segmentNum,
+								String.format("I=%03dJ=%03dK=%03d", i, j, k)
+										.trim()));
+					}
 				}
 			}
+		}
+		return ImmutableList.copyOf(segments);
+	}
 
-			/**
-			 * Read times
-			 */
-			m_DIS.seek((int) m_TimesLocation);
-			final List<Double> rawTimes = Lists.newArrayList();
-			for (int timeNum = 0; timeNum < m_Header.getTimesSize(); timeNum++)
+	/**
+	 * Reads the time step table, converting the time of each time step from
+	 * days since the seed date.
+	 *
+	 * @param p_Input
+	 *            the input, positioned at the times
+	 * @return the time steps
+	 * @throws IOException
+	 *             if the times could not be read
+	 * @since Oct 18, 2026
+	 */
+	private List<BMDTimeStep> readTimeSteps(
+			final SeekableDataFileInputStream p_Input) throws IOException
+	{
+		final double[] rawTimes = new double[m_Header.getTimesSize()];
+		readTable(p_Input, (long) rawTimes.length * TIMESTAMP_SIZE)
+				.asDoubleBuffer().get(rawTimes);
+		log.debug(String.format("Times: %s", Arrays
+				.toString(abbreviate(Doubles.asList(rawTimes).toArray()))));
+
+		/**
+		 * Calculate and store the "dates"
+		 */
+		final long seedTime = m_SeedDate.getTime();
+		final List<BMDTimeStep> timeSteps = Lists
+				.newArrayListWithCapacity(rawTimes.length);
+		final int secsPerDay = 60 * 60 * 24;
+		for (int timeNum = 0; timeNum < rawTimes.length; timeNum++)
+		{
+			final double timeValue = rawTimes[timeNum];
+			final int addSecs = (int) Math.round(secsPerDay * timeValue);
+			final long time = seedTime + addSecs * 1000L;
+
+			final BMDTimeStepImpl timeStep = new BMDTimeStepImpl(timeNum,
+					time, timeValue);
+			timeSteps.add(timeStep);
+		}
+		if (!timeSteps.isEmpty())
+		{
+			log.debug(String.format("Dates (first, last): (%s, %s)",
+					timeSteps.get(0).getInstant(),
+					Iterables.getLast(timeSteps).getInstant()));
+		}
+		return ImmutableList.copyOf(timeSteps);
+	}
+
+	/**
+	 * Reads the selected values from the {@link TransposedSidecar} of the
+	 * file, if the query selects more time steps than variable and segment
+	 * pairs and the sidecar is present and fresh. Such queries read a few
+	 * values from every time step block of the file, but contiguous runs from
+	 * the sidecar.
+	 *
+	 * @param p_VariableNums
+	 *            the sorted variable indices to read
+	 * @param p_SegmentNums
+	 *            the sorted segment indices to read
+	 * @param p_TimeNums
+	 *            the sorted time step indices to read
+	 * @param p_Visitor
+	 *            receives every value that was read
+	 * @param p_Monitor
+	 *            optional progress monitor
+	 * @return true if the values were read from the sidecar, false if they
+	 *         must be read from the file
+	 * @throws IOException
+	 *             if the sidecar could not be read
+	 * @since Oct 18, 2026
+	 */
+	private boolean readTransposed(final int[] p_VariableNums,
+			final int[] p_SegmentNums, final int[] p_TimeNums,
+			final ConcentrationsReadPlan.Visitor p_Visitor,
+			final IProgressMonitor p_Monitor) throws IOException
+	{
+		if ((long) p_VariableNums.length
+				* p_SegmentNums.length >= p_TimeNums.length)
+		{
+			return false;
+		}
+		try (TransposedSidecar sidecar = m_TransposedSidecar.get();)
+		{
+			if (sidecar == null)
 			{
-				final double t = m_DIS.readDouble();
-				rawTimes.add(t);
+				return false;
+			}
+			sidecar.read(p_VariableNums, p_SegmentNums, p_TimeNums, p_Visitor,
+					p_Monitor);
+			return true;
+		}
+	}
 
+	/**
+	 * Selects the time steps of the query, keeping every Nth time step for a
+	 * stride, that satisfy its predicates. The values of each predicate
+	 * variable are read only for the time steps in
+	 * blocks that the {@link ZoneMapSidecar} of the file, when present and
+	 * fresh, shows may match, and from the {@link TransposedSidecar} when the
+	 * read is time series shaped.
+	 *
+	 * @param p_Query
+	 *            the validated {@link ConcentrationsQueryImpl}
+	 * @return the selected time step indices that satisfy every predicate;
+	 *         the selection of the query itself if it has no stride and no
+	 *         predicates
+	 * @throws IOException
+	 *             if concentations could not be read from the file
+	 * @since Oct 18, 2026
+	 */
+	private BitSet selectTimeSteps(final ConcentrationsQueryImpl p_Query)
+			throws IOException
+	{
+		BitSet timeSteps = p_Query.m_qTimeSteps;
+		if (p_Query.m_TimeStride > 1)
+		{
+			final BitSet strided = new BitSet();
+			int ordinal = 0;
+			for (int time = timeSteps.nextSetBit(0); time >= 0;
+					time = timeSteps.nextSetBit(time + 1))
+			{
+				if (ordinal++ % p_Query.m_TimeStride == 0)
+				{
+					strided.set(time);
+				}
 			}
-			log.debug(String.format("Times: %s",
-					Arrays.toString(abbreviate(rawTimes.toArray()))));
+			timeSteps = strided;
+		}
+		if (p_Query.m_Thresholds.isEmpty())
+		{
+			return timeSteps;
+		}
 
-			/**
-			 * Calculate and store the "dates"
-			 */
-			final int secsPerDay = 60 * 60 * 24;
-			for (int timeNum = 0; timeNum < rawTimes.size(); timeNum++)
+		final int[] segmentNums = p_Query.m_qSegments.stream().toArray();
+		try (ZoneMapSidecar zoneMap = m_ZoneMapSidecar.get();)
+		{
+			for (final Map.Entry<Integer, Float> predicate : p_Query.m_Thresholds
+					.entrySet())
 			{
-				final double timeValue = rawTimes.get(timeNum);
-				cal.setTime(m_SeedDate);
-				final int addSecs = (int) Math.round(secsPerDay * timeValue);
-				cal.add(Calendar.SECOND, addSecs);
-				final long time = cal.getTime().getTime();
-
-				final BMDTimeStepImpl timeStep = new BMDTimeStepImpl(timeNum,
-						time, timeValue);
-				m_TimeSteps.add(timeStep);
+				final int[] variableNums = new int[] { predicate.getKey() };
+				final float threshold = predicate.getValue();
+				final int[] timeNums = (zoneMap == null ? timeSteps
+						: zoneMap.getCandidateTimeSteps(variableNums[0],
+								segmentNums, timeSteps, threshold))
+										.stream().toArray();
+				final BitSet matches = new BitSet();
+				final ConcentrationsReadPlan.Visitor visitor = (variableOrd,
+						segmentOrd, timeOrd, value) ->
+				{
+					if (value > threshold)
+					{
+						matches.set(timeNums[timeOrd]);
+					}
+				};
+				if (!readTransposed(variableNums, segmentNums, timeNums,
+						visitor, null))
+				{
+					try (SeekableDataFileInputStream input = duplicateInput(
+							p_Query.m_BlockCache);)
+					{
+						new ConcentrationsReadPlan(m_ConcentrationsLocation,
+								m_Header.getSegmentsSize(),
+								m_Header.getVariablesSize(), variableNums,
+								segmentNums, timeNums).execute(input, visitor,
+										null);
+					}
+				}
+				timeSteps = matches;
 			}
-			log.debug(String.format("Dates (first, last): (%s, %s)",
-					dateFormatUTC
-							.format(new Date(m_TimeSteps.get(0).getTime())),
-					dateFormatUTC.format(new Date(
-							Iterables.getLast(m_TimeSteps).getTime()))));
 		}
-		catch (final Throwable t)
+		return timeSteps;
+	}
+
+	/**
+	 * Reads the concentrations corresponding to the
+	 * {@link ConcentrationsQueryImpl}, delivering each value to the consumer
+	 * in file order as it is decoded.
+	 *
+	 * @param p_Query
+	 *            the {@link ConcentrationsQueryImpl} to use in retrieving
+	 *            concentrations
+	 * @param p_Consumer
+	 *            receives every selected value
+	 * @throws IOException
+	 *             if concentations could not be read from the file
+	 * @since Oct 18, 2026
+	 */
+	private void streamConcentrations(final ConcentrationsQueryImpl p_Query,
+			final ConcentrationConsumer p_Consumer) throws IOException
+	{
+		checkNotNull(p_Query, "Query cannot be null.");
+		checkNotNull(p_Consumer, "Consumer cannot be null.");
+		p_Query.validate();
+		validate();
+		checkState(p_Query.m_TimeBinWidth == null,
+				"Time bins are not supported by streaming.");
+
+		final BitSet timeSteps = selectTimeSteps(p_Query);
+		final IProgressMonitor monitor = beginTask(p_Query, timeSteps);
+
+		final int[] variableNums = p_Query.m_qVariables.stream().toArray();
+		final int[] segmentNums = p_Query.m_qSegments.stream().toArray();
+		final int[] timeNums = timeSteps.stream().toArray();
+		try (SeekableDataFileInputStream input = duplicateInput(
+				p_Query.m_BlockCache);)
 		{
-			log.error("Error reading file.", t);
-			close();
+			new ConcentrationsReadPlan(m_ConcentrationsLocation,
+					m_Header.getSegmentsSize(), m_Header.getVariablesSize(),
+					variableNums, segmentNums, timeNums).execute(input,
+							new ConcentrationsReadPlan.Visitor()
+							{
+								@Override
+								public void visit(final int p_VariableOrdinal,
+										final int p_SegmentOrdinal,
+										final int p_TimeOrdinal,
+										final float p_Value)
+								{
+									p_Consumer.accept(
+											variableNums[p_VariableOrdinal],
+											segmentNums[p_SegmentOrdinal],
+											timeNums[p_TimeOrdinal], p_Value);
+								}
+							}, monitor);
 		}
 	}
 
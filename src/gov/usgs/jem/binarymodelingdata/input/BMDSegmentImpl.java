@@ -1,9 +1,12 @@
 package gov.usgs.jem.binarymodelingdata.input;
 
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import com.google.common.primitives.Ints;
 import gov.usgs.jem.binarymodelingdata.BMDSegment;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Implements {@link BMDSegment} including {@link #hashCode()} and
@@ -25,11 +28,34 @@ final class BMDSegmentImpl implements BMDSegment
 	private final int		m_Index;
 
 	/**
-	 * The segment name
+	 * Length of the name in {@link #m_Names}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int		m_NameLength;
+
+	/**
+	 * Offset of the name in {@link #m_Names}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int		m_NameOffset;
+
+	/**
+	 * The table of ascii names this segment name is decoded from, or null if
+	 * the name was provided
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final byte[]	m_Names;
+
+	/**
+	 * The segment name, decoded from {@link #m_Names} on first access. Racy
+	 * decoding is benign, as each thread decodes an equal immutable value.
 	 *
 	 * @since Apr 28, 2014
 	 */
-	private final String	m_SegmentName;
+	private String			m_SegmentName;
 
 	/**
 	 * Create a new instance for the provided segment name
@@ -44,6 +70,35 @@ final class BMDSegmentImpl implements BMDSegment
 	{
 		m_Index = p_Index;
 		m_SegmentName = p_SegmentName;
+		m_Names = null;
+		m_NameOffset = 0;
+		m_NameLength = 0;
+	}
+
+	/**
+	 * Create a new instance whose name is decoded from a table of fixed-width
+	 * ascii names on first access, so that reading the names of many segments
+	 * does not create a {@link String} for each
+	 *
+	 * @param p_Index
+	 *            Index at which this appears in the file.
+	 * @param p_Names
+	 *            the table of names, which is not copied
+	 * @param p_NameOffset
+	 *            the offset of the name in the table
+	 * @param p_NameLength
+	 *            the length of the name in the table, including padding
+	 * @since Oct 18, 2026
+	 */
+	BMDSegmentImpl(final int p_Index, final byte[] p_Names,
+			final int p_NameOffset, final int p_NameLength)
+	{
+		checkPositionIndexes(p_NameOffset, p_NameOffset + p_NameLength,
+				p_Names.length);
+		m_Index = p_Index;
+		m_Names = p_Names;
+		m_NameOffset = p_NameOffset;
+		m_NameLength = p_NameLength;
 	}
 
 	@Override
@@ -75,7 +130,14 @@ final class BMDSegmentImpl implements BMDSegment
 	@Override
 	public String getName()
 	{
-		return m_SegmentName;
+		String segmentName = m_SegmentName;
+		if (segmentName == null)
+		{
+			segmentName = new String(m_Names, m_NameOffset, m_NameLength,
+					StandardCharsets.ISO_8859_1).trim();
+			m_SegmentName = segmentName;
+		}
+		return segmentName;
 	}
 
 	@Override
@@ -0,0 +1,411 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A size-bounded cache of fixed-size, aligned blocks of BMD files that may be
+ * shared by any number of queries and {@link BMDReader}s. Blocks are keyed by
+ * the identity of the file, its last modified time, and the offset of the
+ * block, so a file that is rewritten never returns stale blocks and the same
+ * file opened through different paths shares its blocks. The least recently
+ * used blocks are evicted once the capacity is reached. Use
+ * {@link #builder()} to construct a new cache and
+ * {@link ConcentrationsQuery#withBlockCache(BlockCache)} to read through it.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public final class BlockCache
+{
+	/**
+	 * Identifies a block of a file
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class BlockKey
+	{
+		/**
+		 * The identity of the file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final Object	m_File;
+
+		/**
+		 * The last modified time of the file, in milliseconds since the epoch
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long		m_LastModified;
+
+		/**
+		 * The offset of the block, in bytes from the beginning of the file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long		m_Offset;
+
+		/**
+		 * Create a new key
+		 *
+		 * @param p_File
+		 *            the identity of the file
+		 * @param p_LastModified
+		 *            the last modified time of the file
+		 * @param p_Offset
+		 *            the offset of the block
+		 * @since Oct 18, 2026
+		 */
+		private BlockKey(final Object p_File, final long p_LastModified,
+				final long p_Offset)
+		{
+			m_File = checkNotNull(p_File, "File identity required.");
+			m_LastModified = p_LastModified;
+			m_Offset = p_Offset;
+		}
+
+		@Override
+		public boolean equals(final Object p_Obj)
+		{
+			if (this == p_Obj)
+			{
+				return true;
+			}
+			if (!(p_Obj instanceof BlockKey))
+			{
+				return false;
+			}
+			final BlockKey other = (BlockKey) p_Obj;
+			return m_Offset == other.m_Offset
+					&& m_LastModified == other.m_LastModified
+					&& m_File.equals(other.m_File);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Objects.hashCode(m_File, m_LastModified, m_Offset);
+		}
+	}
+
+	/**
+	 * Builds new instances of {@link BlockCache}
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Builder
+	{
+		/**
+		 * @see BlockCache#getBlockSize()
+		 * @since Oct 18, 2026
+		 */
+		private int		m_bBlockSize;
+
+		/**
+		 * @see BlockCache#getCapacity()
+		 * @since Oct 18, 2026
+		 */
+		private long	m_bCapacity;
+
+		/**
+		 * @see BlockCache#isOffHeap()
+		 * @since Oct 18, 2026
+		 */
+		private boolean	m_bOffHeap;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bBlockSize = DEFAULT_BLOCK_SIZE;
+			m_bCapacity = DEFAULT_CAPACITY;
+			m_bOffHeap = false;
+		}
+
+		/**
+		 * Build the cache
+		 *
+		 * @return a new, empty {@link BlockCache}
+		 * @since Oct 18, 2026
+		 */
+		public BlockCache build()
+		{
+			return new BlockCache(this);
+		}
+
+		/**
+		 * Set the number of bytes in each block. Defaults to
+		 * {@link BlockCache#DEFAULT_BLOCK_SIZE}.
+		 *
+		 * @param p_BlockSize
+		 *            the number of bytes in each block; must be at least
+		 *            {@link Long#BYTES}
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withBlockSize(final int p_BlockSize)
+		{
+			checkArgument(p_BlockSize >= Long.BYTES, "Invalid block size: %s",
+					p_BlockSize);
+			m_bBlockSize = p_BlockSize;
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of bytes held by the cache. Defaults to
+		 * {@link BlockCache#DEFAULT_CAPACITY}.
+		 *
+		 * @param p_Capacity
+		 *            the maximum number of bytes held by the cache
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withCapacity(final long p_Capacity)
+		{
+			checkArgument(p_Capacity > 0, "Invalid capacity: %s", p_Capacity);
+			m_bCapacity = p_Capacity;
+			return this;
+		}
+
+		/**
+		 * Set whether blocks are held in direct buffers outside of the Java
+		 * heap rather than in heap arrays. Defaults to false.
+		 *
+		 * @param p_OffHeap
+		 *            true to hold blocks outside of the Java heap
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withOffHeap(final boolean p_OffHeap)
+		{
+			m_bOffHeap = p_OffHeap;
+			return this;
+		}
+	}
+
+	/**
+	 * Default number of bytes in each block (64 KiB)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final int		DEFAULT_BLOCK_SIZE		= 1 << 16;
+
+	/**
+	 * Default maximum number of bytes held by a cache (64 MiB)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final long	DEFAULT_CAPACITY		= 1L << 26;
+
+	/**
+	 * Upper bound on the number of segments the underlying cache is split
+	 * into. Guava divides {@link #m_Capacity} evenly among its segments, so
+	 * fewer segments are used when the capacity holds only a few blocks;
+	 * otherwise a single block could outweigh a segment and never be cached.
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	MAX_CONCURRENCY_LEVEL	= 4;
+
+	/**
+	 * Create a new builder
+	 *
+	 * @return a new {@link Builder} with the default block size and capacity
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * The number of bytes in each block
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_BlockSize;
+
+	/**
+	 * The cached blocks, weighed by their size in bytes
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Cache<BlockKey, ByteBuffer>	m_Blocks;
+
+	/**
+	 * The maximum number of bytes held by the cache
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final long							m_Capacity;
+
+	/**
+	 * True if blocks are held outside of the Java heap
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final boolean						m_OffHeap;
+
+	/**
+	 * Create a new cache from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the builder
+	 * @since Oct 18, 2026
+	 */
+	private BlockCache(final Builder p_Builder)
+	{
+		m_BlockSize = p_Builder.m_bBlockSize;
+		m_Capacity = p_Builder.m_bCapacity;
+		m_OffHeap = p_Builder.m_bOffHeap;
+		final long blocks = Math.max(1L, m_Capacity / m_BlockSize);
+		final int concurrencyLevel = Integer.highestOneBit(
+				(int) Math.min(MAX_CONCURRENCY_LEVEL, blocks));
+		m_Blocks = CacheBuilder.newBuilder()
+				.concurrencyLevel(concurrencyLevel).maximumWeight(m_Capacity)
+				.weigher((final BlockKey p_Key,
+						final ByteBuffer p_Block) -> p_Block.capacity())
+				.recordStats().build();
+	}
+
+	/**
+	 * Allocate a buffer for a block, on or off the heap as configured
+	 *
+	 * @param p_Size
+	 *            the number of bytes in the block, no more than
+	 *            {@link #getBlockSize()}
+	 * @return a new, empty buffer
+	 * @since Oct 18, 2026
+	 */
+	ByteBuffer allocate(final int p_Size)
+	{
+		checkArgument(p_Size >= 0 && p_Size <= m_BlockSize,
+				"Invalid block size: %s", p_Size);
+		return m_OffHeap ? ByteBuffer.allocateDirect(p_Size)
+				: ByteBuffer.allocate(p_Size);
+	}
+
+	/**
+	 * Get a block from the cache, loading it if it is not present. Concurrent
+	 * requests for the same missing block wait for a single load.
+	 *
+	 * @param p_File
+	 *            the identity of the file, equal for every path to the same
+	 *            file
+	 * @param p_LastModified
+	 *            the last modified time of the file
+	 * @param p_Offset
+	 *            the offset of the block, a multiple of
+	 *            {@link #getBlockSize()}
+	 * @param p_Loader
+	 *            reads the block from the file into a buffer from
+	 *            {@link #allocate(int)}, positioned at zero
+	 * @return a read-only view of the block, positioned at zero
+	 * @throws IOException
+	 *             if the block could not be loaded
+	 * @since Oct 18, 2026
+	 */
+	ByteBuffer getBlock(final Object p_File, final long p_LastModified,
+			final long p_Offset, final Callable<ByteBuffer> p_Loader)
+			throws IOException
+	{
+		checkArgument(p_Offset % m_BlockSize == 0,
+				"Unaligned block offset: %s", p_Offset);
+		checkNotNull(p_Loader, "Loader required.");
+		try
+		{
+			return m_Blocks
+					.get(new BlockKey(p_File, p_LastModified, p_Offset),
+							() -> p_Loader.call().asReadOnlyBuffer())
+					.duplicate();
+		}
+		catch (final ExecutionException e)
+		{
+			Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Get the number of bytes in each block
+	 *
+	 * @return the number of bytes in each block
+	 * @since Oct 18, 2026
+	 */
+	public int getBlockSize()
+	{
+		return m_BlockSize;
+	}
+
+	/**
+	 * Get the maximum number of bytes held by the cache
+	 *
+	 * @return the maximum number of bytes held by the cache
+	 * @since Oct 18, 2026
+	 */
+	public long getCapacity()
+	{
+		return m_Capacity;
+	}
+
+	/**
+	 * Get the hit, miss, load, and eviction statistics of the cache since it
+	 * was created
+	 *
+	 * @return a snapshot of the cache statistics
+	 * @since Oct 18, 2026
+	 */
+	public CacheStats getStats()
+	{
+		return m_Blocks.stats();
+	}
+
+	/**
+	 * Discard every cached block
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public void invalidateAll()
+	{
+		m_Blocks.invalidateAll();
+	}
+
+	/**
+	 * Get whether blocks are held outside of the Java heap
+	 *
+	 * @return true if blocks are held in direct buffers, false if they are
+	 *         held in heap arrays
+	 * @since Oct 18, 2026
+	 */
+	public boolean isOffHeap()
+	{
+		return m_OffHeap;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("blockSize", m_BlockSize)
+				.add("capacity", m_Capacity).add("offHeap", m_OffHeap)
+				.add("blocks", m_Blocks.size()).toString();
+	}
+}
@@ -0,0 +1,217 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Package-private implementation of {@link SeekableDataFileInputStream} that
+ * reads through the aligned blocks of a shared {@link BlockCache}. Blocks
+ * missing from the cache are loaded with positional reads from a single
+ * {@link FileChannel}, which is only opened on the first miss, so queries that
+ * are answered entirely from the cache never open the file. Windows within a
+ * single block are views of the cached block, and windows that straddle
+ * blocks are copied into a reusable buffer.
+ *
+ * The identity and last modified time of the file are captured when the input
+ * is opened, so blocks cached before the file was rewritten are never used.
+ *
+ * @see ConcentrationsQuery#withBlockCache(BlockCache)
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class CachedSeekableDataFileInputStreamImpl
+		extends AbstractChannelSeekableDataFileInputStream
+{
+	/**
+	 * The cache to read blocks through
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final BlockCache	m_Cache;
+
+	/**
+	 * The identity of the file, equal for every path to the same file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Object		m_FileKey;
+
+	/**
+	 * The last modified time of the file when it was opened, in milliseconds
+	 * since the epoch
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final long			m_LastModified;
+
+	/**
+	 * Reusable buffer for windows that straddle blocks, or null until one is
+	 * needed
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private ByteBuffer			m_Scratch;
+
+	/**
+	 * Create a new cached input using the provided file path, endianness, and
+	 * cache.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @param p_Cache
+	 *            the cache to read blocks through
+	 * @throws IOException
+	 *             if the attributes of the file could not be read
+	 * @since Oct 18, 2026
+	 */
+	CachedSeekableDataFileInputStreamImpl(final String p_FilePath,
+			final ByteOrder p_ByteOrder, final BlockCache p_Cache)
+			throws IOException
+	{
+		this(p_FilePath, p_ByteOrder, p_Cache,
+				Files.readAttributes(Paths.get(p_FilePath),
+						BasicFileAttributes.class));
+	}
+
+	/**
+	 * Create a new cached input using the provided file path, endianness,
+	 * cache, and attributes of the file.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @param p_Cache
+	 *            the cache to read blocks through
+	 * @param p_Attributes
+	 *            the attributes of the file, read when it was opened
+	 * @throws IOException
+	 *             if the file could not be resolved
+	 * @since Oct 18, 2026
+	 */
+	CachedSeekableDataFileInputStreamImpl(final String p_FilePath,
+			final ByteOrder p_ByteOrder, final BlockCache p_Cache,
+			final BasicFileAttributes p_Attributes) throws IOException
+	{
+		super(p_FilePath, p_ByteOrder,
+				checkNotNull(p_Cache, "Cache required.").getBlockSize(),
+				p_Attributes.size());
+		m_Cache = p_Cache;
+		m_FileKey = p_Attributes.fileKey() != null ? p_Attributes.fileKey()
+				: Paths.get(p_FilePath).toRealPath();
+		m_LastModified = p_Attributes.lastModifiedTime().toMillis();
+		m_Scratch = null;
+	}
+
+	/**
+	 * Create a duplicate of the provided input that shares its cache, and its
+	 * channel if it has been opened.
+	 *
+	 * @param p_Source
+	 *            the input to duplicate
+	 * @since Oct 18, 2026
+	 */
+	private CachedSeekableDataFileInputStreamImpl(
+			final CachedSeekableDataFileInputStreamImpl p_Source)
+	{
+		super(p_Source);
+		m_Cache = p_Source.m_Cache;
+		m_FileKey = p_Source.m_FileKey;
+		m_LastModified = p_Source.m_LastModified;
+		m_Scratch = null;
+	}
+
+	/**
+	 * Get the block starting at the provided offset from the cache, loading it
+	 * from the channel if necessary.
+	 *
+	 * @param p_Offset
+	 *            the offset of the block, a multiple of the block size
+	 * @return a view of the block, positioned at zero
+	 * @throws IOException
+	 *             if the block could not be read
+	 * @since Oct 18, 2026
+	 */
+	private ByteBuffer block(final long p_Offset) throws IOException
+	{
+		return m_Cache.getBlock(m_FileKey, m_LastModified, p_Offset, () ->
+		{
+			final FileChannel channel = getChannel();
+			final ByteBuffer block = m_Cache.allocate((int) Math
+					.min(m_Cache.getBlockSize(), getSize() - p_Offset));
+			while (block.hasRemaining())
+			{
+				if (channel.read(block, p_Offset + block.position()) < 0)
+				{
+					throw new EOFException();
+				}
+			}
+			block.flip();
+			return block;
+		});
+	}
+
+	/**
+	 * Shares the cache of this input, and its channel if it has been opened.
+	 */
+	@Override
+	public SeekableDataFileInputStream duplicate()
+	{
+		return new CachedSeekableDataFileInputStreamImpl(this);
+	}
+
+	/**
+	 * Return a view of the cached block containing the provided position if
+	 * it holds the required bytes, otherwise copy from consecutive blocks
+	 * until the window is full.
+	 */
+	@Override
+	ByteBuffer fill(final long p_Position, final int p_Count)
+			throws IOException
+	{
+		final int blockSize = m_Cache.getBlockSize();
+		final long blockStart = p_Position - p_Position % blockSize;
+		final ByteBuffer first = block(blockStart);
+		first.position((int) (p_Position - blockStart));
+		if (first.remaining() >= p_Count)
+		{
+			return first.slice().order(getByteOrder());
+		}
+
+		if (m_Scratch == null)
+		{
+			m_Scratch = ByteBuffer.allocate(getWindowSize());
+		}
+		m_Scratch.clear();
+		m_Scratch.limit(
+				(int) Math.min(m_Scratch.capacity(), getSize() - p_Position));
+		ByteBuffer block = first;
+		long nextBlock = blockStart + blockSize;
+		while (true)
+		{
+			block.limit(block.position()
+					+ Math.min(block.remaining(), m_Scratch.remaining()));
+			m_Scratch.put(block);
+			if (!m_Scratch.hasRemaining())
+			{
+				break;
+			}
+			block = block(nextBlock);
+			nextBlock += blockSize;
+		}
+		m_Scratch.flip();
+		return m_Scratch.order(getByteOrder());
+	}
+}
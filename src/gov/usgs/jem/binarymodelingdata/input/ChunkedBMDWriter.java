@@ -0,0 +1,686 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import gov.usgs.jem.binarymodelingdata.BMDHeader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a chunked, compressed copy of a BMD file, stored with the
+ * {@link #EXTENSION} extension, which {@link BMDReader} opens with
+ * {@link ReadMode#CHUNKED}. The concentrations are tiled into chunks of
+ * consecutive time steps, segments, and variables, and each chunk is
+ * compressed independently with {@link Deflater} after its floats are
+ * shuffled into planes of their first, second, third, and fourth bytes, so
+ * that the slowly varying sign and exponent bytes compress together. A
+ * reader decompresses only the chunks that hold the values it reads.
+ *
+ * The layout, in the little-endian byte order of BMD files, is:
+ * <ul>
+ * <li>Magic ({@link #MAGIC}) and version (int)</li>
+ *
+ * <li>Size of the BMD file and location of its concentrations (longs)</li>
+ *
+ * <li>Number of variables, segments, and time steps (ints)</li>
+ *
+ * <li>Number of time steps, segments, and variables per chunk (ints)</li>
+ *
+ * <li>Bytes of the BMD file before its concentrations (uncompressed)</li>
+ *
+ * <li>Compressed size (int) and compressed bytes of the BMD file after its
+ * concentrations: times, min/max values, and segment names</li>
+ *
+ * <li>Location of each chunk and of the end of the last chunk (longs)</li>
+ *
+ * <li>Chunks, ordered by time, segment, then variable chunk, each holding
+ * the shuffled bytes of its floats arranged by Time, Segment, then
+ * Variable</li>
+ * </ul>
+ *
+ * Use {@link #builder()} to configure a writer, or run this class with the
+ * paths of BMD files as arguments to write them with the default chunk sizes.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public final class ChunkedBMDWriter
+{
+	/**
+	 * Builds new instances of {@link ChunkedBMDWriter}
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Builder
+	{
+		/**
+		 * @see ChunkedBMDWriter#getChunkSegments()
+		 * @since Oct 18, 2026
+		 */
+		private int	m_bChunkSegments;
+
+		/**
+		 * @see ChunkedBMDWriter#getChunkTimeSteps()
+		 * @since Oct 18, 2026
+		 */
+		private int	m_bChunkTimeSteps;
+
+		/**
+		 * @see ChunkedBMDWriter#getChunkVariables()
+		 * @since Oct 18, 2026
+		 */
+		private int	m_bChunkVariables;
+
+		/**
+		 * @see ChunkedBMDWriter#getCompressionLevel()
+		 * @since Oct 18, 2026
+		 */
+		private int	m_bCompressionLevel;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bChunkSegments = DEFAULT_CHUNK_SEGMENTS;
+			m_bChunkTimeSteps = DEFAULT_CHUNK_TIME_STEPS;
+			m_bChunkVariables = DEFAULT_CHUNK_VARIABLES;
+			m_bCompressionLevel = Deflater.DEFAULT_COMPRESSION;
+		}
+
+		/**
+		 * Build the writer
+		 *
+		 * @return a new {@link ChunkedBMDWriter}
+		 * @since Oct 18, 2026
+		 */
+		public ChunkedBMDWriter build()
+		{
+			return new ChunkedBMDWriter(this);
+		}
+
+		/**
+		 * Set the number of segments per chunk. Defaults to
+		 * {@link ChunkedBMDWriter#DEFAULT_CHUNK_SEGMENTS}.
+		 *
+		 * @param p_ChunkSegments
+		 *            the number of segments per chunk
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withChunkSegments(final int p_ChunkSegments)
+		{
+			checkArgument(p_ChunkSegments > 0, "Invalid chunk size: %s",
+					p_ChunkSegments);
+			m_bChunkSegments = p_ChunkSegments;
+			return this;
+		}
+
+		/**
+		 * Set the number of time steps per chunk. Defaults to
+		 * {@link ChunkedBMDWriter#DEFAULT_CHUNK_TIME_STEPS}.
+		 *
+		 * @param p_ChunkTimeSteps
+		 *            the number of time steps per chunk
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withChunkTimeSteps(final int p_ChunkTimeSteps)
+		{
+			checkArgument(p_ChunkTimeSteps > 0, "Invalid chunk size: %s",
+					p_ChunkTimeSteps);
+			m_bChunkTimeSteps = p_ChunkTimeSteps;
+			return this;
+		}
+
+		/**
+		 * Set the number of variables per chunk. Defaults to
+		 * {@link ChunkedBMDWriter#DEFAULT_CHUNK_VARIABLES}.
+		 *
+		 * @param p_ChunkVariables
+		 *            the number of variables per chunk
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withChunkVariables(final int p_ChunkVariables)
+		{
+			checkArgument(p_ChunkVariables > 0, "Invalid chunk size: %s",
+					p_ChunkVariables);
+			m_bChunkVariables = p_ChunkVariables;
+			return this;
+		}
+
+		/**
+		 * Set the {@link Deflater} compression level. Defaults to
+		 * {@link Deflater#DEFAULT_COMPRESSION}.
+		 *
+		 * @param p_CompressionLevel
+		 *            the compression level, from
+		 *            {@link Deflater#NO_COMPRESSION} to
+		 *            {@link Deflater#BEST_COMPRESSION}, or
+		 *            {@link Deflater#DEFAULT_COMPRESSION}
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withCompressionLevel(final int p_CompressionLevel)
+		{
+			checkArgument(p_CompressionLevel == Deflater.DEFAULT_COMPRESSION
+					|| p_CompressionLevel >= Deflater.NO_COMPRESSION
+							&& p_CompressionLevel <= Deflater.BEST_COMPRESSION,
+					"Invalid compression level: %s", p_CompressionLevel);
+			m_bCompressionLevel = p_CompressionLevel;
+			return this;
+		}
+	}
+
+	/**
+	 * The default number of segments per chunk
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final int		DEFAULT_CHUNK_SEGMENTS		= 256;
+
+	/**
+	 * The default number of time steps per chunk
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final int		DEFAULT_CHUNK_TIME_STEPS	= 16;
+
+	/**
+	 * The default number of variables per chunk
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final int		DEFAULT_CHUNK_VARIABLES		= 16;
+
+	/**
+	 * Extension of chunked BMD files
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final String	EXTENSION					= "bmdz";
+
+	/**
+	 * Number of bytes before the uncompressed bytes of the BMD file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int			HEADER_SIZE					= 4
+			+ Integer.BYTES + Long.BYTES * 2 + Integer.BYTES * 6;
+
+	/**
+	 * Class logger
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final org.apache.log4j.Logger	log							= org.apache.log4j.Logger
+			.getLogger(ChunkedBMDWriter.class);
+
+	/**
+	 * Identifies chunked BMD files
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final String	MAGIC						= "BMDZ";
+
+	/**
+	 * Version of the chunked format
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int	VERSION						= 1;
+
+	/**
+	 * Construct a new builder
+	 *
+	 * @return a new {@link Builder}
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Compress the provided bytes and write them to the channel
+	 *
+	 * @param p_Channel
+	 *            the channel to write to
+	 * @param p_Deflater
+	 *            the deflater to compress with, which is reset first
+	 * @param p_Bytes
+	 *            the bytes to compress
+	 * @param p_Length
+	 *            the number of bytes to compress
+	 * @param p_Buffer
+	 *            a buffer for compressed bytes
+	 * @return the number of compressed bytes written
+	 * @throws IOException
+	 *             if the bytes could not be written
+	 * @since Oct 18, 2026
+	 */
+	private static int deflate(final FileChannel p_Channel,
+			final Deflater p_Deflater, final byte[] p_Bytes, final int p_Length,
+			final byte[] p_Buffer) throws IOException
+	{
+		p_Deflater.reset();
+		p_Deflater.setInput(p_Bytes, 0, p_Length);
+		p_Deflater.finish();
+		int written = 0;
+		while (!p_Deflater.finished())
+		{
+			final int count = p_Deflater.deflate(p_Buffer);
+			Sidecars.writeFully(p_Channel, ByteBuffer.wrap(p_Buffer, 0, count));
+			written += count;
+		}
+		return written;
+	}
+
+	/**
+	 * Get the path of the chunked copy of a BMD file
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @return the path of the chunked copy, which may not exist
+	 * @since Oct 18, 2026
+	 */
+	public static String getPath(final String p_FilePath)
+	{
+		return Sidecars.getPath(p_FilePath, EXTENSION);
+	}
+
+	/**
+	 * Write the chunked copy of each BMD file provided as an argument, using
+	 * the default chunk sizes
+	 *
+	 * @param p_Args
+	 *            the paths to the BMD files
+	 * @throws IOException
+	 *             if a copy could not be written
+	 * @since Oct 18, 2026
+	 */
+	public static void main(final String[] p_Args) throws IOException
+	{
+		checkArgument(p_Args.length > 0, "Usage: %s <file.bmd> ...",
+				ChunkedBMDWriter.class.getName());
+		final ChunkedBMDWriter writer = builder().build();
+		for (final String filePath : p_Args)
+		{
+			writer.write(filePath);
+			log.info(String.format("Wrote %s", getPath(filePath)));
+		}
+	}
+
+	/**
+	 * Shuffle the bytes of the provided floats into planes: the first byte of
+	 * every float, then the second byte of every float, and so on
+	 *
+	 * @param p_Floats
+	 *            the bytes of the floats
+	 * @param p_Count
+	 *            the number of floats
+	 * @param p_Shuffled
+	 *            receives the shuffled bytes
+	 * @since Oct 18, 2026
+	 */
+	static void shuffle(final byte[] p_Floats, final int p_Count,
+			final byte[] p_Shuffled)
+	{
+		for (int floatNum = 0; floatNum < p_Count; floatNum++)
+		{
+			for (int byteNum = 0; byteNum < Float.BYTES; byteNum++)
+			{
+				p_Shuffled[byteNum * p_Count + floatNum] = p_Floats[floatNum
+						* Float.BYTES + byteNum];
+			}
+		}
+	}
+
+	/**
+	 * Reverse {@link #shuffle(byte[], int, byte[])}
+	 *
+	 * @param p_Shuffled
+	 *            the shuffled bytes
+	 * @param p_Count
+	 *            the number of floats
+	 * @param p_Floats
+	 *            receives the bytes of the floats
+	 * @since Oct 18, 2026
+	 */
+	static void unshuffle(final byte[] p_Shuffled, final int p_Count,
+			final byte[] p_Floats)
+	{
+		for (int byteNum = 0; byteNum < Float.BYTES; byteNum++)
+		{
+			final int plane = byteNum * p_Count;
+			for (int floatNum = 0; floatNum < p_Count; floatNum++)
+			{
+				p_Floats[floatNum * Float.BYTES + byteNum] = p_Shuffled[plane
+						+ floatNum];
+			}
+		}
+	}
+
+	/**
+	 * Write all remaining bytes of the provided buffer to the channel,
+	 * starting at the provided position, without moving the channel position
+	 *
+	 * @param p_Channel
+	 *            the channel to write to
+	 * @param p_Buffer
+	 *            the bytes to write
+	 * @param p_Position
+	 *            the position of the first byte to write
+	 * @throws IOException
+	 *             if the bytes could not be written
+	 * @since Oct 18, 2026
+	 */
+	private static void writeFully(final FileChannel p_Channel,
+			final ByteBuffer p_Buffer, final long p_Position)
+			throws IOException
+	{
+		final int start = p_Buffer.position();
+		while (p_Buffer.hasRemaining())
+		{
+			p_Channel.write(p_Buffer,
+					p_Position + p_Buffer.position() - start);
+		}
+	}
+
+	/**
+	 * @see Builder#withChunkSegments(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int	m_ChunkSegments;
+
+	/**
+	 * @see Builder#withChunkTimeSteps(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int	m_ChunkTimeSteps;
+
+	/**
+	 * @see Builder#withChunkVariables(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int	m_ChunkVariables;
+
+	/**
+	 * @see Builder#withCompressionLevel(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int	m_CompressionLevel;
+
+	/**
+	 * Create a new writer from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the builder
+	 * @since Oct 18, 2026
+	 */
+	private ChunkedBMDWriter(final Builder p_Builder)
+	{
+		m_ChunkSegments = p_Builder.m_bChunkSegments;
+		m_ChunkTimeSteps = p_Builder.m_bChunkTimeSteps;
+		m_ChunkVariables = p_Builder.m_bChunkVariables;
+		m_CompressionLevel = p_Builder.m_bCompressionLevel;
+	}
+
+	/**
+	 * Get the number of segments per chunk
+	 *
+	 * @return the number of segments per chunk; chunks at the end of a file
+	 *         may have fewer
+	 * @since Oct 18, 2026
+	 */
+	public int getChunkSegments()
+	{
+		return m_ChunkSegments;
+	}
+
+	/**
+	 * Get the number of time steps per chunk
+	 *
+	 * @return the number of time steps per chunk; chunks at the end of a file
+	 *         may have fewer
+	 * @since Oct 18, 2026
+	 */
+	public int getChunkTimeSteps()
+	{
+		return m_ChunkTimeSteps;
+	}
+
+	/**
+	 * Get the number of variables per chunk
+	 *
+	 * @return the number of variables per chunk; chunks at the end of a file
+	 *         may have fewer
+	 * @since Oct 18, 2026
+	 */
+	public int getChunkVariables()
+	{
+		return m_ChunkVariables;
+	}
+
+	/**
+	 * Get the {@link Deflater} compression level
+	 *
+	 * @return the compression level
+	 * @since Oct 18, 2026
+	 */
+	public int getCompressionLevel()
+	{
+		return m_CompressionLevel;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("chunkTimeSteps", m_ChunkTimeSteps)
+				.add("chunkSegments", m_ChunkSegments)
+				.add("chunkVariables", m_ChunkVariables)
+				.add("compressionLevel", m_CompressionLevel).toString();
+	}
+
+	/**
+	 * Write the chunked copy of a BMD file next to it (see
+	 * {@link #getPath(String)}), replacing any existing copy
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @throws IOException
+	 *             if the BMD file could not be read or the copy could not be
+	 *             written
+	 * @since Oct 18, 2026
+	 */
+	public void write(final String p_FilePath) throws IOException
+	{
+		write(p_FilePath, getPath(p_FilePath));
+	}
+
+	/**
+	 * Write the chunked copy of a BMD file, replacing any existing file at the
+	 * output path once the copy is complete
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_OutputPath
+	 *            the path of the chunked copy, which should have the
+	 *            {@link #EXTENSION} extension
+	 * @throws IOException
+	 *             if the BMD file could not be read or the copy could not be
+	 *             written
+	 * @since Oct 18, 2026
+	 */
+	public void write(final String p_FilePath, final String p_OutputPath)
+			throws IOException
+	{
+		checkNotNull(p_OutputPath, "Output path required.");
+		final BMDHeader header;
+		final long concentrationsLocation;
+		try (BMDReader reader = BMDReader.open(p_FilePath,
+				ReadMode.POSITIONAL);)
+		{
+			header = reader.getHeader();
+			concentrationsLocation = reader.getConcentrationsLocation();
+		}
+		final int numVariables = header.getVariablesSize();
+		final int numSegments = header.getSegmentsSize();
+		final int numTimes = header.getTimesSize();
+		final int chunkTimeSteps = Math.max(1,
+				Math.min(m_ChunkTimeSteps, numTimes));
+		final int chunkSegments = Math.max(1,
+				Math.min(m_ChunkSegments, numSegments));
+		final int chunkVariables = Math.max(1,
+				Math.min(m_ChunkVariables, numVariables));
+		final int timeChunks = (numTimes + chunkTimeSteps - 1)
+				/ chunkTimeSteps;
+		final int segmentChunks = (numSegments + chunkSegments - 1)
+				/ chunkSegments;
+		final int variableChunks = (numVariables + chunkVariables - 1)
+				/ chunkVariables;
+		final long numChunks = (long) timeChunks * segmentChunks
+				* variableChunks;
+		final int timeStepBytes = numSegments * numVariables * Float.BYTES;
+		final long bandBytes = (long) chunkTimeSteps * timeStepBytes;
+		checkArgument(
+				numChunks < Integer.MAX_VALUE / Long.BYTES
+						&& bandBytes <= Integer.MAX_VALUE,
+				"Chunks are too small or too large: %s", this);
+
+		try (FileChannel source = FileChannel.open(Paths.get(p_FilePath),
+				StandardOpenOption.READ);)
+		{
+			final long size = source.size();
+			final long concentrationsEnd = concentrationsLocation
+					+ (long) numTimes * timeStepBytes;
+			checkArgument(size - concentrationsEnd <= Integer.MAX_VALUE,
+					"Too many bytes after concentrations: %s",
+					size - concentrationsEnd);
+			final Deflater deflater = new Deflater(m_CompressionLevel);
+			try
+			{
+				Sidecars.writeAtomically(p_OutputPath, channel ->
+				{
+					final ByteBuffer fileHeader = ByteBuffer
+							.allocate(HEADER_SIZE)
+							.order(ByteOrder.LITTLE_ENDIAN);
+					fileHeader.put(MAGIC.getBytes(StandardCharsets.US_ASCII))
+							.putInt(VERSION).putLong(size)
+							.putLong(concentrationsLocation)
+							.putInt(numVariables).putInt(numSegments)
+							.putInt(numTimes).putInt(chunkTimeSteps)
+							.putInt(chunkSegments).putInt(chunkVariables);
+					fileHeader.flip();
+					Sidecars.writeFully(channel, fileHeader);
+
+					final ByteBuffer prefix = ByteBuffer
+							.allocate((int) concentrationsLocation);
+					Sidecars.readFully(source, prefix, 0);
+					prefix.flip();
+					Sidecars.writeFully(channel, prefix);
+
+					final byte[] buffer = new byte[1 << 16];
+					final byte[] trailer = new byte[(int) (size
+							- concentrationsEnd)];
+					Sidecars.readFully(source, ByteBuffer.wrap(trailer),
+							concentrationsEnd);
+					final long trailerSizeLocation = channel.position();
+					channel.position(trailerSizeLocation + Integer.BYTES);
+					final int trailerSize = deflate(channel, deflater,
+							trailer, trailer.length, buffer);
+					writeFully(channel,
+							ByteBuffer.allocate(Integer.BYTES)
+									.order(ByteOrder.LITTLE_ENDIAN)
+									.putInt(0, trailerSize),
+							trailerSizeLocation);
+
+					/**
+					 * Reserve the chunk locations, which are known only once
+					 * the chunks are written
+					 */
+					final long indexLocation = channel.position();
+					final ByteBuffer index = ByteBuffer
+							.allocate((int) (numChunks + 1) * Long.BYTES)
+							.order(ByteOrder.LITTLE_ENDIAN);
+					channel.position(indexLocation + index.capacity());
+
+					final byte[] band = new byte[(int) bandBytes];
+					final int chunkBytes = chunkTimeSteps * chunkSegments
+							* chunkVariables * Float.BYTES;
+					final byte[] tile = new byte[chunkBytes];
+					final byte[] shuffled = new byte[chunkBytes];
+					for (int firstTime = 0; firstTime < numTimes;
+							firstTime += chunkTimeSteps)
+					{
+						final int timeCount = Math.min(chunkTimeSteps,
+								numTimes - firstTime);
+						Sidecars.readFully(source,
+								ByteBuffer.wrap(band, 0,
+										timeCount * timeStepBytes),
+								concentrationsLocation
+										+ (long) firstTime * timeStepBytes);
+						for (int firstSegment = 0; firstSegment < numSegments;
+								firstSegment += chunkSegments)
+						{
+							final int segmentCount = Math.min(chunkSegments,
+									numSegments - firstSegment);
+							for (int firstVariable = 0;
+									firstVariable < numVariables;
+									firstVariable += chunkVariables)
+							{
+								final int variableCount = Math.min(
+										chunkVariables,
+										numVariables - firstVariable);
+								final int runBytes = variableCount
+										* Float.BYTES;
+								int tileBytes = 0;
+								for (int time = 0; time < timeCount; time++)
+								{
+									int run = time * timeStepBytes
+											+ (firstSegment * numVariables
+													+ firstVariable)
+													* Float.BYTES;
+									for (int segment = 0;
+											segment < segmentCount;
+											segment++)
+									{
+										System.arraycopy(band, run, tile,
+												tileBytes, runBytes);
+										tileBytes += runBytes;
+										run += numVariables * Float.BYTES;
+									}
+								}
+								shuffle(tile, tileBytes / Float.BYTES,
+										shuffled);
+								index.putLong(channel.position());
+								deflate(channel, deflater, shuffled,
+										tileBytes, buffer);
+							}
+						}
+					}
+					index.putLong(channel.position());
+					index.flip();
+					writeFully(channel, index, indexLocation);
+				});
+			}
+			finally
+			{
+				deflater.end();
+			}
+		}
+	}
+}
@@ -0,0 +1,595 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Package-private implementation of {@link SeekableDataFileInputStream} that
+ * reads a chunked, compressed file written by {@link ChunkedBMDWriter} as if
+ * it were the original BMD file. The bytes before and after the
+ * concentrations are held in memory, and windows of concentrations are
+ * assembled from decompressed chunks, so a read decompresses only the chunks
+ * holding the bytes it reads. Each input keeps its most recently used
+ * decompressed chunks, up to {@link #MAX_DECOMPRESSED_BYTES}.
+ *
+ * @see ReadMode#CHUNKED
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class ChunkedSeekableDataFileInputStreamImpl
+		extends AbstractChannelSeekableDataFileInputStream
+{
+	/**
+	 * The layout of a chunked file, read once when it is opened and shared by
+	 * duplicates
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class Layout
+	{
+		/**
+		 * Location of each chunk, followed by the end of the last chunk
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long[]	m_ChunkLocations;
+
+		/**
+		 * Number of segments per chunk
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final int		m_ChunkSegments;
+
+		/**
+		 * Number of time steps per chunk
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final int		m_ChunkTimeSteps;
+
+		/**
+		 * Number of variables per chunk
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final int		m_ChunkVariables;
+
+		/**
+		 * Location of the bytes following the concentrations in the BMD file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long		m_ConcentrationsEnd;
+
+		/**
+		 * Location of the concentrations in the BMD file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long		m_ConcentrationsLocation;
+
+		/**
+		 * Number of segments
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final int		m_NumSegments;
+
+		/**
+		 * Number of time steps
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final int		m_NumTimes;
+
+		/**
+		 * Number of variables
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final int		m_NumVariables;
+
+		/**
+		 * Bytes of the BMD file before the concentrations
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final byte[]	m_Prefix;
+
+		/**
+		 * Size of the BMD file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long		m_Size;
+
+		/**
+		 * Bytes of the BMD file after the concentrations
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final byte[]	m_Trailer;
+
+		/**
+		 * Read the layout from the channel
+		 *
+		 * @param p_FilePath
+		 *            the path of the file, used in error messages
+		 * @param p_Channel
+		 *            the channel to read from
+		 * @throws IOException
+		 *             if the file is not a chunked file or could not be read
+		 * @since Oct 18, 2026
+		 */
+		private Layout(final String p_FilePath, final FileChannel p_Channel)
+				throws IOException
+		{
+			final ByteBuffer header = ByteBuffer
+					.allocate(ChunkedBMDWriter.HEADER_SIZE)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			Sidecars.readFully(p_Channel, header, 0);
+			header.flip();
+			final byte[] magic = new byte[ChunkedBMDWriter.MAGIC.length()];
+			header.get(magic);
+			final int version = header.getInt();
+			if (!ChunkedBMDWriter.MAGIC.equals(
+					new String(magic, StandardCharsets.US_ASCII))
+					|| version != ChunkedBMDWriter.VERSION)
+			{
+				throw new IOException(String.format(
+						"Not a chunked BMD file (version %s): %s",
+						ChunkedBMDWriter.VERSION, p_FilePath));
+			}
+			m_Size = header.getLong();
+			m_ConcentrationsLocation = header.getLong();
+			m_NumVariables = header.getInt();
+			m_NumSegments = header.getInt();
+			m_NumTimes = header.getInt();
+			m_ChunkTimeSteps = header.getInt();
+			m_ChunkSegments = header.getInt();
+			m_ChunkVariables = header.getInt();
+			m_ConcentrationsEnd = m_ConcentrationsLocation + (long) m_NumTimes
+					* m_NumSegments * m_NumVariables * Float.BYTES;
+			if (m_ConcentrationsLocation < 0
+					|| m_ConcentrationsLocation > Integer.MAX_VALUE
+					|| m_Size < m_ConcentrationsEnd
+					|| m_Size - m_ConcentrationsEnd > Integer.MAX_VALUE
+					|| m_ChunkTimeSteps <= 0 || m_ChunkSegments <= 0
+					|| m_ChunkVariables <= 0)
+			{
+				throw new IOException(String
+						.format("Invalid chunked layout: %s", p_FilePath));
+			}
+
+			long location = ChunkedBMDWriter.HEADER_SIZE;
+			m_Prefix = new byte[(int) m_ConcentrationsLocation];
+			Sidecars.readFully(p_Channel, ByteBuffer.wrap(m_Prefix), location);
+			location += m_Prefix.length;
+
+			final ByteBuffer trailerSize = ByteBuffer.allocate(Integer.BYTES)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			Sidecars.readFully(p_Channel, trailerSize, location);
+			location += Integer.BYTES;
+			if (trailerSize.getInt(0) < 0)
+			{
+				throw new IOException(String
+						.format("Invalid chunked layout: %s", p_FilePath));
+			}
+			final byte[] compressed = new byte[trailerSize.getInt(0)];
+			Sidecars.readFully(p_Channel, ByteBuffer.wrap(compressed),
+					location);
+			location += compressed.length;
+			m_Trailer = new byte[(int) (m_Size - m_ConcentrationsEnd)];
+			inflate(compressed, m_Trailer, m_Trailer.length);
+
+			final long numChunks = (long) getChunks(m_NumTimes,
+					m_ChunkTimeSteps)
+					* getChunks(m_NumSegments, m_ChunkSegments)
+					* getChunks(m_NumVariables, m_ChunkVariables);
+			if (numChunks >= Integer.MAX_VALUE / Long.BYTES)
+			{
+				throw new IOException(String
+						.format("Invalid chunked layout: %s", p_FilePath));
+			}
+			final ByteBuffer chunkLocations = ByteBuffer
+					.allocate((int) (numChunks + 1) * Long.BYTES)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			Sidecars.readFully(p_Channel, chunkLocations, location);
+			chunkLocations.flip();
+			m_ChunkLocations = new long[(int) numChunks + 1];
+			chunkLocations.asLongBuffer().get(m_ChunkLocations);
+		}
+	}
+
+	/**
+	 * The number of bytes in each window
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int	DEFAULT_WINDOW_SIZE		= 1 << 16;
+
+	/**
+	 * The maximum number of bytes of decompressed chunks kept by each input
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int	MAX_DECOMPRESSED_BYTES	= 1 << 25;
+
+	/**
+	 * Get the number of chunks needed to cover a dimension
+	 *
+	 * @param p_Size
+	 *            the size of the dimension
+	 * @param p_ChunkSize
+	 *            the size of the dimension in each chunk
+	 * @return the number of chunks
+	 * @since Oct 18, 2026
+	 */
+	private static int getChunks(final int p_Size, final int p_ChunkSize)
+	{
+		return (p_Size + p_ChunkSize - 1) / p_ChunkSize;
+	}
+
+	/**
+	 * Decompress the provided bytes
+	 *
+	 * @param p_Compressed
+	 *            the compressed bytes
+	 * @param p_Bytes
+	 *            receives the decompressed bytes
+	 * @param p_Length
+	 *            the expected number of decompressed bytes
+	 * @throws IOException
+	 *             if the bytes are corrupt or decompress to a different
+	 *             length
+	 * @since Oct 18, 2026
+	 */
+	private static void inflate(final byte[] p_Compressed,
+			final byte[] p_Bytes, final int p_Length) throws IOException
+	{
+		final Inflater inflater = new Inflater();
+		try
+		{
+			inflater.setInput(p_Compressed);
+			int length = 0;
+			while (length < p_Length && !inflater.finished())
+			{
+				final int count = inflater.inflate(p_Bytes, length,
+						p_Length - length);
+				if (count == 0 && inflater.needsInput())
+				{
+					break;
+				}
+				length += count;
+			}
+			if (length != p_Length || !inflater.finished())
+			{
+				throw new IOException(String.format(
+						"Chunk decompressed to %s bytes rather than %s", length,
+						p_Length));
+			}
+		}
+		catch (final DataFormatException e)
+		{
+			throw new IOException("Corrupt chunk", e);
+		}
+		finally
+		{
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Create the map of most recently used decompressed chunks for an input
+	 *
+	 * @param p_Layout
+	 *            the layout of the file
+	 * @return a new, empty map that holds up to
+	 *         {@link #MAX_DECOMPRESSED_BYTES} of full chunks
+	 * @since Oct 18, 2026
+	 */
+	private static Map<Integer, byte[]> newChunks(final Layout p_Layout)
+	{
+		final long chunkBytes = (long) p_Layout.m_ChunkTimeSteps
+				* p_Layout.m_ChunkSegments * p_Layout.m_ChunkVariables
+				* Float.BYTES;
+		final long maxChunks = Math.max(1,
+				MAX_DECOMPRESSED_BYTES / chunkBytes);
+		return new LinkedHashMap<Integer, byte[]>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					final Map.Entry<Integer, byte[]> p_Eldest)
+			{
+				return size() > maxChunks;
+			}
+		};
+	}
+
+	/**
+	 * Open a chunked file using the provided endianness
+	 *
+	 * @param p_FilePath
+	 *            the chunked file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @return a new input that reads the file as if it were the original BMD
+	 *         file
+	 * @throws IOException
+	 *             if the file could not be opened or is not a chunked file
+	 * @since Oct 18, 2026
+	 */
+	static ChunkedSeekableDataFileInputStreamImpl openChunked(
+			final String p_FilePath, final ByteOrder p_ByteOrder)
+			throws IOException
+	{
+		final FileChannel channel = FileChannel.open(Paths.get(p_FilePath),
+				StandardOpenOption.READ);
+		try
+		{
+			return new ChunkedSeekableDataFileInputStreamImpl(p_FilePath,
+					p_ByteOrder, channel, new Layout(p_FilePath, channel));
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * The most recently used decompressed chunks, by chunk number, each
+	 * holding its floats arranged by Time, Segment, then Variable
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Map<Integer, byte[]>	m_Chunks;
+
+	/**
+	 * The layout of the file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Layout				m_Layout;
+
+	/**
+	 * Reusable buffer for windows, or null until one is needed
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private byte[]						m_Scratch;
+
+	/**
+	 * Reusable buffer for shuffled chunk bytes, or null until one is needed
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private byte[]						m_Shuffled;
+
+	/**
+	 * Create a duplicate of the provided input that shares its channel and
+	 * layout.
+	 *
+	 * @param p_Source
+	 *            the input to duplicate
+	 * @since Oct 18, 2026
+	 */
+	private ChunkedSeekableDataFileInputStreamImpl(
+			final ChunkedSeekableDataFileInputStreamImpl p_Source)
+	{
+		super(p_Source);
+		m_Layout = p_Source.m_Layout;
+		m_Chunks = newChunks(m_Layout);
+		m_Scratch = null;
+		m_Shuffled = null;
+	}
+
+	/**
+	 * Create a new chunked input
+	 *
+	 * @param p_FilePath
+	 *            the chunked file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @param p_Channel
+	 *            the open channel of the file
+	 * @param p_Layout
+	 *            the layout of the file
+	 * @since Oct 18, 2026
+	 */
+	private ChunkedSeekableDataFileInputStreamImpl(final String p_FilePath,
+			final ByteOrder p_ByteOrder, final FileChannel p_Channel,
+			final Layout p_Layout)
+	{
+		super(p_FilePath, p_ByteOrder, DEFAULT_WINDOW_SIZE, p_Channel,
+				p_Layout.m_Size);
+		m_Layout = p_Layout;
+		m_Chunks = newChunks(m_Layout);
+		m_Scratch = null;
+		m_Shuffled = null;
+	}
+
+	/**
+	 * Get a decompressed chunk, decompressing it if it is not held already
+	 *
+	 * @param p_Chunk
+	 *            the chunk number
+	 * @param p_Length
+	 *            the number of decompressed bytes in the chunk
+	 * @return the bytes of the chunk's floats
+	 * @throws IOException
+	 *             if the chunk could not be read
+	 * @since Oct 18, 2026
+	 */
+	private byte[] chunk(final int p_Chunk, final int p_Length)
+			throws IOException
+	{
+		byte[] chunk = m_Chunks.get(p_Chunk);
+		if (chunk == null)
+		{
+			final long location = m_Layout.m_ChunkLocations[p_Chunk];
+			final long compressedLength = m_Layout.m_ChunkLocations[p_Chunk
+					+ 1] - location;
+			if (compressedLength < 0 || compressedLength > Integer.MAX_VALUE)
+			{
+				throw new IOException(String.format("Invalid chunk %s: %s",
+						p_Chunk, compressedLength));
+			}
+			final byte[] compressed = new byte[(int) compressedLength];
+			Sidecars.readFully(getChannel(), ByteBuffer.wrap(compressed),
+					location);
+			if (m_Shuffled == null || m_Shuffled.length < p_Length)
+			{
+				m_Shuffled = new byte[p_Length];
+			}
+			inflate(compressed, m_Shuffled, p_Length);
+			chunk = new byte[p_Length];
+			ChunkedBMDWriter.unshuffle(m_Shuffled, p_Length / Float.BYTES,
+					chunk);
+			m_Chunks.put(p_Chunk, chunk);
+		}
+		return chunk;
+	}
+
+	/**
+	 * Shares the channel and layout of this input.
+	 */
+	@Override
+	public SeekableDataFileInputStream duplicate()
+	{
+		return new ChunkedSeekableDataFileInputStreamImpl(this);
+	}
+
+	/**
+	 * Copy the bytes of the original file from the provided position until
+	 * the end of the window, the end of a run of bytes within a single chunk,
+	 * or the end of the bytes before or after the concentrations, whichever
+	 * is first.
+	 *
+	 * @param p_Position
+	 *            the position in the original file
+	 * @param p_Bytes
+	 *            receives the bytes
+	 * @param p_Offset
+	 *            the index of the first byte to copy into
+	 * @param p_Length
+	 *            the maximum number of bytes to copy
+	 * @param p_Decompress
+	 *            false to copy nothing rather than decompress a chunk
+	 * @return the number of bytes copied
+	 * @throws IOException
+	 *             if a chunk could not be read
+	 * @since Oct 18, 2026
+	 */
+	private int copy(final long p_Position, final byte[] p_Bytes,
+			final int p_Offset, final int p_Length, final boolean p_Decompress)
+			throws IOException
+	{
+		final Layout layout = m_Layout;
+		if (p_Position < layout.m_ConcentrationsLocation)
+		{
+			final int count = (int) Math.min(p_Length,
+					layout.m_ConcentrationsLocation - p_Position);
+			System.arraycopy(layout.m_Prefix, (int) p_Position, p_Bytes,
+					p_Offset, count);
+			return count;
+		}
+		if (p_Position >= layout.m_ConcentrationsEnd)
+		{
+			final int index = (int) (p_Position - layout.m_ConcentrationsEnd);
+			final int count = Math.min(p_Length,
+					layout.m_Trailer.length - index);
+			System.arraycopy(layout.m_Trailer, index, p_Bytes, p_Offset,
+					count);
+			return count;
+		}
+
+		final long offset = p_Position - layout.m_ConcentrationsLocation;
+		final long value = offset / Float.BYTES;
+		final int byteNum = (int) (offset % Float.BYTES);
+		final int variable = (int) (value % layout.m_NumVariables);
+		final int segment = (int) (value / layout.m_NumVariables
+				% layout.m_NumSegments);
+		final int time = (int) (value / layout.m_NumVariables
+				/ layout.m_NumSegments);
+
+		final int timeChunk = time / layout.m_ChunkTimeSteps;
+		final int segmentChunk = segment / layout.m_ChunkSegments;
+		final int variableChunk = variable / layout.m_ChunkVariables;
+		final int chunkNum = (timeChunk
+				* getChunks(layout.m_NumSegments, layout.m_ChunkSegments)
+				+ segmentChunk)
+				* getChunks(layout.m_NumVariables, layout.m_ChunkVariables)
+				+ variableChunk;
+		if (!p_Decompress && !m_Chunks.containsKey(chunkNum))
+		{
+			return 0;
+		}
+
+		final int firstTime = timeChunk * layout.m_ChunkTimeSteps;
+		final int firstSegment = segmentChunk * layout.m_ChunkSegments;
+		final int firstVariable = variableChunk * layout.m_ChunkVariables;
+		final int timeCount = Math.min(layout.m_ChunkTimeSteps,
+				layout.m_NumTimes - firstTime);
+		final int segmentCount = Math.min(layout.m_ChunkSegments,
+				layout.m_NumSegments - firstSegment);
+		final int variableCount = Math.min(layout.m_ChunkVariables,
+				layout.m_NumVariables - firstVariable);
+		final byte[] chunk = chunk(chunkNum,
+				timeCount * segmentCount * variableCount * Float.BYTES);
+
+		final int index = (((time - firstTime) * segmentCount + segment
+				- firstSegment) * variableCount + variable - firstVariable)
+				* Float.BYTES + byteNum;
+		final int count = Math.min(p_Length,
+				(firstVariable + variableCount - variable) * Float.BYTES
+						- byteNum);
+		System.arraycopy(chunk, index, p_Bytes, p_Offset, count);
+		return count;
+	}
+
+	/**
+	 * Assemble a window from the bytes before and after the concentrations
+	 * and from decompressed chunks. The window is extended past the required
+	 * bytes only while that does not decompress another chunk.
+	 */
+	@Override
+	ByteBuffer fill(final long p_Position, final int p_Count)
+			throws IOException
+	{
+		if (m_Scratch == null)
+		{
+			m_Scratch = new byte[getWindowSize()];
+		}
+		final int limit = (int) Math.min(m_Scratch.length,
+				getSize() - p_Position);
+		int length = 0;
+		while (length < limit)
+		{
+			final int count = copy(p_Position + length, m_Scratch, length,
+					limit - length, length < p_Count);
+			if (count == 0)
+			{
+				break;
+			}
+			length += count;
+		}
+		return ByteBuffer.wrap(m_Scratch, 0, length).order(getByteOrder());
+	}
+}
@@ -0,0 +1,536 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import gov.usgs.jem.binarymodelingdata.Concentrations;
+import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A memory-bounded cache of complete query results that may be shared by any
+ * number of queries and {@link BMDReader}s. Results are keyed by the
+ * canonical form of a query, the sets of variable, segment, and time step
+ * indices it selects and the stride and thresholds that filter those time
+ * steps, together with the absolute path, size, and last modified time of the
+ * file, so identical selections built in any order share a result and a file
+ * that changes is read again. Results are weighed
+ * by the memory held by their values, and the least recently used are
+ * evicted once the capacity is reached. Use {@link #builder()} to construct a
+ * new cache and
+ * {@link ConcentrationsQuery#withResultCache(ConcentrationsCache)} to read
+ * through it.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public final class ConcentrationsCache
+{
+	/**
+	 * Builds new instances of {@link ConcentrationsCache}
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	public static final class Builder
+	{
+		/**
+		 * @see ConcentrationsCache#getCapacity()
+		 * @since Oct 18, 2026
+		 */
+		private long	m_bCapacity;
+
+		/**
+		 * @since Oct 18, 2026
+		 */
+		private Builder()
+		{
+			m_bCapacity = DEFAULT_CAPACITY;
+		}
+
+		/**
+		 * Build the cache
+		 *
+		 * @return a new, empty {@link ConcentrationsCache}
+		 * @since Oct 18, 2026
+		 */
+		public ConcentrationsCache build()
+		{
+			return new ConcentrationsCache(this);
+		}
+
+		/**
+		 * Set the maximum number of bytes of values held by the cache.
+		 * Defaults to {@link ConcentrationsCache#DEFAULT_CAPACITY}.
+		 *
+		 * @param p_Capacity
+		 *            the maximum number of bytes of values held by the cache
+		 * @return this builder
+		 * @since Oct 18, 2026
+		 */
+		public Builder withCapacity(final long p_Capacity)
+		{
+			checkArgument(p_Capacity > 0, "Invalid capacity: %s", p_Capacity);
+			m_bCapacity = p_Capacity;
+			return this;
+		}
+	}
+
+	/**
+	 * The version of a file, which changes when the file is rewritten
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class FileVersion
+	{
+		/**
+		 * The last modified time of the file, in milliseconds since the epoch
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long	m_LastModified;
+
+		/**
+		 * The size of the file, in bytes
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long	m_Size;
+
+		/**
+		 * Create the version of a file from its attributes
+		 *
+		 * @param p_Attributes
+		 *            the attributes of the file
+		 * @since Oct 18, 2026
+		 */
+		private FileVersion(final BasicFileAttributes p_Attributes)
+		{
+			m_LastModified = p_Attributes.lastModifiedTime().toMillis();
+			m_Size = p_Attributes.size();
+		}
+
+		@Override
+		public boolean equals(final Object p_Obj)
+		{
+			if (this == p_Obj)
+			{
+				return true;
+			}
+			if (!(p_Obj instanceof FileVersion))
+			{
+				return false;
+			}
+			final FileVersion other = (FileVersion) p_Obj;
+			return m_LastModified == other.m_LastModified
+					&& m_Size == other.m_Size;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Objects.hashCode(m_LastModified, m_Size);
+		}
+	}
+
+	/**
+	 * The canonical form of a query on a version of a file
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class QueryKey
+	{
+		/**
+		 * The absolute, normalized path to the file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final String				m_FilePath;
+
+		/**
+		 * The selected segment indices
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final BitSet				m_Segments;
+
+		/**
+		 * The threshold that the value of each variable index must be above
+		 * for a time step to be retained
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final Map<Integer, Float>	m_Thresholds;
+
+		/**
+		 * The selected time step indices, before the stride and thresholds
+		 * are applied
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final BitSet				m_TimeSteps;
+
+		/**
+		 * Every Nth selected time step is kept
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final int					m_TimeStride;
+
+		/**
+		 * The selected variable indices
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final BitSet				m_Variables;
+
+		/**
+		 * The version of the file
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final FileVersion			m_Version;
+
+		/**
+		 * Create a new key from copies of the provided selections
+		 *
+		 * @param p_FilePath
+		 *            the absolute, normalized path to the file
+		 * @param p_Version
+		 *            the version of the file
+		 * @param p_Variables
+		 *            the selected variable indices
+		 * @param p_Segments
+		 *            the selected segment indices
+		 * @param p_TimeSteps
+		 *            the selected time step indices
+		 * @param p_TimeStride
+		 *            every Nth selected time step is kept
+		 * @param p_Thresholds
+		 *            the threshold that the value of each variable index must
+		 *            be above for a time step to be retained
+		 * @since Oct 18, 2026
+		 */
+		private QueryKey(final String p_FilePath, final FileVersion p_Version,
+				final BitSet p_Variables, final BitSet p_Segments,
+				final BitSet p_TimeSteps, final int p_TimeStride,
+				final Map<Integer, Float> p_Thresholds)
+		{
+			m_FilePath = p_FilePath;
+			m_Version = p_Version;
+			m_Variables = (BitSet) p_Variables.clone();
+			m_Segments = (BitSet) p_Segments.clone();
+			m_TimeSteps = (BitSet) p_TimeSteps.clone();
+			m_TimeStride = p_TimeStride;
+			m_Thresholds = ImmutableMap.copyOf(p_Thresholds);
+		}
+
+		@Override
+		public boolean equals(final Object p_Obj)
+		{
+			if (this == p_Obj)
+			{
+				return true;
+			}
+			if (!(p_Obj instanceof QueryKey))
+			{
+				return false;
+			}
+			final QueryKey other = (QueryKey) p_Obj;
+			return m_FilePath.equals(other.m_FilePath)
+					&& m_Version.equals(other.m_Version)
+					&& m_Variables.equals(other.m_Variables)
+					&& m_Segments.equals(other.m_Segments)
+					&& m_TimeSteps.equals(other.m_TimeSteps)
+					&& m_TimeStride == other.m_TimeStride
+					&& m_Thresholds.equals(other.m_Thresholds);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Objects.hashCode(m_FilePath, m_Version, m_Variables,
+					m_Segments, m_TimeSteps, m_TimeStride, m_Thresholds);
+		}
+	}
+
+	/**
+	 * Default maximum number of bytes of values held by a cache (64 MiB)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final long	DEFAULT_CAPACITY	= 1L << 26;
+
+	/**
+	 * Create a new builder
+	 *
+	 * @return a new {@link Builder} with the default capacity
+	 * @since Oct 18, 2026
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Get the canonical form of a file path
+	 *
+	 * @param p_FilePath
+	 *            the file path
+	 * @return the absolute, normalized path
+	 * @since Oct 18, 2026
+	 */
+	private static Path normalize(final String p_FilePath)
+	{
+		return Paths.get(checkNotNull(p_FilePath, "File path required."))
+				.toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Estimate the memory held by a result
+	 *
+	 * @param p_Concentrations
+	 *            the result
+	 * @return the number of bytes held by its values, limited to
+	 *         {@link Integer#MAX_VALUE}
+	 * @since Oct 18, 2026
+	 */
+	private static int weigh(final Concentrations p_Concentrations)
+	{
+		final long values = (long) p_Concentrations.getVariables().size()
+				* p_Concentrations.getSegments().size()
+				* p_Concentrations.getTimeSteps().size();
+		return (int) Math.min(values * Float.BYTES, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * The maximum number of bytes of values held by the cache
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final long									m_Capacity;
+
+	/**
+	 * The cached results
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Cache<QueryKey, Concentrations>		m_Results;
+
+	/**
+	 * The most recently seen version of each cached file, used to discard
+	 * results for older versions
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final ConcurrentMap<String, FileVersion>	m_Versions;
+
+	/**
+	 * Create a new cache from the provided builder
+	 *
+	 * @param p_Builder
+	 *            the builder
+	 * @since Oct 18, 2026
+	 */
+	private ConcentrationsCache(final Builder p_Builder)
+	{
+		m_Capacity = p_Builder.m_bCapacity;
+		m_Results = CacheBuilder.newBuilder().maximumWeight(m_Capacity)
+				.weigher((final QueryKey p_Key,
+						final Concentrations p_Value) -> weigh(p_Value))
+				.recordStats().build();
+		m_Versions = Maps.newConcurrentMap();
+	}
+
+	/**
+	 * Get the result of a query from the cache, loading it if it is not
+	 * present. The key is built from the inputs of the query alone, so a hit
+	 * never evaluates its stride or thresholds. A loaded result is cached only
+	 * if it covers every selected variable and segment and the query was not
+	 * canceled, so results of canceled queries are never returned for later
+	 * queries. If the file is newer than when it was last seen, every result
+	 * for an older version of the file is discarded first.
+	 *
+	 * The attributes must be those of the file that the loader reads from,
+	 * read when the reader opened it, rather than those of the file now at
+	 * the path: a reader that is still open on a file that was replaced then
+	 * keeps its results apart from those of readers of the new file.
+	 *
+	 * @param p_FilePath
+	 *            the path to the file
+	 * @param p_Attributes
+	 *            the attributes of the file when it was opened
+	 * @param p_Variables
+	 *            the selected variable indices
+	 * @param p_Segments
+	 *            the selected segment indices
+	 * @param p_TimeSteps
+	 *            the selected time step indices, before the stride and
+	 *            thresholds are applied
+	 * @param p_TimeStride
+	 *            every Nth selected time step is kept
+	 * @param p_Thresholds
+	 *            the threshold that the value of each variable index must be
+	 *            above for a time step to be retained
+	 * @param p_Monitor
+	 *            the monitor of the query, or null if it has none
+	 * @param p_Loader
+	 *            applies the stride and thresholds and reads the result from
+	 *            the file
+	 * @return the cached or loaded result
+	 * @throws IOException
+	 *             if the result could not be read
+	 * @since Oct 18, 2026
+	 */
+	Concentrations get(final String p_FilePath,
+			final BasicFileAttributes p_Attributes, final BitSet p_Variables,
+			final BitSet p_Segments, final BitSet p_TimeSteps,
+			final int p_TimeStride, final Map<Integer, Float> p_Thresholds,
+			final IProgressMonitor p_Monitor,
+			final Callable<Concentrations> p_Loader) throws IOException
+	{
+		checkNotNull(p_Attributes, "File attributes required.");
+		checkNotNull(p_Loader, "Loader required.");
+		final String filePath = normalize(p_FilePath).toString();
+		final FileVersion version = new FileVersion(p_Attributes);
+
+		/**
+		 * Readers still open on an older version keep their own results
+		 * without discarding those of the newer version
+		 */
+		final FileVersion previous = m_Versions.get(filePath);
+		if (previous == null || !previous.equals(version)
+				&& version.m_LastModified >= previous.m_LastModified)
+		{
+			if (m_Versions.put(filePath, version) != null)
+			{
+				invalidateResults(filePath, version);
+			}
+		}
+
+		final QueryKey key = new QueryKey(filePath, version, p_Variables,
+				p_Segments, p_TimeSteps, p_TimeStride, p_Thresholds);
+		final Concentrations cached = m_Results.getIfPresent(key);
+		if (cached != null)
+		{
+			return cached;
+		}
+
+		final Concentrations loaded;
+		try
+		{
+			loaded = p_Loader.call();
+		}
+		catch (final Exception e)
+		{
+			Throwables.throwIfInstanceOf(e, IOException.class);
+			Throwables.throwIfUnchecked(e);
+			throw new IOException(e);
+		}
+		if (loaded.getVariables().size() == p_Variables.cardinality()
+				&& loaded.getSegments().size() == p_Segments.cardinality()
+				&& (p_Monitor == null || !p_Monitor.isCanceled()))
+		{
+			m_Results.put(key, loaded);
+		}
+		return loaded;
+	}
+
+	/**
+	 * Get the maximum number of bytes of values held by the cache
+	 *
+	 * @return the maximum number of bytes of values held by the cache
+	 * @since Oct 18, 2026
+	 */
+	public long getCapacity()
+	{
+		return m_Capacity;
+	}
+
+	/**
+	 * Get the hit, miss, and eviction statistics of the cache since it was
+	 * created
+	 *
+	 * @return a snapshot of the cache statistics
+	 * @since Oct 18, 2026
+	 */
+	public CacheStats getStats()
+	{
+		return m_Results.stats();
+	}
+
+	/**
+	 * Discard every cached result for the file at the provided path. Call this
+	 * when a file is known to have changed; changes are also detected by
+	 * size and last modified time when a reader of the changed file next
+	 * queries it.
+	 *
+	 * @param p_FilePath
+	 *            the path to the file
+	 * @since Oct 18, 2026
+	 */
+	public void invalidate(final String p_FilePath)
+	{
+		final String filePath = normalize(p_FilePath).toString();
+		m_Versions.remove(filePath);
+		invalidateResults(filePath, null);
+	}
+
+	/**
+	 * Discard every cached result
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public void invalidateAll()
+	{
+		m_Versions.clear();
+		m_Results.invalidateAll();
+	}
+
+	/**
+	 * Discard every cached result for the file at the provided normalized
+	 * path, other than those for the provided version
+	 *
+	 * @param p_FilePath
+	 *            the absolute, normalized path to the file
+	 * @param p_Keep
+	 *            the version whose results are kept, or null to discard
+	 *            every result for the file
+	 * @since Oct 18, 2026
+	 */
+	private void invalidateResults(final String p_FilePath,
+			final FileVersion p_Keep)
+	{
+		m_Results.asMap().keySet()
+				.removeIf(p_Key -> p_Key.m_FilePath.equals(p_FilePath)
+						&& !p_Key.m_Version.equals(p_Keep));
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("capacity", m_Capacity)
+				.add("results", m_Results.size()).toString();
+	}
+}
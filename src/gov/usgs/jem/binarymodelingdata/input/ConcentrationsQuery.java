@@ -1,12 +1,18 @@
 package gov.usgs.jem.binarymodelingdata.input;
 
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import gov.usgs.jem.binarymodelingdata.Aggregates;
 import gov.usgs.jem.binarymodelingdata.BMDSegment;
 import gov.usgs.jem.binarymodelingdata.BMDTimeStep;
 import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import gov.usgs.jem.binarymodelingdata.ConcentrationConsumer;
 import gov.usgs.jem.binarymodelingdata.Concentrations;
 import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Query class for getting concentrations data. See
@@ -18,6 +24,46 @@ import java.util.List;
  */
 public interface ConcentrationsQuery
 {
+	/**
+	 * Executes the query, reducing the values of each variable and time step
+	 * over the selected segments, such as the spatial mean of a variable at
+	 * each time step. Values are reduced as they are read, so memory use is
+	 * proportional to the number of selected variables and time steps, not
+	 * the number of values. {@link #withExecutor(Executor, int)} and
+	 * {@link #withResultCache(ConcentrationsCache)} do not apply. If the
+	 * progress monitor is canceled, time steps that were not read have a
+	 * count of zero.
+	 *
+	 * @param p_Functions
+	 *            the functions to reduce values by
+	 * @return the reduced values, keyed by time step
+	 * @throws IOException
+	 *             if the query could not be successfully executed
+	 * @since Oct 18, 2026
+	 */
+	Aggregates<BMDTimeStep> aggregateOverSegments(
+			AggregateFunction... p_Functions) throws IOException;
+
+	/**
+	 * Executes the query, reducing the values of each variable and segment
+	 * over the selected time steps, such as the mean, minimum, or maximum of
+	 * each segment over a window of time. Values are reduced as they are
+	 * read, so memory use is proportional to the number of selected variables
+	 * and segments, not the number of values.
+	 * {@link #withExecutor(Executor, int)} and
+	 * {@link #withResultCache(ConcentrationsCache)} do not apply. If the
+	 * progress monitor is canceled, the values are reduced over only the time
+	 * steps that were read.
+	 *
+	 * @param p_Functions
+	 *            the functions to reduce values by
+	 * @return the reduced values, keyed by segment
+	 * @throws IOException
+	 *             if the query could not be successfully executed
+	 * @since Oct 18, 2026
+	 */
+	Aggregates<BMDSegment> aggregateOverTime(AggregateFunction... p_Functions)
+			throws IOException;
 
 	/**
 	 * Executes the query and returns the results as a {@link Concentrations}
@@ -30,6 +76,22 @@ public interface ConcentrationsQuery
 	 */
 	Concentrations execute() throws IOException;
 
+	/**
+	 * Executes the query, delivering each value to the provided consumer as
+	 * it is decoded instead of collecting the results. Values are delivered on
+	 * the calling thread in file order: by time step, then segment, then
+	 * variable. Memory use is bounded regardless of the size of the query, and
+	 * {@link #withExecutor(Executor, int)} does not apply. If the progress
+	 * monitor is canceled, delivery stops after the current time step.
+	 *
+	 * @param p_Consumer
+	 *            receives every selected value
+	 * @throws IOException
+	 *             if the query could not be successfully executed
+	 * @since Oct 18, 2026
+	 */
+	void executeStreaming(ConcentrationConsumer p_Consumer) throws IOException;
+
 	/**
 	 * Checks that the query is ready for {@link #execute()}
 	 *
@@ -39,6 +101,25 @@ public interface ConcentrationsQuery
 	 */
 	void validate() throws IllegalStateException;
 
+	/**
+	 * Retain only the selected time steps at which the value of the provided
+	 * variable is above the threshold in at least one of the selected
+	 * segments. The variable does not need to be selected. Calling this
+	 * method more than once retains only the time steps that satisfy every
+	 * predicate. When a fresh {@link ZoneMapSidecar} of the file exists,
+	 * blocks of time steps that it shows cannot match are skipped without
+	 * reading their values.
+	 *
+	 * @param p_Variable
+	 *            the variable to test
+	 * @param p_Threshold
+	 *            the threshold that a value must be above
+	 * @return this
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery whereValueAbove(BMDVariable p_Variable,
+			float p_Threshold);
+
 	/**
 	 * Use all segments in the query.
 	 *
@@ -63,6 +144,38 @@ public interface ConcentrationsQuery
 	 */
 	ConcentrationsQuery withAllVariables();
 
+	/**
+	 * Read the query through the provided cache of file blocks instead of the
+	 * reader's own input. The cache may be shared by any number of queries
+	 * and readers, so repeated queries of nearby variables, segments, and
+	 * time steps are served from memory rather than the file.
+	 *
+	 * @param p_Cache
+	 *            the {@link BlockCache} to read through
+	 * @return this
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withBlockCache(BlockCache p_Cache);
+
+	/**
+	 * Execute the query in parallel. The selected time steps are split into
+	 * contiguous partitions that are read concurrently on the provided
+	 * executor, each with its own input on the file, and merged into a single
+	 * {@link Concentrations} result. {@link #execute()} blocks until every
+	 * partition has completed.
+	 *
+	 * @param p_Executor
+	 *            the executor to read partitions on, such as a
+	 *            {@link java.util.concurrent.ForkJoinPool} or a virtual thread
+	 *            executor
+	 * @param p_Partitions
+	 *            the maximum number of partitions to split the selected time
+	 *            steps into, typically the number of available processors
+	 * @return this
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withExecutor(Executor p_Executor, int p_Partitions);
+
 	/**
 	 * Include progress reporting with the query
 	 *
@@ -73,6 +186,35 @@ public interface ConcentrationsQuery
 	 */
 	ConcentrationsQuery withProgress(IProgressMonitor p_Monitor);
 
+	/**
+	 * Return the result of the query from the provided cache when an
+	 * identical selection of the same, unchanged file was executed before,
+	 * and cache the result of this query once it completes. Cached results
+	 * are immutable and are shared by every query that hits them. Does not
+	 * apply to {@link #executeStreaming(ConcentrationConsumer)}.
+	 *
+	 * @param p_Cache
+	 *            the {@link ConcentrationsCache} to use
+	 * @return this
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withResultCache(ConcentrationsCache p_Cache);
+
+	/**
+	 * Add a contiguous range of segments to the query.
+	 *
+	 * @param p_From
+	 *            the first segment index (inclusive), see
+	 *            {@link BMDSegment#getIndex()}
+	 * @param p_To
+	 *            the end segment index (exclusive)
+	 * @return this
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not within the segments in the file
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withSegmentRange(int p_From, int p_To);
+
 	/**
 	 * Add the segments to the query.
 	 *
@@ -83,6 +225,66 @@ public interface ConcentrationsQuery
 	 */
 	ConcentrationsQuery withSegments(List<BMDSegment> p_Segments);
 
+	/**
+	 * Resample the selected time steps to coarser bins as they are read, such
+	 * as daily or weekly bins of hourly output. Bins are consecutive
+	 * intervals of the provided width aligned to the UTC epoch, so daily bins
+	 * run from midnight to midnight UTC, see {@link BMDTimeStep#getTime()}.
+	 * The result of
+	 * {@link #execute()} has one time step for each bin that contains a
+	 * selected time step: the first such time step, with the values of each
+	 * variable and segment reduced over the bin by the provided function.
+	 * Values are reduced as they are read, so memory use is proportional to
+	 * the number of bins. {@link #withExecutor(Executor, int)} and
+	 * {@link #withResultCache(ConcentrationsCache)} do not apply, and
+	 * {@link #executeStreaming(ConcentrationConsumer)} and aggregation are not
+	 * supported. If the progress monitor is canceled, only the bins that were
+	 * read completely are included.
+	 *
+	 * @param p_Width
+	 *            the width of each bin, at least one millisecond
+	 * @param p_Function
+	 *            the function to reduce the values in each bin by
+	 * @return this
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withTimeBins(Duration p_Width,
+			AggregateFunction p_Function);
+
+	/**
+	 * Resample the selected time steps to coarser bins as they are read, with
+	 * bins aligned to the provided origin rather than to the UTC epoch, as
+	 * {@link #withTimeBins(Duration, AggregateFunction)}. For example, pass
+	 * the {@link BMDTimeStep#getInstant()} of a time step to start a bin at
+	 * that time step.
+	 *
+	 * @param p_Width
+	 *            the width of each bin, at least one millisecond
+	 * @param p_Function
+	 *            the function to reduce the values in each bin by
+	 * @param p_Origin
+	 *            the start of a bin, before or after the selected time steps
+	 * @return this
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withTimeBins(Duration p_Width,
+			AggregateFunction p_Function, Instant p_Origin);
+
+	/**
+	 * Add a contiguous range of time steps to the query.
+	 *
+	 * @param p_From
+	 *            the first time step index (inclusive), see
+	 *            {@link BMDTimeStep#getIndex()}
+	 * @param p_To
+	 *            the end time step index (exclusive)
+	 * @return this
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not within the time steps in the file
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withTimeStepRange(int p_From, int p_To);
+
 	/**
 	 * Add the time steps to the query.
 	 *
@@ -93,6 +295,35 @@ public interface ConcentrationsQuery
 	 */
 	ConcentrationsQuery withTimeSteps(List<BMDTimeStep> p_TimeSteps);
 
+	/**
+	 * Keep only every Nth selected time step, starting with the first, such
+	 * as for plotting a long simulation. The time steps that are skipped are
+	 * not read. Applies before any predicate, see
+	 * {@link #whereValueAbove(BMDVariable, float)}.
+	 *
+	 * @param p_Stride
+	 *            the number of selected time steps from each kept time step
+	 *            to the next; one keeps every selected time step
+	 * @return this
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withTimeStride(int p_Stride);
+
+	/**
+	 * Add a contiguous range of variables to the query.
+	 *
+	 * @param p_From
+	 *            the first variable index (inclusive), see
+	 *            {@link BMDVariable#getIndex()}
+	 * @param p_To
+	 *            the end variable index (exclusive)
+	 * @return this
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not within the variables in the file
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsQuery withVariableRange(int p_From, int p_To);
+
 	/**
 	 * /** Add the variables to the query.
 	 *
@@ -0,0 +1,511 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Plans and executes the reads required to retrieve a selection of
+ * concentrations. Package-private.
+ *
+ * Concentrations are stored time-major: for each time step, a block of
+ * <code>numSegments * numVariables</code> floats arranged by segment, then
+ * variable. Because a query selects the cartesian product of its variable,
+ * segment and time step indices, every selected block has the same layout, so
+ * the selected cells of one block are planned once as sorted runs of
+ * contiguous cells. Runs separated by no more than {@link #MAX_GAP} bytes are
+ * merged (reading a few unneeded values is cheaper than another read), and
+ * during execution consecutive runs, including runs in neighboring time
+ * blocks, are coalesced into a single read of at most {@link #MAX_READ}
+ * floats. Only the selected cells are visited; unselected cells cost nothing
+ * beyond the bytes read between merged runs.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class ConcentrationsReadPlan
+{
+	/**
+	 * Receives each selected value as it is decoded. Ordinals are positions in
+	 * the sorted index arrays provided to the plan.
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	@FunctionalInterface
+	interface Visitor
+	{
+		/**
+		 * Visit a decoded value
+		 *
+		 * @param p_VariableOrdinal
+		 *            the ordinal of the variable in the plan
+		 * @param p_SegmentOrdinal
+		 *            the ordinal of the segment in the plan
+		 * @param p_TimeOrdinal
+		 *            the ordinal of the time step in the plan
+		 * @param p_Value
+		 *            the concentration value
+		 * @since Oct 18, 2026
+		 */
+		void visit(int p_VariableOrdinal, int p_SegmentOrdinal,
+				int p_TimeOrdinal, float p_Value);
+	}
+
+	/**
+	 * Number of bytes representing concentrations values (float)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	CONCENTRATIONS_SIZE	= Float.BYTES;
+
+	/**
+	 * The default maximum number of unselected bytes between two runs that
+	 * will be read through rather than skipped (4 KiB)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int			MAX_GAP				= 1 << 12;
+
+	/**
+	 * The default maximum number of floats decoded by a single read (4 MiB of
+	 * floats)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int			MAX_READ			= 1 << 20;
+
+	/**
+	 * Buffer that reads are decoded into, grown as needed up to
+	 * {@link #m_MaxRead}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private float[]				m_Buffer;
+
+	/**
+	 * The byte location of the first concentration in the file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final long			m_Location;
+
+	/**
+	 * Maximum number of cells between merged runs or coalesced reads
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int			m_MaxGapCells;
+
+	/**
+	 * Maximum number of floats decoded by a single read
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int			m_MaxRead;
+
+	/**
+	 * The number of cells in each time block
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final long			m_NumBlockCells;
+
+	/**
+	 * The number of variables in the file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int			m_NumVariables;
+
+	/**
+	 * For each run, the number of selected cells it contains
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private int[]				m_RunCellCounts;
+
+	/**
+	 * Number of planned runs per time block
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private int					m_RunCount;
+
+	/**
+	 * For each run, the number of cells (selected or not) it spans
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private int[]				m_RunLengths;
+
+	/**
+	 * For each run, the segment ordinal of its first selected cell
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private int[]				m_RunSegmentOrdinals;
+
+	/**
+	 * For each run, the cell offset of its first cell within the time block
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private long[]				m_RunStarts;
+
+	/**
+	 * For each run, the variable ordinal of its first selected cell
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private int[]				m_RunVariableOrdinals;
+
+	/**
+	 * The sorted selected segment indices
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]			m_Segments;
+
+	/**
+	 * The sorted selected time step indices
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]			m_TimeSteps;
+
+	/**
+	 * The sorted selected variable indices
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]			m_Variables;
+
+	/**
+	 * Create a new plan using the default {@link #MAX_GAP} and
+	 * {@link #MAX_READ}
+	 *
+	 * @param p_Location
+	 *            the byte location of the first concentration in the file
+	 * @param p_NumSegments
+	 *            the number of segments in the file
+	 * @param p_NumVariables
+	 *            the number of variables in the file
+	 * @param p_Variables
+	 *            the sorted, distinct, selected variable indices
+	 * @param p_Segments
+	 *            the sorted, distinct, selected segment indices
+	 * @param p_TimeSteps
+	 *            the sorted, distinct, selected time step indices
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsReadPlan(final long p_Location, final int p_NumSegments,
+			final int p_NumVariables, final int[] p_Variables,
+			final int[] p_Segments, final int[] p_TimeSteps)
+	{
+		this(p_Location, p_NumSegments, p_NumVariables, p_Variables,
+				p_Segments, p_TimeSteps, MAX_GAP, MAX_READ);
+	}
+
+	/**
+	 * Create a new plan
+	 *
+	 * @param p_Location
+	 *            the byte location of the first concentration in the file
+	 * @param p_NumSegments
+	 *            the number of segments in the file
+	 * @param p_NumVariables
+	 *            the number of variables in the file
+	 * @param p_Variables
+	 *            the sorted, distinct, selected variable indices
+	 * @param p_Segments
+	 *            the sorted, distinct, selected segment indices
+	 * @param p_TimeSteps
+	 *            the sorted, distinct, selected time step indices
+	 * @param p_MaxGap
+	 *            the maximum number of unselected bytes to read through
+	 *            rather than skip
+	 * @param p_MaxRead
+	 *            the maximum number of floats decoded by a single read
+	 * @since Oct 18, 2026
+	 */
+	ConcentrationsReadPlan(final long p_Location, final int p_NumSegments,
+			final int p_NumVariables, final int[] p_Variables,
+			final int[] p_Segments, final int[] p_TimeSteps,
+			final int p_MaxGap, final int p_MaxRead)
+	{
+		checkArgument(p_Location >= 0, "Invalid location: %s", p_Location);
+		checkArgument(p_MaxGap >= 0, "Invalid maximum gap: %s", p_MaxGap);
+		checkArgument(p_MaxRead > 0, "Invalid maximum read: %s", p_MaxRead);
+		m_Location = p_Location;
+		m_NumVariables = p_NumVariables;
+		m_NumBlockCells = (long) p_NumSegments * p_NumVariables;
+		m_Variables = checkNotNull(p_Variables, "Variables required.");
+		m_Segments = checkNotNull(p_Segments, "Segments required.");
+		m_TimeSteps = checkNotNull(p_TimeSteps, "Time steps required.");
+		m_MaxGapCells = p_MaxGap / CONCENTRATIONS_SIZE;
+		m_MaxRead = p_MaxRead;
+		m_Buffer = new float[0];
+		planRuns();
+	}
+
+	/**
+	 * Add a new, empty run starting at the provided cell
+	 *
+	 * @param p_Start
+	 *            the cell offset within the time block
+	 * @param p_SegmentOrdinal
+	 *            the segment ordinal of the first selected cell
+	 * @param p_VariableOrdinal
+	 *            the variable ordinal of the first selected cell
+	 * @since Oct 18, 2026
+	 */
+	private void addRun(final long p_Start, final int p_SegmentOrdinal,
+			final int p_VariableOrdinal)
+	{
+		if (m_RunCount == m_RunStarts.length)
+		{
+			final int capacity = Math.max(4, m_RunCount * 2);
+			m_RunStarts = Arrays.copyOf(m_RunStarts, capacity);
+			m_RunLengths = Arrays.copyOf(m_RunLengths, capacity);
+			m_RunCellCounts = Arrays.copyOf(m_RunCellCounts, capacity);
+			m_RunSegmentOrdinals = Arrays.copyOf(m_RunSegmentOrdinals,
+					capacity);
+			m_RunVariableOrdinals = Arrays.copyOf(m_RunVariableOrdinals,
+					capacity);
+		}
+		m_RunStarts[m_RunCount] = p_Start;
+		m_RunLengths[m_RunCount] = 0;
+		m_RunCellCounts[m_RunCount] = 0;
+		m_RunSegmentOrdinals[m_RunCount] = p_SegmentOrdinal;
+		m_RunVariableOrdinals[m_RunCount] = p_VariableOrdinal;
+		m_RunCount++;
+	}
+
+	/**
+	 * Execute the plan, reading from the provided input and visiting every
+	 * selected value in file order.
+	 *
+	 * @param p_Input
+	 *            the input to read from
+	 * @param p_Visitor
+	 *            receives every selected value
+	 * @param p_Monitor
+	 *            optional progress monitor; one unit of work is reported for
+	 *            each time step, and the plan stops once cancellation is
+	 *            requested, after visiting the time steps already read
+	 * @return the number of reads issued
+	 * @throws IOException
+	 *             if the concentrations could not be read
+	 * @since Oct 18, 2026
+	 */
+	long execute(final SeekableDataFileInputStream p_Input,
+			final Visitor p_Visitor, final IProgressMonitor p_Monitor)
+			throws IOException
+	{
+		checkNotNull(p_Input, "Input required.");
+		checkNotNull(p_Visitor, "Visitor required.");
+
+		/**
+		 * The pending read covers every run from run firstRun of time ordinal
+		 * firstTime through the most recently added run.
+		 */
+		long reads = 0;
+		long readStart = -1;
+		long readEnd = -1;
+		int firstTime = 0;
+		int firstRun = 0;
+		for (int timeOrdinal = 0; timeOrdinal < m_TimeSteps.length; timeOrdinal++)
+		{
+			final long blockStart = m_TimeSteps[timeOrdinal] * m_NumBlockCells;
+			for (int run = 0; run < m_RunCount; run++)
+			{
+				final long start = blockStart + m_RunStarts[run];
+				final long end = start + m_RunLengths[run];
+				if (readStart >= 0 && (start - readEnd > m_MaxGapCells
+						|| end - readStart > m_MaxRead))
+				{
+					read(p_Input, p_Visitor, readStart, readEnd, firstTime,
+							firstRun);
+					reads++;
+					readStart = -1;
+				}
+				if (readStart < 0)
+				{
+					readStart = start;
+					firstTime = timeOrdinal;
+					firstRun = run;
+				}
+				readEnd = end;
+			}
+
+			if (p_Monitor != null)
+			{
+				if (p_Monitor.isCanceled())
+				{
+					break;
+				}
+				p_Monitor.worked(1);
+			}
+		}
+		if (readStart >= 0)
+		{
+			read(p_Input, p_Visitor, readStart, readEnd, firstTime, firstRun);
+			reads++;
+		}
+		return reads;
+	}
+
+	/**
+	 * Get the number of runs planned for each time block
+	 *
+	 * @return the number of runs planned for each time block
+	 * @since Oct 18, 2026
+	 */
+	int getRunCount()
+	{
+		return m_RunCount;
+	}
+
+	/**
+	 * Merge the selected cells of a time block into runs.
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private void planRuns()
+	{
+		m_RunCount = 0;
+		m_RunStarts = new long[0];
+		m_RunLengths = new int[0];
+		m_RunCellCounts = new int[0];
+		m_RunSegmentOrdinals = new int[0];
+		m_RunVariableOrdinals = new int[0];
+
+		long runEnd = -1;
+		for (int segmentOrdinal = 0; segmentOrdinal < m_Segments.length; segmentOrdinal++)
+		{
+			final long segmentStart = (long) m_Segments[segmentOrdinal]
+					* m_NumVariables;
+			for (int variableOrdinal = 0; variableOrdinal < m_Variables.length; variableOrdinal++)
+			{
+				final long cell = segmentStart + m_Variables[variableOrdinal];
+				if (m_RunCount == 0 || cell - runEnd > m_MaxGapCells
+						|| cell + 1 - m_RunStarts[m_RunCount - 1] > m_MaxRead)
+				{
+					addRun(cell, segmentOrdinal, variableOrdinal);
+				}
+				final int run = m_RunCount - 1;
+				m_RunLengths[run] = (int) (cell + 1 - m_RunStarts[run]);
+				m_RunCellCounts[run]++;
+				runEnd = cell + 1;
+			}
+		}
+	}
+
+	/**
+	 * Issue a single read of the cells from <code>p_ReadStart</code> to
+	 * <code>p_ReadEnd</code> and visit the selected cells of every run it
+	 * covers, starting with run <code>p_FirstRun</code> of time ordinal
+	 * <code>p_FirstTime</code>.
+	 *
+	 * @param p_Input
+	 *            the input to read from
+	 * @param p_Visitor
+	 *            receives every selected value
+	 * @param p_ReadStart
+	 *            the absolute cell where the read starts
+	 * @param p_ReadEnd
+	 *            the absolute cell (exclusive) where the read ends
+	 * @param p_FirstTime
+	 *            the time ordinal of the first run
+	 * @param p_FirstRun
+	 *            the first run
+	 * @throws IOException
+	 *             if the concentrations could not be read
+	 * @since Oct 18, 2026
+	 */
+	private void read(final SeekableDataFileInputStream p_Input,
+			final Visitor p_Visitor, final long p_ReadStart,
+			final long p_ReadEnd, final int p_FirstTime, final int p_FirstRun)
+			throws IOException
+	{
+		final int length = (int) (p_ReadEnd - p_ReadStart);
+		if (m_Buffer.length < length)
+		{
+			m_Buffer = new float[Math.min(m_MaxRead,
+					Math.max(length, 2 * m_Buffer.length))];
+		}
+		p_Input.seek(m_Location + p_ReadStart * CONCENTRATIONS_SIZE);
+		p_Input.readFloats(m_Buffer, 0, length);
+
+		int timeOrdinal = p_FirstTime;
+		int run = p_FirstRun;
+		while (timeOrdinal < m_TimeSteps.length)
+		{
+			final long start = m_TimeSteps[timeOrdinal] * m_NumBlockCells
+					+ m_RunStarts[run];
+			if (start >= p_ReadEnd)
+			{
+				break;
+			}
+			visitRun(p_Visitor, timeOrdinal, run,
+					(int) (start - p_ReadStart));
+			if (++run == m_RunCount)
+			{
+				run = 0;
+				timeOrdinal++;
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("numVars", m_Variables.length)
+				.add("numSegs", m_Segments.length)
+				.add("numTSteps", m_TimeSteps.length)
+				.add("runsPerTStep", m_RunCount).toString();
+	}
+
+	/**
+	 * Visit the selected cells of a single run that has been read into
+	 * {@link #m_Buffer}
+	 *
+	 * @param p_Visitor
+	 *            receives every selected value
+	 * @param p_TimeOrdinal
+	 *            the time ordinal of the run
+	 * @param p_Run
+	 *            the run
+	 * @param p_Offset
+	 *            the offset of the first cell of the run in
+	 *            {@link #m_Buffer}
+	 * @since Oct 18, 2026
+	 */
+	private void visitRun(final Visitor p_Visitor, final int p_TimeOrdinal,
+			final int p_Run, final int p_Offset)
+	{
+		final long runStart = m_RunStarts[p_Run];
+		int segmentOrdinal = m_RunSegmentOrdinals[p_Run];
+		int variableOrdinal = m_RunVariableOrdinals[p_Run];
+		for (int count = m_RunCellCounts[p_Run]; count > 0; count--)
+		{
+			final long cell = (long) m_Segments[segmentOrdinal]
+					* m_NumVariables + m_Variables[variableOrdinal];
+			p_Visitor.visit(variableOrdinal, segmentOrdinal, p_TimeOrdinal,
+					m_Buffer[p_Offset + (int) (cell - runStart)]);
+			if (++variableOrdinal == m_Variables.length)
+			{
+				variableOrdinal = 0;
+				segmentOrdinal++;
+			}
+		}
+	}
+}
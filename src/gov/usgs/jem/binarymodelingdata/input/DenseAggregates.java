@@ -0,0 +1,201 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import gov.usgs.jem.binarymodelingdata.Aggregates;
+import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import java.util.List;
+
+/**
+ * Package-private implementation of {@link Aggregates} that reduces values as
+ * they are read, so only the running state of each variable and key is held
+ * in memory, never the values themselves. State is kept in an
+ * {@link AggregateAccumulator} with cells arranged by variable, then key. Not
+ * safe for concurrent accumulation.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ * @param <K>
+ *            the type of key
+ */
+final class DenseAggregates<K> implements Aggregates<K>
+{
+	/**
+	 * Running state of each cell
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final AggregateAccumulator		m_Accumulator;
+
+	/**
+	 * @see #getFunctions()
+	 * @since Oct 18, 2026
+	 */
+	private final List<AggregateFunction>	m_Functions;
+
+	/**
+	 * Key ordinals, indexed by key file index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]						m_KeyOrdinals;
+
+	/**
+	 * @see #getKeys()
+	 * @since Oct 18, 2026
+	 */
+	private final List<K>					m_Keys;
+
+	/**
+	 * Variable ordinals, indexed by variable file index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]						m_VariableOrdinals;
+
+	/**
+	 * @see #getVariables()
+	 * @since Oct 18, 2026
+	 */
+	private final List<BMDVariable>			m_Variables;
+
+	/**
+	 * Create a new instance with no values reduced
+	 *
+	 * @param p_Functions
+	 *            the functions to reduce values by
+	 * @param p_Variables
+	 *            the variables, sorted by index
+	 * @param p_Keys
+	 *            the keys, sorted by index
+	 * @param p_KeyIndices
+	 *            the file index of each key
+	 * @since Oct 18, 2026
+	 */
+	DenseAggregates(final List<AggregateFunction> p_Functions,
+			final List<BMDVariable> p_Variables, final List<K> p_Keys,
+			final int[] p_KeyIndices)
+	{
+		checkNotNull(p_Functions, "Functions required.");
+		m_Functions = ImmutableList.copyOf(p_Functions.stream().distinct()
+				.sorted().iterator());
+		checkArgument(!m_Functions.isEmpty(), "No functions specified.");
+		m_Variables = ImmutableList.copyOf(p_Variables);
+		m_Keys = ImmutableList.copyOf(p_Keys);
+		m_VariableOrdinals = DenseConcentrations.ordinals(m_Variables.stream()
+				.mapToInt(BMDVariable::getIndex).toArray());
+		checkArgument(m_Keys.size() == p_KeyIndices.length,
+				"Expected %s key indices, found %s.", m_Keys.size(),
+				p_KeyIndices.length);
+		m_KeyOrdinals = DenseConcentrations.ordinals(p_KeyIndices);
+		m_Accumulator = new AggregateAccumulator(m_Functions,
+				m_Variables.size() * m_Keys.size());
+	}
+
+	/**
+	 * Reduce a value into the running state of a variable and key
+	 *
+	 * @param p_VariableOrdinal
+	 *            the ordinal of the variable in {@link #getVariables()}
+	 * @param p_KeyOrdinal
+	 *            the ordinal of the key in {@link #getKeys()}
+	 * @param p_Value
+	 *            the value; values that are not a number are ignored
+	 * @since Oct 18, 2026
+	 */
+	void accept(final int p_VariableOrdinal, final int p_KeyOrdinal,
+			final float p_Value)
+	{
+		m_Accumulator.accept(p_VariableOrdinal * m_Keys.size() + p_KeyOrdinal,
+				p_Value);
+	}
+
+	/**
+	 * Get the cell of a variable and key
+	 *
+	 * @param p_VariableIndex
+	 *            the variable file index
+	 * @param p_KeyIndex
+	 *            the key file index
+	 * @return the cell in the accumulator
+	 * @since Oct 18, 2026
+	 */
+	private int cell(final int p_VariableIndex, final int p_KeyIndex)
+	{
+		final int variableOrdinal = DenseConcentrations
+				.ordinal(m_VariableOrdinals, p_VariableIndex);
+		final int keyOrdinal = DenseConcentrations.ordinal(m_KeyOrdinals,
+				p_KeyIndex);
+		checkArgument(variableOrdinal >= 0 && keyOrdinal >= 0,
+				"Invalid variable (%s) or key (%s) index.", p_VariableIndex,
+				p_KeyIndex);
+		return variableOrdinal * m_Keys.size() + keyOrdinal;
+	}
+
+	@Override
+	public int getCount(final int p_VariableIndex, final int p_KeyIndex)
+	{
+		return m_Accumulator.getCount(cell(p_VariableIndex, p_KeyIndex));
+	}
+
+	@Override
+	public List<AggregateFunction> getFunctions()
+	{
+		return m_Functions;
+	}
+
+	@Override
+	public List<K> getKeys()
+	{
+		return m_Keys;
+	}
+
+	@Override
+	public float getValue(final AggregateFunction p_Function,
+			final int p_VariableIndex, final int p_KeyIndex)
+	{
+		checkArgument(m_Functions.contains(p_Function),
+				"Invalid function: %s", p_Function);
+		return m_Accumulator.getValue(p_Function,
+				cell(p_VariableIndex, p_KeyIndex));
+	}
+
+	@Override
+	public float[] getValues(final AggregateFunction p_Function,
+			final int p_VariableIndex)
+	{
+		checkArgument(m_Functions.contains(p_Function),
+				"Invalid function: %s", p_Function);
+		final int variableOrdinal = DenseConcentrations
+				.ordinal(m_VariableOrdinals, p_VariableIndex);
+		checkArgument(variableOrdinal >= 0, "Invalid variable index: %s",
+				p_VariableIndex);
+		final float[] values = new float[m_Keys.size()];
+		final int offset = variableOrdinal * values.length;
+		for (int i = 0; i < values.length; i++)
+		{
+			values[i] = m_Accumulator.getValue(p_Function, offset + i);
+		}
+		return values;
+	}
+
+	@Override
+	public List<BMDVariable> getVariables()
+	{
+		return m_Variables;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("functions", m_Functions)
+				.add("numVars", m_Variables.size())
+				.add("numKeys", m_Keys.size()).toString();
+	}
+}
@@ -0,0 +1,399 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.UnmodifiableIterator;
+import gov.usgs.jem.binarymodelingdata.BMDSegment;
+import gov.usgs.jem.binarymodelingdata.BMDTimeStep;
+import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import gov.usgs.jem.binarymodelingdata.Concentration;
+import gov.usgs.jem.binarymodelingdata.ConcentrationConsumer;
+import gov.usgs.jem.binarymodelingdata.Concentrations;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Package-private implementation of {@link Concentrations} backed by a single
+ * dense float array. Values are arranged by variable, then segment, then time
+ * step so that the time series of each variable and segment is contiguous.
+ * Lookups are constant time and no memory is allocated per value.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class DenseConcentrations implements Concentrations
+{
+	/**
+	 * Look up the ordinal of a file index
+	 *
+	 * @param p_Ordinals
+	 *            the lookup table
+	 * @param p_Index
+	 *            the file index
+	 * @return the ordinal, or -1 if the index is not present
+	 * @since Oct 18, 2026
+	 */
+	static int ordinal(final int[] p_Ordinals, final int p_Index)
+	{
+		return p_Index >= 0 && p_Index < p_Ordinals.length
+				? p_Ordinals[p_Index]
+				: -1;
+	}
+
+	/**
+	 * Create a lookup table from file index to ordinal
+	 *
+	 * @param p_Indices
+	 *            the sorted file indices
+	 * @return a table, indexed by file index, of ordinals into the provided
+	 *         indices, or -1 where a file index is not present
+	 * @since Oct 18, 2026
+	 */
+	static int[] ordinals(final int[] p_Indices)
+	{
+		final int size = p_Indices.length == 0 ? 0
+				: p_Indices[p_Indices.length - 1] + 1;
+		final int[] ordinals = new int[size];
+		Arrays.fill(ordinals, -1);
+		for (int ordinal = 0; ordinal < p_Indices.length; ordinal++)
+		{
+			ordinals[p_Indices[ordinal]] = ordinal;
+		}
+		return ordinals;
+	}
+
+	/**
+	 * Segment file indices, by ordinal
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_SegmentIndices;
+
+	/**
+	 * @see #getSegments()
+	 * @since Oct 18, 2026
+	 */
+	private final List<BMDSegment>	m_Segments;
+
+	/**
+	 * Segment ordinals, indexed by segment file index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_SegmentOrdinals;
+
+	/**
+	 * @see #getTimeSteps()
+	 * @since Oct 18, 2026
+	 */
+	private final List<BMDTimeStep>	m_TimeSteps;
+
+	/**
+	 * Time step file indices, by ordinal
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_TimeStepIndices;
+
+	/**
+	 * Time step ordinals, indexed by time step file index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_TimeStepOrdinals;
+
+	/**
+	 * The values, arranged by variable, segment, then time step ordinal
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float[]			m_Values;
+
+	/**
+	 * @see #getVariables()
+	 * @since Oct 18, 2026
+	 */
+	private final List<BMDVariable>	m_Variables;
+
+	/**
+	 * Variable file indices, by ordinal
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_VariableIndices;
+
+	/**
+	 * Variable ordinals, indexed by variable file index
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int[]				m_VariableOrdinals;
+
+	/**
+	 * Create a new instance for the provided parameters
+	 *
+	 * @param p_Variables
+	 *            the variables, sorted by index
+	 * @param p_Segments
+	 *            the segments, sorted by index
+	 * @param p_TimeSteps
+	 *            the time steps, sorted by index
+	 * @param p_Values
+	 *            the values, arranged by variable, segment, then time step;
+	 *            the array is used directly and not copied
+	 * @since Oct 18, 2026
+	 */
+	DenseConcentrations(final List<BMDVariable> p_Variables,
+			final List<BMDSegment> p_Segments,
+			final List<BMDTimeStep> p_TimeSteps, final float[] p_Values)
+	{
+		m_Variables = ImmutableList.copyOf(p_Variables);
+		m_Segments = ImmutableList.copyOf(p_Segments);
+		m_TimeSteps = ImmutableList.copyOf(p_TimeSteps);
+		m_Values = checkNotNull(p_Values, "Values required.");
+		checkArgument(
+				(long) m_Variables.size() * m_Segments.size()
+						* m_TimeSteps.size() == m_Values.length,
+				"Expected %s x %s x %s values, found %s.", m_Variables.size(),
+				m_Segments.size(), m_TimeSteps.size(), m_Values.length);
+		m_VariableIndices = m_Variables.stream()
+				.mapToInt(BMDVariable::getIndex).toArray();
+		m_SegmentIndices = m_Segments.stream().mapToInt(BMDSegment::getIndex)
+				.toArray();
+		m_TimeStepIndices = m_TimeSteps.stream()
+				.mapToInt(BMDTimeStep::getIndex).toArray();
+		m_VariableOrdinals = ordinals(m_VariableIndices);
+		m_SegmentOrdinals = ordinals(m_SegmentIndices);
+		m_TimeStepOrdinals = ordinals(m_TimeStepIndices);
+	}
+
+	/**
+	 * Visits values in order without allocation.
+	 */
+	@Override
+	public void forEachValue(final ConcentrationConsumer p_Consumer)
+	{
+		int next = 0;
+		for (final int variableIndex : m_VariableIndices)
+		{
+			for (final int segmentIndex : m_SegmentIndices)
+			{
+				for (final int timeStepIndex : m_TimeStepIndices)
+				{
+					p_Consumer.accept(variableIndex, segmentIndex,
+							timeStepIndex, m_Values[next++]);
+				}
+			}
+		}
+	}
+
+	@Override
+	public Concentration get(final BMDVariable p_Variable,
+			final BMDSegment p_Segment, final BMDTimeStep p_TimeStep)
+	{
+		final int variableOrdinal = ordinal(m_VariableOrdinals,
+				p_Variable.getIndex());
+		final int segmentOrdinal = ordinal(m_SegmentOrdinals,
+				p_Segment.getIndex());
+		checkArgument(variableOrdinal >= 0 && segmentOrdinal >= 0,
+				"Invalid variable (%s) or segment (%s) name.", p_Variable,
+				p_Segment);
+		final int timeStepOrdinal = ordinal(m_TimeStepOrdinals,
+				p_TimeStep.getIndex());
+		checkArgument(timeStepOrdinal >= 0, "Invalid time step: %s",
+				p_TimeStep);
+		return new ConcentrationImpl(m_Variables.get(variableOrdinal),
+				m_Segments.get(segmentOrdinal),
+				m_TimeSteps.get(timeStepOrdinal),
+				m_Values[offset(variableOrdinal, segmentOrdinal)
+						+ timeStepOrdinal]);
+	}
+
+	@Override
+	public List<BMDSegment> getSegments()
+	{
+		return m_Segments;
+	}
+
+	/**
+	 * Gathers the values of each segment from its time series.
+	 */
+	@Override
+	public float[] getSnapshot(final BMDVariable p_Variable,
+			final BMDTimeStep p_TimeStep)
+	{
+		final int variableOrdinal = ordinal(m_VariableOrdinals,
+				p_Variable.getIndex());
+		final int timeStepOrdinal = ordinal(m_TimeStepOrdinals,
+				p_TimeStep.getIndex());
+		checkArgument(variableOrdinal >= 0 && timeStepOrdinal >= 0,
+				"Invalid variable (%s) or time step (%s).", p_Variable,
+				p_TimeStep);
+		final int numTimeSteps = m_TimeSteps.size();
+		final float[] snapshot = new float[m_Segments.size()];
+		int next = offset(variableOrdinal, 0) + timeStepOrdinal;
+		for (int i = 0; i < snapshot.length; i++)
+		{
+			snapshot[i] = m_Values[next];
+			next += numTimeSteps;
+		}
+		return snapshot;
+	}
+
+	@Override
+	public List<BMDTimeStep> getTimeSteps()
+	{
+		return m_TimeSteps;
+	}
+
+	/**
+	 * Time series are contiguous, so a read-only view of the backing array is
+	 * returned without copying.
+	 */
+	@Override
+	public FloatBuffer getTimeSeries(final BMDVariable p_Variable,
+			final BMDSegment p_Segment)
+	{
+		final int variableOrdinal = ordinal(m_VariableOrdinals,
+				p_Variable.getIndex());
+		final int segmentOrdinal = ordinal(m_SegmentOrdinals,
+				p_Segment.getIndex());
+		checkArgument(variableOrdinal >= 0 && segmentOrdinal >= 0,
+				"Invalid variable (%s) or segment (%s) name.", p_Variable,
+				p_Segment);
+		return FloatBuffer
+				.wrap(m_Values, offset(variableOrdinal, segmentOrdinal),
+						m_TimeSteps.size())
+				.slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * Constant time lookup without allocation.
+	 */
+	@Override
+	public float getValue(final int p_VariableIndex, final int p_SegmentIndex,
+			final int p_TimeStepIndex)
+	{
+		final int variableOrdinal = ordinal(m_VariableOrdinals,
+				p_VariableIndex);
+		final int segmentOrdinal = ordinal(m_SegmentOrdinals, p_SegmentIndex);
+		final int timeStepOrdinal = ordinal(m_TimeStepOrdinals,
+				p_TimeStepIndex);
+		checkArgument(
+				variableOrdinal >= 0 && segmentOrdinal >= 0
+						&& timeStepOrdinal >= 0,
+				"Invalid variable (%s), segment (%s), or time step (%s) index.",
+				p_VariableIndex, p_SegmentIndex, p_TimeStepIndex);
+		return m_Values[offset(variableOrdinal, segmentOrdinal)
+				+ timeStepOrdinal];
+	}
+
+	@Override
+	public List<BMDVariable> getVariables()
+	{
+		return m_Variables;
+	}
+
+	@Override
+	public Iterator<Concentration> iterator()
+	{
+		return new UnmodifiableIterator<Concentration>()
+		{
+			/**
+			 * Index of the next value
+			 *
+			 * @since Oct 18, 2026
+			 */
+			private int m_Next = 0;
+
+			@Override
+			public boolean hasNext()
+			{
+				return m_Next < m_Values.length;
+			}
+
+			@Override
+			public Concentration next()
+			{
+				if (!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				final int numTimeSteps = m_TimeSteps.size();
+				final int series = m_Next / numTimeSteps;
+				final Concentration next = new ConcentrationImpl(
+						m_Variables.get(series / m_Segments.size()),
+						m_Segments.get(series % m_Segments.size()),
+						m_TimeSteps.get(m_Next % numTimeSteps),
+						m_Values[m_Next]);
+				m_Next++;
+				return next;
+			}
+		};
+	}
+
+	/**
+	 * Get the offset of the first value of the time series for the provided
+	 * variable and segment ordinals
+	 *
+	 * @param p_VariableOrdinal
+	 *            the variable ordinal
+	 * @param p_SegmentOrdinal
+	 *            the segment ordinal
+	 * @return the offset into {@link #m_Values}
+	 * @since Oct 18, 2026
+	 */
+	private int offset(final int p_VariableOrdinal, final int p_SegmentOrdinal)
+	{
+		return (p_VariableOrdinal * m_Segments.size() + p_SegmentOrdinal)
+				* m_TimeSteps.size();
+	}
+
+	/**
+	 * Create a copy containing only the provided time steps.
+	 *
+	 * @param p_TimeStepOrdinals
+	 *            the sorted ordinals of the time steps to retain
+	 * @return a new instance with only the provided time steps
+	 * @since Oct 18, 2026
+	 */
+	DenseConcentrations retainTimeSteps(final int[] p_TimeStepOrdinals)
+	{
+		final int numSeries = m_Variables.size() * m_Segments.size();
+		final int numTimeSteps = m_TimeSteps.size();
+		final float[] values = new float[numSeries * p_TimeStepOrdinals.length];
+		final ImmutableList.Builder<BMDTimeStep> timeSteps = ImmutableList
+				.builder();
+		for (final int timeStepOrdinal : p_TimeStepOrdinals)
+		{
+			timeSteps.add(m_TimeSteps.get(timeStepOrdinal));
+		}
+		int next = 0;
+		for (int series = 0; series < numSeries; series++)
+		{
+			final int offset = series * numTimeSteps;
+			for (final int timeStepOrdinal : p_TimeStepOrdinals)
+			{
+				values[next++] = m_Values[offset + timeStepOrdinal];
+			}
+		}
+		return new DenseConcentrations(m_Variables, m_Segments,
+				timeSteps.build(), values);
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this)
+				.add("numVars", m_Variables.size())
+				.add("numSegs", m_Segments.size())
+				.add("numTSteps", m_TimeSteps.size()).toString();
+	}
+}
@@ -0,0 +1,159 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import gov.usgs.jem.binarymodelingdata.BMDSegment;
+import gov.usgs.jem.binarymodelingdata.BMDTimeStep;
+import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import gov.usgs.jem.binarymodelingdata.TimeSeriesOverview;
+import java.util.List;
+
+/**
+ * Package-private implementation of {@link TimeSeriesOverview} that holds the
+ * minimum, maximum, and mean of each bin in dense primitive arrays.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class DenseTimeSeriesOverview implements TimeSeriesOverview
+{
+	/**
+	 * @see #getBinTimeSteps()
+	 * @since Oct 18, 2026
+	 */
+	private final int				m_BinTimeSteps;
+
+	/**
+	 * Maximum of each bin
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float[]			m_Maxima;
+
+	/**
+	 * Mean of each bin
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float[]			m_Means;
+
+	/**
+	 * Minimum of each bin
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final float[]			m_Minima;
+
+	/**
+	 * @see #getSegment()
+	 * @since Oct 18, 2026
+	 */
+	private final BMDSegment		m_Segment;
+
+	/**
+	 * @see #getTimeSteps()
+	 * @since Oct 18, 2026
+	 */
+	private final List<BMDTimeStep>	m_TimeSteps;
+
+	/**
+	 * @see #getVariable()
+	 * @since Oct 18, 2026
+	 */
+	private final BMDVariable		m_Variable;
+
+	/**
+	 * Create a new instance, taking ownership of the value arrays
+	 *
+	 * @param p_Variable
+	 *            the variable
+	 * @param p_Segment
+	 *            the segment
+	 * @param p_BinTimeSteps
+	 *            the number of time steps in each bin
+	 * @param p_TimeSteps
+	 *            the first time step of each bin
+	 * @param p_Minima
+	 *            the minimum of each bin
+	 * @param p_Maxima
+	 *            the maximum of each bin
+	 * @param p_Means
+	 *            the mean of each bin
+	 * @since Oct 18, 2026
+	 */
+	DenseTimeSeriesOverview(final BMDVariable p_Variable,
+			final BMDSegment p_Segment, final int p_BinTimeSteps,
+			final List<BMDTimeStep> p_TimeSteps, final float[] p_Minima,
+			final float[] p_Maxima, final float[] p_Means)
+	{
+		m_Variable = checkNotNull(p_Variable, "Variable required.");
+		m_Segment = checkNotNull(p_Segment, "Segment required.");
+		checkArgument(p_BinTimeSteps > 0, "Invalid bin size: %s",
+				p_BinTimeSteps);
+		m_BinTimeSteps = p_BinTimeSteps;
+		m_TimeSteps = ImmutableList.copyOf(p_TimeSteps);
+		final int numBins = m_TimeSteps.size();
+		checkArgument(
+				p_Minima.length == numBins && p_Maxima.length == numBins
+						&& p_Means.length == numBins,
+				"Expected %s values per function.", numBins);
+		m_Minima = p_Minima;
+		m_Maxima = p_Maxima;
+		m_Means = p_Means;
+	}
+
+	@Override
+	public int getBinTimeSteps()
+	{
+		return m_BinTimeSteps;
+	}
+
+	@Override
+	public BMDSegment getSegment()
+	{
+		return m_Segment;
+	}
+
+	@Override
+	public List<BMDTimeStep> getTimeSteps()
+	{
+		return m_TimeSteps;
+	}
+
+	@Override
+	public float[] getValues(final AggregateFunction p_Function)
+	{
+		checkNotNull(p_Function, "Function required.");
+		switch (p_Function)
+		{
+			case MIN:
+				return m_Minima.clone();
+			case MAX:
+				return m_Maxima.clone();
+			case MEAN:
+				return m_Means.clone();
+			default:
+				throw new IllegalArgumentException(
+						"Invalid function: " + p_Function);
+		}
+	}
+
+	@Override
+	public BMDVariable getVariable()
+	{
+		return m_Variable;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("variable", m_Variable)
+				.add("segment", m_Segment).add("binTimeSteps", m_BinTimeSteps)
+				.add("numBins", m_TimeSteps.size()).toString();
+	}
+}
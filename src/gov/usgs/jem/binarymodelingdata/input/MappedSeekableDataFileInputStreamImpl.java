@@ -0,0 +1,105 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Package-private implementation of {@link SeekableDataFileInputStream} that
+ * reads from windows of the file mapped with {@link FileChannel#map}. Values
+ * are decoded directly from the page cache; no intermediate copies are made.
+ * Files larger than a single window are handled by re-mapping the window
+ * around the current position when a read falls outside of it.
+ *
+ * @see ReadMode#MAPPED
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class MappedSeekableDataFileInputStreamImpl
+		extends AbstractChannelSeekableDataFileInputStream
+{
+	/**
+	 * Default number of bytes mapped for each window (1 GiB)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int WINDOW_SIZE = 1 << 30;
+
+	/**
+	 * Create a new mapped input using the provided file path and endianness.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @throws IOException
+	 *             if the file could not be opened
+	 * @since Oct 18, 2026
+	 */
+	public MappedSeekableDataFileInputStreamImpl(final String p_FilePath,
+			final ByteOrder p_ByteOrder) throws IOException
+	{
+		this(p_FilePath, p_ByteOrder, WINDOW_SIZE);
+	}
+
+	/**
+	 * Create a new mapped input using the provided file path, endianness, and
+	 * maximum window size.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @param p_WindowSize
+	 *            the maximum number of bytes to map at once; must be at least
+	 *            {@link Long#BYTES}
+	 * @throws IOException
+	 *             if the file could not be opened
+	 * @since Oct 18, 2026
+	 */
+	MappedSeekableDataFileInputStreamImpl(final String p_FilePath,
+			final ByteOrder p_ByteOrder, final int p_WindowSize)
+			throws IOException
+	{
+		super(p_FilePath, p_ByteOrder, p_WindowSize);
+	}
+
+	/**
+	 * Create a duplicate of the provided input that shares its channel.
+	 *
+	 * @param p_Source
+	 *            the input to duplicate
+	 * @since Oct 18, 2026
+	 */
+	private MappedSeekableDataFileInputStreamImpl(
+			final MappedSeekableDataFileInputStreamImpl p_Source)
+	{
+		super(p_Source);
+	}
+
+	/**
+	 * Shares the channel of this input and maps its own windows.
+	 */
+	@Override
+	public SeekableDataFileInputStream duplicate()
+	{
+		return new MappedSeekableDataFileInputStreamImpl(this);
+	}
+
+	/**
+	 * Map a new window starting at the provided position.
+	 */
+	@SuppressWarnings("resource")
+	@Override
+	ByteBuffer fill(final long p_Position, final int p_Count)
+			throws IOException
+	{
+		final long length = Math.min(getWindowSize(), getSize() - p_Position);
+		return getChannel().map(MapMode.READ_ONLY, p_Position, length)
+				.order(getByteOrder());
+	}
+}
@@ -0,0 +1,133 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Package-private implementation of {@link SeekableDataFileInputStream} that
+ * fills a reusable buffer with positional reads,
+ * {@link FileChannel#read(ByteBuffer, long)}. A single file descriptor is held
+ * open for the life of the input and {@link #seek(long)} only moves the
+ * position, so backward seeks cost nothing until the next read.
+ *
+ * @see ReadMode#POSITIONAL
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class PositionalSeekableDataFileInputStreamImpl
+		extends AbstractChannelSeekableDataFileInputStream
+{
+	/**
+	 * Default number of bytes buffered by each positional read (64 KiB)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int			BUFFER_SIZE	= 1 << 16;
+
+	/**
+	 * The reusable window buffer
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final ByteBuffer	m_Buffer;
+
+	/**
+	 * Create a new positional input using the provided file path and
+	 * endianness.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @throws IOException
+	 *             if the file could not be opened
+	 * @since Oct 18, 2026
+	 */
+	public PositionalSeekableDataFileInputStreamImpl(final String p_FilePath,
+			final ByteOrder p_ByteOrder) throws IOException
+	{
+		this(p_FilePath, p_ByteOrder, BUFFER_SIZE);
+	}
+
+	/**
+	 * Create a new positional input using the provided file path, endianness,
+	 * and buffer size.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @param p_BufferSize
+	 *            the number of bytes to buffer with each read; must be at
+	 *            least {@link Long#BYTES}
+	 * @throws IOException
+	 *             if the file could not be opened
+	 * @since Oct 18, 2026
+	 */
+	PositionalSeekableDataFileInputStreamImpl(final String p_FilePath,
+			final ByteOrder p_ByteOrder, final int p_BufferSize)
+			throws IOException
+	{
+		super(p_FilePath, p_ByteOrder, p_BufferSize);
+		m_Buffer = ByteBuffer.allocate(p_BufferSize).order(p_ByteOrder);
+	}
+
+	/**
+	 * Create a duplicate of the provided input that shares its channel.
+	 *
+	 * @param p_Source
+	 *            the input to duplicate
+	 * @since Oct 18, 2026
+	 */
+	private PositionalSeekableDataFileInputStreamImpl(
+			final PositionalSeekableDataFileInputStreamImpl p_Source)
+	{
+		super(p_Source);
+		m_Buffer = ByteBuffer.allocate(p_Source.m_Buffer.capacity())
+				.order(p_Source.getByteOrder());
+	}
+
+	/**
+	 * Shares the channel of this input and reads into its own buffer.
+	 */
+	@Override
+	public SeekableDataFileInputStream duplicate()
+	{
+		return new PositionalSeekableDataFileInputStreamImpl(this);
+	}
+
+	/**
+	 * Read as many bytes as fit in the buffer, starting at the provided
+	 * position.
+	 */
+	@SuppressWarnings("resource")
+	@Override
+	ByteBuffer fill(final long p_Position, final int p_Count)
+			throws IOException
+	{
+		final FileChannel channel = getChannel();
+		m_Buffer.clear();
+		m_Buffer.limit((int) Math.min(m_Buffer.capacity(),
+				getSize() - p_Position));
+		while (m_Buffer.hasRemaining())
+		{
+			final int read = channel.read(m_Buffer,
+					p_Position + m_Buffer.position());
+			if (read < 0)
+			{
+				break;
+			}
+		}
+		if (m_Buffer.position() < p_Count)
+		{
+			throw new EOFException();
+		}
+		m_Buffer.flip();
+		return m_Buffer;
+	}
+}
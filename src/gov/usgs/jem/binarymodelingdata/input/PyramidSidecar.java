@@ -0,0 +1,549 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import com.google.common.base.MoreObjects;
+import gov.usgs.jem.binarymodelingdata.BMDHeader;
+import gov.usgs.jem.binarymodelingdata.BMDSegment;
+import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import gov.usgs.jem.binarymodelingdata.Concentrations;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A multi-resolution pyramid of the concentrations in a BMD file, stored next
+ * to it with the {@link #EXTENSION} extension. Level <i>L</i> of the pyramid
+ * splits the time steps of the file into bins of 2<sup><i>L</i></sup>
+ * consecutive time steps, starting at the first time step, and holds the
+ * minimum, maximum, and mean of each variable and segment within each bin.
+ * Levels run from one, with bins of two time steps, up to the first level
+ * with a single bin (see {@link #getNumLevels(int)}), so the whole pyramid is
+ * about three times the size of the concentrations of the file. The layout,
+ * after the common sidecar header (see {@link Sidecars}), is:
+ * <ul>
+ * <li>Number of variables, segments, and time steps (ints)</li>
+ *
+ * <li>Number of levels (int)</li>
+ *
+ * <li>Minimum, maximum, and mean triples (floats arranged by Variable,
+ * Segment, Level, then Bin)</li>
+ * </ul>
+ *
+ * so the bins of a level for one variable and segment are read in a single
+ * contiguous run. Values that are not a number are excluded; the minimum,
+ * maximum, and mean of a bin with no other values are not a number.
+ *
+ * Use {@link #write(String)}, or run this class with the paths of BMD files
+ * as arguments, to create pyramids. A {@link BMDReader} reads overviews (see
+ * {@link BMDReader#readOverview(BMDVariable, BMDSegment, int, int, int)}) from the pyramid when it exists and is
+ * fresh, and reduces the values of the file otherwise.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public final class PyramidSidecar implements Closeable
+{
+	/**
+	 * Location of the first level
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final long						DATA_LOCATION		= Sidecars.HEADER_SIZE
+			+ Integer.BYTES * 4;
+
+	/**
+	 * Extension of pyramid sidecar files
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final String						EXTENSION			= "bmdp";
+
+	/**
+	 * Class logger
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final org.apache.log4j.Logger	log					= org.apache.log4j.Logger
+			.getLogger(PyramidSidecar.class);
+
+	/**
+	 * Identifies pyramid sidecar files
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final String								MAGIC				= "BMDP";
+
+	/**
+	 * Maximum number of values read from the file at once while writing a
+	 * pyramid
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int						MAX_BATCH_VALUES	= 1 << 24;
+
+	/**
+	 * Version of the pyramid sidecar format
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int								VERSION				= 1;
+
+	/**
+	 * Get the offset of each level within the pyramid of a variable and
+	 * segment
+	 *
+	 * @param p_NumTimes
+	 *            the number of time steps in the file
+	 * @return the offset of each level, from one, in floats, preceded by zero
+	 *         and ending with the size of the pyramid of a variable and
+	 *         segment
+	 * @since Oct 18, 2026
+	 */
+	private static int[] getLevelOffsets(final int p_NumTimes)
+	{
+		final int numLevels = getNumLevels(p_NumTimes);
+		final int[] offsets = new int[numLevels + 1];
+		for (int level = 1; level <= numLevels; level++)
+		{
+			offsets[level] = offsets[level - 1]
+					+ getNumBins(p_NumTimes, level) * 3;
+		}
+		return offsets;
+	}
+
+	/**
+	 * Get the number of bins in a level of the pyramid
+	 *
+	 * @param p_NumTimes
+	 *            the number of time steps in the file
+	 * @param p_Level
+	 *            the level, where zero is the time steps themselves
+	 * @return the number of bins of 2<sup>level</sup> time steps that cover
+	 *         every time step
+	 * @since Oct 18, 2026
+	 */
+	static int getNumBins(final int p_NumTimes, final int p_Level)
+	{
+		return p_NumTimes == 0 ? 0 : ((p_NumTimes - 1) >> p_Level) + 1;
+	}
+
+	/**
+	 * Get the number of levels in the pyramid of a file
+	 *
+	 * @param p_NumTimes
+	 *            the number of time steps in the file
+	 * @return the number of levels, the last of which has a single bin; zero
+	 *         if the file has fewer than two time steps
+	 * @since Oct 18, 2026
+	 */
+	static int getNumLevels(final int p_NumTimes)
+	{
+		return p_NumTimes < 2 ? 0
+				: Integer.SIZE - Integer.numberOfLeadingZeros(p_NumTimes - 1);
+	}
+
+	/**
+	 * Get the path of the pyramid sidecar for a BMD file
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @return the path of the sidecar, which may not exist
+	 * @since Oct 18, 2026
+	 */
+	public static String getPath(final String p_FilePath)
+	{
+		return Sidecars.getPath(p_FilePath, EXTENSION);
+	}
+
+	/**
+	 * Write the pyramid sidecar for each BMD file provided as an argument
+	 *
+	 * @param p_Args
+	 *            the paths to the BMD files
+	 * @throws IOException
+	 *             if a sidecar could not be written
+	 * @since Oct 18, 2026
+	 */
+	public static void main(final String[] p_Args) throws IOException
+	{
+		checkArgument(p_Args.length > 0, "Usage: %s <file.bmd> ...",
+				PyramidSidecar.class.getName());
+		for (final String filePath : p_Args)
+		{
+			write(filePath);
+			log.info(String.format("Wrote %s", getPath(filePath)));
+		}
+	}
+
+	/**
+	 * Open the pyramid sidecar for a BMD file, if it exists, is fresh, and
+	 * matches the dimensions of the file
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_Header
+	 *            the header of the BMD file
+	 * @param p_ReadMode
+	 *            the {@link ReadMode} used to read from the sidecar
+	 * @return the open sidecar, or null if it cannot be used
+	 * @throws IOException
+	 *             if the sidecar exists but could not be read
+	 * @since Oct 18, 2026
+	 */
+	static PyramidSidecar open(final String p_FilePath,
+			final BMDHeader p_Header, final ReadMode p_ReadMode)
+			throws IOException
+	{
+		final String sidecarPath = getPath(p_FilePath);
+		if (!new File(sidecarPath).isFile())
+		{
+			return null;
+		}
+
+		final SeekableDataFileInputStream input = Sidecars.open(sidecarPath,
+				p_ReadMode);
+		try
+		{
+			if (Sidecars.isFresh(input, MAGIC, VERSION, p_FilePath)
+					&& input.readInt() == p_Header.getVariablesSize()
+					&& input.readInt() == p_Header.getSegmentsSize()
+					&& input.readInt() == p_Header.getTimesSize()
+					&& input.readInt() == getNumLevels(
+							p_Header.getTimesSize()))
+			{
+				return new PyramidSidecar(input, p_Header.getVariablesSize(),
+						p_Header.getSegmentsSize(), p_Header.getTimesSize(),
+						null);
+			}
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			input.close();
+			throw e;
+		}
+		log.debug(String.format("Ignoring stale sidecar %s", sidecarPath));
+		input.close();
+		return null;
+	}
+
+	/**
+	 * Reduce the values of a variable and segment into every level of the
+	 * pyramid. Each level is reduced from the one below it by merging pairs
+	 * of bins, so the values are visited once per level at a cost that halves
+	 * with each level.
+	 *
+	 * @param p_Values
+	 *            the values of every time step; overwritten
+	 * @param p_Pyramid
+	 *            receives the minimum, maximum, and mean triples of every
+	 *            level, then bin
+	 * @since Oct 18, 2026
+	 */
+	private static void reduce(final float[] p_Values, final float[] p_Pyramid)
+	{
+		final float[] maxima = p_Values.clone();
+		final float[] minima = p_Values;
+		final double[] sums = new double[p_Values.length];
+		final int[] counts = new int[p_Values.length];
+		for (int i = 0; i < p_Values.length; i++)
+		{
+			if (Float.isNaN(minima[i]))
+			{
+				minima[i] = Float.POSITIVE_INFINITY;
+				maxima[i] = Float.NEGATIVE_INFINITY;
+			}
+			else
+			{
+				sums[i] = minima[i];
+				counts[i] = 1;
+			}
+		}
+
+		int numBins = p_Values.length;
+		int offset = 0;
+		for (int level = 1; level <= getNumLevels(p_Values.length); level++)
+		{
+			final int previousBins = numBins;
+			numBins = getNumBins(p_Values.length, level);
+			for (int bin = 0; bin < numBins; bin++)
+			{
+				final int first = bin * 2;
+				final int second = first + 1;
+				minima[bin] = minima[first];
+				maxima[bin] = maxima[first];
+				sums[bin] = sums[first];
+				counts[bin] = counts[first];
+				if (second < previousBins)
+				{
+					minima[bin] = Math.min(minima[bin], minima[second]);
+					maxima[bin] = Math.max(maxima[bin], maxima[second]);
+					sums[bin] += sums[second];
+					counts[bin] += counts[second];
+				}
+				final boolean empty = counts[bin] == 0;
+				p_Pyramid[offset++] = empty ? Float.NaN : minima[bin];
+				p_Pyramid[offset++] = empty ? Float.NaN : maxima[bin];
+				p_Pyramid[offset++] = empty ? Float.NaN
+						: (float) (sums[bin] / counts[bin]);
+			}
+		}
+	}
+
+	/**
+	 * Write the pyramid sidecar for a BMD file, replacing any existing
+	 * sidecar. The values of the file are read in batches of variables, each
+	 * holding every segment and time step of its variables in memory.
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @throws IOException
+	 *             if the BMD file could not be read or the sidecar could not
+	 *             be written
+	 * @since Oct 18, 2026
+	 */
+	public static void write(final String p_FilePath) throws IOException
+	{
+		try (BMDReader reader = BMDReader.open(p_FilePath);)
+		{
+			final BMDHeader header = reader.getHeader();
+			final int numVariables = header.getVariablesSize();
+			final int numSegments = header.getSegmentsSize();
+			final int numTimes = header.getTimesSize();
+			final int numLevels = getNumLevels(numTimes);
+			final int batchVariables = (int) Math.max(1, Math.min(
+					numVariables,
+					MAX_BATCH_VALUES / Math.max(1L, (long) numSegments
+							* numTimes)));
+
+			Sidecars.write(getPath(p_FilePath), MAGIC, VERSION, p_FilePath,
+					channel ->
+					{
+						final ByteBuffer dimensions = ByteBuffer
+								.allocate(Integer.BYTES * 4)
+								.order(ByteOrder.LITTLE_ENDIAN);
+						dimensions.putInt(numVariables).putInt(numSegments)
+								.putInt(numTimes).putInt(numLevels);
+						dimensions.flip();
+						Sidecars.writeFully(channel, dimensions);
+						if (numLevels == 0 || numSegments == 0)
+						{
+							return;
+						}
+
+						final float[] values = new float[numTimes];
+						final float[] pyramid = new float[getLevelOffsets(
+								numTimes)[numLevels]];
+						final ByteBuffer bytes = ByteBuffer
+								.allocate(pyramid.length * Float.BYTES)
+								.order(ByteOrder.LITTLE_ENDIAN);
+						for (int first = 0; first < numVariables;
+								first += batchVariables)
+						{
+							final Concentrations concentrations = reader
+									.newConcentrationsQuery()
+									.withVariableRange(first,
+											Math.min(numVariables,
+													first + batchVariables))
+									.withAllSegments().withAllTimeSteps()
+									.execute();
+							for (final BMDVariable variable : concentrations
+									.getVariables())
+							{
+								for (final BMDSegment segment : concentrations
+										.getSegments())
+								{
+									concentrations
+											.getTimeSeries(variable, segment)
+											.get(values);
+									reduce(values, pyramid);
+									bytes.clear();
+									bytes.asFloatBuffer().put(pyramid);
+									Sidecars.writeFully(channel, bytes);
+								}
+							}
+						}
+					});
+		}
+	}
+
+	/**
+	 * The sidecar input
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final SeekableDataFileInputStream	m_Input;
+
+	/**
+	 * @see #getLevelOffsets(int)
+	 * @since Oct 18, 2026
+	 */
+	private final int[]							m_LevelOffsets;
+
+	/**
+	 * The number of segments
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumSegments;
+
+	/**
+	 * The number of time steps
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumTimes;
+
+	/**
+	 * The number of variables
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumVariables;
+
+	/**
+	 * Closed when this sidecar is closed, or null
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Closeable						m_Release;
+
+	/**
+	 * Create a new sidecar reader
+	 *
+	 * @param p_Input
+	 *            the sidecar input
+	 * @param p_NumVariables
+	 *            the number of variables
+	 * @param p_NumSegments
+	 *            the number of segments
+	 * @param p_NumTimes
+	 *            the number of time steps
+	 * @param p_Release
+	 *            closed when this sidecar is closed, or null
+	 * @since Oct 18, 2026
+	 */
+	private PyramidSidecar(final SeekableDataFileInputStream p_Input,
+			final int p_NumVariables, final int p_NumSegments,
+			final int p_NumTimes, final Closeable p_Release)
+	{
+		m_Input = checkNotNull(p_Input);
+		m_NumVariables = p_NumVariables;
+		m_NumSegments = p_NumSegments;
+		m_NumTimes = p_NumTimes;
+		m_LevelOffsets = getLevelOffsets(p_NumTimes);
+		m_Release = p_Release;
+	}
+
+	/**
+	 * Close the sidecar input, then the release of this sidecar, if any
+	 *
+	 * @throws IOException
+	 *             if the input or the release could not be closed
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		try
+		{
+			m_Input.close();
+		}
+		finally
+		{
+			if (m_Release != null)
+			{
+				m_Release.close();
+			}
+		}
+	}
+
+	/**
+	 * Create a copy of this sidecar, with its own input, for a single query
+	 *
+	 * @param p_Release
+	 *            closed when the copy is closed, or null
+	 * @return the copy, which must be closed separately
+	 * @throws IOException
+	 *             if the input could not be duplicated
+	 * @since Oct 18, 2026
+	 */
+	PyramidSidecar duplicate(final Closeable p_Release) throws IOException
+	{
+		return new PyramidSidecar(m_Input.duplicate(), m_NumVariables,
+				m_NumSegments, m_NumTimes, p_Release);
+	}
+
+	/**
+	 * Get the size of the pyramid of a variable and segment
+	 *
+	 * @return the number of floats in every level of a variable and segment
+	 * @since Oct 18, 2026
+	 */
+	private int getCellSize()
+	{
+		return m_LevelOffsets[m_LevelOffsets.length - 1];
+	}
+
+	/**
+	 * Read a contiguous run of bins of one level for a variable and segment
+	 *
+	 * @param p_Variable
+	 *            the variable index
+	 * @param p_Segment
+	 *            the segment index
+	 * @param p_Level
+	 *            the level, from one to {@link #getNumLevels(int)}
+	 * @param p_FirstBin
+	 *            the first bin to read
+	 * @param p_Minima
+	 *            receives the minimum of each bin read; its length is the
+	 *            number of bins to read
+	 * @param p_Maxima
+	 *            receives the maximum of each bin read
+	 * @param p_Means
+	 *            receives the mean of each bin read
+	 * @throws IOException
+	 *             if the sidecar could not be read
+	 * @since Oct 18, 2026
+	 */
+	void read(final int p_Variable, final int p_Segment, final int p_Level,
+			final int p_FirstBin, final float[] p_Minima,
+			final float[] p_Maxima, final float[] p_Means) throws IOException
+	{
+		checkElementIndex(p_Variable, m_NumVariables, "Variable");
+		checkElementIndex(p_Segment, m_NumSegments, "Segment");
+		checkArgument(p_Level > 0 && p_Level < m_LevelOffsets.length,
+				"Invalid level: %s", p_Level);
+		final int numBins = p_Minima.length;
+		checkPositionIndexes(p_FirstBin, p_FirstBin + numBins,
+				getNumBins(m_NumTimes, p_Level));
+		checkArgument(p_Maxima.length == numBins && p_Means.length == numBins,
+				"Expected %s values per function.", numBins);
+
+		final float[] triples = new float[numBins * 3];
+		m_Input.seek(DATA_LOCATION + ((long) (p_Variable * m_NumSegments
+				+ p_Segment) * getCellSize() + m_LevelOffsets[p_Level - 1]
+				+ p_FirstBin * 3) * Float.BYTES);
+		m_Input.readFloats(triples, 0, triples.length);
+		for (int bin = 0; bin < numBins; bin++)
+		{
+			p_Minima[bin] = triples[bin * 3];
+			p_Maxima[bin] = triples[bin * 3 + 1];
+			p_Means[bin] = triples[bin * 3 + 2];
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("input", m_Input)
+				.add("numLevels", m_LevelOffsets.length - 1).toString();
+	}
+}
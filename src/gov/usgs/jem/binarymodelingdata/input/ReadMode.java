@@ -0,0 +1,106 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+/**
+ * Selects the {@link SeekableDataFileInputStream} implementation used by a
+ * {@link BMDReader}. See {@link BMDReader#open(String, ReadMode)}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public enum ReadMode
+{
+	/**
+	 * Read a chunked, compressed copy of a BMD file written by
+	 * {@link ChunkedBMDWriter}, decompressing only the chunks that are read.
+	 * Required for, and only valid for, files with the
+	 * {@link ChunkedBMDWriter#EXTENSION} extension.
+	 *
+	 * @see ChunkedSeekableDataFileInputStreamImpl
+	 * @since Oct 18, 2026
+	 */
+	CHUNKED
+	{
+		@Override
+		SeekableDataFileInputStream open(final String p_FilePath,
+				final ByteOrder p_ByteOrder) throws IOException
+		{
+			return ChunkedSeekableDataFileInputStreamImpl
+					.openChunked(p_FilePath, p_ByteOrder);
+		}
+	},
+
+	/**
+	 * Map the file into memory using {@link java.nio.channels.FileChannel}
+	 * windows, reading values directly from the page cache without copying.
+	 *
+	 * @see MappedSeekableDataFileInputStreamImpl
+	 * @since Oct 18, 2026
+	 */
+	MAPPED
+	{
+		@Override
+		SeekableDataFileInputStream open(final String p_FilePath,
+				final ByteOrder p_ByteOrder) throws IOException
+		{
+			return new MappedSeekableDataFileInputStreamImpl(p_FilePath,
+					p_ByteOrder);
+		}
+	},
+
+	/**
+	 * Read the file with positional reads from a single
+	 * {@link java.nio.channels.FileChannel}, so seeking is a constant time
+	 * operation that never reopens the file.
+	 *
+	 * @see PositionalSeekableDataFileInputStreamImpl
+	 * @since Oct 18, 2026
+	 */
+	POSITIONAL
+	{
+		@Override
+		SeekableDataFileInputStream open(final String p_FilePath,
+				final ByteOrder p_ByteOrder) throws IOException
+		{
+			return new PositionalSeekableDataFileInputStreamImpl(p_FilePath,
+					p_ByteOrder);
+		}
+	},
+
+	/**
+	 * Read the file through a buffered input stream. Seeking backward
+	 * reopens the file.
+	 *
+	 * @see SeekableDataFileInputStreamImpl
+	 * @since Oct 18, 2026
+	 */
+	STREAM
+	{
+		@Override
+		SeekableDataFileInputStream open(final String p_FilePath,
+				final ByteOrder p_ByteOrder) throws IOException
+		{
+			return new SeekableDataFileInputStreamImpl(p_FilePath,
+					p_ByteOrder);
+		}
+	};
+
+	/**
+	 * Create a new {@link SeekableDataFileInputStream} for this mode using the
+	 * provided file path and endianness.
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @return a new {@link SeekableDataFileInputStream} instance
+	 * @throws IOException
+	 *             if the file could not be opened for some reason
+	 * @since Oct 18, 2026
+	 */
+	abstract SeekableDataFileInputStream open(String p_FilePath,
+			ByteOrder p_ByteOrder) throws IOException;
+}
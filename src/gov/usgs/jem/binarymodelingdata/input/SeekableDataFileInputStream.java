@@ -1,5 +1,7 @@
 package gov.usgs.jem.binarymodelingdata.input;
 
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
 import com.google.common.io.LittleEndianDataInputStream;
 import java.io.Closeable;
 import java.io.DataInput;
@@ -7,15 +9,16 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 
 /**
  * Wraps a {@link DataInputStream} (big-endian) or a
  * {@link LittleEndianDataInputStream} (little-endian) as a {@link DataInput}
- * that allows {@link #seek(int)} to any part of the file (similar to
+ * that allows {@link #seek(long)} to any part of the file (similar to
  * {@link RandomAccessFile}).
  *
  * @see #open(String, ByteOrder)
- * @see #seek(int)
+ * @see #seek(long)
  * @see #close()
  *
  * @author mckelvym
@@ -35,6 +38,26 @@ public interface SeekableDataFileInputStream extends DataInput, Closeable
 	@Override
 	void close() throws IOException;
 
+	/**
+	 * Create a new input on the same file, with the same endianness, that has
+	 * its own position and may be used by another thread concurrently with
+	 * this input. Depending on the implementation, the duplicate either shares
+	 * resources such as the open channel with this input, in which case it is
+	 * only usable while this input is open, or reopens the file. The default
+	 * implementation does not support duplication and always throws.
+	 *
+	 * @return a new, independent input positioned at the beginning of the file
+	 * @throws IOException
+	 *             if the file could not be opened for some reason, or always
+	 *             if the implementation does not support duplication
+	 * @since Oct 18, 2026
+	 */
+	default SeekableDataFileInputStream duplicate() throws IOException
+	{
+		throw new IOException(String.format(
+				"%s does not support duplicate.", getClass().getName()));
+	}
+
 	/**
 	 * Get the endianness
 	 *
@@ -84,6 +107,54 @@ public interface SeekableDataFileInputStream extends DataInput, Closeable
 	 */
 	char[] readCharsAsAscii(final int p_Count) throws IOException;
 
+	/**
+	 * Reads <code>p_Length</code> contiguous floats, in this input's
+	 * {@link ByteOrder}, into the provided array. The default implementation
+	 * calls {@link #readFloat()} once per value; the implementations in this
+	 * package override it to decode the whole run at once.
+	 *
+	 * @param p_Floats
+	 *            the destination array
+	 * @param p_Offset
+	 *            the index of the first destination element
+	 * @param p_Length
+	 *            the number of floats to read
+	 * @throws IOException
+	 *             an error occurred while attempting to read from the file,
+	 *             including reaching the end of the file first
+	 * @since Oct 18, 2026
+	 */
+	default void readFloats(final float[] p_Floats, final int p_Offset,
+			final int p_Length) throws IOException
+	{
+		checkPositionIndexes(p_Offset, p_Offset + p_Length, p_Floats.length);
+		for (int i = p_Offset; i < p_Offset + p_Length; i++)
+		{
+			p_Floats[i] = readFloat();
+		}
+	}
+
+	/**
+	 * Reads {@link FloatBuffer#remaining()} contiguous floats, in this input's
+	 * {@link ByteOrder}, into the provided buffer, advancing its position. The
+	 * default implementation calls {@link #readFloat()} once per value.
+	 *
+	 * @param p_Floats
+	 *            the destination buffer
+	 * @throws IOException
+	 *             an error occurred while attempting to read from the file,
+	 *             including reaching the end of the file first
+	 * @see #readFloats(float[], int, int)
+	 * @since Oct 18, 2026
+	 */
+	default void readFloats(final FloatBuffer p_Floats) throws IOException
+	{
+		while (p_Floats.hasRemaining())
+		{
+			p_Floats.put(readFloat());
+		}
+	}
+
 	/**
 	 * Reads an unsigned integer (4-bytes) into a java signed integer (4-bytes).
 	 *
@@ -96,26 +167,30 @@ public interface SeekableDataFileInputStream extends DataInput, Closeable
 
 	/**
 	 * Sets the file-pointer offset, measured from the beginning of this file,
-	 * at which the next read or write occurs. Closes the streams and reopens
-	 * them first.
+	 * at which the next read or write occurs. Depending on the implementation,
+	 * this may close the streams and reopen them first.
 	 *
 	 * @param p_Position
 	 *            the offset position, measured in bytes from the beginning of
-	 *            the file, at which to set the file pointer.
-	 * @return the actual number of bytes skipped.
+	 *            the file, at which to set the file pointer. May exceed
+	 *            {@link Integer#MAX_VALUE}.
+	 * @return the new offset position, measured in bytes from the beginning of
+	 *         the file, which is less than <code>p_Position</code> only if the
+	 *         end of the file was reached first.
 	 * @throws IOException
 	 *             if the contained input stream does not support seek or
 	 *             another I/O error occurs.
 	 * @since Apr 21, 2014
 	 */
-	int seek(int p_Position) throws IOException;
+	long seek(long p_Position) throws IOException;
 
 	/**
 	 * Makes an attempt to skip over <code>p_Count</code> bytes of data from the
 	 * input stream, discarding the skipped bytes. This method behaves very
 	 * similar to {@link #skipBytes(int)}, but may make several attempts to read
 	 * from the stream until the specified number of bytes have been skipped
-	 * (with 0 bytes being the escape condition). This method never throws an
+	 * (with 0 bytes being the escape condition), and accepts counts larger than
+	 * {@link Integer#MAX_VALUE}. This method never throws an
 	 * <code>EOFException</code>. The actual number of bytes skipped is
 	 * returned.
 	 *
@@ -125,5 +200,5 @@ public interface SeekableDataFileInputStream extends DataInput, Closeable
 	 * @exception IOException
 	 *                if an I/O error occurs.
 	 */
-	int skipBytesAggressive(int p_Count) throws IOException;
+	long skipBytesAggressive(long p_Count) throws IOException;
 }
\ No newline at end of file
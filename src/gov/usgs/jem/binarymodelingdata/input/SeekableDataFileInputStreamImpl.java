@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
+import com.google.common.io.CountingInputStream;
 import com.google.common.io.LittleEndianDataInputStream;
 import java.io.BufferedInputStream;
 import java.io.DataInput;
@@ -13,6 +14,7 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
@@ -27,6 +29,14 @@ import java.nio.file.Paths;
 final class SeekableDataFileInputStreamImpl
 		implements SeekableDataFileInputStream
 {
+	/**
+	 * The maximum number of bytes decoded at once by
+	 * {@link #readFloats(FloatBuffer)}
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	BULK_READ_SIZE	= 1 << 16;
+
 	/**
 	 * Endianness that controls the type of {@link DataInput} initialized
 	 *
@@ -42,6 +52,14 @@ final class SeekableDataFileInputStreamImpl
 	 */
 	private FilterInputStream	m_Closeable;
 
+	/**
+	 * Counts the bytes consumed by {@link #m_DataInputStream} since the file
+	 * was opened, which is the current position in the file.
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private CountingInputStream	m_CountingStream;
+
 	/**
 	 * Used for reading data. One of {@link DataInputStream} or
 	 * {@link LittleEndianDataInputStream}
@@ -131,6 +149,15 @@ final class SeekableDataFileInputStreamImpl
 		}
 	}
 
+	/**
+	 * Reopens the file, since a stream cannot be shared.
+	 */
+	@Override
+	public SeekableDataFileInputStream duplicate() throws IOException
+	{
+		return new SeekableDataFileInputStreamImpl(m_FilePath, m_ByteOrder);
+	}
+
 	@SuppressWarnings("resource")
 	@Override
 	public boolean equals(final Object p_Obj)
@@ -172,8 +199,8 @@ final class SeekableDataFileInputStreamImpl
 	 * Close any previous streams and initialize new ones from the provided file
 	 * path using the provided byte order.
 	 *
-	 * {@link #m_InputStream}, {@link #m_DataInputStream}, and
-	 * {@link #m_Closeable} will be set.
+	 * {@link #m_InputStream}, {@link #m_CountingStream},
+	 * {@link #m_DataInputStream}, and {@link #m_Closeable} will be set.
 	 *
 	 * @param p_FilePath
 	 *            the file path to open
@@ -199,16 +226,17 @@ final class SeekableDataFileInputStreamImpl
 
 		m_InputStream = new BufferedInputStream(
 				Files.newInputStream(Paths.get(p_FilePath)));
+		m_CountingStream = new CountingInputStream(m_InputStream);
 		if (p_ByteOrder.equals(ByteOrder.BIG_ENDIAN))
 		{
-			final DataInputStream dIS = new DataInputStream(m_InputStream);
+			final DataInputStream dIS = new DataInputStream(m_CountingStream);
 			m_DataInputStream = dIS;
 			m_Closeable = dIS;
 		}
 		else if (p_ByteOrder.equals(ByteOrder.LITTLE_ENDIAN))
 		{
 			final LittleEndianDataInputStream dIS = new LittleEndianDataInputStream(
-					m_InputStream);
+					m_CountingStream);
 			m_DataInputStream = dIS;
 			m_Closeable = dIS;
 		}
@@ -261,6 +289,30 @@ final class SeekableDataFileInputStreamImpl
 		return m_DataInputStream.readFloat();
 	}
 
+	@Override
+	public void readFloats(final float[] p_Floats, final int p_Offset,
+			final int p_Length) throws IOException
+	{
+		readFloats(FloatBuffer.wrap(p_Floats, p_Offset, p_Length));
+	}
+
+	@Override
+	public void readFloats(final FloatBuffer p_Floats) throws IOException
+	{
+		checkNotNull(p_Floats, "Buffer required.");
+		final byte[] bytes = new byte[Math.min(BULK_READ_SIZE,
+				p_Floats.remaining() * Float.BYTES)];
+		final FloatBuffer floats = ByteBuffer.wrap(bytes).order(m_ByteOrder)
+				.asFloatBuffer();
+		while (p_Floats.hasRemaining())
+		{
+			final int count = Math.min(p_Floats.remaining(), floats.capacity());
+			readFully(bytes, 0, count * Float.BYTES);
+			floats.clear().limit(count);
+			p_Floats.put(floats);
+		}
+	}
+
 	@Override
 	public void readFully(final byte[] p_ByteBuffer) throws IOException
 	{
@@ -331,11 +383,27 @@ final class SeekableDataFileInputStreamImpl
 		return m_DataInputStream.readUTF();
 	}
 
+	/**
+	 * Sets the file-pointer offset, measured from the beginning of this file,
+	 * at which the next read occurs. Seeking forward skips from the current
+	 * position; seeking backward closes the streams and reopens them first.
+	 *
+	 * @param p_Position
+	 *            the offset position, measured in bytes from the beginning of
+	 *            the file, at which to set the file pointer.
+	 * @return the new offset position, which is limited to the size of the
+	 *         file.
+	 */
 	@Override
-	public int seek(final int p_Position) throws IOException
+	public long seek(final long p_Position) throws IOException
 	{
-		initialize(m_FilePath, m_ByteOrder);
-		return skipBytes(p_Position);
+		checkArgument(p_Position >= 0, "Invalid position: %s", p_Position);
+		if (p_Position < m_CountingStream.getCount())
+		{
+			initialize(m_FilePath, m_ByteOrder);
+		}
+		skipBytesAggressive(p_Position - m_CountingStream.getCount());
+		return m_CountingStream.getCount();
 	}
 
 	@Override
@@ -345,19 +413,20 @@ final class SeekableDataFileInputStreamImpl
 	}
 
 	@Override
-	public int skipBytesAggressive(final int p_Count) throws IOException
+	public long skipBytesAggressive(final long p_Count) throws IOException
 	{
-		int skippedBytes = 0;
+		long skippedBytes = 0;
 		do
 		{
-			final int newlySkippedBytes = skipBytes(p_Count - skippedBytes);
-			if (newlySkippedBytes == 0)
+			final int newlySkippedBytes = skipBytes(
+					(int) Math.min(Integer.MAX_VALUE, p_Count - skippedBytes));
+			if (newlySkippedBytes <= 0)
 			{
 				break;
 			}
 			skippedBytes += newlySkippedBytes;
 		}
-		while (skippedBytes != p_Count);
+		while (skippedBytes < p_Count);
 		return skippedBytes;
 	}
 
@@ -0,0 +1,404 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Package-private resolver of one kind of sidecar for the BMD file of a
+ * {@link BMDReader}. The sidecar is opened, and its header checked, only when
+ * it is first needed and again when the size or last modified time of the BMD
+ * file or of the sidecar changes; each query reads from a duplicate of the
+ * resolved sidecar. A missing or stale sidecar therefore costs each query two
+ * reads of file attributes rather than an open and a parse of its header, and
+ * is logged once rather than on every query.
+ *
+ * Each duplicate holds a lease on the sidecar it was made from. A sidecar
+ * that is replaced by a newer version, or whose resolver is closed, is closed
+ * as soon as the last of its duplicates is closed.
+ *
+ * Queries read the resolved sidecar without locking, so any number of them
+ * may proceed at once; the lock is taken only to resolve a sidecar again.
+ *
+ * @param <T>
+ *            the type of sidecar
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class SidecarResolver<T extends Closeable> implements Closeable
+{
+	/**
+	 * Creates an independent copy of an open sidecar for a single query
+	 *
+	 * @param <T>
+	 *            the type of sidecar
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	@FunctionalInterface
+	interface Duplicator<T>
+	{
+		/**
+		 * Duplicate the provided sidecar
+		 *
+		 * @param p_Sidecar
+		 *            the resolved sidecar
+		 * @param p_Release
+		 *            to be closed when the copy is closed
+		 * @return a copy with its own input, closed by the caller
+		 * @throws IOException
+		 *             if the sidecar could not be duplicated
+		 * @since Oct 18, 2026
+		 */
+		T duplicate(T p_Sidecar, Closeable p_Release) throws IOException;
+	}
+
+	/**
+	 * Opens a sidecar, if it exists, is fresh, and matches the BMD file
+	 *
+	 * @param <T>
+	 *            the type of sidecar
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	@FunctionalInterface
+	interface Opener<T>
+	{
+		/**
+		 * Open the sidecar
+		 *
+		 * @return the open sidecar, or null if it cannot be used
+		 * @throws IOException
+		 *             if the sidecar exists but could not be read
+		 * @since Oct 18, 2026
+		 */
+		T open() throws IOException;
+	}
+
+	/**
+	 * A sidecar resolved for one version of the BMD file and the sidecar,
+	 * closed once the resolver and every duplicate have released it
+	 *
+	 * @param <T>
+	 *            the type of sidecar
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class Resolved<T extends Closeable>
+	{
+		/**
+		 * The number of holders of the sidecar: one for the resolver while
+		 * it is current, and one for each open duplicate
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final AtomicInteger	m_Leases;
+
+		/**
+		 * The sidecar, or null if it is missing or cannot be used
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final T				m_Sidecar;
+
+		/**
+		 * The size and last modified time of the BMD file and of the sidecar
+		 * when the sidecar was resolved
+		 *
+		 * @since Oct 18, 2026
+		 */
+		private final long[]		m_Version;
+
+		/**
+		 * Create a new resolved sidecar, held by the resolver
+		 *
+		 * @param p_Version
+		 *            the size and last modified time of the BMD file and of
+		 *            the sidecar
+		 * @param p_Sidecar
+		 *            the sidecar, or null
+		 * @since Oct 18, 2026
+		 */
+		private Resolved(final long[] p_Version, final T p_Sidecar)
+		{
+			m_Version = p_Version;
+			m_Sidecar = p_Sidecar;
+			m_Leases = new AtomicInteger(1);
+		}
+
+		/**
+		 * Take a lease on the sidecar, unless it has already been closed
+		 *
+		 * @return true if the lease was taken
+		 * @since Oct 18, 2026
+		 */
+		private boolean acquire()
+		{
+			int leases;
+			do
+			{
+				leases = m_Leases.get();
+				if (leases == 0)
+				{
+					return false;
+				}
+			}
+			while (!m_Leases.compareAndSet(leases, leases + 1));
+			return true;
+		}
+
+		/**
+		 * Release a lease on the sidecar, closing it if it was the last
+		 *
+		 * @throws IOException
+		 *             if the sidecar could not be closed
+		 * @since Oct 18, 2026
+		 */
+		private void release() throws IOException
+		{
+			if (m_Leases.decrementAndGet() == 0 && m_Sidecar != null)
+			{
+				m_Sidecar.close();
+			}
+		}
+	}
+
+	/**
+	 * Duplicates the resolved sidecar for each query
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Duplicator<T>		m_Duplicator;
+
+	/**
+	 * The path to the BMD file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final String			m_FilePath;
+
+	/**
+	 * Opens the sidecar
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Opener<T>			m_Opener;
+
+	/**
+	 * The sidecar resolved for the last version seen, or null if it has not
+	 * been resolved
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private volatile Resolved<T>	m_Resolved;
+
+	/**
+	 * The path to the sidecar
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final String			m_SidecarPath;
+
+	/**
+	 * Create a new resolver; nothing is opened until {@link #get()}
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_SidecarPath
+	 *            the path to the sidecar
+	 * @param p_Opener
+	 *            opens the sidecar
+	 * @param p_Duplicator
+	 *            duplicates the resolved sidecar for each query
+	 * @since Oct 18, 2026
+	 */
+	SidecarResolver(final String p_FilePath, final String p_SidecarPath,
+			final Opener<T> p_Opener, final Duplicator<T> p_Duplicator)
+	{
+		m_FilePath = checkNotNull(p_FilePath, "File path required.");
+		m_SidecarPath = checkNotNull(p_SidecarPath, "Sidecar path required.");
+		m_Opener = checkNotNull(p_Opener, "Opener required.");
+		m_Duplicator = checkNotNull(p_Duplicator, "Duplicator required.");
+		m_Resolved = null;
+	}
+
+	/**
+	 * Release the resolved sidecar, which is closed now or, if duplicates of
+	 * it are still open, when the last of them is closed
+	 *
+	 * @throws IOException
+	 *             if the sidecar could not be closed
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public synchronized void close() throws IOException
+	{
+		retire();
+	}
+
+	/**
+	 * Get a duplicate of the sidecar for a single query, resolving it first
+	 * if the BMD file or the sidecar changed since it was last resolved
+	 *
+	 * @return a duplicate of the sidecar, closed by the caller, or null if
+	 *         the sidecar is missing or cannot be used
+	 * @throws IOException
+	 *             if the attributes of the BMD file could not be read, or the
+	 *             sidecar exists but could not be read
+	 * @since Oct 18, 2026
+	 */
+	T get() throws IOException
+	{
+		final long[] version = readVersion();
+		while (true)
+		{
+			Resolved<T> resolved = m_Resolved;
+			if (resolved == null || !Arrays.equals(version, resolved.m_Version))
+			{
+				resolved = resolve();
+			}
+			if (resolved.m_Sidecar == null)
+			{
+				return null;
+			}
+			final T duplicate = lease(resolved);
+			if (duplicate != null)
+			{
+				return duplicate;
+			}
+
+			/**
+			 * The sidecar was replaced and closed since it was read
+			 */
+		}
+	}
+
+	/**
+	 * Duplicate a resolved sidecar under a new lease
+	 *
+	 * @param p_Resolved
+	 *            the resolved sidecar, which is not null
+	 * @return a duplicate that releases its lease when closed, or null if
+	 *         the sidecar was already closed
+	 * @throws IOException
+	 *             if the sidecar could not be duplicated
+	 * @since Oct 18, 2026
+	 */
+	private T lease(final Resolved<T> p_Resolved) throws IOException
+	{
+		if (!p_Resolved.acquire())
+		{
+			return null;
+		}
+		final AtomicBoolean released = new AtomicBoolean();
+		final Closeable release = () ->
+		{
+			if (released.compareAndSet(false, true))
+			{
+				p_Resolved.release();
+			}
+		};
+		try
+		{
+			return m_Duplicator.duplicate(p_Resolved.m_Sidecar, release);
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			release.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Read the size and last modified time of the BMD file and of the
+	 * sidecar
+	 *
+	 * @return the size and last modified time of the BMD file, then of the
+	 *         sidecar, which are -1 if the sidecar does not exist
+	 * @throws IOException
+	 *             if the attributes of the BMD file could not be read
+	 * @since Oct 18, 2026
+	 */
+	private long[] readVersion() throws IOException
+	{
+		final BasicFileAttributes file = Files.readAttributes(
+				Paths.get(m_FilePath), BasicFileAttributes.class);
+		BasicFileAttributes sidecar = null;
+		try
+		{
+			sidecar = Files.readAttributes(Paths.get(m_SidecarPath),
+					BasicFileAttributes.class);
+		}
+		catch (@SuppressWarnings("unused") final NoSuchFileException e)
+		{
+			/**
+			 * No sidecar
+			 */
+		}
+		if (sidecar == null || !sidecar.isRegularFile())
+		{
+			return new long[] { file.size(),
+					file.lastModifiedTime().toMillis(), -1L, -1L };
+		}
+		return new long[] { file.size(), file.lastModifiedTime().toMillis(),
+				sidecar.size(), sidecar.lastModifiedTime().toMillis() };
+	}
+
+	/**
+	 * Resolve the sidecar for the current version of the BMD file and the
+	 * sidecar, unless another query already has
+	 *
+	 * @return the sidecar resolved for the current version
+	 * @throws IOException
+	 *             if the attributes of the BMD file could not be read, the
+	 *             sidecar exists but could not be read, or the sidecar it
+	 *             replaces could not be closed
+	 * @since Oct 18, 2026
+	 */
+	private synchronized Resolved<T> resolve() throws IOException
+	{
+		final long[] version = readVersion();
+		Resolved<T> resolved = m_Resolved;
+		if (resolved == null || !Arrays.equals(version, resolved.m_Version))
+		{
+			retire();
+			resolved = new Resolved<>(version,
+					version[2] >= 0 ? m_Opener.open() : null);
+			m_Resolved = resolved;
+		}
+		return resolved;
+	}
+
+	/**
+	 * Release the resolved sidecar, if any, on behalf of this resolver
+	 *
+	 * @throws IOException
+	 *             if the sidecar could not be closed
+	 * @since Oct 18, 2026
+	 */
+	private void retire() throws IOException
+	{
+		final Resolved<T> resolved = m_Resolved;
+		m_Resolved = null;
+		if (resolved != null)
+		{
+			resolved.release();
+		}
+	}
+}
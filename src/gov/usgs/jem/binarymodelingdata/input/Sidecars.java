@@ -0,0 +1,304 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.io.Files;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Package-private helpers for sidecar files, which are derived from a BMD
+ * file and stored next to it with a different extension. Every sidecar
+ * starts with a common header of {@link #HEADER_SIZE} bytes, in the
+ * little-endian byte order of BMD files:
+ * <ul>
+ * <li>Magic (4 single-octet chars identifying the kind of sidecar)</li>
+ *
+ * <li>Version (int)</li>
+ *
+ * <li>Size of the BMD file when the sidecar was written (long)</li>
+ *
+ * <li>Last modified time of the BMD file, in milliseconds since the epoch,
+ * when the sidecar was written (long)</li>
+ * </ul>
+ *
+ * A sidecar is fresh, and may be used in place of reading the BMD file, only
+ * while the size and last modified time of the BMD file still match.
+ * Sidecars are written to a temporary file that is moved into place once
+ * complete, so readers never see a partial sidecar.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+final class Sidecars
+{
+	/**
+	 * Writes the body of a sidecar
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	@FunctionalInterface
+	interface BodyWriter
+	{
+		/**
+		 * Write the body of a sidecar, following its header
+		 *
+		 * @param p_Channel
+		 *            the channel to write to, positioned after the header
+		 * @throws IOException
+		 *             if the body could not be written
+		 * @since Oct 18, 2026
+		 */
+		void write(FileChannel p_Channel) throws IOException;
+	}
+
+	/**
+	 * Number of bytes in the common sidecar header
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int	HEADER_SIZE	= 4 + Integer.BYTES + Long.BYTES * 2;
+
+	/**
+	 * Get the path of a sidecar for a BMD file: the path of the BMD file with
+	 * its extension replaced
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_Extension
+	 *            the extension of the sidecar, without a period
+	 * @return the path of the sidecar
+	 * @since Oct 18, 2026
+	 */
+	static String getPath(final String p_FilePath, final String p_Extension)
+	{
+		checkNotNull(p_FilePath, "File path required.");
+		checkNotNull(p_Extension, "Extension required.");
+		final Path path = Paths.get(p_FilePath);
+		return path.resolveSibling(String.format("%s.%s",
+				Files.getNameWithoutExtension(p_FilePath), p_Extension))
+				.toString();
+	}
+
+	/**
+	 * Read the common header from the beginning of a sidecar and check that
+	 * it is of the expected kind and version and that it was written from the
+	 * current contents of the BMD file
+	 *
+	 * @param p_Input
+	 *            the sidecar input; it is left positioned after the header
+	 * @param p_Magic
+	 *            the expected magic, 4 single-octet chars
+	 * @param p_Version
+	 *            the expected version
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @return true if the sidecar may be used in place of the BMD file, false
+	 *         if it is stale, of another kind or version, or truncated
+	 * @throws IOException
+	 *             if the header or the attributes of the BMD file could not
+	 *             be read
+	 * @since Oct 18, 2026
+	 */
+	static boolean isFresh(final SeekableDataFileInputStream p_Input,
+			final String p_Magic, final int p_Version, final String p_FilePath)
+			throws IOException
+	{
+		final BasicFileAttributes attributes = java.nio.file.Files
+				.readAttributes(Paths.get(p_FilePath),
+						BasicFileAttributes.class);
+		p_Input.seek(0);
+		final String magic;
+		final int version;
+		final long size;
+		final long lastModified;
+		try
+		{
+			magic = new String(p_Input.readCharsAsAscii(p_Magic.length()));
+			version = p_Input.readInt();
+			size = p_Input.readLong();
+			lastModified = p_Input.readLong();
+		}
+		catch (final EOFException e)
+		{
+			return false;
+		}
+		return p_Magic.equals(magic) && version == p_Version
+				&& size == attributes.size()
+				&& lastModified == attributes.lastModifiedTime().toMillis();
+	}
+
+	/**
+	 * Open a sidecar for reading. Sidecars are never chunked, so
+	 * {@link ReadMode#CHUNKED} reads them with {@link ReadMode#POSITIONAL}.
+	 *
+	 * @param p_SidecarPath
+	 *            the path of the sidecar
+	 * @param p_ReadMode
+	 *            the {@link ReadMode} of the BMD file the sidecar belongs to
+	 * @return the sidecar input, in little-endian byte order
+	 * @throws IOException
+	 *             if the sidecar could not be opened
+	 * @since Oct 18, 2026
+	 */
+	static SeekableDataFileInputStream open(final String p_SidecarPath,
+			final ReadMode p_ReadMode) throws IOException
+	{
+		final ReadMode readMode = p_ReadMode == ReadMode.CHUNKED
+				? ReadMode.POSITIONAL
+				: p_ReadMode;
+		return readMode.open(p_SidecarPath, ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Fill the remaining bytes of the provided buffer from the channel,
+	 * starting at the provided position
+	 *
+	 * @param p_Channel
+	 *            the channel to read from
+	 * @param p_Buffer
+	 *            the buffer to fill
+	 * @param p_Position
+	 *            the position of the first byte to read
+	 * @throws IOException
+	 *             if the bytes could not be read, including
+	 *             {@link EOFException} if the channel ends first
+	 * @since Oct 18, 2026
+	 */
+	static void readFully(final FileChannel p_Channel,
+			final ByteBuffer p_Buffer, final long p_Position)
+			throws IOException
+	{
+		final int start = p_Buffer.position();
+		while (p_Buffer.hasRemaining())
+		{
+			if (p_Channel.read(p_Buffer,
+					p_Position + p_Buffer.position() - start) < 0)
+			{
+				throw new EOFException();
+			}
+		}
+	}
+
+	/**
+	 * Write a sidecar, replacing any existing sidecar once it is complete
+	 *
+	 * @param p_SidecarPath
+	 *            the path of the sidecar
+	 * @param p_Magic
+	 *            the magic identifying the kind of sidecar, 4 single-octet
+	 *            chars
+	 * @param p_Version
+	 *            the version of the sidecar format
+	 * @param p_FilePath
+	 *            the path to the BMD file the sidecar is derived from
+	 * @param p_Body
+	 *            writes the body of the sidecar
+	 * @throws IOException
+	 *             if the sidecar could not be written
+	 * @since Oct 18, 2026
+	 */
+	static void write(final String p_SidecarPath, final String p_Magic,
+			final int p_Version, final String p_FilePath,
+			final BodyWriter p_Body) throws IOException
+	{
+		checkArgument(p_Magic.length() == 4, "Invalid magic: %s", p_Magic);
+		checkNotNull(p_Body, "Body writer required.");
+		final BasicFileAttributes attributes = java.nio.file.Files
+				.readAttributes(Paths.get(p_FilePath),
+						BasicFileAttributes.class);
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		header.put(p_Magic.getBytes(StandardCharsets.US_ASCII));
+		header.putInt(p_Version);
+		header.putLong(attributes.size());
+		header.putLong(attributes.lastModifiedTime().toMillis());
+		header.flip();
+
+		writeAtomically(p_SidecarPath, channel ->
+		{
+			writeFully(channel, header);
+			p_Body.write(channel);
+		});
+	}
+
+	/**
+	 * Write a file to a temporary file next to it, and move the temporary
+	 * file into place, replacing any existing file, once it is complete
+	 *
+	 * @param p_Path
+	 *            the path of the file
+	 * @param p_Contents
+	 *            writes the contents of the file
+	 * @throws IOException
+	 *             if the file could not be written
+	 * @since Oct 18, 2026
+	 */
+	static void writeAtomically(final String p_Path,
+			final BodyWriter p_Contents) throws IOException
+	{
+		checkNotNull(p_Contents, "Contents writer required.");
+		final Path target = Paths.get(p_Path);
+		final Path temp = target.resolveSibling(
+				String.format("%s.tmp", target.getFileName()));
+		try
+		{
+			try (FileChannel channel = FileChannel.open(temp,
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);)
+			{
+				p_Contents.write(channel);
+			}
+			java.nio.file.Files.move(temp, target,
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally
+		{
+			java.nio.file.Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Write all remaining bytes of the provided buffer to the channel
+	 *
+	 * @param p_Channel
+	 *            the channel to write to
+	 * @param p_Buffer
+	 *            the bytes to write
+	 * @throws IOException
+	 *             if the bytes could not be written
+	 * @since Oct 18, 2026
+	 */
+	static void writeFully(final FileChannel p_Channel,
+			final ByteBuffer p_Buffer) throws IOException
+	{
+		while (p_Buffer.hasRemaining())
+		{
+			p_Channel.write(p_Buffer);
+		}
+	}
+
+	/**
+	 * Not instantiable
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private Sidecars()
+	{
+		/** Nothing */
+	}
+}
@@ -0,0 +1,480 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import gov.usgs.jem.binarymodelingdata.BMDHeader;
+import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * A transposed copy of the concentrations in a BMD file, stored next to it
+ * with the {@link #EXTENSION} extension. BMD files are arranged by time step,
+ * then segment, then variable, so the time series of a single variable and
+ * segment is spread across every time step block of the file. The sidecar
+ * arranges the same values by variable, then segment, then time step, so
+ * that time series is a single contiguous read.
+ *
+ * The time steps may be split into chunks, each holding a transposed block
+ * of consecutive time steps, which bounds the memory needed to write the
+ * sidecar. The layout, after the common sidecar header (see
+ * {@link Sidecars}), is:
+ * <ul>
+ * <li>Number of variables, segments, and time steps (ints)</li>
+ *
+ * <li>Number of time steps per chunk (int)</li>
+ *
+ * <li>Chunks (floats arranged by Variable, Segment, then Time)</li>
+ * </ul>
+ *
+ * Use {@link #write(String)}, or run this class with the paths of BMD files
+ * as arguments, to create sidecars. A {@link BMDReader} reads queries that
+ * select more time steps than variable and segment pairs from the sidecar
+ * when it exists and is fresh, and from the BMD file otherwise.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public final class TransposedSidecar implements Closeable
+{
+	/**
+	 * Location of the first chunk
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final long					DATA_LOCATION		= Sidecars.HEADER_SIZE
+			+ Integer.BYTES * 4;
+
+	/**
+	 * Extension of transposed sidecar files
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final String					EXTENSION			= "bmdt";
+
+	/**
+	 * Class logger
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final org.apache.log4j.Logger	log					= org.apache.log4j.Logger
+			.getLogger(TransposedSidecar.class);
+
+	/**
+	 * Identifies transposed sidecar files
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final String							MAGIC				= "BMDT";
+
+	/**
+	 * The maximum number of values in a chunk when the number of time steps
+	 * per chunk is not specified (64 MiB of floats)
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int							MAX_CHUNK_VALUES	= 1 << 24;
+
+	/**
+	 * Version of the transposed sidecar format
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int							VERSION				= 1;
+
+	/**
+	 * Get the path of the transposed sidecar for a BMD file
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @return the path of the sidecar, which may not exist
+	 * @since Oct 18, 2026
+	 */
+	public static String getPath(final String p_FilePath)
+	{
+		return Sidecars.getPath(p_FilePath, EXTENSION);
+	}
+
+	/**
+	 * Write the transposed sidecar for each BMD file provided as an argument
+	 *
+	 * @param p_Args
+	 *            the paths to the BMD files
+	 * @throws IOException
+	 *             if a sidecar could not be written
+	 * @since Oct 18, 2026
+	 */
+	public static void main(final String[] p_Args) throws IOException
+	{
+		checkArgument(p_Args.length > 0, "Usage: %s <file.bmd> ...",
+				TransposedSidecar.class.getName());
+		for (final String filePath : p_Args)
+		{
+			write(filePath);
+			log.info(String.format("Wrote %s", getPath(filePath)));
+		}
+	}
+
+	/**
+	 * Open the transposed sidecar for a BMD file, if it exists, is fresh, and
+	 * matches the dimensions of the file
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_Header
+	 *            the header of the BMD file
+	 * @param p_ReadMode
+	 *            the {@link ReadMode} used to read from the sidecar
+	 * @return the open sidecar, or null if it cannot be used
+	 * @throws IOException
+	 *             if the sidecar exists but could not be read
+	 * @since Oct 18, 2026
+	 */
+	static TransposedSidecar open(final String p_FilePath,
+			final BMDHeader p_Header, final ReadMode p_ReadMode)
+			throws IOException
+	{
+		final String sidecarPath = getPath(p_FilePath);
+		if (!new File(sidecarPath).isFile())
+		{
+			return null;
+		}
+
+		final SeekableDataFileInputStream input = Sidecars.open(sidecarPath,
+				p_ReadMode);
+		try
+		{
+			if (Sidecars.isFresh(input, MAGIC, VERSION, p_FilePath)
+					&& input.readInt() == p_Header.getVariablesSize()
+					&& input.readInt() == p_Header.getSegmentsSize()
+					&& input.readInt() == p_Header.getTimesSize())
+			{
+				final int chunkTimeSteps = input.readInt();
+				if (chunkTimeSteps > 0)
+				{
+					return new TransposedSidecar(input,
+							p_Header.getVariablesSize(),
+							p_Header.getSegmentsSize(),
+							p_Header.getTimesSize(), chunkTimeSteps, null);
+				}
+			}
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			input.close();
+			throw e;
+		}
+		log.debug(String.format("Ignoring stale sidecar %s", sidecarPath));
+		input.close();
+		return null;
+	}
+
+	/**
+	 * Write the transposed sidecar for a BMD file, choosing the number of time
+	 * steps per chunk so that each chunk holds no more than
+	 * {@link #MAX_CHUNK_VALUES} values
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @throws IOException
+	 *             if the BMD file could not be read or the sidecar could not
+	 *             be written
+	 * @since Oct 18, 2026
+	 */
+	public static void write(final String p_FilePath) throws IOException
+	{
+		write(p_FilePath, 0);
+	}
+
+	/**
+	 * Write the transposed sidecar for a BMD file, replacing any existing
+	 * sidecar
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_ChunkTimeSteps
+	 *            the number of time steps per chunk, or zero to choose a
+	 *            number so that each chunk holds no more than
+	 *            {@link #MAX_CHUNK_VALUES} values. The number of time steps
+	 *            in the file writes a single chunk.
+	 * @throws IOException
+	 *             if the BMD file could not be read or the sidecar could not
+	 *             be written
+	 * @since Oct 18, 2026
+	 */
+	public static void write(final String p_FilePath,
+			final int p_ChunkTimeSteps) throws IOException
+	{
+		checkArgument(p_ChunkTimeSteps >= 0, "Invalid chunk size: %s",
+				p_ChunkTimeSteps);
+		try (BMDReader reader = BMDReader.open(p_FilePath);)
+		{
+			final BMDHeader header = reader.getHeader();
+			final int numVariables = header.getVariablesSize();
+			final int numSegments = header.getSegmentsSize();
+			final int numTimes = header.getTimesSize();
+			final int cellsPerTime = numVariables * numSegments;
+			final int chunkTimeSteps = Math.max(1,
+					Math.min(numTimes, p_ChunkTimeSteps > 0 ? p_ChunkTimeSteps
+							: MAX_CHUNK_VALUES / Math.max(1, cellsPerTime)));
+			checkArgument((long) chunkTimeSteps * cellsPerTime
+					* Float.BYTES <= Integer.MAX_VALUE,
+					"Chunk is too large: %s time steps", chunkTimeSteps);
+
+			Sidecars.write(getPath(p_FilePath), MAGIC, VERSION, p_FilePath,
+					channel ->
+					{
+						final ByteBuffer dimensions = ByteBuffer
+								.allocate(Integer.BYTES * 4)
+								.order(ByteOrder.LITTLE_ENDIAN);
+						dimensions.putInt(numVariables).putInt(numSegments)
+								.putInt(numTimes).putInt(chunkTimeSteps);
+						dimensions.flip();
+						Sidecars.writeFully(channel, dimensions);
+
+						final float[] values = new float[chunkTimeSteps
+								* cellsPerTime];
+						final ByteBuffer bytes = ByteBuffer
+								.allocate(values.length * Float.BYTES)
+								.order(ByteOrder.LITTLE_ENDIAN);
+						for (int first = 0; first < numTimes;
+								first += chunkTimeSteps)
+						{
+							final int firstTime = first;
+							final int chunkSize = Math.min(chunkTimeSteps,
+									numTimes - firstTime);
+							reader.newConcentrationsQuery().withAllVariables()
+									.withAllSegments()
+									.withTimeStepRange(firstTime,
+											firstTime + chunkSize)
+									.executeStreaming((variable, segment,
+											timeStep,
+											value) -> values[(variable
+													* numSegments + segment)
+													* chunkSize + timeStep
+													- firstTime] = value);
+							bytes.clear();
+							bytes.asFloatBuffer().put(values, 0,
+									chunkSize * cellsPerTime);
+							bytes.limit(chunkSize * cellsPerTime * Float.BYTES);
+							Sidecars.writeFully(channel, bytes);
+						}
+					});
+		}
+	}
+
+	/**
+	 * The number of time steps in each chunk; the last chunk may have fewer
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_ChunkTimeSteps;
+
+	/**
+	 * The sidecar input
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final SeekableDataFileInputStream	m_Input;
+
+	/**
+	 * The number of segments
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumSegments;
+
+	/**
+	 * The number of time steps
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumTimes;
+
+	/**
+	 * The number of variables
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumVariables;
+
+	/**
+	 * Closed when this sidecar is closed, or null
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Closeable						m_Release;
+
+	/**
+	 * Create a new sidecar reader
+	 *
+	 * @param p_Input
+	 *            the sidecar input
+	 * @param p_NumVariables
+	 *            the number of variables
+	 * @param p_NumSegments
+	 *            the number of segments
+	 * @param p_NumTimes
+	 *            the number of time steps
+	 * @param p_ChunkTimeSteps
+	 *            the number of time steps in each chunk
+	 * @param p_Release
+	 *            closed when this sidecar is closed, or null
+	 * @since Oct 18, 2026
+	 */
+	private TransposedSidecar(final SeekableDataFileInputStream p_Input,
+			final int p_NumVariables, final int p_NumSegments,
+			final int p_NumTimes, final int p_ChunkTimeSteps,
+			final Closeable p_Release)
+	{
+		m_Input = checkNotNull(p_Input);
+		m_NumVariables = p_NumVariables;
+		m_NumSegments = p_NumSegments;
+		m_NumTimes = p_NumTimes;
+		m_ChunkTimeSteps = p_ChunkTimeSteps;
+		m_Release = p_Release;
+	}
+
+	/**
+	 * Close the sidecar input, then the release of this sidecar, if any
+	 *
+	 * @throws IOException
+	 *             if the input or the release could not be closed
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		try
+		{
+			m_Input.close();
+		}
+		finally
+		{
+			if (m_Release != null)
+			{
+				m_Release.close();
+			}
+		}
+	}
+
+	/**
+	 * Create a copy of this sidecar, with its own input, for a single query
+	 *
+	 * @param p_Release
+	 *            closed when the copy is closed, or null
+	 * @return the copy, which must be closed separately
+	 * @throws IOException
+	 *             if the input could not be duplicated
+	 * @since Oct 18, 2026
+	 */
+	TransposedSidecar duplicate(final Closeable p_Release) throws IOException
+	{
+		return new TransposedSidecar(m_Input.duplicate(), m_NumVariables,
+				m_NumSegments, m_NumTimes, m_ChunkTimeSteps, p_Release);
+	}
+
+	/**
+	 * Get the number of time steps in each chunk
+	 *
+	 * @return the number of time steps in each chunk; the last chunk may have
+	 *         fewer
+	 * @since Oct 18, 2026
+	 */
+	int getChunkTimeSteps()
+	{
+		return m_ChunkTimeSteps;
+	}
+
+	/**
+	 * Read the selected values from the sidecar. Each chunk is read with a
+	 * {@link ConcentrationsReadPlan} over its transposed layout, so the
+	 * selected time steps of each variable and segment are coalesced into
+	 * contiguous runs. Chunks are read in time order, and the monitor is
+	 * checked for cancellation and reported to after each chunk.
+	 *
+	 * @param p_VariableNums
+	 *            the sorted variable indices to read
+	 * @param p_SegmentNums
+	 *            the sorted segment indices to read
+	 * @param p_TimeNums
+	 *            the sorted time step indices to read
+	 * @param p_Visitor
+	 *            receives every value that was read, with ordinals relative
+	 *            to the provided indices
+	 * @param p_Monitor
+	 *            optional progress monitor
+	 * @return the number of reads issued
+	 * @throws IOException
+	 *             if the sidecar could not be read
+	 * @since Oct 18, 2026
+	 */
+	long read(final int[] p_VariableNums, final int[] p_SegmentNums,
+			final int[] p_TimeNums,
+			final ConcentrationsReadPlan.Visitor p_Visitor,
+			final IProgressMonitor p_Monitor) throws IOException
+	{
+		long reads = 0;
+		int firstOrdinal = 0;
+		while (firstOrdinal < p_TimeNums.length)
+		{
+			if (p_Monitor != null && p_Monitor.isCanceled())
+			{
+				break;
+			}
+
+			final int chunk = p_TimeNums[firstOrdinal] / m_ChunkTimeSteps;
+			final int chunkStart = chunk * m_ChunkTimeSteps;
+			final int chunkSize = Math.min(m_ChunkTimeSteps,
+					m_NumTimes - chunkStart);
+			int endOrdinal = firstOrdinal;
+			while (endOrdinal < p_TimeNums.length
+					&& p_TimeNums[endOrdinal] < chunkStart + chunkSize)
+			{
+				endOrdinal++;
+			}
+			final int[] chunkTimes = Arrays.copyOfRange(p_TimeNums,
+					firstOrdinal, endOrdinal);
+			for (int i = 0; i < chunkTimes.length; i++)
+			{
+				chunkTimes[i] -= chunkStart;
+			}
+
+			/**
+			 * Within a chunk, variables take the place of time steps and time
+			 * steps take the place of variables
+			 */
+			final int timeOffset = firstOrdinal;
+			reads += new ConcentrationsReadPlan(
+					DATA_LOCATION + (long) chunkStart * m_NumSegments
+							* m_NumVariables * Float.BYTES,
+					m_NumSegments, chunkSize, chunkTimes, p_SegmentNums,
+					p_VariableNums).execute(m_Input,
+							(timeOrd, segmentOrd, variableOrd,
+									value) -> p_Visitor.visit(variableOrd,
+											segmentOrd, timeOffset + timeOrd,
+											value),
+							null);
+			if (p_Monitor != null)
+			{
+				p_Monitor.worked(chunkTimes.length);
+			}
+			firstOrdinal = endOrdinal;
+		}
+		return reads;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("input", m_Input)
+				.add("chunkTimeSteps", m_ChunkTimeSteps).toString();
+	}
+}
@@ -0,0 +1,465 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import gov.usgs.jem.binarymodelingdata.BMDHeader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A zone map of the concentrations in a BMD file, stored next to it with the
+ * {@link #EXTENSION} extension. The time steps of the file are split into
+ * blocks of consecutive time steps, and the zone map holds the minimum and
+ * maximum value of each variable and segment within each block. A query
+ * with a predicate on the values of a variable skips every block whose
+ * zone map shows that no selected segment can match, without reading its
+ * values. The layout, after the common sidecar header (see {@link Sidecars}),
+ * is:
+ * <ul>
+ * <li>Number of variables, segments, and time steps (ints)</li>
+ *
+ * <li>Number of time steps per block (int)</li>
+ *
+ * <li>Minimum and maximum pairs (floats arranged by Block, Variable, then
+ * Segment)</li>
+ * </ul>
+ *
+ * Values that are not a number are excluded from the minimum and maximum;
+ * a variable and segment with no other values in a block has a minimum of
+ * positive infinity and a maximum of negative infinity.
+ *
+ * Use {@link #write(String)}, or run this class with the paths of BMD files
+ * as arguments, to create zone maps. A {@link BMDReader} uses the zone map
+ * when it exists and is fresh, and reads every selected time step otherwise.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+public final class ZoneMapSidecar implements Closeable
+{
+	/**
+	 * Location of the first block
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final long						DATA_LOCATION				= Sidecars.HEADER_SIZE
+			+ Integer.BYTES * 4;
+
+	/**
+	 * The number of time steps per block when not specified
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final int							DEFAULT_BLOCK_TIME_STEPS	= 32;
+
+	/**
+	 * Extension of zone map sidecar files
+	 *
+	 * @since Oct 18, 2026
+	 */
+	public static final String						EXTENSION					= "zmap";
+
+	/**
+	 * Class logger
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final org.apache.log4j.Logger	log							= org.apache.log4j.Logger
+			.getLogger(ZoneMapSidecar.class);
+
+	/**
+	 * Identifies zone map sidecar files
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final String								MAGIC						= "BMDM";
+
+	/**
+	 * Version of the zone map sidecar format
+	 *
+	 * @since Oct 18, 2026
+	 */
+	static final int								VERSION						= 1;
+
+	/**
+	 * Get the path of the zone map sidecar for a BMD file
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @return the path of the sidecar, which may not exist
+	 * @since Oct 18, 2026
+	 */
+	public static String getPath(final String p_FilePath)
+	{
+		return Sidecars.getPath(p_FilePath, EXTENSION);
+	}
+
+	/**
+	 * Write the zone map sidecar for each BMD file provided as an argument
+	 *
+	 * @param p_Args
+	 *            the paths to the BMD files
+	 * @throws IOException
+	 *             if a sidecar could not be written
+	 * @since Oct 18, 2026
+	 */
+	public static void main(final String[] p_Args) throws IOException
+	{
+		checkArgument(p_Args.length > 0, "Usage: %s <file.bmd> ...",
+				ZoneMapSidecar.class.getName());
+		for (final String filePath : p_Args)
+		{
+			write(filePath);
+			log.info(String.format("Wrote %s", getPath(filePath)));
+		}
+	}
+
+	/**
+	 * Open the zone map sidecar for a BMD file, if it exists, is fresh, and
+	 * matches the dimensions of the file
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_Header
+	 *            the header of the BMD file
+	 * @param p_ReadMode
+	 *            the {@link ReadMode} used to read from the sidecar
+	 * @return the open sidecar, or null if it cannot be used
+	 * @throws IOException
+	 *             if the sidecar exists but could not be read
+	 * @since Oct 18, 2026
+	 */
+	static ZoneMapSidecar open(final String p_FilePath,
+			final BMDHeader p_Header, final ReadMode p_ReadMode)
+			throws IOException
+	{
+		final String sidecarPath = getPath(p_FilePath);
+		if (!new File(sidecarPath).isFile())
+		{
+			return null;
+		}
+
+		final SeekableDataFileInputStream input = Sidecars.open(sidecarPath,
+				p_ReadMode);
+		try
+		{
+			if (Sidecars.isFresh(input, MAGIC, VERSION, p_FilePath)
+					&& input.readInt() == p_Header.getVariablesSize()
+					&& input.readInt() == p_Header.getSegmentsSize()
+					&& input.readInt() == p_Header.getTimesSize())
+			{
+				final int blockTimeSteps = input.readInt();
+				if (blockTimeSteps > 0)
+				{
+					return new ZoneMapSidecar(input,
+							p_Header.getVariablesSize(),
+							p_Header.getSegmentsSize(),
+							p_Header.getTimesSize(), blockTimeSteps, null);
+				}
+			}
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			input.close();
+			throw e;
+		}
+		log.debug(String.format("Ignoring stale sidecar %s", sidecarPath));
+		input.close();
+		return null;
+	}
+
+	/**
+	 * Write the zone map sidecar for a BMD file with
+	 * {@link #DEFAULT_BLOCK_TIME_STEPS} time steps per block
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @throws IOException
+	 *             if the BMD file could not be read or the sidecar could not
+	 *             be written
+	 * @since Oct 18, 2026
+	 */
+	public static void write(final String p_FilePath) throws IOException
+	{
+		write(p_FilePath, DEFAULT_BLOCK_TIME_STEPS);
+	}
+
+	/**
+	 * Write the zone map sidecar for a BMD file, replacing any existing
+	 * sidecar. Smaller blocks skip more precisely, at the cost of a larger
+	 * zone map.
+	 *
+	 * @param p_FilePath
+	 *            the path to the BMD file
+	 * @param p_BlockTimeSteps
+	 *            the number of time steps per block
+	 * @throws IOException
+	 *             if the BMD file could not be read or the sidecar could not
+	 *             be written
+	 * @since Oct 18, 2026
+	 */
+	public static void write(final String p_FilePath,
+			final int p_BlockTimeSteps) throws IOException
+	{
+		checkArgument(p_BlockTimeSteps > 0, "Invalid block size: %s",
+				p_BlockTimeSteps);
+		try (BMDReader reader = BMDReader.open(p_FilePath);)
+		{
+			final BMDHeader header = reader.getHeader();
+			final int numVariables = header.getVariablesSize();
+			final int numSegments = header.getSegmentsSize();
+			final int numTimes = header.getTimesSize();
+			final int cellsPerTime = numVariables * numSegments;
+			final int blockTimeSteps = Math.max(1,
+					Math.min(p_BlockTimeSteps, numTimes));
+
+			Sidecars.write(getPath(p_FilePath), MAGIC, VERSION, p_FilePath,
+					channel ->
+					{
+						final ByteBuffer dimensions = ByteBuffer
+								.allocate(Integer.BYTES * 4)
+								.order(ByteOrder.LITTLE_ENDIAN);
+						dimensions.putInt(numVariables).putInt(numSegments)
+								.putInt(numTimes).putInt(blockTimeSteps);
+						dimensions.flip();
+						Sidecars.writeFully(channel, dimensions);
+
+						/**
+						 * Minimum and maximum pairs by variable, then segment
+						 */
+						final float[] zones = new float[cellsPerTime * 2];
+						final ByteBuffer bytes = ByteBuffer
+								.allocate(zones.length * Float.BYTES)
+								.order(ByteOrder.LITTLE_ENDIAN);
+						for (int first = 0; first < numTimes;
+								first += blockTimeSteps)
+						{
+							for (int i = 0; i < zones.length; i += 2)
+							{
+								zones[i] = Float.POSITIVE_INFINITY;
+								zones[i + 1] = Float.NEGATIVE_INFINITY;
+							}
+							reader.newConcentrationsQuery().withAllVariables()
+									.withAllSegments()
+									.withTimeStepRange(first,
+											Math.min(numTimes,
+													first + blockTimeSteps))
+									.executeStreaming((variable, segment,
+											timeStep, value) ->
+									{
+										final int zone = (variable
+												* numSegments + segment) * 2;
+										if (value < zones[zone])
+										{
+											zones[zone] = value;
+										}
+										if (value > zones[zone + 1])
+										{
+											zones[zone + 1] = value;
+										}
+									});
+							bytes.clear();
+							bytes.asFloatBuffer().put(zones);
+							Sidecars.writeFully(channel, bytes);
+						}
+					});
+		}
+	}
+
+	/**
+	 * The number of time steps in each block; the last block may have fewer
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_BlockTimeSteps;
+
+	/**
+	 * The sidecar input
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final SeekableDataFileInputStream	m_Input;
+
+	/**
+	 * The number of segments
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumSegments;
+
+	/**
+	 * The number of time steps
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumTimes;
+
+	/**
+	 * The number of variables
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final int							m_NumVariables;
+
+	/**
+	 * Closed when this sidecar is closed, or null
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private final Closeable						m_Release;
+
+	/**
+	 * Create a new sidecar reader
+	 *
+	 * @param p_Input
+	 *            the sidecar input
+	 * @param p_NumVariables
+	 *            the number of variables
+	 * @param p_NumSegments
+	 *            the number of segments
+	 * @param p_NumTimes
+	 *            the number of time steps
+	 * @param p_BlockTimeSteps
+	 *            the number of time steps in each block
+	 * @param p_Release
+	 *            closed when this sidecar is closed, or null
+	 * @since Oct 18, 2026
+	 */
+	private ZoneMapSidecar(final SeekableDataFileInputStream p_Input,
+			final int p_NumVariables, final int p_NumSegments,
+			final int p_NumTimes, final int p_BlockTimeSteps,
+			final Closeable p_Release)
+	{
+		m_Input = checkNotNull(p_Input);
+		m_NumVariables = p_NumVariables;
+		m_NumSegments = p_NumSegments;
+		m_NumTimes = p_NumTimes;
+		m_BlockTimeSteps = p_BlockTimeSteps;
+		m_Release = p_Release;
+	}
+
+	/**
+	 * Close the sidecar input, then the release of this sidecar, if any
+	 *
+	 * @throws IOException
+	 *             if the input or the release could not be closed
+	 * @since Oct 18, 2026
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		try
+		{
+			m_Input.close();
+		}
+		finally
+		{
+			if (m_Release != null)
+			{
+				m_Release.close();
+			}
+		}
+	}
+
+	/**
+	 * Create a copy of this sidecar, with its own input, for a single query
+	 *
+	 * @param p_Release
+	 *            closed when the copy is closed, or null
+	 * @return the copy, which must be closed separately
+	 * @throws IOException
+	 *             if the input could not be duplicated
+	 * @since Oct 18, 2026
+	 */
+	ZoneMapSidecar duplicate(final Closeable p_Release) throws IOException
+	{
+		return new ZoneMapSidecar(m_Input.duplicate(), m_NumVariables,
+				m_NumSegments, m_NumTimes, m_BlockTimeSteps, p_Release);
+	}
+
+	/**
+	 * Get the number of time steps in each block
+	 *
+	 * @return the number of time steps in each block; the last block may have
+	 *         fewer
+	 * @since Oct 18, 2026
+	 */
+	int getBlockTimeSteps()
+	{
+		return m_BlockTimeSteps;
+	}
+
+	/**
+	 * Get the selected time steps in blocks where the variable may be above
+	 * the threshold in at least one of the selected segments. Only the zone
+	 * map of blocks containing a selected time step is read, one contiguous
+	 * run of segments per block.
+	 *
+	 * @param p_Variable
+	 *            the variable index
+	 * @param p_SegmentNums
+	 *            the sorted segment indices
+	 * @param p_TimeSteps
+	 *            the selected time step indices
+	 * @param p_Threshold
+	 *            the threshold that a value must be above
+	 * @return the selected time steps that may have a value above the
+	 *         threshold, and no others
+	 * @throws IOException
+	 *             if the sidecar could not be read
+	 * @since Oct 18, 2026
+	 */
+	BitSet getCandidateTimeSteps(final int p_Variable,
+			final int[] p_SegmentNums, final BitSet p_TimeSteps,
+			final float p_Threshold) throws IOException
+	{
+		final BitSet candidates = new BitSet();
+		if (p_SegmentNums.length == 0)
+		{
+			return candidates;
+		}
+		final int firstSegment = p_SegmentNums[0];
+		final int[] segmentOffsets = Arrays.stream(p_SegmentNums)
+				.map(segment -> segment - firstSegment).toArray();
+		final float[] zones = new float[(segmentOffsets[segmentOffsets.length
+				- 1] + 1) * 2];
+
+		int time = p_TimeSteps.nextSetBit(0);
+		while (time >= 0 && time < m_NumTimes)
+		{
+			final int block = time / m_BlockTimeSteps;
+			final int blockEnd = Math.min(m_NumTimes,
+					(block + 1) * m_BlockTimeSteps);
+			m_Input.seek(DATA_LOCATION
+					+ (((long) block * m_NumVariables + p_Variable)
+							* m_NumSegments + firstSegment) * 2 * Float.BYTES);
+			m_Input.readFloats(zones, 0, zones.length);
+			for (final int offset : segmentOffsets)
+			{
+				if (zones[offset * 2 + 1] > p_Threshold)
+				{
+					candidates.set(time, blockEnd);
+					break;
+				}
+			}
+			time = p_TimeSteps.nextSetBit(blockEnd);
+		}
+		candidates.and(p_TimeSteps);
+		return candidates;
+	}
+
+	@Override
+	public String toString()
+	{
+		return MoreObjects.toStringHelper(this).add("input", m_Input)
+				.add("blockTimeSteps", m_BlockTimeSteps).toString();
+	}
+}
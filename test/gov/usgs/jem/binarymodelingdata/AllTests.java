@@ -1,11 +1,28 @@
 package gov.usgs.jem.binarymodelingdata;
 
+import gov.usgs.jem.binarymodelingdata.input.AggregateAccumulatorTest;
 import gov.usgs.jem.binarymodelingdata.input.BMDReaderTest;
 import gov.usgs.jem.binarymodelingdata.input.BMDSegmentImplTest;
 import gov.usgs.jem.binarymodelingdata.input.BMDTimeStepImplTest;
 import gov.usgs.jem.binarymodelingdata.input.BMDVariableImplTest;
+import gov.usgs.jem.binarymodelingdata.input.BlockCacheTest;
+import gov.usgs.jem.binarymodelingdata.input.CachedSeekableDataFileInputStreamImplTest;
+import gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriterTest;
+import gov.usgs.jem.binarymodelingdata.input.ChunkedSeekableDataFileInputStreamImplTest;
 import gov.usgs.jem.binarymodelingdata.input.ConcentrationImplTest;
+import gov.usgs.jem.binarymodelingdata.input.ConcentrationsCacheTest;
+import gov.usgs.jem.binarymodelingdata.input.ConcentrationsReadPlanTest;
+import gov.usgs.jem.binarymodelingdata.input.DenseAggregatesTest;
+import gov.usgs.jem.binarymodelingdata.input.DenseConcentrationsTest;
+import gov.usgs.jem.binarymodelingdata.input.DenseTimeSeriesOverviewTest;
+import gov.usgs.jem.binarymodelingdata.input.MappedSeekableDataFileInputStreamImplTest;
+import gov.usgs.jem.binarymodelingdata.input.PositionalSeekableDataFileInputStreamImplTest;
+import gov.usgs.jem.binarymodelingdata.input.PyramidSidecarTest;
 import gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImplTest;
+import gov.usgs.jem.binarymodelingdata.input.SidecarResolverTest;
+import gov.usgs.jem.binarymodelingdata.input.SidecarsTest;
+import gov.usgs.jem.binarymodelingdata.input.TransposedSidecarTest;
+import gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecarTest;
 import java.io.File;
 import org.apache.log4j.BasicConfigurator;
 import org.junit.Assert;
@@ -22,10 +39,22 @@ import org.junit.runners.Suite.SuiteClasses;
  *
  */
 @RunWith(Suite.class)
-@SuiteClasses({ BMDHeaderTest.class, BMDReaderTest.class,
-		BMDSegmentImplTest.class, BMDTimeStepImplTest.class,
-		BMDVariableImplTest.class, ConcentrationImplTest.class,
-		SeekableDataFileInputStreamImplTest.class, })
+@SuiteClasses({ AggregateAccumulatorTest.class, BMDHeaderTest.class,
+		BMDReaderTest.class, BMDSegmentImplTest.class,
+		BMDTimeStepImplTest.class, BMDVariableImplTest.class,
+		BlockCacheTest.class,
+		CachedSeekableDataFileInputStreamImplTest.class,
+		ChunkedBMDWriterTest.class,
+		ChunkedSeekableDataFileInputStreamImplTest.class,
+		ConcentrationImplTest.class, ConcentrationsCacheTest.class,
+		ConcentrationsReadPlanTest.class, DenseAggregatesTest.class,
+		DenseConcentrationsTest.class, DenseTimeSeriesOverviewTest.class,
+		MappedSeekableDataFileInputStreamImplTest.class,
+		PositionalSeekableDataFileInputStreamImplTest.class,
+		PyramidSidecarTest.class,
+		SeekableDataFileInputStreamImplTest.class,
+		SidecarResolverTest.class, SidecarsTest.class,
+		TransposedSidecarTest.class, ZoneMapSidecarTest.class, })
 public class AllTests
 {
 	/**
@@ -0,0 +1,648 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests the reads, seeks, and skips that every
+ * {@link AbstractChannelSeekableDataFileInputStream} implements in the same
+ * way. Subclasses provide the input to test and test how it fills windows.
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public abstract class AbstractChannelSeekableDataFileInputStreamTest
+{
+
+	/**
+	 * Create a new {@link ByteBuffer} instance from the provided array
+	 *
+	 * @param p_Array
+	 *            a byte array to use
+	 * @param p_Size
+	 *            the number of bytes from the beginning of the array to use
+	 * @return the new {@link ByteBuffer} instance
+	 * @since Oct 18, 2026
+	 */
+	static ByteBuffer buf(final byte[] p_Array, final int p_Size)
+	{
+		return ByteBuffer.wrap(Arrays.copyOf(p_Array, p_Size))
+				.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	ByteOrder					m_ByteOrder;
+
+	byte[]						m_Bytes;
+
+	private boolean				m_ExpectedBoolean;
+
+	private byte				m_ExpectedByte;
+
+	private byte[]				m_ExpectedBytes;
+
+	private char				m_ExpectedChar;
+
+	private char				m_ExpectedCharAscii;
+
+	private double				m_ExpectedDouble;
+
+	private float				m_ExpectedFloat;
+
+	private int					m_ExpectedInt;
+
+	private long				m_ExpectedLong;
+
+	private short				m_ExpectedShort;
+
+	private byte				m_ExpectedUByte;
+
+	private int					m_ExpectedUInt32;
+
+	private short				m_ExpectedUShort;
+
+	String						m_FilePath;
+
+	SeekableDataFileInputStream	m_Input;
+
+	/**
+	 * Creates one or more scenarios to compare the equality of two objects.
+	 *
+	 * @param p_TestEquals
+	 *            should test that the two provided objects are equal, either
+	 *            via the {@link Object#equals(Object)} method or by comparing
+	 *            their {@link Object#hashCode()} values.
+	 * @param p_TestNotEqual
+	 *            should test that the two provided objects are <b>NOT</b>
+	 *            equal, either via the {@link Object#equals(Object)} method or
+	 *            by comparing their {@link Object#hashCode()} values.
+	 * @throws Exception
+	 * @since Oct 18, 2026
+	 */
+	private void equalityTests(
+			final java.util.function.BiConsumer<Object, Object> p_TestEquals,
+			final java.util.function.BiConsumer<Object, Object> p_TestNotEqual)
+			throws Exception
+	{
+		p_TestEquals.accept(m_Input, m_Input);
+		try (SeekableDataFileInputStream stream = open(m_FilePath,
+				m_ByteOrder);)
+		{
+			p_TestEquals.accept(m_Input, stream);
+		}
+		try (SeekableDataFileInputStream stream = open(m_FilePath,
+				ByteOrder.BIG_ENDIAN);)
+		{
+			p_TestNotEqual.accept(m_Input, stream);
+		}
+	}
+
+	/**
+	 * Open the input to test
+	 *
+	 * @param p_FilePath
+	 *            the file path to read from
+	 * @param p_ByteOrder
+	 *            the {@link ByteOrder} endianness to use
+	 * @return the new input
+	 * @throws IOException
+	 *             if the file could not be opened
+	 * @since Oct 18, 2026
+	 */
+	abstract AbstractChannelSeekableDataFileInputStream open(String p_FilePath,
+			ByteOrder p_ByteOrder) throws IOException;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = AllTests.getTestFile().getAbsolutePath();
+		m_ByteOrder = ByteOrder.LITTLE_ENDIAN;
+		m_Input = open(m_FilePath, m_ByteOrder);
+
+		m_Bytes = new byte[] { 0x42, 0x4d, 0x44, 0x0f, 0x09, 0x00, 0x00, 0x00 };
+		m_ExpectedBoolean = true;
+		m_ExpectedByte = m_Bytes[0];
+		m_ExpectedChar = buf(m_Bytes, 2).getChar();
+		m_ExpectedCharAscii = (char) m_Bytes[0];
+		m_ExpectedDouble = buf(m_Bytes, Double.BYTES).getDouble();
+		m_ExpectedFloat = buf(m_Bytes, Float.BYTES).getFloat();
+		m_ExpectedBytes = Arrays.copyOf(m_Bytes, 2);
+		m_ExpectedInt = buf(m_Bytes, Integer.BYTES).getInt();
+		m_ExpectedLong = buf(m_Bytes, Long.BYTES).getLong();
+		m_ExpectedShort = buf(m_Bytes, Short.BYTES).getShort();
+		m_ExpectedUInt32 = m_ExpectedInt;
+		m_ExpectedUByte = m_ExpectedByte;
+		m_ExpectedUShort = m_ExpectedShort;
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Input.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#close()}.
+	 */
+	@Test
+	public final void testClose()
+	{
+		try
+		{
+			m_Input.close();
+		}
+		catch (final IOException e)
+		{
+			e.printStackTrace();
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#duplicate()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testDuplicate() throws IOException
+	{
+		final byte[] expecteds = new byte[16];
+		m_Input.readFully(expecteds);
+		m_Input.seek(8);
+		try (SeekableDataFileInputStream duplicate = m_Input.duplicate();)
+		{
+			Assert.assertNotSame(m_Input, duplicate);
+			Assert.assertEquals(m_Input, duplicate);
+
+			/**
+			 * Positions are independent
+			 */
+			final byte[] actuals = new byte[16];
+			duplicate.readFully(actuals, 0, 8);
+			m_Input.readFully(actuals, 8, 8);
+			Assert.assertArrayEquals(expecteds, actuals);
+		}
+
+		/**
+		 * Closing the duplicate does not close the source
+		 */
+		m_Input.seek(0);
+		Assert.assertEquals(expecteds[0], m_Input.readByte());
+	}
+
+	@Test
+	public final void testEquals() throws Exception
+	{
+		final java.util.function.BiConsumer<Object, Object> testEquals = (same,
+				alsosame) ->
+		{
+			org.junit.Assert.assertEquals(same, alsosame);
+		};
+		final java.util.function.BiConsumer<Object, Object> testNotEqual = (one,
+				two) ->
+		{
+			org.junit.Assert.assertNotEquals(one, two);
+		};
+		equalityTests(testEquals, testNotEqual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#getByteOrder()}.
+	 */
+	@Test
+	public final void testGetByteOrder()
+	{
+		Assert.assertEquals(m_ByteOrder, m_Input.getByteOrder());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#getFilePath()}.
+	 */
+	@Test
+	public final void testGetFilePath()
+	{
+		Assert.assertEquals(m_FilePath, m_Input.getFilePath());
+	}
+
+	@Test
+	public final void testHashCode() throws Exception
+	{
+		final java.util.function.BiConsumer<Object, Object> testEquals = (same,
+				alsosame) ->
+		{
+			org.junit.Assert.assertEquals(same.hashCode(), alsosame.hashCode());
+		};
+		final java.util.function.BiConsumer<Object, Object> testNotEqual = (one,
+				two) ->
+		{
+			org.junit.Assert.assertNotEquals(one.hashCode(), two.hashCode());
+		};
+		equalityTests(testEquals, testNotEqual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readBoolean()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadBoolean() throws IOException
+	{
+		final boolean actual = m_Input.readBoolean();
+		Assert.assertEquals(m_ExpectedBoolean, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readByte()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadByte() throws IOException
+	{
+		final byte actual = m_Input.readByte();
+		Assert.assertEquals(m_ExpectedByte, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readChar()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadChar() throws IOException
+	{
+		final char actual = m_Input.readChar();
+		Assert.assertEquals(m_ExpectedChar, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readCharsAsAscii(int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadCharsAsAscii() throws IOException
+	{
+		final char[] actual = m_Input.readCharsAsAscii(1);
+		Assert.assertEquals(m_ExpectedCharAscii, actual[0]);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readDouble()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadDouble() throws IOException
+	{
+		final double actual = m_Input.readDouble();
+		Assert.assertEquals(m_ExpectedDouble, actual, Double.MIN_NORMAL);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readFloat()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFloat() throws IOException
+	{
+		final float actual = m_Input.readFloat();
+		Assert.assertEquals(m_ExpectedFloat, actual, Float.MIN_NORMAL);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readFloats(float[], int, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFloatsFloatArrayIntInt() throws IOException
+	{
+		final int count = 1000;
+		final float[] expecteds = new float[count];
+		for (int i = 0; i < count; i++)
+		{
+			expecteds[i] = m_Input.readFloat();
+		}
+		m_Input.seek(0);
+		final float[] actuals = new float[count + 2];
+		m_Input.readFloats(actuals, 1, count);
+		Assert.assertArrayEquals(expecteds,
+				Arrays.copyOfRange(actuals, 1, count + 1), 0.0f);
+		Assert.assertEquals(m_ExpectedFloat, expecteds[0], Float.MIN_NORMAL);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readFloats(java.nio.FloatBuffer)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFloatsFloatBuffer() throws IOException
+	{
+		final int count = 1000;
+		final float[] expecteds = new float[count];
+		for (int i = 0; i < count; i++)
+		{
+			expecteds[i] = m_Input.readFloat();
+		}
+		m_Input.seek(0);
+		final java.nio.FloatBuffer actuals = ByteBuffer
+				.allocateDirect(count * Float.BYTES).asFloatBuffer();
+		m_Input.readFloats(actuals);
+		Assert.assertFalse(actuals.hasRemaining());
+		actuals.flip();
+		for (int i = 0; i < count; i++)
+		{
+			Assert.assertEquals(expecteds[i], actuals.get(i), 0.0f);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readFully(byte[])}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFullyByteArray() throws IOException
+	{
+		final byte[] actual = new byte[2];
+		m_Input.readFully(actual);
+		Assert.assertArrayEquals(m_ExpectedBytes, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readFully(byte[], int, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFullyByteArrayIntInt() throws IOException
+	{
+		final byte[] actual = new byte[2];
+		m_Input.readFully(actual, 0, 2);
+		Assert.assertArrayEquals(m_ExpectedBytes, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readInt()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadInt() throws IOException
+	{
+		final int actual = m_Input.readInt();
+		Assert.assertEquals(m_ExpectedInt, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readLine()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadLine() throws IOException
+	{
+		final Path path = Files.createTempFile(getClass().getSimpleName(),
+				".txt");
+		try
+		{
+			Files.write(path, "one\ntwo\r\nthree\r\rfour"
+					.getBytes(StandardCharsets.ISO_8859_1));
+			try (
+				AbstractChannelSeekableDataFileInputStream input = open(
+						path.toString(), m_ByteOrder);)
+			{
+				Assert.assertEquals("one", input.readLine());
+				Assert.assertEquals("two", input.readLine());
+				Assert.assertEquals("three", input.readLine());
+				Assert.assertEquals("", input.readLine());
+				Assert.assertEquals("four", input.readLine());
+				Assert.assertNull(input.readLine());
+			}
+		}
+		finally
+		{
+			Files.delete(path);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readLong()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadLong() throws IOException
+	{
+		final long actual = m_Input.readLong();
+		Assert.assertEquals(m_ExpectedLong, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readShort()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadShort() throws IOException
+	{
+		final short actual = m_Input.readShort();
+		Assert.assertEquals(m_ExpectedShort, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readUInt32()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadUInt32() throws IOException
+	{
+		final int actual = m_Input.readUInt32();
+		Assert.assertEquals(m_ExpectedUInt32, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readUnsignedByte()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadUnsignedByte() throws IOException
+	{
+		final int actual = m_Input.readUnsignedByte();
+		Assert.assertEquals(m_ExpectedUByte, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readUnsignedShort()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadUnsignedShort() throws IOException
+	{
+		final int actual = m_Input.readUnsignedShort();
+		Assert.assertEquals(m_ExpectedUShort, actual);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#readUTF()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadUTF() throws IOException
+	{
+		/**
+		 * Not used.
+		 */
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#seek(long)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testSeek() throws IOException
+	{
+		final int position = 4;
+		final long seek = m_Input.seek(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position], m_Input.readByte());
+		/**
+		 * Seeking past the end of the file stops at the end of the file
+		 */
+		final long size = new java.io.File(m_FilePath).length();
+		Assert.assertEquals(size, m_Input.seek(size + 10L));
+		Assert.assertEquals(1, m_Input.seek(1));
+	}
+
+	/**
+	 * Seeks past {@link Integer#MAX_VALUE} in a sparse file.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testSeekBeyondIntegerRange() throws IOException
+	{
+		final java.io.File file = java.io.File.createTempFile("large", ".bmd");
+		file.deleteOnExit();
+		final long position = Integer.MAX_VALUE + 5L;
+		try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(file,
+				"rw");)
+		{
+			raf.setLength(position + Float.BYTES);
+			raf.seek(position);
+			raf.write(buf(m_Bytes, Float.BYTES).array());
+		}
+		try (SeekableDataFileInputStream input = open(file.getAbsolutePath(),
+				m_ByteOrder);)
+		{
+			Assert.assertEquals(position, input.seek(position));
+			Assert.assertEquals(m_ExpectedFloat, input.readFloat(),
+					Float.MIN_NORMAL);
+			input.seek(0);
+			Assert.assertEquals(position - 1,
+					input.skipBytesAggressive(position - 1));
+			Assert.assertEquals(0, input.readByte());
+		}
+		finally
+		{
+			file.delete();
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#skipBytes(int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testSkipBytes() throws IOException
+	{
+		final int position = 2;
+		int seek = m_Input.skipBytes(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position], m_Input.readByte());
+
+		seek = m_Input.skipBytes(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position + position + 1],
+				m_Input.readByte());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AbstractChannelSeekableDataFileInputStream#skipBytesAggressive(long)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testSkipBytesAggressive() throws IOException
+	{
+		final int position = 2;
+		long seek = m_Input.skipBytesAggressive(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position], m_Input.readByte());
+
+		seek = m_Input.skipBytesAggressive(position);
+		Assert.assertEquals(position, seek);
+		Assert.assertEquals(m_Bytes[position + position + 1],
+				m_Input.readByte());
+	}
+
+}
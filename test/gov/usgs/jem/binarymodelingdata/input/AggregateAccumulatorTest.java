@@ -0,0 +1,141 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import java.util.Arrays;
+import java.util.EnumSet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link AggregateAccumulator}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class AggregateAccumulatorTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = AggregateAccumulator.class;
+		final Class<?> testingClass = AggregateAccumulatorTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private AggregateAccumulator m_Accumulator;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Accumulator = new AggregateAccumulator(
+				EnumSet.allOf(AggregateFunction.class), 3);
+
+		/**
+		 * Cell 1 has the values 4, -2, NaN, and 7; cell 2 has no values
+		 */
+		m_Accumulator.accept(1, 4.0f);
+		m_Accumulator.accept(1, -2.0f);
+		m_Accumulator.accept(1, Float.NaN);
+		m_Accumulator.accept(1, 7.0f);
+		m_Accumulator.accept(0, 0.5f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AggregateAccumulator#accept(int, float)}.
+	 */
+	@Test
+	public final void testAccept()
+	{
+		final AggregateAccumulator accumulator = new AggregateAccumulator(
+				Arrays.asList(AggregateFunction.MIN), 1);
+		accumulator.accept(0, 3.0f);
+		accumulator.accept(0, 1.0f);
+		accumulator.accept(0, 2.0f);
+		Assert.assertEquals(1.0f,
+				accumulator.getValue(AggregateFunction.MIN, 0), 0.0f);
+		Assert.assertEquals(3, accumulator.getCount(0));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AggregateAccumulator#getCount(int)}.
+	 */
+	@Test
+	public final void testGetCount()
+	{
+		Assert.assertEquals(1, m_Accumulator.getCount(0));
+		Assert.assertEquals(3, m_Accumulator.getCount(1));
+		Assert.assertEquals(0, m_Accumulator.getCount(2));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.AggregateAccumulator#getValue(AggregateFunction, int)}.
+	 */
+	@Test
+	public final void testGetValue()
+	{
+		Assert.assertEquals(-2.0f,
+				m_Accumulator.getValue(AggregateFunction.MIN, 1), 0.0f);
+		Assert.assertEquals(7.0f,
+				m_Accumulator.getValue(AggregateFunction.MAX, 1), 0.0f);
+		Assert.assertEquals(3.0f,
+				m_Accumulator.getValue(AggregateFunction.MEAN, 1), 0.0f);
+		Assert.assertEquals(9.0f,
+				m_Accumulator.getValue(AggregateFunction.SUM, 1), 0.0f);
+
+		/**
+		 * No values
+		 */
+		Assert.assertTrue(
+				Float.isNaN(m_Accumulator.getValue(AggregateFunction.MIN, 2)));
+		Assert.assertTrue(
+				Float.isNaN(m_Accumulator.getValue(AggregateFunction.MAX, 2)));
+		Assert.assertTrue(Float
+				.isNaN(m_Accumulator.getValue(AggregateFunction.MEAN, 2)));
+		Assert.assertEquals(0.0f,
+				m_Accumulator.getValue(AggregateFunction.SUM, 2), 0.0f);
+
+		/**
+		 * State is kept only for the requested functions
+		 */
+		final AggregateAccumulator maxima = new AggregateAccumulator(
+				Arrays.asList(AggregateFunction.MAX), 1);
+		for (final AggregateFunction function : Arrays.asList(
+				AggregateFunction.MIN, AggregateFunction.MEAN,
+				AggregateFunction.SUM))
+		{
+			try
+			{
+				maxima.getValue(function, 0);
+				Assert.fail("Expected an unrequested function to fail.");
+			}
+			catch (final IllegalArgumentException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+}
@@ -1,18 +1,46 @@
 package gov.usgs.jem.binarymodelingdata.input;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import gov.usgs.jem.binarymodelingdata.Aggregates;
 import gov.usgs.jem.binarymodelingdata.AllTests;
 import gov.usgs.jem.binarymodelingdata.BMDHeader;
 import gov.usgs.jem.binarymodelingdata.BMDSegment;
 import gov.usgs.jem.binarymodelingdata.BMDTimeStep;
 import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import gov.usgs.jem.binarymodelingdata.Concentration;
 import gov.usgs.jem.binarymodelingdata.Concentrations;
+import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
+import gov.usgs.jem.binarymodelingdata.TimeSeriesOverview;
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.DoubleSummaryStatistics;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.After;
@@ -48,6 +76,187 @@ public class BMDReaderTest
 		AllTests.assertHasRequiredMethods(classToTest, testingClass);
 	}
 
+	/**
+	 * Assert that the provided concentrations have the same dimensions and
+	 * values.
+	 *
+	 * @param p_Expecteds
+	 *            the expected concentrations
+	 * @param p_Actuals
+	 *            the actual concentrations
+	 * @since Oct 18, 2026
+	 */
+	static void assertSameValues(final Concentrations p_Expecteds,
+			final Concentrations p_Actuals)
+	{
+		Assert.assertEquals(p_Expecteds.getVariables(),
+				p_Actuals.getVariables());
+		Assert.assertEquals(p_Expecteds.getSegments(),
+				p_Actuals.getSegments());
+		Assert.assertEquals(p_Expecteds.getTimeSteps(),
+				p_Actuals.getTimeSteps());
+		int count = 0;
+		for (final Concentration expected : p_Expecteds)
+		{
+			final Concentration actual = p_Actuals.get(expected.getVariable(),
+					expected.getSegment(), expected.getTimeStep());
+			Assert.assertEquals(Float.floatToRawIntBits(expected.getValue()),
+					Float.floatToRawIntBits(actual.getValue()));
+			Assert.assertEquals(Float.floatToRawIntBits(expected.getValue()),
+					Float.floatToRawIntBits(p_Actuals.getValue(
+							expected.getVariable().getIndex(),
+							expected.getSegment().getIndex(),
+							expected.getTimeStep().getIndex())));
+			count++;
+		}
+		Assert.assertEquals(p_Expecteds.getVariables().size()
+				* p_Expecteds.getSegments().size()
+				* p_Expecteds.getTimeSteps().size(), count);
+	}
+
+	/**
+	 * Assert that an overview has the expected bins, and that each bin holds
+	 * the minimum, maximum, and mean of its time steps.
+	 *
+	 * @param p_Expecteds
+	 *            the values of every time step
+	 * @param p_Overview
+	 *            the actual overview
+	 * @param p_BinTimeSteps
+	 *            the expected number of time steps in each bin
+	 * @param p_FirstTimeStep
+	 *            the expected first time step of the first bin
+	 * @param p_NumBins
+	 *            the expected number of bins
+	 * @since Oct 18, 2026
+	 */
+	private static void assertOverview(final Concentrations p_Expecteds,
+			final TimeSeriesOverview p_Overview, final int p_BinTimeSteps,
+			final int p_FirstTimeStep, final int p_NumBins)
+	{
+		final int numTimes = p_Expecteds.getTimeSteps().size();
+		Assert.assertEquals(p_BinTimeSteps, p_Overview.getBinTimeSteps());
+		Assert.assertEquals(IntStream.range(0, p_NumBins)
+				.map(bin -> p_FirstTimeStep + bin * p_BinTimeSteps)
+				.boxed().collect(Collectors.toList()),
+				p_Overview.getTimeSteps().stream()
+						.map(BMDTimeStep::getIndex)
+						.collect(Collectors.toList()));
+		final int variable = p_Overview.getVariable().getIndex();
+		final int segment = p_Overview.getSegment().getIndex();
+		for (final AggregateFunction function : Arrays.asList(
+				AggregateFunction.MIN, AggregateFunction.MAX,
+				AggregateFunction.MEAN))
+		{
+			final float[] values = p_Overview.getValues(function);
+			Assert.assertEquals(p_NumBins, values.length);
+			for (int bin = 0; bin < p_NumBins; bin++)
+			{
+				final int first = p_FirstTimeStep + bin * p_BinTimeSteps;
+				final DoubleSummaryStatistics stats = IntStream
+						.range(first,
+								Math.min(numTimes, first + p_BinTimeSteps))
+						.mapToDouble(time -> p_Expecteds.getValue(variable,
+								segment, time))
+						.summaryStatistics();
+				final double expected = expected(function, stats);
+				Assert.assertEquals(expected, values[bin],
+						Math.abs(expected) * 1e-5);
+			}
+		}
+	}
+
+	/**
+	 * Assert that time bins of the provided width, aligned to the provided
+	 * origin, have the expected time steps and reduced values for every
+	 * {@link AggregateFunction}.
+	 *
+	 * @param p_Expecteds
+	 *            the values of every time step
+	 * @param p_TimeSteps
+	 *            every time step of the file
+	 * @param p_Width
+	 *            the width of each bin
+	 * @param p_Origin
+	 *            the start of a bin
+	 * @param p_Query
+	 *            creates the query with time bins for a function
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private static void assertTimeBins(final Concentrations p_Expecteds,
+			final List<BMDTimeStep> p_TimeSteps, final Duration p_Width,
+			final Instant p_Origin,
+			final Function<AggregateFunction, ConcentrationsQuery> p_Query)
+			throws IOException
+	{
+		/**
+		 * Group the time steps by bin
+		 */
+		final long origin = p_Origin.toEpochMilli();
+		final Map<Long, List<BMDTimeStep>> bins = p_TimeSteps.stream()
+				.collect(Collectors.groupingBy(
+						timeStep -> Math.floorDiv(timeStep.getTime() - origin,
+								p_Width.toMillis()),
+						TreeMap::new, Collectors.toList()));
+		Assert.assertTrue(bins.size() > 1);
+		for (final AggregateFunction function : AggregateFunction.values())
+		{
+			final Concentrations actuals = p_Query.apply(function).execute();
+			Assert.assertEquals(
+					bins.values().stream().map(bin -> bin.get(0))
+							.collect(Collectors.toList()),
+					actuals.getTimeSteps());
+			for (final List<BMDTimeStep> bin : bins.values())
+			{
+				for (int variable = 0; variable < 3; variable++)
+				{
+					for (int segment = 5; segment < 10; segment++)
+					{
+						final int variableIndex = variable;
+						final int segmentIndex = segment;
+						final DoubleSummaryStatistics stats = bin.stream()
+								.mapToDouble(timeStep -> p_Expecteds.getValue(
+										variableIndex, segmentIndex,
+										timeStep.getIndex()))
+								.summaryStatistics();
+						final double expected = expected(function, stats);
+						Assert.assertEquals(expected,
+								actuals.getValue(variable, segment,
+										bin.get(0).getIndex()),
+								1e-4 * Math.abs(expected));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the expected reduced value
+	 *
+	 * @param p_Function
+	 *            the function
+	 * @param p_Stats
+	 *            the statistics of the values
+	 * @return the value of the function for the values
+	 * @since Oct 18, 2026
+	 */
+	private static double expected(final AggregateFunction p_Function,
+			final DoubleSummaryStatistics p_Stats)
+	{
+		switch (p_Function)
+		{
+			case MIN:
+				return p_Stats.getMin();
+			case MAX:
+				return p_Stats.getMax();
+			case SUM:
+				return p_Stats.getSum();
+			default:
+				return p_Stats.getAverage();
+		}
+	}
+
 	private double		m_MaxTime;
 	private double		m_MinTime;
 	private BMDReader	m_Reader;
@@ -91,6 +300,70 @@ public class BMDReaderTest
 		m_Reader.close();
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#findSegment(java.lang.String)}.
+	 */
+	@Test
+	public final void testFindSegment()
+	{
+		final BMDSegment segment = m_Reader.findSegment("Seg 16").get();
+		Assert.assertEquals("Seg 16", segment.getName());
+		Assert.assertSame(segment,
+				m_Reader.getSegments().get(segment.getIndex()));
+		Assert.assertFalse(m_Reader.findSegment("Seg 0").isPresent());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#findVariable(java.lang.String)}.
+	 */
+	@Test
+	public final void testFindVariable()
+	{
+		for (final BMDVariable variable : m_Reader.getVariables())
+		{
+			Assert.assertEquals(variable.getName(),
+					m_Reader.findVariable(variable.getName()).get().getName());
+		}
+		final BMDVariable variable = m_Reader.findVariable("Distance (mi)")
+				.get();
+		Assert.assertEquals("Distance (mi)", variable.getName());
+		Assert.assertSame(variable,
+				m_Reader.getVariables().get(variable.getIndex()));
+		Assert.assertFalse(m_Reader.findVariable("DISTANCE").isPresent());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#findVariableByPCode(java.lang.String)}.
+	 */
+	@Test
+	public final void testFindVariableByPCode()
+	{
+		final BMDVariable variable = m_Reader.findVariableByPCode("DISTANCE")
+				.get();
+		Assert.assertEquals("Distance (mi)", variable.getName());
+		Assert.assertEquals("DISTANCE", variable.getPCode());
+		Assert.assertSame(variable,
+				m_Reader.getVariables().get(variable.getIndex()));
+		Assert.assertFalse(
+				m_Reader.findVariableByPCode("Distance (mi)").isPresent());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#getConcentrationsLocation()}.
+	 */
+	@Test
+	public final void testGetConcentrationsLocation()
+	{
+		Assert.assertEquals(
+				BMDHeader.LOCATION_VARIABLES
+						+ m_Reader.getVariables().size() * (18 + 12),
+				m_Reader.getConcentrationsLocation());
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#getFilePath()}.
@@ -177,6 +450,7 @@ public class BMDReaderTest
 		final Set<String> actuals = segments.stream().map(BMDSegment::getName)
 				.collect(Collectors.toSet());
 		expecteds.forEach(x -> Assert.assertTrue(actuals.contains(x)));
+		Assert.assertSame(segments, m_Reader.getSegments());
 	}
 
 	/**
@@ -189,6 +463,7 @@ public class BMDReaderTest
 		final List<BMDTimeStep> timesteps = m_Reader.getTimeSteps();
 		final int numTimesteps = 66;
 		Assert.assertEquals(numTimesteps, timesteps.size());
+		Assert.assertSame(timesteps, m_Reader.getTimeSteps());
 
 		final DoubleSummaryStatistics summaryStatistics = timesteps.stream()
 				.mapToDouble(BMDTimeStep::getValue).summaryStatistics();
@@ -196,6 +471,17 @@ public class BMDReaderTest
 				Double.MIN_NORMAL);
 		Assert.assertEquals(m_MaxTime, summaryStatistics.getMax(),
 				Double.MIN_NORMAL);
+
+		/**
+		 * Times are days since the seed date, rounded to the second
+		 */
+		for (final BMDTimeStep timestep : timesteps)
+		{
+			Assert.assertEquals(
+					m_Reader.getSeedDate().toInstant().plusSeconds(
+							Math.round(timestep.getValue() * 60 * 60 * 24)),
+					timestep.getInstant());
+		}
 	}
 
 	/**
@@ -230,6 +516,7 @@ public class BMDReaderTest
 		final List<BMDVariable> variables = m_Reader.getVariables();
 		final int numVariables = 17;
 		Assert.assertEquals(numVariables, variables.size());
+		Assert.assertSame(variables, m_Reader.getVariables());
 
 		final Set<String> expecteds = Sets.newHashSet("ALGAE", "COLIFORM BACT",
 				"DO", "FE", "MN", "PO4", "ORGANIC-P", "NO3-N", "NH3-N",
@@ -240,23 +527,115 @@ public class BMDReaderTest
 		expecteds.forEach(x -> Assert.assertTrue(actuals.contains(x)));
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#getVariableSegmentMax(int, int)}.
+	 */
+	@Test
+	public final void testGetVariableSegmentMaxIntInt()
+	{
+		final List<BMDVariable> variables = m_Reader.getVariables();
+		final List<BMDSegment> segments = m_Reader.getSegments();
+		final Set<String> segmentNames = Sets.newHashSet();
+		for (final BMDSegment segment : segments)
+		{
+			/**
+			 * Only unique names can be looked up by name
+			 */
+			if (!segmentNames.add(segment.getName()))
+			{
+				continue;
+			}
+			for (final BMDVariable variable : variables)
+			{
+				Assert.assertEquals(
+						m_Reader.getVariableSegmentMax(variable.getName(),
+								segment.getName()),
+						m_Reader.getVariableSegmentMax(variable.getIndex(),
+								segment.getIndex()),
+						0.0f);
+			}
+		}
+		for (final int[] invalid : new int[][] { { -1, 0 },
+				{ variables.size(), 0 }, { 0, -1 }, { 0, segments.size() } })
+		{
+			try
+			{
+				m_Reader.getVariableSegmentMax(invalid[0], invalid[1]);
+				Assert.fail("Expected an invalid index to fail.");
+			}
+			catch (final IndexOutOfBoundsException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#getVariableSegmentMax(java.lang.String, java.lang.String)}.
 	 */
 	@Test
-	public final void testGetVariableSegmentMax()
+	public final void testGetVariableSegmentMaxStringString()
 	{
 		Assert.assertEquals(0.0,
 				m_Reader.getVariableSegmentMin("ALGAE", "Seg 16"), 0.001);
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#getVariableSegmentMin(int, int)}.
+	 */
+	@Test
+	public final void testGetVariableSegmentMinIntInt()
+	{
+		final List<BMDVariable> variables = m_Reader.getVariables();
+		final List<BMDSegment> segments = m_Reader.getSegments();
+		final Set<String> segmentNames = Sets.newHashSet();
+		for (final BMDSegment segment : segments)
+		{
+			/**
+			 * Only unique names can be looked up by name
+			 */
+			if (!segmentNames.add(segment.getName()))
+			{
+				continue;
+			}
+			for (final BMDVariable variable : variables)
+			{
+				Assert.assertEquals(
+						m_Reader.getVariableSegmentMin(variable.getName(),
+								segment.getName()),
+						m_Reader.getVariableSegmentMin(variable.getIndex(),
+								segment.getIndex()),
+						0.0f);
+			}
+		}
+		for (final int[] invalid : new int[][] { { -1, 0 },
+				{ variables.size(), 0 }, { 0, -1 }, { 0, segments.size() } })
+		{
+			try
+			{
+				m_Reader.getVariableSegmentMin(invalid[0], invalid[1]);
+				Assert.fail("Expected an invalid index to fail.");
+			}
+			catch (final IndexOutOfBoundsException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#getVariableSegmentMin(java.lang.String, java.lang.String)}.
 	 */
 	@Test
-	public final void testGetVariableSegmentMin()
+	public final void testGetVariableSegmentMinStringString()
 	{
 		Assert.assertEquals(15.30,
 				m_Reader.getVariableSegmentMin("Distance (mi)", "Seg 16"),
@@ -287,13 +666,1094 @@ public class BMDReaderTest
 				Float.MIN_NORMAL));
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsQuery#aggregateOverSegments(AggregateFunction...)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryAggregateOverSegments()
+			throws IOException
+	{
+		final Concentrations expecteds = m_Reader.newConcentrationsQuery()
+				.withVariableRange(2, 6).withSegmentRange(5, 30)
+				.withTimeStepRange(10, 50).execute();
+		final Aggregates<BMDTimeStep> actuals = m_Reader
+				.newConcentrationsQuery().withVariableRange(2, 6)
+				.withSegmentRange(5, 30).withTimeStepRange(10, 50)
+				.aggregateOverSegments(AggregateFunction.MEAN,
+						AggregateFunction.MAX);
+		Assert.assertEquals(expecteds.getTimeSteps(), actuals.getKeys());
+		Assert.assertEquals(expecteds.getVariables(),
+				actuals.getVariables());
+		for (final BMDVariable variable : expecteds.getVariables())
+		{
+			final float[] means = actuals.getValues(AggregateFunction.MEAN,
+					variable.getIndex());
+			for (int time = 10; time < 50; time++)
+			{
+				final int timeStep = time;
+				final DoubleSummaryStatistics stats = IntStream.range(5, 30)
+						.mapToDouble(segment -> expecteds.getValue(
+								variable.getIndex(), segment, timeStep))
+						.summaryStatistics();
+				Assert.assertEquals(25,
+						actuals.getCount(variable.getIndex(), time));
+				Assert.assertEquals(stats.getAverage(), means[time - 10],
+						1e-4 * Math.abs(stats.getAverage()));
+				Assert.assertEquals(stats.getMax(),
+						actuals.getValue(AggregateFunction.MAX,
+								variable.getIndex(), time),
+						0.0);
+			}
+		}
+
+		try
+		{
+			m_Reader.newConcentrationsQuery().withAllVariables()
+					.withAllSegments().withAllTimeSteps()
+					.aggregateOverSegments();
+			Assert.fail("Expected no functions to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsQuery#aggregateOverTime(AggregateFunction...)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryAggregateOverTime()
+			throws IOException
+	{
+		final String filePath = TransposedSidecarTest.copyTestFile();
+		try (BMDReader reader = BMDReader.open(filePath);)
+		{
+			final Concentrations expecteds = reader.newConcentrationsQuery()
+					.withAllVariables().withAllSegments().withAllTimeSteps()
+					.execute();
+			final BMDVariable predicate = reader.getVariables().get(3);
+			final float threshold = expecteds.getValue(3, 17, 20);
+			final List<Integer> matches = IntStream.range(0, 66)
+					.filter(time -> expecteds.getValue(3, 17, time) > threshold)
+					.boxed().collect(Collectors.toList());
+			Assert.assertTrue(matches.size() > 0);
+
+			/**
+			 * Without, then with, the transposed sidecar
+			 */
+			for (int pass = 0; pass < 2; pass++)
+			{
+				if (pass == 1)
+				{
+					TransposedSidecar.write(filePath);
+				}
+				final Aggregates<BMDSegment> actuals = reader
+						.newConcentrationsQuery().withVariableRange(0, 5)
+						.withSegmentRange(17, 18).withTimeStepRange(3, 60)
+						.aggregateOverTime(AggregateFunction.values());
+				Assert.assertEquals(
+						Arrays.asList(reader.getSegments().get(17)),
+						actuals.getKeys());
+				for (int variable = 0; variable < 5; variable++)
+				{
+					final int variableIndex = variable;
+					final DoubleSummaryStatistics stats = IntStream
+							.range(3, 60)
+							.mapToDouble(time -> expecteds
+									.getValue(variableIndex, 17, time))
+							.summaryStatistics();
+					Assert.assertEquals(57,
+							actuals.getCount(variable, 17));
+					Assert.assertEquals(stats.getMin(), actuals.getValue(
+							AggregateFunction.MIN, variable, 17), 0.0);
+					Assert.assertEquals(stats.getMax(), actuals.getValue(
+							AggregateFunction.MAX, variable, 17), 0.0);
+					Assert.assertEquals(stats.getSum(),
+							actuals.getValue(AggregateFunction.SUM, variable,
+									17),
+							1e-4 * Math.abs(stats.getSum()));
+					Assert.assertEquals(stats.getAverage(),
+							actuals.getValue(AggregateFunction.MEAN, variable,
+									17),
+							1e-4 * Math.abs(stats.getAverage()));
+				}
+
+				/**
+				 * Only the time steps satisfying predicates are reduced
+				 */
+				final Aggregates<BMDSegment> filtered = reader
+						.newConcentrationsQuery().withVariableRange(3, 4)
+						.withSegmentRange(17, 18).withAllTimeSteps()
+						.whereValueAbove(predicate, threshold)
+						.aggregateOverTime(AggregateFunction.MIN);
+				Assert.assertEquals(matches.size(), filtered.getCount(3, 17));
+				Assert.assertTrue(filtered.getValue(AggregateFunction.MIN, 3,
+						17) > threshold);
+			}
+		}
+		finally
+		{
+			TransposedSidecarTest.deleteTestFile(filePath);
+		}
+	}
+
+	/**
+	 * Test canceling
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#newConcentrationsQuery()}
+	 * keeps only the time steps that were read.
+	 *
+	 * @throws IOException
+	 *             unable to read
+	 */
+	@Test
+	public final void testNewConcentrationsQueryCanceled() throws IOException
+	{
+		final int[] worked = new int[1];
+		final Concentrations concentrations = m_Reader.newConcentrationsQuery()
+				.withAllVariables().withAllSegments().withAllTimeSteps()
+				.withProgress(new IProgressMonitor()
+				{
+					@Override
+					public boolean isCanceled()
+					{
+						return worked[0] == 2;
+					}
+
+					@Override
+					public void worked(final int p_Work)
+					{
+						worked[0] += p_Work;
+					}
+				}).execute();
+		Assert.assertEquals(m_Reader.getVariables(),
+				concentrations.getVariables());
+		Assert.assertEquals(m_Reader.getSegments(),
+				concentrations.getSegments());
+		Assert.assertEquals(m_Reader.getTimeSteps().subList(0, 3),
+				concentrations.getTimeSteps());
+		assertSameValues(m_Reader.newConcentrationsQuery().withAllVariables()
+				.withAllSegments()
+				.withTimeSteps(m_Reader.getTimeSteps().subList(0, 3)).execute(),
+				concentrations);
+	}
+
+	/**
+	 * Test concurrent executions of
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#newConcentrationsQuery()}
+	 * against the same reader.
+	 *
+	 * @throws Exception
+	 *             unable to read
+	 */
+	@Test
+	public final void testNewConcentrationsQueryConcurrent() throws Exception
+	{
+		final int numSegments = m_Reader.getSegments().size();
+		final List<Concentrations> expecteds = Lists.newArrayList();
+		for (int segment = 0; segment < numSegments; segment++)
+		{
+			expecteds.add(m_Reader.newConcentrationsQuery().withAllVariables()
+					.withSegmentRange(segment, segment + 1).withAllTimeSteps()
+					.execute());
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try
+		{
+			final List<Future<Concentrations>> futures = Lists.newArrayList();
+			for (int repeat = 0; repeat < 4; repeat++)
+			{
+				for (int segment = 0; segment < numSegments; segment++)
+				{
+					final int index = segment;
+					futures.add(executor.submit(() -> m_Reader
+							.newConcentrationsQuery().withAllVariables()
+							.withSegmentRange(index, index + 1)
+							.withAllTimeSteps().execute()));
+				}
+			}
+			for (int i = 0; i < futures.size(); i++)
+			{
+				assertSameValues(expecteds.get(i % numSegments),
+						futures.get(i).get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Test
+	 * {@link ConcentrationsQuery#executeStreaming(gov.usgs.jem.binarymodelingdata.ConcentrationConsumer)}
+	 * delivers the same values as {@link ConcentrationsQuery#execute()}, in
+	 * file order, and stops when canceled.
+	 *
+	 * @throws IOException
+	 *             unable to read
+	 */
+	@Test
+	public final void testNewConcentrationsQueryExecuteStreaming()
+			throws IOException
+	{
+		final List<BMDVariable> variables = m_Reader.getVariables();
+		final List<BMDSegment> segments = m_Reader.getSegments();
+		final List<BMDTimeStep> timeSteps = m_Reader.getTimeSteps();
+		final List<BMDVariable> queryVariables = Arrays
+				.asList(variables.get(2), variables.get(5), variables.get(6));
+		final List<BMDSegment> querySegments = Arrays.asList(segments.get(0),
+				segments.get(20), segments.get(39));
+		final List<BMDTimeStep> queryTimeSteps = timeSteps.subList(10, 20);
+		final Concentrations expecteds = m_Reader.newConcentrationsQuery()
+				.withVariables(queryVariables).withSegments(querySegments)
+				.withTimeSteps(queryTimeSteps).execute();
+
+		final int[] count = new int[1];
+		m_Reader.newConcentrationsQuery().withVariables(queryVariables)
+				.withSegments(querySegments).withTimeSteps(queryTimeSteps)
+				.executeStreaming((variable, segment, timeStep, value) ->
+				{
+					final int next = count[0]++;
+					Assert.assertEquals(queryVariables.get(next % 3).getIndex(),
+							variable);
+					Assert.assertEquals(
+							querySegments.get(next / 3 % 3).getIndex(), segment);
+					Assert.assertEquals(
+							queryTimeSteps.get(next / 9).getIndex(), timeStep);
+					Assert.assertEquals(Float.floatToRawIntBits(
+							expecteds.getValue(variable, segment, timeStep)),
+							Float.floatToRawIntBits(value));
+				});
+		Assert.assertEquals(3 * 3 * queryTimeSteps.size(), count[0]);
+
+		final int[] worked = new int[1];
+		final int[] canceledCount = new int[1];
+		m_Reader.newConcentrationsQuery().withVariables(queryVariables)
+				.withSegments(querySegments).withTimeSteps(queryTimeSteps)
+				.withProgress(new IProgressMonitor()
+				{
+					@Override
+					public boolean isCanceled()
+					{
+						return worked[0] == 4;
+					}
+
+					@Override
+					public void worked(final int p_Work)
+					{
+						worked[0] += p_Work;
+					}
+				}).executeStreaming((variable, segment, timeStep,
+						value) -> canceledCount[0]++);
+		Assert.assertEquals(3 * 3 * 5, canceledCount[0]);
+	}
+
+	/**
+	 * Compares sparse query results against values decoded one at a time, in
+	 * file order (time, segment, variable), from the concentrations block.
+	 *
+	 * @throws IOException
+	 *             unable to read
+	 */
+	@Test
+	public final void testNewConcentrationsQueryFileLayout() throws IOException
+	{
+		final List<BMDVariable> variables = m_Reader.getVariables();
+		final List<BMDSegment> segments = m_Reader.getSegments();
+		final List<BMDTimeStep> timeSteps = m_Reader.getTimeSteps();
+		final int numVars = variables.size();
+		final int numSegs = segments.size();
+		final int numTimes = timeSteps.size();
+		final float[][][] expecteds = new float[numTimes][numSegs][numVars];
+		try (SeekableDataFileInputStream input = new SeekableDataFileInputStreamImpl(
+				m_Reader.getFilePath(), java.nio.ByteOrder.LITTLE_ENDIAN);)
+		{
+			input.seek(BMDHeader.LOCATION_VARIABLES + numVars * (18 + 12));
+			for (int t = 0; t < numTimes; t++)
+			{
+				for (int s = 0; s < numSegs; s++)
+				{
+					for (int v = 0; v < numVars; v++)
+					{
+						expecteds[t][s][v] = input.readFloat();
+					}
+				}
+			}
+		}
+
+		final List<BMDVariable> queryVariables = Arrays.asList(
+				variables.get(0), variables.get(3), variables.get(4),
+				variables.get(numVars - 1));
+		final List<BMDSegment> querySegments = Arrays.asList(segments.get(1),
+				segments.get(2), segments.get(17), segments.get(numSegs - 1));
+		final List<BMDTimeStep> queryTimeSteps = Arrays.asList(
+				timeSteps.get(0), timeSteps.get(5), timeSteps.get(6),
+				timeSteps.get(numTimes - 1));
+		final Concentrations concentrations = m_Reader
+				.newConcentrationsQuery().withVariables(queryVariables)
+				.withSegments(querySegments).withTimeSteps(queryTimeSteps)
+				.execute();
+		Assert.assertEquals(queryVariables, concentrations.getVariables());
+		Assert.assertEquals(querySegments, concentrations.getSegments());
+		Assert.assertEquals(queryTimeSteps, concentrations.getTimeSteps());
+		int count = 0;
+		for (final Concentration concentration : concentrations)
+		{
+			Assert.assertEquals(
+					expecteds[concentration.getTimeStep()
+							.getIndex()][concentration.getSegment()
+									.getIndex()][concentration.getVariable()
+											.getIndex()],
+					concentration.getValue(), 0.0f);
+			count++;
+		}
+		Assert.assertEquals(4 * 4 * 4, count);
+	}
+
+	/**
+	 * Test the range builders of
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#newConcentrationsQuery()}.
+	 *
+	 * @throws IOException
+	 *             unable to read
+	 */
+	@Test
+	public final void testNewConcentrationsQueryRanges() throws IOException
+	{
+		final List<BMDVariable> variables = m_Reader.getVariables();
+		final List<BMDSegment> segments = m_Reader.getSegments();
+		final List<BMDTimeStep> timeSteps = m_Reader.getTimeSteps();
+		assertSameValues(
+				m_Reader.newConcentrationsQuery()
+						.withVariables(variables.subList(3, 9))
+						.withSegments(segments.subList(0, 12))
+						.withSegments(segments.subList(30, 40))
+						.withTimeSteps(timeSteps.subList(50, 66)).execute(),
+				m_Reader.newConcentrationsQuery().withVariableRange(3, 9)
+						.withSegmentRange(0, 12).withSegmentRange(30, 40)
+						.withTimeStepRange(50, 66).execute());
+		assertSameValues(
+				m_Reader.newConcentrationsQuery().withAllVariables()
+						.withAllSegments().withAllTimeSteps().execute(),
+				m_Reader.newConcentrationsQuery()
+						.withVariableRange(0, variables.size())
+						.withSegmentRange(0, segments.size())
+						.withTimeStepRange(0, timeSteps.size()).execute());
+
+		final ConcentrationsQuery query = m_Reader.newConcentrationsQuery()
+				.withAllVariables().withAllSegments().withTimeStepRange(4, 4);
+		try
+		{
+			query.validate();
+			Assert.fail("An empty range selects no time steps.");
+		}
+		catch (final IllegalStateException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+		for (final int[] range : new int[][] { { -1, 2 }, { 3, 2 },
+				{ 0, variables.size() + 1 } })
+		{
+			try
+			{
+				query.withVariableRange(range[0], range[1]);
+				Assert.fail("Invalid range: " + Arrays.toString(range));
+			}
+			catch (final IndexOutOfBoundsException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+
+	/**
+	 * Test that time series queries are read from a fresh
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryTransposedSidecar()
+			throws IOException
+	{
+		final String filePath = TransposedSidecarTest.copyTestFile();
+		try (BMDReader reader = BMDReader.open(filePath);)
+		{
+			final Concentrations expecteds = reader.newConcentrationsQuery()
+					.withAllVariables().withAllSegments().withAllTimeSteps()
+					.execute();
+			TransposedSidecar.write(filePath, 10);
+			assertSameValues(expecteds,
+					reader.newConcentrationsQuery().withAllVariables()
+							.withAllSegments().withAllTimeSteps().execute());
+			final Concentrations series = reader.newConcentrationsQuery()
+					.withVariableRange(3, 5).withSegmentRange(17, 18)
+					.withTimeStepRange(2, 60).execute();
+			for (final Concentration actual : series)
+			{
+				Assert.assertEquals(expecteds.get(actual.getVariable(),
+						actual.getSegment(), actual.getTimeStep()).getValue(),
+						actual.getValue(), 0.0f);
+			}
+
+			/**
+			 * Change the first value of variable 3, segment 17 in the sidecar
+			 * only, so that reads from the sidecar can be told apart
+			 */
+			final int numSegments = reader.getSegments().size();
+			final long location = Sidecars.HEADER_SIZE + Integer.BYTES * 4
+					+ (3L * numSegments + 17) * 10 * Float.BYTES;
+			final long lastModified = new File(filePath).lastModified();
+			try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(
+					TransposedSidecar.getPath(filePath), "rw");)
+			{
+				raf.seek(location);
+				raf.writeInt(Integer.reverseBytes(Float.floatToIntBits(-1.0f)));
+			}
+			Assert.assertEquals(-1.0f, reader.newConcentrationsQuery()
+					.withVariableRange(3, 4).withSegmentRange(17, 18)
+					.withAllTimeSteps().execute().getValue(3, 17, 0), 0.0f);
+			Assert.assertEquals(expecteds.getValue(3, 17, 0),
+					reader.newConcentrationsQuery().withAllVariables()
+							.withAllSegments().withTimeStepRange(0, 1)
+							.execute().getValue(3, 17, 0),
+					0.0f);
+
+			/**
+			 * A stale sidecar is ignored
+			 */
+			Assert.assertTrue(
+					new File(filePath).setLastModified(lastModified - 10_000L));
+			Assert.assertEquals(expecteds.getValue(3, 17, 0),
+					reader.newConcentrationsQuery().withVariableRange(3, 4)
+							.withSegmentRange(17, 18).withAllTimeSteps()
+							.execute().getValue(3, 17, 0),
+					0.0f);
+		}
+		finally
+		{
+			TransposedSidecarTest.deleteTestFile(filePath);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsQuery#whereValueAbove(BMDVariable, float)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryWhereValueAbove()
+			throws IOException
+	{
+		final String filePath = TransposedSidecarTest.copyTestFile();
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try (BMDReader reader = BMDReader.open(filePath);)
+		{
+			final Concentrations all = reader.newConcentrationsQuery()
+					.withAllVariables().withAllSegments().withAllTimeSteps()
+					.execute();
+			final BMDVariable variable = reader.getVariables().get(3);
+			final float[] values = new float[66];
+			for (int time = 0; time < 66; time++)
+			{
+				values[time] = Float.NEGATIVE_INFINITY;
+				for (int segment = 5; segment < 30; segment++)
+				{
+					values[time] = Math.max(values[time],
+							all.getValue(3, segment, time));
+				}
+			}
+			Arrays.sort(values);
+			final float threshold = values[values.length / 2];
+			final List<BMDTimeStep> expecteds = reader.getTimeSteps().stream()
+					.filter(timeStep -> IntStream.range(5, 30)
+							.anyMatch(segment -> all.getValue(3, segment,
+									timeStep.getIndex()) > threshold))
+					.collect(Collectors.toList());
+			Assert.assertTrue(expecteds.size() > 0);
+			Assert.assertTrue(expecteds.size() < 66);
+
+			/**
+			 * Without, then with, the sidecars, in parallel, and streamed
+			 */
+			for (int pass = 0; pass < 3; pass++)
+			{
+				if (pass == 1)
+				{
+					ZoneMapSidecar.write(filePath, 8);
+				}
+				else if (pass == 2)
+				{
+					TransposedSidecar.write(filePath);
+				}
+				final Concentrations actuals = reader.newConcentrationsQuery()
+						.withVariableRange(0, 2).withSegmentRange(5, 30)
+						.withAllTimeSteps().whereValueAbove(variable, threshold)
+						.execute();
+				Assert.assertEquals(expecteds, actuals.getTimeSteps());
+				for (final Concentration actual : actuals)
+				{
+					Assert.assertEquals(all.get(actual.getVariable(),
+							actual.getSegment(), actual.getTimeStep())
+							.getValue(), actual.getValue(), 0.0f);
+				}
+				Assert.assertEquals(expecteds,
+						reader.newConcentrationsQuery().withVariableRange(0, 2)
+								.withSegmentRange(5, 30).withAllTimeSteps()
+								.whereValueAbove(variable, threshold)
+								.withExecutor(executor, 3).execute()
+								.getTimeSteps());
+				final Set<Integer> streamed = Sets.newTreeSet();
+				reader.newConcentrationsQuery().withVariableRange(0, 2)
+						.withSegmentRange(5, 30).withAllTimeSteps()
+						.whereValueAbove(variable, threshold)
+						.executeStreaming((v, s, timeStep, value) -> streamed
+								.add(timeStep));
+				Assert.assertEquals(expecteds.stream()
+						.map(BMDTimeStep::getIndex)
+						.collect(Collectors.toList()),
+						Lists.newArrayList(streamed));
+			}
+
+			/**
+			 * Predicates combine, and repeated predicates on a variable keep
+			 * the highest threshold
+			 */
+			Assert.assertEquals(0, reader.newConcentrationsQuery()
+					.withVariableRange(0, 2).withSegmentRange(5, 30)
+					.withAllTimeSteps().whereValueAbove(variable, threshold)
+					.whereValueAbove(variable, values[values.length - 1])
+					.execute().getTimeSteps().size());
+			Assert.assertEquals(0,
+					reader.newConcentrationsQuery().withVariableRange(0, 2)
+							.withSegmentRange(5, 30).withAllTimeSteps()
+							.whereValueAbove(variable, threshold)
+							.whereValueAbove(reader.getVariables().get(4),
+									Float.MAX_VALUE)
+							.withExecutor(executor, 3).execute()
+							.getTimeSteps().size());
+
+			/**
+			 * Clear the maximum of the first block in the zone map only, so
+			 * that skipped blocks can be told apart
+			 */
+			Assert.assertTrue(expecteds.get(0).getIndex() < 8);
+			final int numSegments = reader.getSegments().size();
+			final long location = Sidecars.HEADER_SIZE + Integer.BYTES * 4
+					+ 3L * numSegments * 2 * Float.BYTES;
+			final long lastModified = new File(filePath).lastModified();
+			try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(
+					ZoneMapSidecar.getPath(filePath), "rw");)
+			{
+				for (int segment = 0; segment < numSegments; segment++)
+				{
+					raf.seek(location + (segment * 2 + 1) * Float.BYTES);
+					raf.writeInt(Integer.reverseBytes(
+							Float.floatToIntBits(Float.NEGATIVE_INFINITY)));
+				}
+			}
+			Assert.assertEquals(
+					expecteds.stream()
+							.filter(timeStep -> timeStep.getIndex() >= 8)
+							.collect(Collectors.toList()),
+					reader.newConcentrationsQuery().withVariableRange(0, 2)
+							.withSegmentRange(5, 30).withAllTimeSteps()
+							.whereValueAbove(variable, threshold).execute()
+							.getTimeSteps());
+
+			/**
+			 * A stale zone map is ignored
+			 */
+			Assert.assertTrue(
+					new File(filePath).setLastModified(lastModified - 10_000L));
+			Assert.assertEquals(expecteds,
+					reader.newConcentrationsQuery().withVariableRange(0, 2)
+							.withSegmentRange(5, 30).withAllTimeSteps()
+							.whereValueAbove(variable, threshold).execute()
+							.getTimeSteps());
+
+			try
+			{
+				reader.newConcentrationsQuery().whereValueAbove(variable,
+						Float.NaN);
+				Assert.fail("Expected an invalid threshold to fail.");
+			}
+			catch (final IllegalArgumentException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+			TransposedSidecarTest.deleteTestFile(filePath);
+		}
+	}
+
+	/**
+	 * Test reading queries through a
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache} shared by
+	 * several readers.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryWithBlockCache()
+			throws IOException
+	{
+		final Concentrations expecteds = m_Reader.newConcentrationsQuery()
+				.withAllVariables().withAllSegments().withAllTimeSteps()
+				.execute();
+		final BlockCache cache = BlockCache.builder().withBlockSize(1000)
+				.build();
+		assertSameValues(expecteds,
+				m_Reader.newConcentrationsQuery().withAllVariables()
+						.withAllSegments().withAllTimeSteps()
+						.withBlockCache(cache).execute());
+		final long misses = cache.getStats().missCount();
+		Assert.assertTrue(misses > 0);
+		Assert.assertEquals(0, cache.getStats().evictionCount());
+
+		/**
+		 * Another reader of the same file and a partitioned query are served
+		 * entirely from the cache
+		 */
+		try (BMDReader reader = BMDReader
+				.open(AllTests.getTestFile().getPath(), ReadMode.STREAM);)
+		{
+			assertSameValues(expecteds,
+					reader.newConcentrationsQuery().withAllVariables()
+							.withAllSegments().withAllTimeSteps()
+							.withBlockCache(cache)
+							.withExecutor(ForkJoinPool.commonPool(), 4)
+							.execute());
+		}
+		Assert.assertEquals(misses, cache.getStats().missCount());
+		Assert.assertTrue(cache.getStats().hitCount() > 0);
+
+		m_Reader.newConcentrationsQuery().withVariableRange(2, 5)
+				.withSegmentRange(10, 20).withTimeStepRange(30, 40)
+				.withBlockCache(cache).executeStreaming((variable, segment,
+						timeStep, value) -> Assert.assertEquals(
+								expecteds.getValue(variable, segment,
+										timeStep),
+								value, 0.0f));
+		Assert.assertEquals(misses, cache.getStats().missCount());
+
+		/**
+		 * A cache smaller than the file evicts blocks but returns the same
+		 * values
+		 */
+		final BlockCache small = BlockCache.builder().withBlockSize(64)
+				.withCapacity(1024).withOffHeap(true).build();
+		assertSameValues(expecteds,
+				m_Reader.newConcentrationsQuery().withAllVariables()
+						.withAllSegments().withAllTimeSteps()
+						.withBlockCache(small).execute());
+		Assert.assertTrue(small.getStats().evictionCount() > 0);
+	}
+
+	/**
+	 * Test parallel execution of
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#newConcentrationsQuery()}
+	 * with {@link ConcentrationsQuery#withExecutor(Executor, int)}.
+	 *
+	 * @throws IOException
+	 *             unable to read
+	 */
+	@Test
+	public final void testNewConcentrationsQueryWithExecutor()
+			throws IOException
+	{
+		final Concentrations expecteds = m_Reader.newConcentrationsQuery()
+				.withAllVariables().withAllSegments().withAllTimeSteps()
+				.execute();
+		final List<BMDVariable> variables = m_Reader.getVariables();
+		final List<BMDSegment> segments = m_Reader.getSegments();
+		final List<BMDTimeStep> timeSteps = m_Reader.getTimeSteps();
+		final Concentrations sparseExpecteds = m_Reader.newConcentrationsQuery()
+				.withVariables(Arrays.asList(variables.get(1),
+						variables.get(16)))
+				.withSegments(Arrays.asList(segments.get(0), segments.get(7),
+						segments.get(39)))
+				.withTimeSteps(Arrays.asList(timeSteps.get(2),
+						timeSteps.get(3), timeSteps.get(30), timeSteps.get(65)))
+				.execute();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			for (final int partitions : new int[] { 1, 3, 4, 7, 1000 })
+			{
+				assertSameValues(expecteds,
+						m_Reader.newConcentrationsQuery().withAllVariables()
+								.withAllSegments().withAllTimeSteps()
+								.withExecutor(executor, partitions).execute());
+				assertSameValues(sparseExpecteds, m_Reader
+						.newConcentrationsQuery()
+						.withVariables(sparseExpecteds.getVariables())
+						.withSegments(sparseExpecteds.getSegments())
+						.withTimeSteps(sparseExpecteds.getTimeSteps())
+						.withExecutor(ForkJoinPool.commonPool(), partitions)
+						.execute());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Test repeating queries with a
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsCache}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryWithResultCache()
+			throws IOException
+	{
+		final ConcentrationsCache cache = ConcentrationsCache.builder().build();
+		final Concentrations expecteds = m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 3).withAllSegments().withAllTimeSteps()
+				.withResultCache(cache).execute();
+		assertSameValues(expecteds,
+				m_Reader.newConcentrationsQuery().withVariableRange(0, 3)
+						.withAllSegments().withAllTimeSteps().execute());
+
+		/**
+		 * The same selection, built differently, from another reader
+		 */
+		try (BMDReader reader = BMDReader
+				.open(AllTests.getTestFile().getPath());)
+		{
+			final List<BMDVariable> variables = reader.getVariables();
+			Assert.assertSame(expecteds, reader.newConcentrationsQuery()
+					.withVariables(Arrays.asList(variables.get(2),
+							variables.get(0), variables.get(1)))
+					.withSegmentRange(0, 20).withSegmentRange(20, 40)
+					.withAllTimeSteps().withResultCache(cache).execute());
+		}
+		Assert.assertEquals(1, cache.getStats().hitCount());
+
+		/**
+		 * Queries with predicates are keyed by their thresholds
+		 */
+		final BMDVariable predicate = m_Reader.getVariables().get(0);
+		final Concentrations filtered = m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 3).withAllSegments().withAllTimeSteps()
+				.whereValueAbove(predicate, 0.0f).withResultCache(cache)
+				.execute();
+		Assert.assertSame(filtered, m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 3).withAllSegments().withAllTimeSteps()
+				.whereValueAbove(predicate, 0.0f).withResultCache(cache)
+				.execute());
+		Assert.assertNotSame(filtered, m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 3).withAllSegments().withAllTimeSteps()
+				.whereValueAbove(predicate, 1.0f).withResultCache(cache)
+				.execute());
+		Assert.assertEquals(2, cache.getStats().hitCount());
+
+		/**
+		 * Canceled results are not cached
+		 */
+		final IProgressMonitor canceled = new IProgressMonitor()
+		{
+			@Override
+			public boolean isCanceled()
+			{
+				return true;
+			}
+		};
+		final Concentrations partial = m_Reader.newConcentrationsQuery()
+				.withAllVariables().withAllSegments().withAllTimeSteps()
+				.withProgress(canceled).withResultCache(cache).execute();
+		Assert.assertTrue(partial.getTimeSteps().size() < m_Reader
+				.getTimeSteps().size());
+		Assert.assertNotSame(partial,
+				m_Reader.newConcentrationsQuery().withAllVariables()
+						.withAllSegments().withAllTimeSteps()
+						.withResultCache(cache).execute());
+	}
+
+	/**
+	 * Test that a reader still open on a file that was replaced does not
+	 * share results with readers of the new file through a
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsCache}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryWithResultCacheReplaced()
+			throws IOException
+	{
+		final ConcentrationsCache cache = ConcentrationsCache.builder().build();
+		final BlockCache blockCache = BlockCache.builder().build();
+		final String filePath = TransposedSidecarTest.copyTestFile();
+		final Path path = Paths.get(filePath);
+		final Path replacement = path.resolveSibling("replacement.bmd");
+		try (BMDReader oldReader = BMDReader.open(filePath);)
+		{
+			final Function<BMDReader, ConcentrationsQuery> query = reader ->
+			{
+				return reader.newConcentrationsQuery().withVariableRange(0, 1)
+						.withSegmentRange(0, 1).withTimeStepRange(0, 1);
+			};
+			final float expected = query.apply(oldReader).execute()
+					.getValue(0, 0, 0);
+			Assert.assertNotEquals(-42.0f, expected, 0.0f);
+
+			/**
+			 * Atomically replace the file with a newer copy whose first value
+			 * differs
+			 */
+			Files.copy(path, replacement);
+			try (FileChannel channel = FileChannel.open(replacement,
+					StandardOpenOption.WRITE);)
+			{
+				channel.write(
+						ByteBuffer.allocate(Float.BYTES)
+								.order(ByteOrder.LITTLE_ENDIAN)
+								.putFloat(0, -42.0f),
+						oldReader.getConcentrationsLocation());
+			}
+			Files.setLastModifiedTime(replacement, FileTime.fromMillis(
+					Files.getLastModifiedTime(path).toMillis() + 10_000L));
+			Files.move(replacement, path, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+
+			/**
+			 * The old reader reads and caches values of the file it opened,
+			 * including through the block cache
+			 */
+			Assert.assertEquals(expected, query.apply(oldReader)
+					.withResultCache(cache).execute().getValue(0, 0, 0), 0.0f);
+			Assert.assertEquals(expected,
+					query.apply(oldReader).withBlockCache(blockCache)
+							.execute().getValue(0, 0, 0),
+					0.0f);
+			try (BMDReader newReader = BMDReader.open(filePath);)
+			{
+				Assert.assertEquals(-42.0f, query.apply(newReader).execute()
+						.getValue(0, 0, 0), 0.0f);
+				Assert.assertEquals(-42.0f,
+						query.apply(newReader).withResultCache(cache)
+								.execute().getValue(0, 0, 0),
+						0.0f);
+
+				/**
+				 * The old reader keeps its own result
+				 */
+				Assert.assertEquals(expected,
+						query.apply(oldReader).withResultCache(cache)
+								.execute().getValue(0, 0, 0),
+						0.0f);
+				Assert.assertEquals(-42.0f,
+						query.apply(newReader).withResultCache(cache)
+								.execute().getValue(0, 0, 0),
+						0.0f);
+			}
+		}
+		finally
+		{
+			TransposedSidecarTest.deleteTestFile(filePath);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsQuery#withTimeBins(Duration, AggregateFunction)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryWithTimeBins()
+			throws IOException
+	{
+		final Concentrations all = m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 3).withSegmentRange(5, 10)
+				.withAllTimeSteps().execute();
+		final List<BMDTimeStep> timeSteps = m_Reader.getTimeSteps();
+		for (final Duration width : new Duration[] { Duration.ofHours(6),
+				Duration.ofDays(1) })
+		{
+			/**
+			 * Bins are aligned to the epoch unless an origin is provided
+			 */
+			assertTimeBins(all, timeSteps, width, Instant.EPOCH,
+					function -> m_Reader.newConcentrationsQuery()
+							.withVariableRange(0, 3).withSegmentRange(5, 10)
+							.withAllTimeSteps().withTimeBins(width, function));
+			final Instant first = timeSteps.get(0).getInstant();
+			assertTimeBins(all, timeSteps, width, first,
+					function -> m_Reader.newConcentrationsQuery()
+							.withVariableRange(0, 3).withSegmentRange(5, 10)
+							.withAllTimeSteps()
+							.withTimeBins(width, function, first));
+		}
+
+		/**
+		 * Bins hold the selected time steps only
+		 */
+		final Concentrations strided = m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 1).withSegmentRange(5, 6)
+				.withTimeStepRange(1, 66).withTimeStride(2)
+				.withTimeBins(Duration.ofDays(1), AggregateFunction.SUM)
+				.execute();
+		Assert.assertEquals(timeSteps.get(1), strided.getTimeSteps().get(0));
+		double sum = 0.0;
+		for (final BMDTimeStep timeStep : strided.getTimeSteps())
+		{
+			sum += strided.getValue(0, 5, timeStep.getIndex());
+		}
+		double expected = 0.0;
+		for (int time = 1; time < 66; time += 2)
+		{
+			expected += all.getValue(0, 5, time);
+		}
+		Assert.assertEquals(expected, sum, 1e-4 * Math.abs(expected));
+
+		/**
+		 * Canceling keeps only the bins that were read completely
+		 */
+		final int[] worked = new int[1];
+		final IProgressMonitor monitor = new IProgressMonitor()
+		{
+			@Override
+			public boolean isCanceled()
+			{
+				return worked[0] >= 10;
+			}
+
+			@Override
+			public void worked(final int p_Work)
+			{
+				worked[0] += p_Work;
+			}
+		};
+		final Concentrations canceled = m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 3).withSegmentRange(5, 10)
+				.withAllTimeSteps()
+				.withTimeBins(Duration.ofHours(6), AggregateFunction.MEAN,
+						timeSteps.get(0).getInstant())
+				.withProgress(monitor).execute();
+		Assert.assertEquals(1, canceled.getTimeSteps().size());
+
+		for (final Duration invalid : new Duration[] { Duration.ZERO,
+				Duration.ofDays(-1) })
+		{
+			try
+			{
+				m_Reader.newConcentrationsQuery().withTimeBins(invalid,
+						AggregateFunction.MEAN);
+				Assert.fail("Expected an invalid width to fail.");
+			}
+			catch (final IllegalArgumentException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+		try
+		{
+			m_Reader.newConcentrationsQuery().withAllVariables()
+					.withAllSegments().withAllTimeSteps()
+					.withTimeBins(Duration.ofDays(1), AggregateFunction.MEAN)
+					.aggregateOverSegments(AggregateFunction.MEAN);
+			Assert.fail("Expected aggregation of time bins to fail.");
+		}
+		catch (final IllegalStateException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsQuery#withTimeStride(int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testNewConcentrationsQueryWithTimeStride()
+			throws IOException
+	{
+		final Concentrations all = m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 3).withAllSegments().withAllTimeSteps()
+				.execute();
+		final Concentrations actuals = m_Reader.newConcentrationsQuery()
+				.withVariableRange(0, 3).withAllSegments()
+				.withTimeStepRange(3, 60).withTimeStride(7).execute();
+		Assert.assertEquals(
+				IntStream.iterate(3, time -> time + 7).limit(9)
+						.mapToObj(m_Reader.getTimeSteps()::get)
+						.collect(Collectors.toList()),
+				actuals.getTimeSteps());
+		for (final Concentration actual : actuals)
+		{
+			Assert.assertEquals(all.get(actual.getVariable(),
+					actual.getSegment(), actual.getTimeStep()).getValue(),
+					actual.getValue(), 0.0f);
+		}
+		Assert.assertEquals(all.getTimeSteps(),
+				m_Reader.newConcentrationsQuery().withVariableRange(0, 3)
+						.withAllSegments().withAllTimeSteps().withTimeStride(1)
+						.execute().getTimeSteps());
+
+		/**
+		 * The stride applies before predicates
+		 */
+		final Set<Integer> streamed = Sets.newTreeSet();
+		m_Reader.newConcentrationsQuery().withVariableRange(0, 1)
+				.withSegmentRange(0, 1).withAllTimeSteps().withTimeStride(10)
+				.whereValueAbove(m_Reader.getVariables().get(0),
+						Float.NEGATIVE_INFINITY)
+				.executeStreaming((variable, segment, timeStep,
+						value) -> streamed.add(timeStep));
+		Assert.assertEquals(Sets.newTreeSet(Arrays.asList(0, 10, 20, 30, 40,
+				50, 60)), streamed);
+
+		try
+		{
+			m_Reader.newConcentrationsQuery().withTimeStride(0);
+			Assert.fail("Expected an invalid stride to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#open(java.lang.String)}.
 	 */
 	@SuppressWarnings("static-method")
 	@Test
-	public final void testOpen()
+	public final void testOpenString()
 	{
 		try (BMDReader open = BMDReader
 				.open(AllTests.getTestFile().getAbsolutePath());)
@@ -307,6 +1767,151 @@ public class BMDReaderTest
 		}
 	}
 
+	/**
+	 * Test that opening a file reads only the header and the variables, and
+	 * that the other sections are read on first access.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testOpenStringTruncated() throws IOException
+	{
+		/**
+		 * A copy with only the header and the variables
+		 */
+		final String filePath = TransposedSidecarTest.copyTestFile();
+		final long size = m_Reader.getConcentrationsLocation();
+		try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(
+				filePath, "rw");)
+		{
+			raf.setLength(size);
+		}
+		try (BMDReader reader = BMDReader.open(filePath);)
+		{
+			Assert.assertEquals(m_Reader.getHeader().toString(),
+					reader.getHeader().toString());
+			Assert.assertEquals(m_Reader.getSeedDate(), reader.getSeedDate());
+			Assert.assertEquals(m_Reader.getVariables(),
+					reader.getVariables());
+			for (final Runnable section : Arrays.<Runnable> asList(
+					reader::getTimeSteps,
+					() -> reader.getVariableMin(
+							m_Reader.getVariables().get(0).getName()),
+					() -> reader.getVariableSegmentMax(
+							m_Reader.getVariables().get(0).getName(),
+							"Segment 0")))
+			{
+				try
+				{
+					section.run();
+					Assert.fail("Expected a missing section to fail.");
+				}
+				catch (final java.io.UncheckedIOException e)
+				{
+					/**
+					 * Expected
+					 */
+				}
+			}
+
+			/**
+			 * Segments without names are named by index
+			 */
+			Assert.assertEquals("Segment 39",
+					Iterables.getLast(reader.getSegments()).getName());
+
+			/**
+			 * Unknown names are still rejected before reading
+			 */
+			try
+			{
+				reader.getVariableMax("Not a variable");
+				Assert.fail("Expected an unknown variable to fail.");
+			}
+			catch (final IllegalArgumentException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+		finally
+		{
+			TransposedSidecarTest.deleteTestFile(filePath);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#open(java.lang.String, ReadMode)}.
+	 *
+	 * @throws IOException
+	 *             unable to read
+	 */
+	@Test
+	public final void testOpenStringReadMode() throws IOException
+	{
+		final Concentrations expecteds = m_Reader.newConcentrationsQuery()
+				.withAllVariables().withAllSegments().withAllTimeSteps()
+				.execute();
+		final String filePath = TransposedSidecarTest.copyTestFile();
+		try
+		{
+			ChunkedBMDWriter.builder().withChunkTimeSteps(5)
+					.withChunkSegments(7).withChunkVariables(3).build()
+					.write(filePath);
+			for (final ReadMode readMode : ReadMode.values())
+			{
+				final String path = readMode == ReadMode.CHUNKED
+						? ChunkedBMDWriter.getPath(filePath)
+						: AllTests.getTestFile().getAbsolutePath();
+				try (BMDReader open = BMDReader.open(path, readMode);)
+				{
+					Assert.assertEquals(m_Reader.getHeader().toString(),
+							open.getHeader().toString());
+					Assert.assertEquals(m_Reader.getTimeSteps(),
+							open.getTimeSteps());
+					final Concentrations actuals = open
+							.newConcentrationsQuery().withAllVariables()
+							.withAllSegments().withAllTimeSteps().execute();
+					assertSameValues(expecteds, actuals);
+				}
+			}
+
+			/**
+			 * Chunked files require the chunked read mode, and only chunked
+			 * files may be read with it
+			 */
+			try (BMDReader open = BMDReader
+					.open(ChunkedBMDWriter.getPath(filePath));)
+			{
+				Assert.assertEquals(m_Reader.getVariables(),
+						open.getVariables());
+			}
+			for (final String path : new String[] {
+					ChunkedBMDWriter.getPath(filePath), filePath })
+			{
+				try
+				{
+					BMDReader.open(path, path.equals(filePath)
+							? ReadMode.CHUNKED
+							: ReadMode.POSITIONAL).close();
+					Assert.fail("Expected mismatched read mode to fail.");
+				}
+				catch (final IllegalArgumentException e)
+				{
+					/**
+					 * Expected
+					 */
+				}
+			}
+		}
+		finally
+		{
+			TransposedSidecarTest.deleteTestFile(filePath);
+		}
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#openDebug(java.lang.String)}.
@@ -327,4 +1932,123 @@ public class BMDReaderTest
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDReader#readOverview(BMDVariable, BMDSegment, int, int, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadOverview() throws IOException
+	{
+		final String filePath = TransposedSidecarTest.copyTestFile();
+		try (BMDReader reader = BMDReader.open(filePath);)
+		{
+			final Concentrations expecteds = reader.newConcentrationsQuery()
+					.withAllVariables().withAllSegments().withAllTimeSteps()
+					.execute();
+			final BMDVariable variable = reader.getVariables().get(3);
+			final BMDSegment segment = reader.getSegments().get(17);
+			final int numTimes = reader.getTimeSteps().size();
+			Assert.assertEquals(66, numTimes);
+
+			/**
+			 * Reduced from the file, then read from the pyramid
+			 */
+			for (int pass = 0; pass < 2; pass++)
+			{
+				if (pass == 1)
+				{
+					PyramidSidecar.write(filePath);
+				}
+				assertOverview(expecteds, reader.readOverview(variable,
+						segment, 0, numTimes, 1000), 1, 0, numTimes);
+				assertOverview(expecteds, reader.readOverview(variable,
+						segment, 0, numTimes, 10), 8, 0, 9);
+				assertOverview(expecteds, reader.readOverview(variable,
+						segment, 5, 40, 3), 16, 0, 3);
+				assertOverview(expecteds, reader.readOverview(variable,
+						segment, 33, 34, 1), 1, 33, 1);
+				assertOverview(expecteds, reader.readOverview(variable,
+						segment, 0, numTimes, 1), 128, 0, 1);
+				assertOverview(expecteds,
+						reader.readOverview(reader.getVariables().get(16),
+								reader.getSegments().get(39), 60, numTimes,
+								2),
+						4, 60, 2);
+			}
+
+			/**
+			 * Change the mean of the first bin of 8 time steps of variable 3,
+			 * segment 17 in the pyramid only, so that reads from the pyramid
+			 * can be told apart
+			 */
+			int cellSize = 0;
+			int levelOffset = 0;
+			for (int level = 1; level <= PyramidSidecar
+					.getNumLevels(numTimes); level++)
+			{
+				if (level == 3)
+				{
+					levelOffset = cellSize;
+				}
+				cellSize += PyramidSidecar.getNumBins(numTimes, level) * 3;
+			}
+			final long location = Sidecars.HEADER_SIZE + Integer.BYTES * 4
+					+ ((3L * reader.getSegments().size() + 17) * cellSize
+							+ levelOffset + 2) * Float.BYTES;
+			final long lastModified = new File(filePath).lastModified();
+			try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(
+					PyramidSidecar.getPath(filePath), "rw");)
+			{
+				raf.seek(location);
+				raf.writeInt(Integer.reverseBytes(Float.floatToIntBits(-1.0f)));
+			}
+			Assert.assertEquals(-1.0f,
+					reader.readOverview(variable, segment, 0, numTimes, 10)
+							.getValues(AggregateFunction.MEAN)[0],
+					0.0f);
+
+			/**
+			 * A stale pyramid is ignored
+			 */
+			Assert.assertTrue(
+					new File(filePath).setLastModified(lastModified - 10_000L));
+			assertOverview(expecteds, reader.readOverview(variable, segment,
+					0, numTimes, 10), 8, 0, 9);
+
+			for (final int[] invalid : new int[][] { { 0, numTimes, 0 },
+					{ 10, 10, 5 }, { 20, 10, 5 } })
+			{
+				try
+				{
+					reader.readOverview(variable, segment, invalid[0],
+							invalid[1], invalid[2]);
+					Assert.fail("Expected an invalid overview to fail.");
+				}
+				catch (final IllegalArgumentException
+						| IndexOutOfBoundsException e)
+				{
+					/**
+					 * Expected
+					 */
+				}
+			}
+			try
+			{
+				reader.readOverview(variable, segment, 0, numTimes + 1, 5);
+				Assert.fail("Expected an invalid range to fail.");
+			}
+			catch (final IndexOutOfBoundsException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+		finally
+		{
+			TransposedSidecarTest.deleteTestFile(filePath);
+		}
+	}
 }
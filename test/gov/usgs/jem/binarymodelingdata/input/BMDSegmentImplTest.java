@@ -2,6 +2,7 @@ package gov.usgs.jem.binarymodelingdata.input;
 
 import gov.usgs.jem.binarymodelingdata.AllTests;
 import gov.usgs.jem.binarymodelingdata.BMDSegment;
+import java.nio.charset.StandardCharsets;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -127,6 +128,15 @@ public class BMDSegmentImplTest
 	public final void testGetName()
 	{
 		Assert.assertEquals(m_Name, m_Val.getName());
+
+		final byte[] names = "I=001 J=002 K  Seg 2          "
+				.getBytes(StandardCharsets.ISO_8859_1);
+		final BMDSegment first = new BMDSegmentImpl(0, names, 0, 15);
+		final BMDSegment second = new BMDSegmentImpl(1, names, 15, 15);
+		Assert.assertEquals("I=001 J=002 K", first.getName());
+		Assert.assertEquals("Seg 2", second.getName());
+		Assert.assertSame(second.getName(), second.getName());
+		Assert.assertEquals(new BMDSegmentImpl(1, "Seg 2"), second);
 	}
 
 	@Test
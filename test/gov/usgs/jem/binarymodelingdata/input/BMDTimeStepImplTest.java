@@ -2,6 +2,7 @@ package gov.usgs.jem.binarymodelingdata.input;
 
 import gov.usgs.jem.binarymodelingdata.AllTests;
 import gov.usgs.jem.binarymodelingdata.BMDTimeStep;
+import java.time.Instant;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -124,6 +125,19 @@ public class BMDTimeStepImplTest
 		Assert.assertEquals(m_Index, m_Val.getIndex());
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.BMDTimeStep#getInstant()}.
+	 */
+	@Test
+	public final void testGetInstant()
+	{
+		Assert.assertEquals(Instant.EPOCH, m_Val.getInstant());
+		final long time = -2177452800000L + 1500L;
+		Assert.assertEquals(Instant.parse("1901-01-01T00:00:01.500Z"),
+				new BMDTimeStepImpl(m_Index, time, m_RawValue).getInstant());
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.binarymodelingdata.input.BMDTimeStepImpl#getTime()}.
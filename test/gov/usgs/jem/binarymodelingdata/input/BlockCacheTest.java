@@ -0,0 +1,300 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link BlockCache}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BlockCacheTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = BlockCache.class;
+		final Class<?> testingClass = BlockCacheTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private BlockCache		m_Cache;
+
+	private AtomicInteger	m_Loads;
+
+	/**
+	 * Get a block filled with the provided value, counting loads
+	 *
+	 * @param p_File
+	 *            the file identity
+	 * @param p_Offset
+	 *            the block offset
+	 * @param p_Value
+	 *            the value of every byte in the block
+	 * @return the cached block
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private ByteBuffer get(final Object p_File, final long p_Offset,
+			final byte p_Value) throws IOException
+	{
+		return m_Cache.getBlock(p_File, 1L, p_Offset, () ->
+		{
+			m_Loads.incrementAndGet();
+			final ByteBuffer block = m_Cache
+					.allocate(m_Cache.getBlockSize());
+			while (block.hasRemaining())
+			{
+				block.put(p_Value);
+			}
+			block.flip();
+			return block;
+		});
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Cache = BlockCache.builder().withBlockSize(16).withCapacity(64)
+				.build();
+		m_Loads = new AtomicInteger();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache#allocate(int)}.
+	 */
+	@Test
+	public final void testAllocate()
+	{
+		final ByteBuffer heap = m_Cache.allocate(16);
+		Assert.assertEquals(16, heap.capacity());
+		Assert.assertFalse(heap.isDirect());
+		Assert.assertTrue(BlockCache.builder().withOffHeap(true).build()
+				.allocate(16).isDirect());
+		try
+		{
+			m_Cache.allocate(17);
+			Assert.fail("Expected block larger than the block size to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache#builder()}.
+	 */
+	@Test
+	public final void testBuilder()
+	{
+		final BlockCache cache = BlockCache.builder().build();
+		Assert.assertEquals(BlockCache.DEFAULT_BLOCK_SIZE,
+				cache.getBlockSize());
+		Assert.assertEquals(BlockCache.DEFAULT_CAPACITY, cache.getCapacity());
+		Assert.assertFalse(cache.isOffHeap());
+		try
+		{
+			BlockCache.builder().withBlockSize(Long.BYTES - 1);
+			Assert.fail("Expected a small block size to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+		try
+		{
+			BlockCache.builder().withCapacity(0);
+			Assert.fail("Expected an empty capacity to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache#getBlock(Object, long, long, java.util.concurrent.Callable)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetBlock() throws IOException
+	{
+		final ByteBuffer block = get("a", 0, (byte) 1);
+		Assert.assertTrue(block.isReadOnly());
+		Assert.assertEquals(0, block.position());
+		Assert.assertEquals(1, block.get(15));
+
+		/**
+		 * Hits return a new view of the same block
+		 */
+		block.position(8);
+		final ByteBuffer hit = get("a", 0, (byte) 2);
+		Assert.assertEquals(0, hit.position());
+		Assert.assertEquals(1, hit.get(15));
+		Assert.assertEquals(1, m_Loads.get());
+
+		/**
+		 * File identity, modification time, and offset are all part of the
+		 * key
+		 */
+		Assert.assertEquals(3, get("b", 0, (byte) 3).get(0));
+		Assert.assertEquals(4, get("a", 16, (byte) 4).get(0));
+		Assert.assertEquals(5, m_Cache.getBlock("a", 2L, 0, () -> m_Cache
+				.allocate(16).put(0, (byte) 5)).get(0));
+		Assert.assertEquals(3, m_Loads.get());
+
+		try
+		{
+			get("a", 1, (byte) 0);
+			Assert.fail("Expected unaligned offset to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+		try
+		{
+			m_Cache.getBlock("a", 1L, 32, () ->
+			{
+				throw new IOException("Expected");
+			});
+			Assert.fail("Expected load failure to be thrown.");
+		}
+		catch (final IOException e)
+		{
+			Assert.assertEquals("Expected", e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache#getBlockSize()}.
+	 */
+	@Test
+	public final void testGetBlockSize()
+	{
+		Assert.assertEquals(16, m_Cache.getBlockSize());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache#getCapacity()}.
+	 */
+	@Test
+	public final void testGetCapacity()
+	{
+		Assert.assertEquals(64, m_Cache.getCapacity());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache#getStats()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetStats() throws IOException
+	{
+		for (int offset = 0; offset < 128; offset += 16)
+		{
+			get("a", offset, (byte) 0);
+			get("a", offset, (byte) 0);
+		}
+		Assert.assertEquals(8, m_Cache.getStats().hitCount());
+		Assert.assertEquals(8, m_Cache.getStats().missCount());
+
+		/**
+		 * Only four blocks fit, so the oldest were evicted
+		 */
+		Assert.assertTrue(m_Cache.getStats().evictionCount() >= 4);
+		get("a", 0, (byte) 0);
+		Assert.assertEquals(9, m_Cache.getStats().missCount());
+	}
+
+	/**
+	 * A cache that holds only a few blocks still caches them, rather than
+	 * splitting its capacity into segments smaller than a block.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetStatsSmallCapacity() throws IOException
+	{
+		m_Cache = BlockCache.builder().withBlockSize(16).withCapacity(48)
+				.build();
+		get("a", 0, (byte) 0);
+		get("a", 0, (byte) 0);
+		Assert.assertEquals(1, m_Cache.getStats().hitCount());
+		Assert.assertEquals(1, m_Loads.get());
+
+		m_Cache = BlockCache.builder().withBlockSize(16).withCapacity(16)
+				.build();
+		get("b", 0, (byte) 0);
+		get("b", 0, (byte) 0);
+		Assert.assertEquals(1, m_Cache.getStats().hitCount());
+		Assert.assertEquals(2, m_Loads.get());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache#invalidateAll()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testInvalidateAll() throws IOException
+	{
+		get("a", 0, (byte) 0);
+		m_Cache.invalidateAll();
+		get("a", 0, (byte) 0);
+		Assert.assertEquals(2, m_Loads.get());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.BlockCache#isOffHeap()}.
+	 */
+	@Test
+	public final void testIsOffHeap()
+	{
+		Assert.assertFalse(m_Cache.isOffHeap());
+		Assert.assertTrue(
+				BlockCache.builder().withOffHeap(true).build().isOffHeap());
+	}
+}
@@ -0,0 +1,181 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link CachedSeekableDataFileInputStreamImpl}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CachedSeekableDataFileInputStreamImplTest
+		extends AbstractChannelSeekableDataFileInputStreamTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = CachedSeekableDataFileInputStreamImpl.class;
+		final Class<?> testingClass = CachedSeekableDataFileInputStreamImplTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+	}
+
+	private final BlockCache m_Cache = BlockCache.builder().build();
+
+	@Override
+	AbstractChannelSeekableDataFileInputStream open(final String p_FilePath,
+			final ByteOrder p_ByteOrder) throws IOException
+	{
+		return new CachedSeekableDataFileInputStreamImpl(p_FilePath,
+				p_ByteOrder, m_Cache);
+	}
+
+	/**
+	 * Reads through a second input for the same file, and through an input
+	 * opened after the file was rewritten.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testCacheHitsAndInvalidation() throws IOException
+	{
+		final String filePath = TransposedSidecarTest.copyTestFile();
+		final BlockCache cache = BlockCache.builder().withBlockSize(16)
+				.build();
+		try
+		{
+			try (
+				SeekableDataFileInputStream first = new CachedSeekableDataFileInputStreamImpl(
+						filePath, m_ByteOrder, cache);
+				SeekableDataFileInputStream second = new CachedSeekableDataFileInputStreamImpl(
+						filePath, m_ByteOrder, cache);)
+			{
+				Assert.assertEquals(m_Bytes[0], first.readByte());
+				Assert.assertEquals(1, cache.getStats().missCount());
+				Assert.assertEquals(m_Bytes[0], second.readByte());
+				Assert.assertEquals(1, cache.getStats().hitCount());
+			}
+
+			/**
+			 * A rewritten file has a new last modified time, so its blocks
+			 * are loaded again
+			 */
+			try (RandomAccessFile raf = new RandomAccessFile(filePath, "rw");)
+			{
+				raf.write(m_Bytes[0] + 1);
+			}
+			Files.setLastModifiedTime(Paths.get(filePath), FileTime
+					.fromMillis(System.currentTimeMillis() + 60_000L));
+			try (SeekableDataFileInputStream input = new CachedSeekableDataFileInputStreamImpl(
+					filePath, m_ByteOrder, cache);)
+			{
+				Assert.assertEquals(m_Bytes[0] + 1, input.readByte());
+				Assert.assertEquals(2, cache.getStats().missCount());
+				Assert.assertEquals(1, cache.getStats().hitCount());
+			}
+		}
+		finally
+		{
+			TransposedSidecarTest.deleteTestFile(filePath);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.CachedSeekableDataFileInputStreamImpl#fill(long, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testFill() throws IOException
+	{
+		final BlockCache cache = BlockCache.builder().withBlockSize(16).build();
+		try (
+			CachedSeekableDataFileInputStreamImpl input = new CachedSeekableDataFileInputStreamImpl(
+					m_FilePath, m_ByteOrder, cache);)
+		{
+			/**
+			 * Within a block, the window is a view of the cached block
+			 */
+			ByteBuffer window = input.fill(2, Long.BYTES);
+			Assert.assertEquals(0, window.position());
+			Assert.assertEquals(m_ByteOrder, window.order());
+			Assert.assertEquals(14, window.limit());
+			Assert.assertEquals(m_Bytes[2], window.get(0));
+			Assert.assertEquals(1, cache.getStats().missCount());
+
+			/**
+			 * Across blocks, the window is copied from consecutive blocks
+			 */
+			window = input.fill(12, Long.BYTES);
+			Assert.assertEquals(0, window.position());
+			Assert.assertEquals(m_ByteOrder, window.order());
+			Assert.assertEquals(16, window.limit());
+			input.seek(12);
+			final byte[] expecteds = new byte[16];
+			m_Input.seek(12);
+			m_Input.readFully(expecteds);
+			for (int i = 0; i < expecteds.length; i++)
+			{
+				Assert.assertEquals(expecteds[i], window.get(i));
+			}
+			Assert.assertEquals(2, cache.getStats().missCount());
+			Assert.assertEquals(1, cache.getStats().hitCount());
+		}
+	}
+
+	/**
+	 * Reads the whole file through small blocks so that values straddle
+	 * block boundaries, and compares against
+	 * {@link SeekableDataFileInputStreamImpl}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadAcrossWindows() throws IOException
+	{
+		final long size = Files.size(Paths.get(m_FilePath));
+		try (
+			SeekableDataFileInputStream expected = new SeekableDataFileInputStreamImpl(
+					m_FilePath, m_ByteOrder);
+			SeekableDataFileInputStream actual = new CachedSeekableDataFileInputStreamImpl(
+					m_FilePath, m_ByteOrder,
+					BlockCache.builder().withBlockSize(10).build());)
+		{
+			actual.readByte();
+			expected.readByte();
+			for (long position = 1; position + Float.BYTES <= size;
+					position += Float.BYTES)
+			{
+				Assert.assertEquals(
+						Float.floatToRawIntBits(expected.readFloat()),
+						Float.floatToRawIntBits(actual.readFloat()));
+			}
+			actual.seek(3);
+			final byte[] bytes = new byte[25];
+			actual.readFully(bytes);
+			Assert.assertEquals(m_Bytes[3], bytes[0]);
+		}
+	}
+}
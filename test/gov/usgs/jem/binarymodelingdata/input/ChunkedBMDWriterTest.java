@@ -0,0 +1,315 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.Concentrations;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.zip.Deflater;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link ChunkedBMDWriter}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ChunkedBMDWriterTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = ChunkedBMDWriter.class;
+		final Class<?> testingClass = ChunkedBMDWriterTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private Concentrations	m_Expecteds;
+
+	private String			m_FilePath;
+
+	/**
+	 * Assert that the chunked file at the provided path reads the same as the
+	 * test file
+	 *
+	 * @param p_ChunkedPath
+	 *            the path of the chunked file
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private void assertReadsSame(final String p_ChunkedPath)
+			throws IOException
+	{
+		try (BMDReader expected = BMDReader.open(m_FilePath);
+				BMDReader actual = BMDReader.open(p_ChunkedPath);)
+		{
+			Assert.assertEquals(expected.getHeader().toString(),
+					actual.getHeader().toString());
+			Assert.assertEquals(expected.getVariables(),
+					actual.getVariables());
+			Assert.assertEquals(expected.getSegments(), actual.getSegments());
+			Assert.assertEquals(expected.getTimeSteps(),
+					actual.getTimeSteps());
+			Assert.assertEquals(expected.getVariableMax("DO"),
+					actual.getVariableMax("DO"));
+			BMDReaderTest.assertSameValues(m_Expecteds,
+					actual.newConcentrationsQuery().withAllVariables()
+							.withAllSegments().withAllTimeSteps().execute());
+			BMDReaderTest.assertSameValues(
+					expected.newConcentrationsQuery().withVariableRange(3, 16)
+							.withSegmentRange(5, 30).withTimeStepRange(17, 65)
+							.execute(),
+					actual.newConcentrationsQuery().withVariableRange(3, 16)
+							.withSegmentRange(5, 30).withTimeStepRange(17, 65)
+							.execute());
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = TransposedSidecarTest.copyTestFile();
+		try (BMDReader reader = BMDReader.open(m_FilePath);)
+		{
+			m_Expecteds = reader.newConcentrationsQuery().withAllVariables()
+					.withAllSegments().withAllTimeSteps().execute();
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		TransposedSidecarTest.deleteTestFile(m_FilePath);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#builder()}.
+	 */
+	@Test
+	public final void testBuilder()
+	{
+		final ChunkedBMDWriter writer = ChunkedBMDWriter.builder().build();
+		Assert.assertEquals(ChunkedBMDWriter.DEFAULT_CHUNK_TIME_STEPS,
+				writer.getChunkTimeSteps());
+		Assert.assertEquals(ChunkedBMDWriter.DEFAULT_CHUNK_SEGMENTS,
+				writer.getChunkSegments());
+		Assert.assertEquals(ChunkedBMDWriter.DEFAULT_CHUNK_VARIABLES,
+				writer.getChunkVariables());
+		Assert.assertEquals(Deflater.DEFAULT_COMPRESSION,
+				writer.getCompressionLevel());
+		for (final Runnable invalid : new Runnable[] {
+				() -> ChunkedBMDWriter.builder().withChunkTimeSteps(0),
+				() -> ChunkedBMDWriter.builder().withChunkSegments(0),
+				() -> ChunkedBMDWriter.builder().withChunkVariables(-1),
+				() -> ChunkedBMDWriter.builder().withCompressionLevel(10) })
+		{
+			try
+			{
+				invalid.run();
+				Assert.fail("Expected invalid argument to fail.");
+			}
+			catch (final IllegalArgumentException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#getChunkSegments()}.
+	 */
+	@Test
+	public final void testGetChunkSegments()
+	{
+		Assert.assertEquals(3, ChunkedBMDWriter.builder().withChunkSegments(3)
+				.build().getChunkSegments());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#getChunkTimeSteps()}.
+	 */
+	@Test
+	public final void testGetChunkTimeSteps()
+	{
+		Assert.assertEquals(3, ChunkedBMDWriter.builder()
+				.withChunkTimeSteps(3).build().getChunkTimeSteps());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#getChunkVariables()}.
+	 */
+	@Test
+	public final void testGetChunkVariables()
+	{
+		Assert.assertEquals(3, ChunkedBMDWriter.builder()
+				.withChunkVariables(3).build().getChunkVariables());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#getCompressionLevel()}.
+	 */
+	@Test
+	public final void testGetCompressionLevel()
+	{
+		Assert.assertEquals(Deflater.BEST_SPEED,
+				ChunkedBMDWriter.builder()
+						.withCompressionLevel(Deflater.BEST_SPEED).build()
+						.getCompressionLevel());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#getPath(String)}.
+	 */
+	@Test
+	public final void testGetPath()
+	{
+		Assert.assertEquals(
+				new File(new File(m_FilePath).getParentFile(), "Sampleq.bmdz")
+						.getPath(),
+				ChunkedBMDWriter.getPath(m_FilePath));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#main(String[])}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testMain() throws IOException
+	{
+		ChunkedBMDWriter.main(new String[] { m_FilePath });
+		assertReadsSame(ChunkedBMDWriter.getPath(m_FilePath));
+		try
+		{
+			ChunkedBMDWriter.main(new String[0]);
+			Assert.fail("Expected missing arguments to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#shuffle(byte[], int, byte[])}.
+	 */
+	@Test
+	public final void testShuffle()
+	{
+		final byte[] shuffled = new byte[8];
+		ChunkedBMDWriter.shuffle(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }, 2,
+				shuffled);
+		Assert.assertArrayEquals(new byte[] { 1, 5, 2, 6, 3, 7, 4, 8 },
+				shuffled);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#unshuffle(byte[], int, byte[])}.
+	 */
+	@Test
+	public final void testUnshuffle()
+	{
+		final byte[] floats = new byte[12];
+		final byte[] shuffled = new byte[12];
+		for (int i = 0; i < floats.length; i++)
+		{
+			floats[i] = (byte) (i * 7);
+		}
+		ChunkedBMDWriter.shuffle(floats, 3, shuffled);
+		final byte[] unshuffled = new byte[12];
+		ChunkedBMDWriter.unshuffle(shuffled, 3, unshuffled);
+		Assert.assertArrayEquals(floats, unshuffled);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#write(String)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWriteString() throws IOException
+	{
+		ChunkedBMDWriter.builder().build().write(m_FilePath);
+		final String chunkedPath = ChunkedBMDWriter.getPath(m_FilePath);
+		assertReadsSame(chunkedPath);
+		Assert.assertTrue(new File(chunkedPath).length() < new File(m_FilePath)
+				.length());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedBMDWriter#write(String, String)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWriteStringString() throws IOException
+	{
+		final String chunkedPath = Paths
+				.get(new File(m_FilePath).getParent(), "other.bmdz").toString();
+		for (final int[] chunk : new int[][] { { 1, 1, 1 }, { 7, 3, 5 },
+				{ 66, 40, 17 }, { 1000, 1000, 1000 } })
+		{
+			ChunkedBMDWriter.builder().withChunkTimeSteps(chunk[0])
+					.withChunkSegments(chunk[1]).withChunkVariables(chunk[2])
+					.withCompressionLevel(Deflater.BEST_SPEED).build()
+					.write(m_FilePath, chunkedPath);
+			assertReadsSame(chunkedPath);
+		}
+		Assert.assertFalse(
+				Files.exists(Paths.get(ChunkedBMDWriter.getPath(m_FilePath))));
+
+		try
+		{
+			ChunkedBMDWriter.builder().build().write(chunkedPath,
+					ChunkedBMDWriter.getPath(m_FilePath));
+			Assert.fail("Expected a chunked source to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+}
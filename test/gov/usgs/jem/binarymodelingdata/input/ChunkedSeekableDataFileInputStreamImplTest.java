@@ -0,0 +1,264 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link ChunkedSeekableDataFileInputStreamImpl}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ChunkedSeekableDataFileInputStreamImplTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = ChunkedSeekableDataFileInputStreamImpl.class;
+		final Class<?> testingClass = ChunkedSeekableDataFileInputStreamImplTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private byte[]									m_Bytes;
+
+	private String									m_ChunkedPath;
+
+	private long									m_ConcentrationsLocation;
+
+	private String									m_FilePath;
+
+	private ChunkedSeekableDataFileInputStreamImpl	m_Input;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = TransposedSidecarTest.copyTestFile();
+		m_Bytes = Files.readAllBytes(Paths.get(m_FilePath));
+		try (BMDReader reader = BMDReader.open(m_FilePath);)
+		{
+			m_ConcentrationsLocation = reader.getConcentrationsLocation();
+		}
+		m_ChunkedPath = ChunkedBMDWriter.getPath(m_FilePath);
+		ChunkedBMDWriter.builder().withChunkTimeSteps(4).withChunkSegments(6)
+				.withChunkVariables(5).build().write(m_FilePath);
+		m_Input = ChunkedSeekableDataFileInputStreamImpl
+				.openChunked(m_ChunkedPath, ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Input.close();
+		TransposedSidecarTest.deleteTestFile(m_FilePath);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedSeekableDataFileInputStreamImpl#duplicate()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testDuplicate() throws IOException
+	{
+		final long position = m_ConcentrationsLocation + 1000;
+		m_Input.seek(position);
+		try (SeekableDataFileInputStream duplicate = m_Input.duplicate();)
+		{
+			Assert.assertNotSame(m_Input, duplicate);
+			Assert.assertEquals(m_Input, duplicate);
+
+			/**
+			 * Positions are independent
+			 */
+			final byte[] actuals = new byte[16];
+			duplicate.readFully(actuals, 0, 8);
+			m_Input.readFully(actuals, 8, 8);
+			Assert.assertArrayEquals(Arrays.copyOf(m_Bytes, 8),
+					Arrays.copyOf(actuals, 8));
+			Assert.assertArrayEquals(
+					Arrays.copyOfRange(m_Bytes, (int) position,
+							(int) position + 8),
+					Arrays.copyOfRange(actuals, 8, 16));
+		}
+
+		/**
+		 * Closing the duplicate does not close the source
+		 */
+		m_Input.seek(position);
+		Assert.assertEquals(m_Bytes[(int) position], m_Input.readByte());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedSeekableDataFileInputStreamImpl#fill(long, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testFill() throws IOException
+	{
+		/**
+		 * The bytes before the concentrations fill the window
+		 */
+		ByteBuffer window = m_Input.fill(0, Long.BYTES);
+		Assert.assertEquals(ByteOrder.LITTLE_ENDIAN, window.order());
+		Assert.assertEquals(m_ConcentrationsLocation, window.limit());
+
+		/**
+		 * A concentration fills only the rest of its run of variables within
+		 * a chunk, without decompressing another chunk; 17 variables are
+		 * split into chunks of 5
+		 */
+		final long variable3 = m_ConcentrationsLocation + 3 * Float.BYTES;
+		window = m_Input.fill(variable3, Float.BYTES);
+		Assert.assertEquals(2 * Float.BYTES, window.limit());
+		for (int i = 0; i < window.limit(); i++)
+		{
+			Assert.assertEquals(m_Bytes[(int) variable3 + i], window.get(i));
+		}
+
+		/**
+		 * Requiring more bytes spans chunks, and the window is then extended
+		 * through chunks already decompressed
+		 */
+		window = m_Input.fill(variable3, 4 * Float.BYTES);
+		Assert.assertTrue(window.limit() >= 4 * Float.BYTES);
+		for (int i = 0; i < window.limit(); i++)
+		{
+			Assert.assertEquals(m_Bytes[(int) variable3 + i], window.get(i));
+		}
+		window = m_Input.fill(m_ConcentrationsLocation, Float.BYTES);
+		Assert.assertEquals(10 * Float.BYTES, window.limit());
+
+		/**
+		 * The bytes after the concentrations fill the window up to the end
+		 */
+		window = m_Input.fill(m_Bytes.length - 10, 4);
+		Assert.assertEquals(10, window.limit());
+		Assert.assertEquals(m_Bytes[m_Bytes.length - 1], window.get(9));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ChunkedSeekableDataFileInputStreamImpl#openChunked(String, ByteOrder)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testOpenChunked() throws IOException
+	{
+		try (SeekableDataFileInputStream input = ChunkedSeekableDataFileInputStreamImpl
+				.openChunked(m_ChunkedPath, ByteOrder.BIG_ENDIAN);)
+		{
+			Assert.assertEquals(ByteOrder.BIG_ENDIAN, input.getByteOrder());
+			Assert.assertEquals(m_ChunkedPath, input.getFilePath());
+		}
+
+		try
+		{
+			ChunkedSeekableDataFileInputStreamImpl
+					.openChunked(m_FilePath, ByteOrder.LITTLE_ENDIAN).close();
+			Assert.fail("Expected a BMD file to fail.");
+		}
+		catch (final IOException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+
+		/**
+		 * A corrupt chunk fails when it is read
+		 */
+		final long lastChunk;
+		try (RandomAccessFile raf = new RandomAccessFile(m_ChunkedPath,
+				"rw");)
+		{
+			lastChunk = raf.length() - 20;
+			raf.seek(lastChunk);
+			raf.write(new byte[20]);
+		}
+		try (SeekableDataFileInputStream input = ChunkedSeekableDataFileInputStreamImpl
+				.openChunked(m_ChunkedPath, ByteOrder.LITTLE_ENDIAN);)
+		{
+			input.seek(m_ConcentrationsLocation);
+			input.readFloat();
+			input.seek(m_ConcentrationsLocation + (m_Bytes.length
+					- m_ConcentrationsLocation) / 2);
+			input.readFloat();
+			input.seek(m_Bytes.length - 1);
+			input.readByte();
+			try
+			{
+				final byte[] bytes = new byte[m_Bytes.length];
+				input.seek(0);
+				input.readFully(bytes);
+				Assert.fail("Expected a corrupt chunk to fail.");
+			}
+			catch (final IOException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+
+	/**
+	 * Test that every byte reads the same as the BMD file, sequentially and
+	 * at random positions
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFully() throws IOException
+	{
+		final byte[] actuals = new byte[m_Bytes.length];
+		m_Input.readFully(actuals);
+		Assert.assertArrayEquals(m_Bytes, actuals);
+
+		final ByteBuffer expecteds = ByteBuffer.wrap(m_Bytes)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		final Random random = new Random(42);
+		for (int i = 0; i < 1000; i++)
+		{
+			final int position = random.nextInt(m_Bytes.length - Float.BYTES);
+			m_Input.seek(position);
+			Assert.assertEquals(expecteds.getInt(position), m_Input.readInt());
+		}
+	}
+}
@@ -0,0 +1,331 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.Concentrations;
+import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link ConcentrationsCache}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ConcentrationsCacheTest
+{
+	/**
+	 * Read the attributes of the test file
+	 *
+	 * @return the attributes of the test file
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private BasicFileAttributes attributes() throws IOException
+	{
+		return Files.readAttributes(m_File.toPath(),
+				BasicFileAttributes.class);
+	}
+
+	/**
+	 * Create a selection of the provided indices
+	 *
+	 * @param p_Indices
+	 *            the selected indices
+	 * @return a new {@link BitSet}
+	 * @since Oct 18, 2026
+	 */
+	private static BitSet bits(final int... p_Indices)
+	{
+		final BitSet bits = new BitSet();
+		for (final int index : p_Indices)
+		{
+			bits.set(index);
+		}
+		return bits;
+	}
+
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = ConcentrationsCache.class;
+		final Class<?> testingClass = ConcentrationsCacheTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private ConcentrationsCache	m_Cache;
+
+	private File				m_File;
+
+	private AtomicInteger		m_Loads;
+
+	private BMDReader			m_Reader;
+
+	/**
+	 * Get the result of a query on the test file through the cache, counting
+	 * loads
+	 *
+	 * @param p_Variables
+	 *            the selected variable indices
+	 * @param p_Segments
+	 *            the selected segment indices
+	 * @param p_TimeSteps
+	 *            the selected time step indices
+	 * @return the result
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private Concentrations get(final BitSet p_Variables,
+			final BitSet p_Segments, final BitSet p_TimeSteps)
+			throws IOException
+	{
+		return m_Cache.get(m_File.getPath(), attributes(), p_Variables,
+				p_Segments, p_TimeSteps, 1, Collections.emptyMap(), null, () ->
+				{
+					m_Loads.incrementAndGet();
+					return m_Reader.newConcentrationsQuery()
+							.withVariableRange(0, 2).withSegmentRange(0, 2)
+							.withTimeStepRange(0, 2).execute();
+				});
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_File = File.createTempFile("cache", ".bmd");
+		Files.copy(AllTests.getTestFile().toPath(), m_File.toPath(),
+				StandardCopyOption.REPLACE_EXISTING);
+		m_Reader = BMDReader.open(m_File.getPath());
+		m_Cache = ConcentrationsCache.builder().build();
+		m_Loads = new AtomicInteger();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Reader.close();
+		m_File.delete();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsCache#builder()}.
+	 */
+	@Test
+	public final void testBuilder()
+	{
+		Assert.assertEquals(ConcentrationsCache.DEFAULT_CAPACITY,
+				ConcentrationsCache.builder().build().getCapacity());
+		try
+		{
+			ConcentrationsCache.builder().withCapacity(0);
+			Assert.fail("Expected an empty capacity to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsCache#get(String, BitSet, BitSet, BitSet, int, java.util.Map, gov.usgs.jem.binarymodelingdata.IProgressMonitor, java.util.concurrent.Callable)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGet() throws IOException
+	{
+		final BitSet selection = bits(0, 1);
+		final Concentrations expected = get(selection, selection, selection);
+		Assert.assertEquals(1, m_Loads.get());
+
+		/**
+		 * Equal selections and equivalent paths share the result, and the
+		 * provided selections are copied
+		 */
+		selection.set(5);
+		Assert.assertSame(expected, get(bits(1, 0), bits(0, 1), bits(0, 1)));
+		Assert.assertSame(expected,
+				m_Cache.get(
+						new File(m_File.getParentFile(),
+								"./" + m_File.getName()).getPath(),
+						attributes(), bits(0, 1), bits(0, 1), bits(0, 1), 1,
+						Collections.emptyMap(), null, () -> null));
+		Assert.assertEquals(1, m_Loads.get());
+
+		/**
+		 * A different selection, or a result that does not cover the
+		 * selection, is loaded again
+		 */
+		get(bits(0, 1, 2), bits(0, 1), bits(0, 1));
+		get(bits(0, 1, 2), bits(0, 1), bits(0, 1));
+		Assert.assertEquals(3, m_Loads.get());
+
+		/**
+		 * The stride and thresholds are part of the key, and a canceled
+		 * result is not cached
+		 */
+		final Callable<Concentrations> loader = () ->
+		{
+			m_Loads.incrementAndGet();
+			return expected;
+		};
+		m_Cache.get(m_File.getPath(), attributes(), bits(0, 1), bits(0, 1),
+				bits(0, 1), 2, Collections.emptyMap(), null, loader);
+		m_Cache.get(m_File.getPath(), attributes(), bits(0, 1), bits(0, 1),
+				bits(0, 1), 1, Collections.singletonMap(0, 1f), null, loader);
+		Assert.assertEquals(5, m_Loads.get());
+		final IProgressMonitor canceled = new IProgressMonitor()
+		{
+			@Override
+			public boolean isCanceled()
+			{
+				return true;
+			}
+		};
+		m_Cache.get(m_File.getPath(), attributes(), bits(0, 1), bits(0, 1),
+				bits(0), 1, Collections.emptyMap(), canceled, loader);
+		m_Cache.get(m_File.getPath(), attributes(), bits(0, 1), bits(0, 1),
+				bits(0), 1, Collections.emptyMap(), null, loader);
+		Assert.assertEquals(7, m_Loads.get());
+
+		/**
+		 * A newer file is loaded again and discards the results of the older
+		 * version; a reader still open on the older version caches its own
+		 * result without discarding those of the newer version
+		 */
+		final BasicFileAttributes opened = attributes();
+		Assert.assertTrue(m_File.setLastModified(
+				m_File.lastModified() + 10_000L));
+		final Concentrations newer = get(bits(0, 1), bits(0, 1), bits(0, 1));
+		Assert.assertNotSame(expected, newer);
+		Assert.assertEquals(8, m_Loads.get());
+		for (int i = 0; i < 2; i++)
+		{
+			Assert.assertSame(expected, m_Cache.get(m_File.getPath(), opened,
+					bits(0, 1), bits(0, 1), bits(0, 1), 1,
+					Collections.emptyMap(), null, loader));
+		}
+		Assert.assertEquals(9, m_Loads.get());
+		Assert.assertSame(newer, get(bits(0, 1), bits(0, 1), bits(0, 1)));
+		Assert.assertEquals(9, m_Loads.get());
+
+		try
+		{
+			m_Cache.get(m_File.getPath(), attributes(), bits(0), bits(0),
+					bits(0), 1, Collections.emptyMap(), null, () ->
+			{
+				throw new IOException("Expected");
+			});
+			Assert.fail("Expected load failure to be thrown.");
+		}
+		catch (final IOException e)
+		{
+			Assert.assertEquals("Expected", e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsCache#getCapacity()}.
+	 */
+	@Test
+	public final void testGetCapacity()
+	{
+		Assert.assertEquals(1000, ConcentrationsCache.builder()
+				.withCapacity(1000).build().getCapacity());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsCache#getStats()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetStats() throws IOException
+	{
+		get(bits(0, 1), bits(0, 1), bits(0, 1));
+		get(bits(0, 1), bits(0, 1), bits(0, 1));
+		Assert.assertEquals(1, m_Cache.getStats().hitCount());
+		Assert.assertEquals(1, m_Cache.getStats().missCount());
+
+		/**
+		 * Each result holds 8 values, or 32 bytes, so only one fits
+		 */
+		m_Cache = ConcentrationsCache.builder().withCapacity(48).build();
+		get(bits(0, 1), bits(0, 1), bits(0, 1));
+		get(bits(0, 1), bits(0, 1), bits(1, 0));
+		get(bits(1, 0), bits(0, 1), bits(0, 1));
+		Assert.assertTrue(m_Cache.getStats().evictionCount() > 0);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsCache#invalidate(String)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testInvalidate() throws IOException
+	{
+		get(bits(0, 1), bits(0, 1), bits(0, 1));
+		m_Cache.invalidate(AllTests.getTestFile().getPath());
+		get(bits(0, 1), bits(0, 1), bits(0, 1));
+		Assert.assertEquals(1, m_Loads.get());
+		m_Cache.invalidate(m_File.getPath());
+		get(bits(0, 1), bits(0, 1), bits(0, 1));
+		Assert.assertEquals(2, m_Loads.get());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsCache#invalidateAll()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testInvalidateAll() throws IOException
+	{
+		get(bits(0, 1), bits(0, 1), bits(0, 1));
+		m_Cache.invalidateAll();
+		get(bits(0, 1), bits(0, 1), bits(0, 1));
+		Assert.assertEquals(2, m_Loads.get());
+	}
+}
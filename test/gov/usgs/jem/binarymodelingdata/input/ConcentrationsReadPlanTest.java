@@ -0,0 +1,305 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.BMDHeader;
+import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link ConcentrationsReadPlan}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ConcentrationsReadPlanTest
+{
+	/**
+	 * Number of segments in the test file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	NUM_SEGMENTS	= 40;
+
+	/**
+	 * Number of time steps in the test file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	NUM_TIMES		= 66;
+
+	/**
+	 * Number of variables in the test file
+	 *
+	 * @since Oct 18, 2026
+	 */
+	private static final int	NUM_VARIABLES	= 17;
+
+	/**
+	 * Create an array of all indices up to the provided size
+	 *
+	 * @param p_Size
+	 *            the number of indices
+	 * @return the indices from zero (inclusive) to the size (exclusive)
+	 * @since Oct 18, 2026
+	 */
+	private static int[] all(final int p_Size)
+	{
+		final int[] indices = new int[p_Size];
+		Arrays.setAll(indices, i -> i);
+		return indices;
+	}
+
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = ConcentrationsReadPlan.class;
+		final Class<?> testingClass = ConcentrationsReadPlanTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private float[][][]					m_Expecteds;
+
+	private SeekableDataFileInputStream	m_Input;
+
+	private long						m_Location;
+
+	/**
+	 * Execute a plan and assert that exactly the selected values are visited,
+	 * in file order, with the values in the file.
+	 *
+	 * @param p_Plan
+	 *            the plan to execute
+	 * @param p_Variables
+	 *            the selected variables
+	 * @param p_Segments
+	 *            the selected segments
+	 * @param p_TimeSteps
+	 *            the selected time steps
+	 * @return the number of reads issued
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private long assertVisitsSelection(final ConcentrationsReadPlan p_Plan,
+			final int[] p_Variables, final int[] p_Segments,
+			final int[] p_TimeSteps) throws IOException
+	{
+		final int[] count = new int[1];
+		final long reads = p_Plan.execute(m_Input,
+				(variableOrd, segmentOrd, timeOrd, value) ->
+				{
+					final int expectedOrd = count[0]++;
+					final int vars = p_Variables.length;
+					final int segs = p_Segments.length;
+					Assert.assertEquals(expectedOrd % vars, variableOrd);
+					Assert.assertEquals(expectedOrd / vars % segs, segmentOrd);
+					Assert.assertEquals(expectedOrd / vars / segs, timeOrd);
+					Assert.assertEquals(
+							m_Expecteds[p_TimeSteps[timeOrd]][p_Segments[segmentOrd]][p_Variables[variableOrd]],
+							value, 0.0f);
+				}, null);
+		Assert.assertEquals(
+				p_Variables.length * p_Segments.length * p_TimeSteps.length,
+				count[0]);
+		return reads;
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Location = BMDHeader.LOCATION_VARIABLES + NUM_VARIABLES * (18 + 12);
+		m_Input = new PositionalSeekableDataFileInputStreamImpl(
+				AllTests.getTestFile().getAbsolutePath(),
+				ByteOrder.LITTLE_ENDIAN);
+		m_Expecteds = new float[NUM_TIMES][NUM_SEGMENTS][NUM_VARIABLES];
+		m_Input.seek(m_Location);
+		for (int t = 0; t < NUM_TIMES; t++)
+		{
+			for (int s = 0; s < NUM_SEGMENTS; s++)
+			{
+				for (int v = 0; v < NUM_VARIABLES; v++)
+				{
+					m_Expecteds[t][s][v] = m_Input.readFloat();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Input.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsReadPlan#execute(SeekableDataFileInputStream, ConcentrationsReadPlan.Visitor, IProgressMonitor)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testExecute() throws IOException
+	{
+		final int[] variables = all(NUM_VARIABLES);
+		final int[] segments = all(NUM_SEGMENTS);
+		final int[] timeSteps = all(NUM_TIMES);
+
+		/**
+		 * Everything is one contiguous range
+		 */
+		Assert.assertEquals(1,
+				assertVisitsSelection(
+						new ConcentrationsReadPlan(m_Location, NUM_SEGMENTS,
+								NUM_VARIABLES, variables, segments, timeSteps),
+						variables, segments, timeSteps));
+
+		/**
+		 * Reads are split at the maximum read size
+		 */
+		final int blockSize = NUM_SEGMENTS * NUM_VARIABLES;
+		Assert.assertEquals(NUM_TIMES,
+				assertVisitsSelection(
+						new ConcentrationsReadPlan(m_Location, NUM_SEGMENTS,
+								NUM_VARIABLES, variables, segments, timeSteps,
+								0, blockSize),
+						variables, segments, timeSteps));
+
+		/**
+		 * A single time series is read with one small read per time step
+		 * unless the gap between time steps is small enough to read through
+		 */
+		final int[] variable = new int[] { 3 };
+		final int[] segment = new int[] { 17 };
+		Assert.assertEquals(NUM_TIMES,
+				assertVisitsSelection(
+						new ConcentrationsReadPlan(m_Location, NUM_SEGMENTS,
+								NUM_VARIABLES, variable, segment, timeSteps, 0,
+								ConcentrationsReadPlan.MAX_READ),
+						variable, segment, timeSteps));
+		Assert.assertEquals(1,
+				assertVisitsSelection(
+						new ConcentrationsReadPlan(m_Location, NUM_SEGMENTS,
+								NUM_VARIABLES, variable, segment, timeSteps),
+						variable, segment, timeSteps));
+
+		/**
+		 * Sparse selections, with and without merging and with reads smaller
+		 * than a single run
+		 */
+		final int[] sparseVariables = new int[] { 0, 3, 4, 16 };
+		final int[] sparseSegments = new int[] { 1, 2, 17, 39 };
+		final int[] sparseTimeSteps = new int[] { 0, 5, 6, 65 };
+		for (final int maxGap : new int[] { 0, 4, 64,
+				ConcentrationsReadPlan.MAX_GAP })
+		{
+			for (final int maxRead : new int[] { 1, 3, 100,
+					ConcentrationsReadPlan.MAX_READ })
+			{
+				assertVisitsSelection(new ConcentrationsReadPlan(m_Location,
+						NUM_SEGMENTS, NUM_VARIABLES, sparseVariables,
+						sparseSegments, sparseTimeSteps, maxGap, maxRead),
+						sparseVariables, sparseSegments, sparseTimeSteps);
+			}
+		}
+	}
+
+	/**
+	 * Test cancellation during
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsReadPlan#execute(SeekableDataFileInputStream, ConcentrationsReadPlan.Visitor, IProgressMonitor)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testExecuteCanceled() throws IOException
+	{
+		final int[] variables = all(NUM_VARIABLES);
+		final int[] segments = all(NUM_SEGMENTS);
+		final int[] timeSteps = all(NUM_TIMES);
+		final int[] worked = new int[1];
+		final IProgressMonitor monitor = new IProgressMonitor()
+		{
+			@Override
+			public boolean isCanceled()
+			{
+				return worked[0] == 3;
+			}
+
+			@Override
+			public void worked(final int p_Work)
+			{
+				worked[0] += p_Work;
+			}
+		};
+		final int[] maxTime = new int[] { -1 };
+		new ConcentrationsReadPlan(m_Location, NUM_SEGMENTS, NUM_VARIABLES,
+				variables, segments, timeSteps).execute(m_Input,
+						(variableOrd, segmentOrd, timeOrd, value) -> maxTime[0] = Math
+								.max(maxTime[0], timeOrd),
+						monitor);
+		Assert.assertEquals(3, worked[0]);
+		Assert.assertEquals(3, maxTime[0]);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ConcentrationsReadPlan#getRunCount()}.
+	 */
+	@Test
+	public final void testGetRunCount()
+	{
+		final int[] timeSteps = all(NUM_TIMES);
+		Assert.assertEquals(1,
+				new ConcentrationsReadPlan(m_Location, NUM_SEGMENTS,
+						NUM_VARIABLES, all(NUM_VARIABLES), all(NUM_SEGMENTS),
+						timeSteps).getRunCount());
+
+		final int[] variables = new int[] { 0, 16 };
+		final int[] segments = new int[] { 0, 1 };
+		/**
+		 * The last variable of segment 0 is adjacent to the first variable of
+		 * segment 1
+		 */
+		Assert.assertEquals(3, new ConcentrationsReadPlan(m_Location,
+				NUM_SEGMENTS, NUM_VARIABLES, variables, segments, timeSteps, 0,
+				ConcentrationsReadPlan.MAX_READ).getRunCount());
+		Assert.assertEquals(1,
+				new ConcentrationsReadPlan(m_Location, NUM_SEGMENTS,
+						NUM_VARIABLES, variables, segments, timeSteps)
+								.getRunCount());
+
+		/**
+		 * Runs are split at the maximum read size
+		 */
+		Assert.assertEquals(4,
+				new ConcentrationsReadPlan(m_Location, NUM_SEGMENTS,
+						NUM_VARIABLES, all(NUM_VARIABLES), new int[] { 0 },
+						timeSteps, 0, 5).getRunCount());
+	}
+}
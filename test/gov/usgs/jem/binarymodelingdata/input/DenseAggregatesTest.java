@@ -0,0 +1,233 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.BMDSegment;
+import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link DenseAggregates}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class DenseAggregatesTest
+{
+	/**
+	 * Assert that an invalid lookup fails
+	 *
+	 * @param p_Lookup
+	 *            the lookup
+	 * @since Oct 18, 2026
+	 */
+	private static void assertInvalid(final Runnable p_Lookup)
+	{
+		try
+		{
+			p_Lookup.run();
+			Assert.fail("Expected an invalid lookup to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = DenseAggregates.class;
+		final Class<?> testingClass = DenseAggregatesTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private DenseAggregates<BMDSegment>	m_Aggregates;
+
+	private List<BMDSegment>			m_Segments;
+
+	private List<BMDVariable>			m_Variables;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Variables = Arrays.asList(new BMDVariableImpl(1, "V1", "U", "P1"),
+				new BMDVariableImpl(4, "V4", "U", "P4"));
+		m_Segments = Arrays.asList(new BMDSegmentImpl(0, "S0"),
+				new BMDSegmentImpl(2, "S2"), new BMDSegmentImpl(3, "S3"));
+		m_Aggregates = new DenseAggregates<>(
+				Arrays.asList(AggregateFunction.values()), m_Variables,
+				m_Segments, new int[] { 0, 2, 3 });
+
+		/**
+		 * Variable 4, segment 2 has the values 1, 2, NaN, and 6; segment 3 has
+		 * no values
+		 */
+		m_Aggregates.accept(1, 1, 1.0f);
+		m_Aggregates.accept(1, 1, 6.0f);
+		m_Aggregates.accept(1, 1, Float.NaN);
+		m_Aggregates.accept(1, 1, 2.0f);
+		m_Aggregates.accept(0, 0, -3.0f);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseAggregates#accept(int, int, float)}.
+	 */
+	@Test
+	public final void testAccept()
+	{
+		final DenseAggregates<BMDSegment> aggregates = new DenseAggregates<>(
+				Arrays.asList(AggregateFunction.MAX), m_Variables, m_Segments,
+				new int[] { 0, 2, 3 });
+		aggregates.accept(0, 2, 5.0f);
+		aggregates.accept(0, 2, 7.0f);
+		Assert.assertEquals(7.0f,
+				aggregates.getValue(AggregateFunction.MAX, 1, 3), 0.0f);
+		Assert.assertEquals(2, aggregates.getCount(1, 3));
+
+		/**
+		 * Functions that were not requested are not available
+		 */
+		assertInvalid(() -> aggregates.getValue(AggregateFunction.SUM, 1, 3));
+	}
+
+	/**
+	 * Test the constructor rejects invalid arguments
+	 */
+	@Test
+	public final void testDenseAggregatesInvalid()
+	{
+		assertInvalid(() -> new DenseAggregates<>(Arrays.asList(),
+				m_Variables, m_Segments, new int[] { 0, 2, 3 }));
+		assertInvalid(() -> new DenseAggregates<>(
+				Arrays.asList(AggregateFunction.MIN), m_Variables, m_Segments,
+				new int[] { 0, 2 }));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseAggregates#getCount(int, int)}.
+	 */
+	@Test
+	public final void testGetCount()
+	{
+		Assert.assertEquals(3, m_Aggregates.getCount(4, 2));
+		Assert.assertEquals(1, m_Aggregates.getCount(1, 0));
+		Assert.assertEquals(0, m_Aggregates.getCount(4, 3));
+		assertInvalid(() -> m_Aggregates.getCount(2, 0));
+		assertInvalid(() -> m_Aggregates.getCount(1, 1));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseAggregates#getFunctions()}.
+	 */
+	@Test
+	public final void testGetFunctions()
+	{
+		Assert.assertEquals(Arrays.asList(AggregateFunction.values()),
+				m_Aggregates.getFunctions());
+		Assert.assertEquals(
+				Arrays.asList(AggregateFunction.MIN, AggregateFunction.MEAN),
+				new DenseAggregates<>(
+						Arrays.asList(AggregateFunction.MEAN,
+								AggregateFunction.MIN, AggregateFunction.MEAN),
+						m_Variables, m_Segments, new int[] { 0, 2, 3 })
+								.getFunctions());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseAggregates#getKeys()}.
+	 */
+	@Test
+	public final void testGetKeys()
+	{
+		Assert.assertEquals(m_Segments, m_Aggregates.getKeys());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseAggregates#getValue(AggregateFunction, int, int)}.
+	 */
+	@Test
+	public final void testGetValue()
+	{
+		Assert.assertEquals(1.0f,
+				m_Aggregates.getValue(AggregateFunction.MIN, 4, 2), 0.0f);
+		Assert.assertEquals(6.0f,
+				m_Aggregates.getValue(AggregateFunction.MAX, 4, 2), 0.0f);
+		Assert.assertEquals(3.0f,
+				m_Aggregates.getValue(AggregateFunction.MEAN, 4, 2), 0.0f);
+		Assert.assertEquals(9.0f,
+				m_Aggregates.getValue(AggregateFunction.SUM, 4, 2), 0.0f);
+		Assert.assertEquals(-3.0f,
+				m_Aggregates.getValue(AggregateFunction.MAX, 1, 0), 0.0f);
+
+		/**
+		 * No values
+		 */
+		Assert.assertTrue(Float
+				.isNaN(m_Aggregates.getValue(AggregateFunction.MIN, 4, 3)));
+		Assert.assertTrue(Float
+				.isNaN(m_Aggregates.getValue(AggregateFunction.MAX, 4, 3)));
+		Assert.assertTrue(Float
+				.isNaN(m_Aggregates.getValue(AggregateFunction.MEAN, 4, 3)));
+		Assert.assertEquals(0.0f,
+				m_Aggregates.getValue(AggregateFunction.SUM, 4, 3), 0.0f);
+
+		assertInvalid(
+				() -> m_Aggregates.getValue(AggregateFunction.SUM, 0, 0));
+		assertInvalid(
+				() -> m_Aggregates.getValue(AggregateFunction.SUM, 1, 4));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseAggregates#getValues(AggregateFunction, int)}.
+	 */
+	@Test
+	public final void testGetValues()
+	{
+		Assert.assertArrayEquals(new float[] { 0.0f, 9.0f, 0.0f },
+				m_Aggregates.getValues(AggregateFunction.SUM, 4), 0.0f);
+		Assert.assertArrayEquals(
+				new float[] { -3.0f, Float.NaN, Float.NaN },
+				m_Aggregates.getValues(AggregateFunction.MEAN, 1), 0.0f);
+		assertInvalid(() -> m_Aggregates.getValues(AggregateFunction.SUM, 2));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseAggregates#getVariables()}.
+	 */
+	@Test
+	public final void testGetVariables()
+	{
+		Assert.assertEquals(m_Variables, m_Aggregates.getVariables());
+	}
+}
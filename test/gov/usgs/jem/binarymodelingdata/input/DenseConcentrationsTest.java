@@ -0,0 +1,447 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.BMDSegment;
+import gov.usgs.jem.binarymodelingdata.BMDTimeStep;
+import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import gov.usgs.jem.binarymodelingdata.Concentration;
+import gov.usgs.jem.binarymodelingdata.ConcentrationConsumer;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link DenseConcentrations}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class DenseConcentrationsTest
+{
+	/**
+	 * Get the expected value
+	 *
+	 * @param p_Variable
+	 *            the variable ordinal
+	 * @param p_Segment
+	 *            the segment ordinal
+	 * @param p_TimeStep
+	 *            the time step ordinal
+	 * @return the value stored for the provided ordinals
+	 * @since Oct 18, 2026
+	 */
+	private static float expected(final int p_Variable, final int p_Segment,
+			final int p_TimeStep)
+	{
+		return p_Variable * 100 + p_Segment * 10 + p_TimeStep;
+	}
+
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = DenseConcentrations.class;
+		final Class<?> testingClass = DenseConcentrationsTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private DenseConcentrations	m_Concentrations;
+
+	private List<BMDSegment>	m_Segments;
+
+	private List<BMDTimeStep>	m_TimeSteps;
+
+	private float[]				m_Values;
+
+	private List<BMDVariable>	m_Variables;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Variables = Arrays.asList(new BMDVariableImpl(1, "V1", "U", "P1"),
+				new BMDVariableImpl(4, "V4", "U", "P4"));
+		m_Segments = Arrays.asList(new BMDSegmentImpl(0, "S0"),
+				new BMDSegmentImpl(2, "S2"), new BMDSegmentImpl(3, "S3"));
+		m_TimeSteps = Arrays.asList(new BMDTimeStepImpl(5, 5000L, 5.0),
+				new BMDTimeStepImpl(6, 6000L, 6.0),
+				new BMDTimeStepImpl(9, 9000L, 9.0),
+				new BMDTimeStepImpl(10, 10000L, 10.0));
+		m_Values = new float[2 * 3 * 4];
+		int next = 0;
+		for (int v = 0; v < 2; v++)
+		{
+			for (int s = 0; s < 3; s++)
+			{
+				for (int t = 0; t < 4; t++)
+				{
+					m_Values[next++] = expected(v, s, t);
+				}
+			}
+		}
+		m_Concentrations = new DenseConcentrations(m_Variables, m_Segments,
+				m_TimeSteps, m_Values);
+	}
+
+	/**
+	 * Test the constructor rejects a mismatched number of values
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testDenseConcentrationsMismatchedValues()
+	{
+		new DenseConcentrations(m_Variables, m_Segments, m_TimeSteps,
+				new float[m_Values.length - 1]);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#forEachValue(ConcentrationConsumer)}.
+	 */
+	@Test
+	public final void testForEachValue()
+	{
+		final Iterator<Concentration> iterator = m_Concentrations.iterator();
+		m_Concentrations.forEachValue((variable, segment, timeStep, value) ->
+		{
+			final Concentration expected = iterator.next();
+			Assert.assertEquals(expected.getVariable().getIndex(), variable);
+			Assert.assertEquals(expected.getSegment().getIndex(), segment);
+			Assert.assertEquals(expected.getTimeStep().getIndex(), timeStep);
+			Assert.assertEquals(expected.getValue(), value, 0.0f);
+		});
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#get(BMDVariable, BMDSegment, BMDTimeStep)}.
+	 */
+	@Test
+	public final void testGet()
+	{
+		for (int v = 0; v < m_Variables.size(); v++)
+		{
+			for (int s = 0; s < m_Segments.size(); s++)
+			{
+				for (int t = 0; t < m_TimeSteps.size(); t++)
+				{
+					final Concentration concentration = m_Concentrations.get(
+							m_Variables.get(v), m_Segments.get(s),
+							m_TimeSteps.get(t));
+					Assert.assertEquals(m_Variables.get(v),
+							concentration.getVariable());
+					Assert.assertEquals(m_Segments.get(s),
+							concentration.getSegment());
+					Assert.assertEquals(m_TimeSteps.get(t),
+							concentration.getTimeStep());
+					Assert.assertEquals(expected(v, s, t),
+							concentration.getValue(), 0.0f);
+				}
+			}
+		}
+
+		try
+		{
+			m_Concentrations.get(new BMDVariableImpl(2, "V2", "U", "P2"),
+					m_Segments.get(0), m_TimeSteps.get(0));
+			Assert.fail("Variable not in results.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+		try
+		{
+			m_Concentrations.get(m_Variables.get(0),
+					new BMDSegmentImpl(40, "S40"), m_TimeSteps.get(0));
+			Assert.fail("Segment not in results.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+		try
+		{
+			m_Concentrations.get(m_Variables.get(0), m_Segments.get(0),
+					new BMDTimeStepImpl(7, 7000L, 7.0));
+			Assert.fail("Time step not in results.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#getSegments()}.
+	 */
+	@Test
+	public final void testGetSegments()
+	{
+		Assert.assertEquals(m_Segments, m_Concentrations.getSegments());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#getSnapshot(BMDVariable, BMDTimeStep)}.
+	 */
+	@Test
+	public final void testGetSnapshot()
+	{
+		for (int v = 0; v < m_Variables.size(); v++)
+		{
+			for (int t = 0; t < m_TimeSteps.size(); t++)
+			{
+				final float[] snapshot = m_Concentrations
+						.getSnapshot(m_Variables.get(v), m_TimeSteps.get(t));
+				Assert.assertEquals(m_Segments.size(), snapshot.length);
+				for (int s = 0; s < m_Segments.size(); s++)
+				{
+					Assert.assertEquals(expected(v, s, t), snapshot[s], 0.0f);
+				}
+			}
+		}
+
+		try
+		{
+			m_Concentrations.getSnapshot(m_Variables.get(0),
+					new BMDTimeStepImpl(7, 7000L, 7.0));
+			Assert.fail("Time step not in results.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#getTimeSeries(BMDVariable, BMDSegment)}.
+	 */
+	@Test
+	public final void testGetTimeSeries()
+	{
+		for (int v = 0; v < m_Variables.size(); v++)
+		{
+			for (int s = 0; s < m_Segments.size(); s++)
+			{
+				final FloatBuffer timeSeries = m_Concentrations
+						.getTimeSeries(m_Variables.get(v), m_Segments.get(s));
+				Assert.assertTrue(timeSeries.isReadOnly());
+				Assert.assertEquals(0, timeSeries.position());
+				Assert.assertEquals(m_TimeSteps.size(), timeSeries.remaining());
+				for (int t = 0; t < m_TimeSteps.size(); t++)
+				{
+					Assert.assertEquals(expected(v, s, t), timeSeries.get(t),
+							0.0f);
+				}
+			}
+		}
+
+		try
+		{
+			m_Concentrations.getTimeSeries(
+					new BMDVariableImpl(2, "V2", "U", "P2"), m_Segments.get(0));
+			Assert.fail("Variable not in results.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#getTimeSteps()}.
+	 */
+	@Test
+	public final void testGetTimeSteps()
+	{
+		Assert.assertEquals(m_TimeSteps, m_Concentrations.getTimeSteps());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#getValue(int, int, int)}.
+	 */
+	@Test
+	public final void testGetValue()
+	{
+		for (int v = 0; v < m_Variables.size(); v++)
+		{
+			for (int s = 0; s < m_Segments.size(); s++)
+			{
+				for (int t = 0; t < m_TimeSteps.size(); t++)
+				{
+					Assert.assertEquals(expected(v, s, t),
+							m_Concentrations.getValue(
+									m_Variables.get(v).getIndex(),
+									m_Segments.get(s).getIndex(),
+									m_TimeSteps.get(t).getIndex()),
+							0.0f);
+				}
+			}
+		}
+
+		for (final int[] invalid : new int[][] { { 2, 0, 5 }, { 1, 1, 5 },
+				{ 1, 0, 7 }, { -1, 0, 5 }, { 1, 0, 11 } })
+		{
+			try
+			{
+				m_Concentrations.getValue(invalid[0], invalid[1], invalid[2]);
+				Assert.fail("Not in results: " + Arrays.toString(invalid));
+			}
+			catch (final IllegalArgumentException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#getVariables()}.
+	 */
+	@Test
+	public final void testGetVariables()
+	{
+		Assert.assertEquals(m_Variables, m_Concentrations.getVariables());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#iterator()}.
+	 */
+	@Test
+	public final void testIterator()
+	{
+		final Iterator<Concentration> iterator = m_Concentrations.iterator();
+		for (int v = 0; v < m_Variables.size(); v++)
+		{
+			for (int s = 0; s < m_Segments.size(); s++)
+			{
+				for (int t = 0; t < m_TimeSteps.size(); t++)
+				{
+					Assert.assertTrue(iterator.hasNext());
+					final Concentration concentration = iterator.next();
+					Assert.assertEquals(new ConcentrationImpl(
+							m_Variables.get(v), m_Segments.get(s),
+							m_TimeSteps.get(t), expected(v, s, t)),
+							concentration);
+				}
+			}
+		}
+		Assert.assertFalse(iterator.hasNext());
+		try
+		{
+			iterator.next();
+			Assert.fail("Iterator should be exhausted.");
+		}
+		catch (final NoSuchElementException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#ordinal(int[], int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testOrdinal()
+	{
+		final int[] ordinals = DenseConcentrations
+				.ordinals(new int[] { 2, 5 });
+		Assert.assertEquals(0, DenseConcentrations.ordinal(ordinals, 2));
+		Assert.assertEquals(1, DenseConcentrations.ordinal(ordinals, 5));
+		Assert.assertEquals(-1, DenseConcentrations.ordinal(ordinals, 3));
+		Assert.assertEquals(-1, DenseConcentrations.ordinal(ordinals, -1));
+		Assert.assertEquals(-1, DenseConcentrations.ordinal(ordinals, 6));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#ordinals(int[])}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testOrdinals()
+	{
+		Assert.assertArrayEquals(new int[] { -1, 0, -1, 1 },
+				DenseConcentrations.ordinals(new int[] { 1, 3 }));
+		Assert.assertArrayEquals(new int[0],
+				DenseConcentrations.ordinals(new int[0]));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseConcentrations#retainTimeSteps(int[])}.
+	 */
+	@Test
+	public final void testRetainTimeSteps()
+	{
+		final int[] retained = new int[] { 1, 3 };
+		final DenseConcentrations concentrations = m_Concentrations
+				.retainTimeSteps(retained);
+		Assert.assertEquals(m_Variables, concentrations.getVariables());
+		Assert.assertEquals(m_Segments, concentrations.getSegments());
+		Assert.assertEquals(
+				Arrays.asList(m_TimeSteps.get(1), m_TimeSteps.get(3)),
+				concentrations.getTimeSteps());
+		for (int v = 0; v < m_Variables.size(); v++)
+		{
+			for (int s = 0; s < m_Segments.size(); s++)
+			{
+				for (final int t : retained)
+				{
+					Assert.assertEquals(expected(v, s, t),
+							concentrations.get(m_Variables.get(v),
+									m_Segments.get(s), m_TimeSteps.get(t))
+									.getValue(),
+							0.0f);
+				}
+			}
+		}
+
+		final DenseConcentrations empty = m_Concentrations
+				.retainTimeSteps(new int[0]);
+		Assert.assertTrue(empty.getTimeSteps().isEmpty());
+		Assert.assertFalse(empty.iterator().hasNext());
+	}
+}
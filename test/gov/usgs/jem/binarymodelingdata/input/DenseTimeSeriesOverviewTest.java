@@ -0,0 +1,171 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AggregateFunction;
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.BMDSegment;
+import gov.usgs.jem.binarymodelingdata.BMDTimeStep;
+import gov.usgs.jem.binarymodelingdata.BMDVariable;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link DenseTimeSeriesOverview}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class DenseTimeSeriesOverviewTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = DenseTimeSeriesOverview.class;
+		final Class<?> testingClass = DenseTimeSeriesOverviewTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private DenseTimeSeriesOverview	m_Overview;
+
+	private BMDSegment				m_Segment;
+
+	private List<BMDTimeStep>		m_TimeSteps;
+
+	private BMDVariable				m_Variable;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_Variable = new BMDVariableImpl(4, "V4", "U", "P4");
+		m_Segment = new BMDSegmentImpl(2, "S2");
+		m_TimeSteps = Arrays.asList(new BMDTimeStepImpl(0, 0L, 0.0),
+				new BMDTimeStepImpl(4, 4L, 4.0));
+		m_Overview = new DenseTimeSeriesOverview(m_Variable, m_Segment, 4,
+				m_TimeSteps, new float[] { 1.0f, 2.0f },
+				new float[] { 5.0f, 6.0f }, new float[] { 3.0f, 4.0f });
+	}
+
+	/**
+	 * Test the constructor rejects invalid arguments
+	 */
+	@Test
+	public final void testDenseTimeSeriesOverviewInvalid()
+	{
+		try
+		{
+			new DenseTimeSeriesOverview(m_Variable, m_Segment, 0, m_TimeSteps,
+					new float[2], new float[2], new float[2]);
+			Assert.fail("Expected an empty bin size to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+		try
+		{
+			new DenseTimeSeriesOverview(m_Variable, m_Segment, 4, m_TimeSteps,
+					new float[2], new float[1], new float[2]);
+			Assert.fail("Expected mismatched values to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseTimeSeriesOverview#getBinTimeSteps()}.
+	 */
+	@Test
+	public final void testGetBinTimeSteps()
+	{
+		Assert.assertEquals(4, m_Overview.getBinTimeSteps());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseTimeSeriesOverview#getSegment()}.
+	 */
+	@Test
+	public final void testGetSegment()
+	{
+		Assert.assertEquals(m_Segment, m_Overview.getSegment());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseTimeSeriesOverview#getTimeSteps()}.
+	 */
+	@Test
+	public final void testGetTimeSteps()
+	{
+		Assert.assertEquals(m_TimeSteps, m_Overview.getTimeSteps());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseTimeSeriesOverview#getValues(AggregateFunction)}.
+	 */
+	@Test
+	public final void testGetValues()
+	{
+		Assert.assertArrayEquals(new float[] { 1.0f, 2.0f },
+				m_Overview.getValues(AggregateFunction.MIN), 0.0f);
+		Assert.assertArrayEquals(new float[] { 5.0f, 6.0f },
+				m_Overview.getValues(AggregateFunction.MAX), 0.0f);
+		Assert.assertArrayEquals(new float[] { 3.0f, 4.0f },
+				m_Overview.getValues(AggregateFunction.MEAN), 0.0f);
+
+		/**
+		 * A copy is returned
+		 */
+		m_Overview.getValues(AggregateFunction.MIN)[0] = -1.0f;
+		Assert.assertEquals(1.0f,
+				m_Overview.getValues(AggregateFunction.MIN)[0], 0.0f);
+		try
+		{
+			m_Overview.getValues(AggregateFunction.SUM);
+			Assert.fail("Expected an unavailable function to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.DenseTimeSeriesOverview#getVariable()}.
+	 */
+	@Test
+	public final void testGetVariable()
+	{
+		Assert.assertEquals(m_Variable, m_Overview.getVariable());
+	}
+}
@@ -0,0 +1,102 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link PositionalSeekableDataFileInputStreamImpl}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PositionalSeekableDataFileInputStreamImplTest
+		extends AbstractChannelSeekableDataFileInputStreamTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = PositionalSeekableDataFileInputStreamImpl.class;
+		final Class<?> testingClass = PositionalSeekableDataFileInputStreamImplTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+
+	}
+
+	@Override
+	AbstractChannelSeekableDataFileInputStream open(final String p_FilePath,
+			final ByteOrder p_ByteOrder) throws IOException
+	{
+		return new PositionalSeekableDataFileInputStreamImpl(p_FilePath,
+				p_ByteOrder);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PositionalSeekableDataFileInputStreamImpl#fill(long, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testFill() throws IOException
+	{
+		try (
+			PositionalSeekableDataFileInputStreamImpl input = new PositionalSeekableDataFileInputStreamImpl(
+					m_FilePath, m_ByteOrder, 16);)
+		{
+			final ByteBuffer window = input.fill(2, Long.BYTES);
+			Assert.assertEquals(0, window.position());
+			Assert.assertEquals(m_ByteOrder, window.order());
+			Assert.assertEquals(16, window.limit());
+			Assert.assertEquals(m_Bytes[2], window.get(0));
+		}
+	}
+
+	/**
+	 * Reads the whole file through a small buffer so that values straddle
+	 * buffer boundaries, and compares against
+	 * {@link SeekableDataFileInputStreamImpl}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadAcrossWindows() throws IOException
+	{
+		final long size = java.nio.file.Files
+				.size(java.nio.file.Paths.get(m_FilePath));
+		try (
+			SeekableDataFileInputStream expected = new SeekableDataFileInputStreamImpl(
+					m_FilePath, m_ByteOrder);
+			SeekableDataFileInputStream actual = new PositionalSeekableDataFileInputStreamImpl(
+					m_FilePath, m_ByteOrder, 10);)
+		{
+			actual.readByte();
+			expected.readByte();
+			for (long position = 1; position + Float.BYTES <= size;
+					position += Float.BYTES)
+			{
+				Assert.assertEquals(
+						Float.floatToRawIntBits(expected.readFloat()),
+						Float.floatToRawIntBits(actual.readFloat()));
+			}
+			actual.seek(3);
+			final byte[] bytes = new byte[25];
+			actual.readFully(bytes);
+			Assert.assertEquals(m_Bytes[3], bytes[0]);
+		}
+	}
+}
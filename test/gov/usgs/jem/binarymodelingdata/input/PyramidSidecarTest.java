@@ -0,0 +1,351 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.BMDHeader;
+import gov.usgs.jem.binarymodelingdata.Concentrations;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link PyramidSidecar}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PyramidSidecarTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = PyramidSidecar.class;
+		final Class<?> testingClass = PyramidSidecarTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private Concentrations	m_Expecteds;
+
+	private String			m_FilePath;
+
+	private BMDHeader		m_Header;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = TransposedSidecarTest.copyTestFile();
+		try (BMDReader reader = BMDReader.open(m_FilePath);)
+		{
+			m_Header = reader.getHeader();
+			m_Expecteds = reader.newConcentrationsQuery().withAllVariables()
+					.withAllSegments().withAllTimeSteps().execute();
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		TransposedSidecarTest.deleteTestFile(m_FilePath);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#close()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testClose() throws IOException
+	{
+		PyramidSidecar.write(m_FilePath);
+		final PyramidSidecar sidecar = PyramidSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);
+		sidecar.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#duplicate(java.io.Closeable)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testDuplicate() throws IOException
+	{
+		PyramidSidecar.write(m_FilePath);
+		final int numBins = PyramidSidecar.getNumBins(m_Header.getTimesSize(),
+				1);
+		final float[] expecteds = new float[numBins];
+		final float[] actuals = new float[numBins];
+		try (PyramidSidecar sidecar = PyramidSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			/**
+			 * The original stays readable after its duplicate is closed, which
+			 * closes its release
+			 */
+			final AtomicInteger releases = new AtomicInteger();
+			sidecar.read(3, 17, 1, 0, new float[numBins], expecteds,
+					new float[numBins]);
+			try (PyramidSidecar duplicate = sidecar
+					.duplicate(releases::incrementAndGet);)
+			{
+				duplicate.read(3, 17, 1, 0, new float[numBins], actuals,
+						new float[numBins]);
+				Assert.assertArrayEquals(expecteds, actuals, 0.0f);
+			}
+			Assert.assertEquals(1, releases.get());
+			Arrays.fill(actuals, 0.0f);
+			sidecar.read(3, 17, 1, 0, new float[numBins], actuals,
+					new float[numBins]);
+			Assert.assertArrayEquals(expecteds, actuals, 0.0f);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#getNumBins(int, int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testGetNumBins()
+	{
+		Assert.assertEquals(66, PyramidSidecar.getNumBins(66, 0));
+		Assert.assertEquals(33, PyramidSidecar.getNumBins(66, 1));
+		Assert.assertEquals(17, PyramidSidecar.getNumBins(66, 2));
+		Assert.assertEquals(9, PyramidSidecar.getNumBins(66, 3));
+		Assert.assertEquals(1, PyramidSidecar.getNumBins(66, 7));
+		Assert.assertEquals(4, PyramidSidecar.getNumBins(64, 4));
+		Assert.assertEquals(0, PyramidSidecar.getNumBins(0, 1));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#getNumLevels(int)}.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testGetNumLevels()
+	{
+		Assert.assertEquals(0, PyramidSidecar.getNumLevels(0));
+		Assert.assertEquals(0, PyramidSidecar.getNumLevels(1));
+		Assert.assertEquals(1, PyramidSidecar.getNumLevels(2));
+		Assert.assertEquals(2, PyramidSidecar.getNumLevels(3));
+		Assert.assertEquals(6, PyramidSidecar.getNumLevels(64));
+		Assert.assertEquals(7, PyramidSidecar.getNumLevels(66));
+		Assert.assertEquals(1, PyramidSidecar.getNumBins(66,
+				PyramidSidecar.getNumLevels(66)));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#getPath(String)}.
+	 */
+	@Test
+	public final void testGetPath()
+	{
+		Assert.assertEquals(
+				new File(new File(m_FilePath).getParentFile(), "Sampleq.bmdp")
+						.getPath(),
+				PyramidSidecar.getPath(m_FilePath));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#main(String[])}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testMain() throws IOException
+	{
+		PyramidSidecar.main(new String[] { m_FilePath });
+		Assert.assertTrue(new File(PyramidSidecar.getPath(m_FilePath))
+				.isFile());
+		try
+		{
+			PyramidSidecar.main(new String[0]);
+			Assert.fail("Expected missing arguments to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#open(String, BMDHeader, ReadMode)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testOpen() throws IOException
+	{
+		Assert.assertNull(PyramidSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+
+		PyramidSidecar.write(m_FilePath);
+		for (final ReadMode readMode : ReadMode.values())
+		{
+			try (PyramidSidecar sidecar = PyramidSidecar.open(m_FilePath,
+					m_Header, readMode);)
+			{
+				Assert.assertNotNull(sidecar);
+			}
+		}
+
+		/**
+		 * A sidecar of a file that was modified afterward is stale
+		 */
+		final File file = new File(m_FilePath);
+		Assert.assertTrue(file.setLastModified(file.lastModified() - 10_000L));
+		Assert.assertNull(PyramidSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+
+		/**
+		 * A truncated sidecar is ignored
+		 */
+		Files.write(new File(PyramidSidecar.getPath(m_FilePath)).toPath(),
+				new byte[] { 'B', 'M', 'D' });
+		Assert.assertNull(PyramidSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#read(int, int, int, int, float[], float[], float[])}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testRead() throws IOException
+	{
+		PyramidSidecar.write(m_FilePath);
+		final int numTimes = m_Header.getTimesSize();
+		try (PyramidSidecar sidecar = PyramidSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			for (final int variable : new int[] { 0, 3, 16 })
+			{
+				for (final int segment : new int[] { 0, 17, 39 })
+				{
+					for (int level = 1; level <= PyramidSidecar
+							.getNumLevels(numTimes); level++)
+					{
+						final int binTimeSteps = 1 << level;
+						final int numBins = PyramidSidecar
+								.getNumBins(numTimes, level);
+						final int firstBin = numBins / 2;
+						final float[] minima = new float[numBins - firstBin];
+						final float[] maxima = new float[minima.length];
+						final float[] means = new float[minima.length];
+						sidecar.read(variable, segment, level, firstBin,
+								minima, maxima, means);
+						for (int i = 0; i < minima.length; i++)
+						{
+							final int first = (firstBin + i) * binTimeSteps;
+							final DoubleSummaryStatistics stats = IntStream
+									.range(first, Math.min(numTimes,
+											first + binTimeSteps))
+									.mapToDouble(time -> m_Expecteds
+											.getValue(variable, segment,
+													time))
+									.summaryStatistics();
+							Assert.assertEquals(stats.getMin(), minima[i],
+									0.0);
+							Assert.assertEquals(stats.getMax(), maxima[i],
+									0.0);
+							Assert.assertEquals(stats.getAverage(), means[i],
+									Math.abs(stats.getAverage()) * 1e-5);
+						}
+					}
+				}
+			}
+
+			/**
+			 * Bins beyond the level and levels beyond the pyramid are invalid
+			 */
+			final float[] values = new float[2];
+			try
+			{
+				sidecar.read(0, 0, 7, 0, values, values, values);
+				Assert.fail("Expected too many bins to fail.");
+			}
+			catch (final IndexOutOfBoundsException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+			try
+			{
+				sidecar.read(0, 0, 8, 0, new float[1], new float[1],
+						new float[1]);
+				Assert.fail("Expected an invalid level to fail.");
+			}
+			catch (final IllegalArgumentException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.PyramidSidecar#write(String)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWrite() throws IOException
+	{
+		PyramidSidecar.write(m_FilePath);
+		final int numTimes = m_Header.getTimesSize();
+		long binsPerCell = 0;
+		for (int level = 1; level <= PyramidSidecar
+				.getNumLevels(numTimes); level++)
+		{
+			binsPerCell += PyramidSidecar.getNumBins(numTimes, level);
+		}
+		Assert.assertEquals(
+				Sidecars.HEADER_SIZE + Integer.BYTES * 4
+						+ binsPerCell * m_Header.getVariablesSize()
+								* m_Header.getSegmentsSize() * 3
+								* Float.BYTES,
+				new File(PyramidSidecar.getPath(m_FilePath)).length());
+	}
+}
@@ -181,6 +181,39 @@ public class SeekableDataFileInputStreamImplTest
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImpl#duplicate()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testDuplicate() throws IOException
+	{
+		final byte[] expecteds = new byte[16];
+		m_Input.readFully(expecteds);
+		m_Input.seek(8);
+		try (SeekableDataFileInputStream duplicate = m_Input.duplicate();)
+		{
+			Assert.assertNotSame(m_Input, duplicate);
+			Assert.assertEquals(m_Input, duplicate);
+
+			/**
+			 * Positions are independent
+			 */
+			final byte[] actuals = new byte[16];
+			duplicate.readFully(actuals, 0, 8);
+			m_Input.readFully(actuals, 8, 8);
+			Assert.assertArrayEquals(expecteds, actuals);
+		}
+
+		/**
+		 * Closing the duplicate does not close the source
+		 */
+		m_Input.seek(0);
+		Assert.assertEquals(expecteds[0], m_Input.readByte());
+	}
+
 	@Test
 	public final void testEquals() throws Exception
 	{
@@ -311,6 +344,56 @@ public class SeekableDataFileInputStreamImplTest
 		Assert.assertEquals(m_ExpectedFloat, actual, Float.MIN_NORMAL);
 	}
 
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImpl#readFloats(float[], int, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFloatsFloatArrayIntInt() throws IOException
+	{
+		final int count = 1000;
+		final float[] expecteds = new float[count];
+		for (int i = 0; i < count; i++)
+		{
+			expecteds[i] = m_Input.readFloat();
+		}
+		m_Input.seek(0);
+		final float[] actuals = new float[count + 2];
+		m_Input.readFloats(actuals, 1, count);
+		Assert.assertArrayEquals(expecteds,
+				Arrays.copyOfRange(actuals, 1, count + 1), 0.0f);
+		Assert.assertEquals(m_ExpectedFloat, expecteds[0], Float.MIN_NORMAL);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImpl#readFloats(java.nio.FloatBuffer)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFloatsFloatBuffer() throws IOException
+	{
+		final int count = 1000;
+		final float[] expecteds = new float[count];
+		for (int i = 0; i < count; i++)
+		{
+			expecteds[i] = m_Input.readFloat();
+		}
+		m_Input.seek(0);
+		final java.nio.FloatBuffer actuals = ByteBuffer
+				.allocateDirect(count * Float.BYTES).asFloatBuffer();
+		m_Input.readFloats(actuals);
+		Assert.assertFalse(actuals.hasRemaining());
+		actuals.flip();
+		for (int i = 0; i < count; i++)
+		{
+			Assert.assertEquals(expecteds[i], actuals.get(i), 0.0f);
+		}
+	}
+
 	/**
 	 * Test method for
 	 * {@link gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImpl#readFully(byte[])}.
@@ -456,7 +539,7 @@ public class SeekableDataFileInputStreamImplTest
 
 	/**
 	 * Test method for
-	 * {@link gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImpl#seek(int)}.
+	 * {@link gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImpl#seek(long)}.
 	 *
 	 * @throws IOException
 	 */
@@ -464,9 +547,55 @@ public class SeekableDataFileInputStreamImplTest
 	public final void testSeek() throws IOException
 	{
 		final int position = 4;
-		final int seek = m_Input.seek(position);
+		final long seek = m_Input.seek(position);
 		Assert.assertEquals(position, seek);
 		Assert.assertEquals(m_Bytes[position], m_Input.readByte());
+
+		Assert.assertEquals(position + 2, m_Input.seek(position + 2));
+		Assert.assertEquals(m_Bytes[position + 2], m_Input.readByte());
+		Assert.assertEquals(1, m_Input.seek(1));
+		Assert.assertEquals(m_Bytes[1], m_Input.readByte());
+		/**
+		 * Seeking past the end of the file stops at the end of the file
+		 */
+		final long size = new java.io.File(m_FilePath).length();
+		Assert.assertEquals(size, m_Input.seek(size + 10L));
+		Assert.assertEquals(1, m_Input.seek(1));
+	}
+
+	/**
+	 * Seeks past {@link Integer#MAX_VALUE} in a sparse file.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testSeekBeyondIntegerRange() throws IOException
+	{
+		final java.io.File file = java.io.File.createTempFile("large", ".bmd");
+		file.deleteOnExit();
+		final long position = Integer.MAX_VALUE + 5L;
+		try (java.io.RandomAccessFile raf = new java.io.RandomAccessFile(file,
+				"rw");)
+		{
+			raf.setLength(position + Float.BYTES);
+			raf.seek(position);
+			raf.write(buf(m_Bytes, Float.BYTES).array());
+		}
+		try (SeekableDataFileInputStream input = new SeekableDataFileInputStreamImpl(
+				file.getAbsolutePath(), m_ByteOrder);)
+		{
+			Assert.assertEquals(position, input.seek(position));
+			Assert.assertEquals(m_ExpectedFloat, input.readFloat(),
+					Float.MIN_NORMAL);
+			input.seek(0);
+			Assert.assertEquals(position - 1,
+					input.skipBytesAggressive(position - 1));
+			Assert.assertEquals(0, input.readByte());
+		}
+		finally
+		{
+			file.delete();
+		}
 	}
 
 	/**
@@ -491,7 +620,7 @@ public class SeekableDataFileInputStreamImplTest
 
 	/**
 	 * Test method for
-	 * {@link gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImpl#skipBytesAggressive(int)}.
+	 * {@link gov.usgs.jem.binarymodelingdata.input.SeekableDataFileInputStreamImpl#skipBytesAggressive(long)}.
 	 *
 	 * @throws IOException
 	 */
@@ -499,7 +628,7 @@ public class SeekableDataFileInputStreamImplTest
 	public final void testSkipBytesAggressive() throws IOException
 	{
 		final int position = 2;
-		int seek = m_Input.skipBytesAggressive(position);
+		long seek = m_Input.skipBytesAggressive(position);
 		Assert.assertEquals(position, seek);
 		Assert.assertEquals(m_Bytes[position], m_Input.readByte());
 
@@ -0,0 +1,296 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import com.google.common.collect.Lists;
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link SidecarResolver}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SidecarResolverTest
+{
+	/**
+	 * A sidecar that counts how many times it was closed, and closes its
+	 * release if it is a duplicate
+	 *
+	 * @author mckelvym
+	 * @since Oct 18, 2026
+	 *
+	 */
+	private static final class TestSidecar implements Closeable
+	{
+		private final AtomicInteger	m_Closes	= new AtomicInteger();
+
+		private final Closeable		m_Release;
+
+		private TestSidecar(final Closeable p_Release)
+		{
+			m_Release = p_Release;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			m_Closes.incrementAndGet();
+			if (m_Release != null)
+			{
+				m_Release.close();
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = SidecarResolver.class;
+		final Class<?> testingClass = SidecarResolverTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	/**
+	 * Touch a file so that its last modified time differs from before
+	 *
+	 * @param p_Path
+	 *            the path to the file
+	 * @since Oct 18, 2026
+	 */
+	private static void touch(final String p_Path)
+	{
+		final File file = new File(p_Path);
+		Assert.assertTrue(file.setLastModified(file.lastModified() - 10_000L));
+	}
+
+	private String							m_FilePath;
+
+	private List<TestSidecar>				m_Opened;
+
+	private SidecarResolver<TestSidecar>	m_Resolver;
+
+	private String							m_SidecarPath;
+
+	private boolean							m_Usable;
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = TransposedSidecarTest.copyTestFile();
+		m_SidecarPath = Sidecars.getPath(m_FilePath, "test");
+		m_Opened = Lists.newArrayList();
+		m_Usable = true;
+		m_Resolver = new SidecarResolver<>(m_FilePath, m_SidecarPath, () ->
+		{
+			final TestSidecar sidecar = m_Usable ? new TestSidecar(null)
+					: null;
+			m_Opened.add(sidecar);
+			return sidecar;
+		}, (sidecar, release) -> new TestSidecar(release));
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		m_Resolver.close();
+		Files.deleteIfExists(Paths.get(m_SidecarPath));
+		TransposedSidecarTest.deleteTestFile(m_FilePath);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.SidecarResolver#close()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testClose() throws IOException
+	{
+		Files.write(Paths.get(m_SidecarPath), new byte[] { 1 });
+		m_Resolver.get().close();
+		final TestSidecar lease = m_Resolver.get();
+
+		/**
+		 * A sidecar with an open duplicate is closed with its last duplicate
+		 */
+		m_Resolver.close();
+		Assert.assertEquals(0, m_Opened.get(0).m_Closes.get());
+		lease.close();
+		Assert.assertEquals(1, m_Opened.get(0).m_Closes.get());
+
+		/**
+		 * A closed resolver resolves the sidecar again, and a sidecar without
+		 * open duplicates is closed with the resolver
+		 */
+		m_Resolver.get().close();
+		Assert.assertEquals(2, m_Opened.size());
+		m_Resolver.close();
+		Assert.assertEquals(1, m_Opened.get(1).m_Closes.get());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.SidecarResolver#get()}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public final void testGet() throws Exception
+	{
+		/**
+		 * A missing sidecar is not opened
+		 */
+		Assert.assertNull(m_Resolver.get());
+		Assert.assertTrue(m_Opened.isEmpty());
+
+		/**
+		 * A sidecar is opened once, and each query gets a duplicate; closing
+		 * a duplicate twice releases it once
+		 */
+		Files.write(Paths.get(m_SidecarPath), new byte[] { 1 });
+		final TestSidecar first = m_Resolver.get();
+		Assert.assertNotNull(first);
+		final TestSidecar second = m_Resolver.get();
+		Assert.assertNotSame(first, second);
+		Assert.assertEquals(1, m_Opened.size());
+		first.close();
+		first.close();
+		Assert.assertEquals(0, m_Opened.get(0).m_Closes.get());
+
+		/**
+		 * A sidecar that was replaced is closed once its last duplicate is
+		 * closed, however often it is replaced
+		 */
+		for (int i = 1; i <= 5; i++)
+		{
+			touch(i % 2 == 0 ? m_FilePath : m_SidecarPath);
+			m_Resolver.get().close();
+			Assert.assertEquals(i + 1, m_Opened.size());
+			for (int j = 1; j < i; j++)
+			{
+				Assert.assertEquals(1, m_Opened.get(j).m_Closes.get());
+			}
+			Assert.assertEquals(0, m_Opened.get(i).m_Closes.get());
+		}
+		Assert.assertEquals(0, m_Opened.get(0).m_Closes.get());
+		second.close();
+		Assert.assertEquals(1, m_Opened.get(0).m_Closes.get());
+
+		/**
+		 * A stale sidecar is opened once, and again only after a change
+		 */
+		m_Usable = false;
+		touch(m_SidecarPath);
+		Assert.assertNull(m_Resolver.get());
+		Assert.assertNull(m_Resolver.get());
+		Assert.assertEquals(7, m_Opened.size());
+		Assert.assertEquals(1, m_Opened.get(5).m_Closes.get());
+
+		m_Usable = true;
+		touch(m_FilePath);
+		m_Resolver.get().close();
+		Assert.assertEquals(8, m_Opened.size());
+
+		/**
+		 * A resolved sidecar is leased without taking the lock
+		 */
+		final TestSidecar[] leased = new TestSidecar[1];
+		final Thread query = new Thread(() ->
+		{
+			try
+			{
+				leased[0] = m_Resolver.get();
+			}
+			catch (final IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		});
+		synchronized (m_Resolver)
+		{
+			query.start();
+			query.join(10_000L);
+			Assert.assertFalse(query.isAlive());
+		}
+		Assert.assertNotNull(leased[0]);
+		leased[0].close();
+
+		/**
+		 * Concurrent queries, while the file changes, leave every replaced
+		 * sidecar closed exactly once
+		 */
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			final List<Future<?>> futures = Lists.newArrayList();
+			for (int i = 0; i < 4; i++)
+			{
+				futures.add(executor.submit(() ->
+				{
+					for (int j = 0; j < 500; j++)
+					{
+						m_Resolver.get().close();
+					}
+					return null;
+				}));
+			}
+			for (int i = 0; i < 10; i++)
+			{
+				touch(m_SidecarPath);
+				m_Resolver.get().close();
+			}
+			for (final Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+		m_Resolver.close();
+		for (final TestSidecar sidecar : m_Opened)
+		{
+			if (sidecar != null)
+			{
+				Assert.assertEquals(1, sidecar.m_Closes.get());
+			}
+		}
+	}
+}
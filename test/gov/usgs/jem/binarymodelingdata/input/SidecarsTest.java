@@ -0,0 +1,296 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link Sidecars}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SidecarsTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = Sidecars.class;
+		final Class<?> testingClass = SidecarsTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private String	m_FilePath;
+
+	private String	m_SidecarPath;
+
+	/**
+	 * Check whether the sidecar is fresh
+	 *
+	 * @param p_Magic
+	 *            the expected magic
+	 * @param p_Version
+	 *            the expected version
+	 * @return true if the sidecar is fresh
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private boolean isFresh(final String p_Magic, final int p_Version)
+			throws IOException
+	{
+		try (SeekableDataFileInputStream input = new PositionalSeekableDataFileInputStreamImpl(
+				m_SidecarPath, ByteOrder.LITTLE_ENDIAN);)
+		{
+			return Sidecars.isFresh(input, p_Magic, p_Version, m_FilePath);
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = TransposedSidecarTest.copyTestFile();
+		m_SidecarPath = Sidecars.getPath(m_FilePath, "test");
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		TransposedSidecarTest.deleteTestFile(m_FilePath);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.Sidecars#getPath(String, String)}.
+	 */
+	@Test
+	public final void testGetPath()
+	{
+		Assert.assertEquals(
+				new File(new File(m_FilePath).getParentFile(), "Sampleq.test")
+						.getPath(),
+				m_SidecarPath);
+		Assert.assertEquals(Paths.get("a", "b.zmap").toString(),
+				Sidecars.getPath(Paths.get("a", "b.BMD").toString(), "zmap"));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.Sidecars#isFresh(SeekableDataFileInputStream, String, int, String)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testIsFresh() throws IOException
+	{
+		Sidecars.write(m_SidecarPath, "TEST", 2, m_FilePath, channel ->
+		{
+			/**
+			 * Header only
+			 */
+		});
+		Assert.assertTrue(isFresh("TEST", 2));
+		Assert.assertFalse(isFresh("TSET", 2));
+		Assert.assertFalse(isFresh("TEST", 1));
+
+		final File file = new File(m_FilePath);
+		Assert.assertTrue(file.setLastModified(file.lastModified() - 10_000L));
+		Assert.assertFalse(isFresh("TEST", 2));
+
+		Files.write(Paths.get(m_SidecarPath), new byte[] { 'T', 'E' });
+		Assert.assertFalse(isFresh("TEST", 2));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.Sidecars#open(String, ReadMode)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testOpen() throws IOException
+	{
+		Sidecars.write(m_SidecarPath, "TEST", 1, m_FilePath, channel ->
+		{
+			/**
+			 * Header only
+			 */
+		});
+		for (final ReadMode readMode : ReadMode.values())
+		{
+			try (SeekableDataFileInputStream input = Sidecars
+					.open(m_SidecarPath, readMode);)
+			{
+				Assert.assertEquals(ByteOrder.LITTLE_ENDIAN,
+						input.getByteOrder());
+				Assert.assertTrue(
+						Sidecars.isFresh(input, "TEST", 1, m_FilePath));
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.Sidecars#readFully(FileChannel, ByteBuffer, long)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testReadFully() throws IOException
+	{
+		final byte[] expecteds = Files.readAllBytes(Paths.get(m_FilePath));
+		try (FileChannel channel = FileChannel.open(Paths.get(m_FilePath),
+				StandardOpenOption.READ);)
+		{
+			final ByteBuffer buffer = ByteBuffer.allocate(110);
+			buffer.position(10);
+			Sidecars.readFully(channel, buffer, 50);
+			Assert.assertFalse(buffer.hasRemaining());
+			Assert.assertArrayEquals(
+					Arrays.copyOfRange(expecteds, 50, 150),
+					Arrays.copyOfRange(buffer.array(), 10, 110));
+
+			buffer.clear();
+			try
+			{
+				Sidecars.readFully(channel, buffer, expecteds.length - 10);
+				Assert.fail("Expected end of file to be thrown.");
+			}
+			catch (final EOFException e)
+			{
+				/**
+				 * Expected
+				 */
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.Sidecars#write(String, String, int, String, Sidecars.BodyWriter)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWrite() throws IOException
+	{
+		Sidecars.write(m_SidecarPath, "TEST", 1, m_FilePath,
+				channel -> Sidecars.writeFully(channel,
+						ByteBuffer.allocate(Integer.BYTES)
+								.order(ByteOrder.LITTLE_ENDIAN).putInt(0, 42)));
+		try (SeekableDataFileInputStream input = new PositionalSeekableDataFileInputStreamImpl(
+				m_SidecarPath, ByteOrder.LITTLE_ENDIAN);)
+		{
+			Assert.assertTrue(
+					Sidecars.isFresh(input, "TEST", 1, m_FilePath));
+			Assert.assertEquals(42, input.readInt());
+		}
+
+		/**
+		 * A failed write leaves the previous sidecar in place
+		 */
+		try
+		{
+			Sidecars.write(m_SidecarPath, "TEST", 1, m_FilePath, channel ->
+			{
+				throw new IOException("Expected");
+			});
+			Assert.fail("Expected write failure to be thrown.");
+		}
+		catch (final IOException e)
+		{
+			Assert.assertEquals("Expected", e.getMessage());
+		}
+		Assert.assertTrue(isFresh("TEST", 1));
+		Assert.assertEquals(2,
+				new File(m_FilePath).getParentFile().listFiles().length);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.Sidecars#writeAtomically(String, Sidecars.BodyWriter)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWriteAtomically() throws IOException
+	{
+		Sidecars.writeAtomically(m_SidecarPath, channel -> Sidecars
+				.writeFully(channel, ByteBuffer.wrap(new byte[] { 1, 2, 3 })));
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3 },
+				Files.readAllBytes(Paths.get(m_SidecarPath)));
+
+		/**
+		 * A failed write leaves the previous file in place
+		 */
+		try
+		{
+			Sidecars.writeAtomically(m_SidecarPath, channel ->
+			{
+				Sidecars.writeFully(channel, ByteBuffer.wrap(new byte[5]));
+				throw new IOException("Expected");
+			});
+			Assert.fail("Expected write failure to be thrown.");
+		}
+		catch (final IOException e)
+		{
+			Assert.assertEquals("Expected", e.getMessage());
+		}
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3 },
+				Files.readAllBytes(Paths.get(m_SidecarPath)));
+		Assert.assertEquals(2,
+				new File(m_FilePath).getParentFile().listFiles().length);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.Sidecars#writeFully(FileChannel, ByteBuffer)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWriteFully() throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(Paths.get(m_SidecarPath),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE);)
+		{
+			final ByteBuffer buffer = ByteBuffer.allocate(100);
+			Sidecars.writeFully(channel, buffer);
+			Assert.assertFalse(buffer.hasRemaining());
+		}
+		Assert.assertEquals(100, new File(m_SidecarPath).length());
+	}
+}
@@ -0,0 +1,426 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.BMDHeader;
+import gov.usgs.jem.binarymodelingdata.Concentrations;
+import gov.usgs.jem.binarymodelingdata.IProgressMonitor;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link TransposedSidecar}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TransposedSidecarTest
+{
+	/**
+	 * Copy the test file into a new temporary directory
+	 *
+	 * @return the path of the copy
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	static String copyTestFile() throws IOException
+	{
+		final Path directory = Files.createTempDirectory("sidecar");
+		final Path copy = directory.resolve("Sampleq.bmd");
+		Files.copy(AllTests.getTestFile().toPath(), copy);
+		return copy.toString();
+	}
+
+	/**
+	 * Delete a copy of the test file and its directory
+	 *
+	 * @param p_FilePath
+	 *            the path of the copy
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	static void deleteTestFile(final String p_FilePath) throws IOException
+	{
+		final File directory = new File(p_FilePath).getParentFile();
+		for (final File file : directory.listFiles())
+		{
+			Files.delete(file.toPath());
+		}
+		Files.delete(directory.toPath());
+	}
+
+	/**
+	 * Create an array of all indices up to the provided size
+	 *
+	 * @param p_Size
+	 *            the number of indices
+	 * @return the indices from zero (inclusive) to the size (exclusive)
+	 * @since Oct 18, 2026
+	 */
+	private static int[] all(final int p_Size)
+	{
+		final int[] indices = new int[p_Size];
+		Arrays.setAll(indices, i -> i);
+		return indices;
+	}
+
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = TransposedSidecar.class;
+		final Class<?> testingClass = TransposedSidecarTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private Concentrations	m_Expecteds;
+
+	private String			m_FilePath;
+
+	private BMDHeader		m_Header;
+
+	/**
+	 * Read selected values from the sidecar and assert that they match the
+	 * file
+	 *
+	 * @param p_Sidecar
+	 *            the sidecar
+	 * @param p_Variables
+	 *            the selected variables
+	 * @param p_Segments
+	 *            the selected segments
+	 * @param p_TimeSteps
+	 *            the selected time steps
+	 * @return the number of reads issued
+	 * @throws IOException
+	 * @since Oct 18, 2026
+	 */
+	private long assertReadsSelection(final TransposedSidecar p_Sidecar,
+			final int[] p_Variables, final int[] p_Segments,
+			final int[] p_TimeSteps) throws IOException
+	{
+		final int[] count = new int[1];
+		final long reads = p_Sidecar.read(p_Variables, p_Segments,
+				p_TimeSteps, (variableOrd, segmentOrd, timeOrd, value) ->
+				{
+					count[0]++;
+					Assert.assertEquals(
+							m_Expecteds.getValue(p_Variables[variableOrd],
+									p_Segments[segmentOrd],
+									p_TimeSteps[timeOrd]),
+							value, 0.0f);
+				}, null);
+		Assert.assertEquals(
+				p_Variables.length * p_Segments.length * p_TimeSteps.length,
+				count[0]);
+		return reads;
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = copyTestFile();
+		try (BMDReader reader = BMDReader.open(m_FilePath);)
+		{
+			m_Header = reader.getHeader();
+			m_Expecteds = reader.newConcentrationsQuery().withAllVariables()
+					.withAllSegments().withAllTimeSteps().execute();
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		deleteTestFile(m_FilePath);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#close()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testClose() throws IOException
+	{
+		TransposedSidecar.write(m_FilePath);
+		final TransposedSidecar sidecar = TransposedSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);
+		sidecar.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#duplicate(java.io.Closeable)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testDuplicate() throws IOException
+	{
+		TransposedSidecar.write(m_FilePath);
+		final int[] variables = { 0, m_Header.getVariablesSize() - 1 };
+		final int[] segments = { 0, m_Header.getSegmentsSize() - 1 };
+		final int[] timeSteps = { 0, m_Header.getTimesSize() - 1 };
+		try (TransposedSidecar sidecar = TransposedSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			/**
+			 * The original stays readable after its duplicate is closed, which
+			 * closes its release
+			 */
+			final AtomicInteger releases = new AtomicInteger();
+			final TransposedSidecar duplicate = sidecar
+					.duplicate(releases::incrementAndGet);
+			Assert.assertEquals(sidecar.getChunkTimeSteps(),
+					duplicate.getChunkTimeSteps());
+			assertReadsSelection(duplicate, variables, segments, timeSteps);
+			Assert.assertEquals(0, releases.get());
+			duplicate.close();
+			Assert.assertEquals(1, releases.get());
+			assertReadsSelection(sidecar, variables, segments, timeSteps);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#getChunkTimeSteps()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetChunkTimeSteps() throws IOException
+	{
+		TransposedSidecar.write(m_FilePath);
+		try (TransposedSidecar sidecar = TransposedSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			Assert.assertEquals(m_Header.getTimesSize(),
+					sidecar.getChunkTimeSteps());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#getPath(String)}.
+	 */
+	@Test
+	public final void testGetPath()
+	{
+		Assert.assertEquals(
+				new File(new File(m_FilePath).getParentFile(), "Sampleq.bmdt")
+						.getPath(),
+				TransposedSidecar.getPath(m_FilePath));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#main(String[])}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testMain() throws IOException
+	{
+		TransposedSidecar.main(new String[] { m_FilePath });
+		Assert.assertTrue(new File(TransposedSidecar.getPath(m_FilePath))
+				.isFile());
+		try
+		{
+			TransposedSidecar.main(new String[0]);
+			Assert.fail("Expected missing arguments to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#open(String, BMDHeader, ReadMode)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testOpen() throws IOException
+	{
+		Assert.assertNull(TransposedSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+
+		TransposedSidecar.write(m_FilePath);
+		for (final ReadMode readMode : ReadMode.values())
+		{
+			try (TransposedSidecar sidecar = TransposedSidecar
+					.open(m_FilePath, m_Header, readMode);)
+			{
+				Assert.assertNotNull(sidecar);
+			}
+		}
+
+		/**
+		 * A sidecar of a file that was modified afterward is stale
+		 */
+		final File file = new File(m_FilePath);
+		Assert.assertTrue(file.setLastModified(file.lastModified() - 10_000L));
+		Assert.assertNull(TransposedSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+
+		/**
+		 * A truncated sidecar is ignored
+		 */
+		Files.write(new File(TransposedSidecar.getPath(m_FilePath)).toPath(),
+				new byte[] { 'B', 'M', 'D' });
+		Assert.assertNull(TransposedSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#read(int[], int[], int[], ConcentrationsReadPlan.Visitor, IProgressMonitor)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testRead() throws IOException
+	{
+		final int numTimes = m_Header.getTimesSize();
+		final int[] variables = all(m_Header.getVariablesSize());
+		final int[] segments = all(m_Header.getSegmentsSize());
+		final int[] timeSteps = all(numTimes);
+		final int[] variable = new int[] { 3 };
+		final int[] segment = new int[] { 17 };
+		final int[] sparseVariables = new int[] { 0, 3, 4, 16 };
+		final int[] sparseSegments = new int[] { 1, 2, 17, 39 };
+		final int[] sparseTimeSteps = new int[] { 0, 5, 6, 30, 31, 65 };
+		for (final int chunkTimeSteps : new int[] { 1, 7, numTimes })
+		{
+			TransposedSidecar.write(m_FilePath, chunkTimeSteps);
+			try (TransposedSidecar sidecar = TransposedSidecar
+					.open(m_FilePath, m_Header, ReadMode.POSITIONAL);)
+			{
+				Assert.assertEquals(chunkTimeSteps,
+						sidecar.getChunkTimeSteps());
+				assertReadsSelection(sidecar, variables, segments, timeSteps);
+				assertReadsSelection(sidecar, sparseVariables, sparseSegments,
+						sparseTimeSteps);
+
+				/**
+				 * A time series is one read per chunk
+				 */
+				Assert.assertEquals(
+						(numTimes + chunkTimeSteps - 1) / chunkTimeSteps,
+						assertReadsSelection(sidecar, variable, segment,
+								timeSteps));
+			}
+		}
+
+		/**
+		 * Cancellation stops after a chunk
+		 */
+		TransposedSidecar.write(m_FilePath, 10);
+		final int[] worked = new int[1];
+		final IProgressMonitor monitor = new IProgressMonitor()
+		{
+			@Override
+			public boolean isCanceled()
+			{
+				return worked[0] >= 20;
+			}
+
+			@Override
+			public void worked(final int p_Work)
+			{
+				worked[0] += p_Work;
+			}
+		};
+		final int[] maxTime = new int[] { -1 };
+		try (TransposedSidecar sidecar = TransposedSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			sidecar.read(variable, segment, timeSteps,
+					(variableOrd, segmentOrd, timeOrd, value) -> maxTime[0] = Math
+							.max(maxTime[0], timeOrd),
+					monitor);
+		}
+		Assert.assertEquals(20, worked[0]);
+		Assert.assertEquals(19, maxTime[0]);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#write(String)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWriteString() throws IOException
+	{
+		TransposedSidecar.write(m_FilePath);
+		final long valuesSize = (long) m_Header.getVariablesSize()
+				* m_Header.getSegmentsSize() * m_Header.getTimesSize()
+				* Float.BYTES;
+		Assert.assertEquals(
+				Sidecars.HEADER_SIZE + Integer.BYTES * 4 + valuesSize,
+				new File(TransposedSidecar.getPath(m_FilePath)).length());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.TransposedSidecar#write(String, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWriteStringInt() throws IOException
+	{
+		TransposedSidecar.write(m_FilePath, 1000);
+		try (TransposedSidecar sidecar = TransposedSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			Assert.assertEquals(m_Header.getTimesSize(),
+					sidecar.getChunkTimeSteps());
+		}
+		try
+		{
+			TransposedSidecar.write(m_FilePath, -1);
+			Assert.fail("Expected negative chunk size to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+}
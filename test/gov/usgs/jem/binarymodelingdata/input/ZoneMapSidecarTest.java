@@ -0,0 +1,371 @@
+package gov.usgs.jem.binarymodelingdata.input;
+
+import gov.usgs.jem.binarymodelingdata.AllTests;
+import gov.usgs.jem.binarymodelingdata.BMDHeader;
+import gov.usgs.jem.binarymodelingdata.Concentrations;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Tests {@link ZoneMapSidecar}
+ *
+ * @author mckelvym
+ * @since Oct 18, 2026
+ *
+ */
+@SuppressWarnings("javadoc")
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ZoneMapSidecarTest
+{
+	/**
+	 *
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception
+	{
+		final Class<?> classToTest = ZoneMapSidecar.class;
+		final Class<?> testingClass = ZoneMapSidecarTest.class;
+		AllTests.assertHasRequiredMethods(classToTest, testingClass);
+	}
+
+	private Concentrations	m_Expecteds;
+
+	private String			m_FilePath;
+
+	private BMDHeader		m_Header;
+
+	/**
+	 * Get the selected time steps in blocks where the variable is above the
+	 * threshold in at least one of the selected segments, from the values of
+	 * the file
+	 *
+	 * @param p_BlockTimeSteps
+	 *            the number of time steps per block
+	 * @param p_Variable
+	 *            the variable index
+	 * @param p_Segments
+	 *            the selected segment indices
+	 * @param p_TimeSteps
+	 *            the selected time step indices
+	 * @param p_Threshold
+	 *            the threshold
+	 * @return the candidate time steps
+	 * @since Oct 18, 2026
+	 */
+	private BitSet getCandidateTimeSteps(final int p_BlockTimeSteps,
+			final int p_Variable, final int[] p_Segments,
+			final BitSet p_TimeSteps, final float p_Threshold)
+	{
+		final int numTimes = m_Header.getTimesSize();
+		final BitSet candidates = new BitSet();
+		for (int first = 0; first < numTimes; first += p_BlockTimeSteps)
+		{
+			final int end = Math.min(numTimes, first + p_BlockTimeSteps);
+			for (int time = first; time < end; time++)
+			{
+				for (final int segment : p_Segments)
+				{
+					if (m_Expecteds.getValue(p_Variable, segment,
+							time) > p_Threshold)
+					{
+						candidates.set(first, end);
+					}
+				}
+			}
+		}
+		candidates.and(p_TimeSteps);
+		return candidates;
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		m_FilePath = TransposedSidecarTest.copyTestFile();
+		try (BMDReader reader = BMDReader.open(m_FilePath);)
+		{
+			m_Header = reader.getHeader();
+			m_Expecteds = reader.newConcentrationsQuery().withAllVariables()
+					.withAllSegments().withAllTimeSteps().execute();
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 *             if unexpected condition causing test failure
+	 * @since Oct 18, 2026
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		TransposedSidecarTest.deleteTestFile(m_FilePath);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#close()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testClose() throws IOException
+	{
+		ZoneMapSidecar.write(m_FilePath);
+		final ZoneMapSidecar sidecar = ZoneMapSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);
+		sidecar.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#duplicate(java.io.Closeable)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testDuplicate() throws IOException
+	{
+		ZoneMapSidecar.write(m_FilePath);
+		final BitSet timeSteps = new BitSet();
+		timeSteps.set(0, m_Header.getTimesSize());
+		final int[] segmentNums = new int[] { 1, 2, 17, 39 };
+		final float threshold = m_Expecteds.getValue(3, 17, 20);
+		try (ZoneMapSidecar sidecar = ZoneMapSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			/**
+			 * The original stays readable after its duplicate is closed, which
+			 * closes its release
+			 */
+			final AtomicInteger releases = new AtomicInteger();
+			final BitSet expected = sidecar.getCandidateTimeSteps(3,
+					segmentNums, timeSteps, threshold);
+			try (ZoneMapSidecar duplicate = sidecar
+					.duplicate(releases::incrementAndGet);)
+			{
+				Assert.assertEquals(sidecar.getBlockTimeSteps(),
+						duplicate.getBlockTimeSteps());
+				Assert.assertEquals(expected, duplicate.getCandidateTimeSteps(
+						3, segmentNums, timeSteps, threshold));
+			}
+			Assert.assertEquals(1, releases.get());
+			Assert.assertEquals(expected, sidecar.getCandidateTimeSteps(3,
+					segmentNums, timeSteps, threshold));
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#getBlockTimeSteps()}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetBlockTimeSteps() throws IOException
+	{
+		ZoneMapSidecar.write(m_FilePath);
+		try (ZoneMapSidecar sidecar = ZoneMapSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			Assert.assertEquals(ZoneMapSidecar.DEFAULT_BLOCK_TIME_STEPS,
+					sidecar.getBlockTimeSteps());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#getCandidateTimeSteps(int, int[], BitSet, float)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testGetCandidateTimeSteps() throws IOException
+	{
+		final int numTimes = m_Header.getTimesSize();
+		final BitSet allTimeSteps = new BitSet();
+		allTimeSteps.set(0, numTimes);
+		final BitSet sparseTimeSteps = new BitSet();
+		for (final int time : new int[] { 0, 5, 6, 30, 31, 65 })
+		{
+			sparseTimeSteps.set(time);
+		}
+		final int[][] segments = new int[][] { { 17 }, { 1, 2, 17, 39 } };
+		for (final int blockTimeSteps : new int[] { 1, 7, numTimes })
+		{
+			ZoneMapSidecar.write(m_FilePath, blockTimeSteps);
+			try (ZoneMapSidecar sidecar = ZoneMapSidecar.open(m_FilePath,
+					m_Header, ReadMode.POSITIONAL);)
+			{
+				for (final int variable : new int[] { 0, 3, 16 })
+				{
+					for (final int[] segmentNums : segments)
+					{
+						final float threshold = m_Expecteds.getValue(variable,
+								segmentNums[0], 20);
+						for (final BitSet timeSteps : new BitSet[] {
+								allTimeSteps, sparseTimeSteps })
+						{
+							Assert.assertEquals(
+									getCandidateTimeSteps(blockTimeSteps,
+											variable, segmentNums, timeSteps,
+											threshold),
+									sidecar.getCandidateTimeSteps(variable,
+											segmentNums, timeSteps,
+											threshold));
+						}
+					}
+				}
+
+				/**
+				 * Nothing is above the maximum value
+				 */
+				Assert.assertTrue(sidecar.getCandidateTimeSteps(3,
+						new int[] { 17 }, allTimeSteps, Float.MAX_VALUE)
+						.isEmpty());
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#getPath(String)}.
+	 */
+	@Test
+	public final void testGetPath()
+	{
+		Assert.assertEquals(
+				new File(new File(m_FilePath).getParentFile(), "Sampleq.zmap")
+						.getPath(),
+				ZoneMapSidecar.getPath(m_FilePath));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#main(String[])}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testMain() throws IOException
+	{
+		ZoneMapSidecar.main(new String[] { m_FilePath });
+		Assert.assertTrue(new File(ZoneMapSidecar.getPath(m_FilePath))
+				.isFile());
+		try
+		{
+			ZoneMapSidecar.main(new String[0]);
+			Assert.fail("Expected missing arguments to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#open(String, BMDHeader, ReadMode)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testOpen() throws IOException
+	{
+		Assert.assertNull(ZoneMapSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+
+		ZoneMapSidecar.write(m_FilePath);
+		for (final ReadMode readMode : ReadMode.values())
+		{
+			try (ZoneMapSidecar sidecar = ZoneMapSidecar.open(m_FilePath,
+					m_Header, readMode);)
+			{
+				Assert.assertNotNull(sidecar);
+			}
+		}
+
+		/**
+		 * A sidecar of a file that was modified afterward is stale
+		 */
+		final File file = new File(m_FilePath);
+		Assert.assertTrue(file.setLastModified(file.lastModified() - 10_000L));
+		Assert.assertNull(ZoneMapSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+
+		/**
+		 * A truncated sidecar is ignored
+		 */
+		Files.write(new File(ZoneMapSidecar.getPath(m_FilePath)).toPath(),
+				new byte[] { 'B', 'M', 'D' });
+		Assert.assertNull(ZoneMapSidecar.open(m_FilePath, m_Header,
+				ReadMode.POSITIONAL));
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#write(String)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWriteString() throws IOException
+	{
+		ZoneMapSidecar.write(m_FilePath);
+		final int numBlocks = (m_Header.getTimesSize()
+				+ ZoneMapSidecar.DEFAULT_BLOCK_TIME_STEPS - 1)
+				/ ZoneMapSidecar.DEFAULT_BLOCK_TIME_STEPS;
+		final long zonesSize = (long) numBlocks * m_Header.getVariablesSize()
+				* m_Header.getSegmentsSize() * 2 * Float.BYTES;
+		Assert.assertEquals(
+				Sidecars.HEADER_SIZE + Integer.BYTES * 4 + zonesSize,
+				new File(ZoneMapSidecar.getPath(m_FilePath)).length());
+	}
+
+	/**
+	 * Test method for
+	 * {@link gov.usgs.jem.binarymodelingdata.input.ZoneMapSidecar#write(String, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public final void testWriteStringInt() throws IOException
+	{
+		ZoneMapSidecar.write(m_FilePath, 1000);
+		try (ZoneMapSidecar sidecar = ZoneMapSidecar.open(m_FilePath,
+				m_Header, ReadMode.POSITIONAL);)
+		{
+			Assert.assertEquals(m_Header.getTimesSize(),
+					sidecar.getBlockTimeSteps());
+		}
+		try
+		{
+			ZoneMapSidecar.write(m_FilePath, 0);
+			Assert.fail("Expected an empty block size to fail.");
+		}
+		catch (final IllegalArgumentException e)
+		{
+			/**
+			 * Expected
+			 */
+		}
+	}
+}